@@ -15,18 +15,33 @@ package org.egovframe.cloud.common.config;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/19    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  id 목록 일괄 조회 최대 건수 추가
  * </pre>
  */
 public interface GlobalConstant {
     final String HEADER_SITE_ID = "X-Site-Id"; // header에 어떤 사이트에서 보내는 요청인지 구분하기 위한 정보
+    // api gateway 에서 토큰 검증 후 전달하는 사용자 정보 header
+    final String HEADER_IDENTITY_SUBJECT = "X-Identity-Subject";
+    final String HEADER_IDENTITY_AUTHORITIES = "X-Identity-Authorities";
+    final String HEADER_IDENTITY_EXPIRATION = "X-Identity-Expiration";
+    final String HEADER_IDENTITY_SIGNATURE = "X-Identity-Signature";
     final String AUTHORIZATION_URI = "/api/v1/authorizations/check";
+    final String AUTHORIZATION_RULES_URI = "/api/v1/authorizations/rules"; // api gateway 에서 인가 규칙 캐시를 갱신할 때 호출, 서비스 간 인증 header 필요
+    // 서비스 간 호출 인증 header, apigateway AuthorizationRules 값도 같이 변경해주어야 한다.
+    final String HEADER_SERVICE_TOKEN = "X-Service-Token";
     final String REFRESH_TOKEN_URI = "/api/v1/users/token/refresh";
     final String MESSAGES_URI = "/api/v1/messages/**";
     final String LOGIN_URI = "/login";
     final String[] SECURITY_PERMITALL_ANTPATTERNS = {AUTHORIZATION_URI, REFRESH_TOKEN_URI, MESSAGES_URI, LOGIN_URI, "/actuator/**", "/v3/api-docs/**", "/api/v1/images/**", "/swagger-ui.html"};
     final String USER_SERVICE_URI = "/user-service";
-    //예약 신청 후 재고 변경 성공여부 exchange name
-    final String SUCCESS_OR_NOT_EX_NAME = "success-or-not.direct";
+    // 다른 서비스에서 id 목록으로 일괄 조회할 때 한 번에 전달할 수 있는 최대 id 수, 초과하면 나누어 호출한다.
+    final int BULK_IDS_MAX_SIZE = 100;
+    //예약 신청 후 재고 변경 성공여부 exchange name, 예약 신청 서비스 인스턴스별 결과 queue 로 fanout 된다.
+    final String SUCCESS_OR_NOT_EX_NAME = "success-or-not.fanout";
+    // 실시간 예약 신청 접수 시각(epoch millis) header, 신청부터 결과 전달까지의 지연 시간 측정에 사용
+    final String RESERVE_REQUESTED_AT_HEADER = "reserveRequestedAt";
     // 첨부파일 저장 후 entity 정보 update binding name
     final String ATTACHMENT_ENTITY_BINDING_NAME = "attachmentEntity-out-0";
+    // 예약 추가/변경/취소 이벤트 binding name, 예약 확인 서비스의 모든 인스턴스가 받아 예약 현황 캐시를 갱신한다. (destination: reserve-changed)
+    final String RESERVE_CHANGED_BINDING_NAME = "reserveChanged-out-0";
 }
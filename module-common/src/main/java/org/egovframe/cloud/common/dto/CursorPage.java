@@ -0,0 +1,73 @@
+package org.egovframe.cloud.common.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * org.egovframe.cloud.common.dto.CursorPage
+ * <p>
+ * 커서 페이징 응답 dto
+ * 다음 페이지가 있으면 nextCursor 로 이어서 조회하며, totalElements 는 전체 건수를 요청한 경우에만 채운다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> content; // 목록
+    private final int size; // 페이지 크기
+    private final boolean hasNext; // 다음 페이지 여부
+    private final String nextCursor; // 다음 페이지 연속 토큰
+    private final Long totalElements; // 전체 건수, 요청하지 않으면 null
+
+    public CursorPage(List<T> content, int size, boolean hasNext, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+
+    /**
+     * 페이지 크기보다 한 건 더 조회한 목록으로 응답을 생성한다.
+     * 한 건이 더 있으면 다음 페이지가 있는 것으로 판단하고 마지막 행으로 연속 토큰을 생성한다.
+     *
+     * @param rows          페이지 크기 + 1 건까지 조회한 목록
+     * @param size          페이지 크기
+     * @param cursorOf      행의 연속 토큰 생성 함수
+     * @param totalElements 전체 건수
+     * @return
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(content, size, hasNext, nextCursor, totalElements);
+    }
+
+    /**
+     * 목록을 변환한다.
+     *
+     * @param converter
+     * @return
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = new ArrayList<>(content.size());
+        content.forEach(item -> converted.add(converter.apply(item)));
+        return new CursorPage<>(converted, size, hasNext, nextCursor, totalElements);
+    }
+
+}
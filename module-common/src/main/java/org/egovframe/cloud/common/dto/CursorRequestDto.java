@@ -0,0 +1,65 @@
+package org.egovframe.cloud.common.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.egovframe.cloud.common.util.PageCursor;
+import org.springframework.util.StringUtils;
+
+/**
+ * org.egovframe.cloud.common.dto.CursorRequestDto
+ * <p>
+ * 커서 페이징 요청 파라미터 dto
+ * 첫 페이지는 cursor 를 빈 값으로 요청하고, 다음 페이지는 응답의 nextCursor 로 요청한다.
+ * 전체 건수는 count=true 로 요청한 경우에만 조회한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+public class CursorRequestDto {
+
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MAX_SIZE = 100;
+
+    private String cursor; // 연속 토큰
+    private Integer size; // 페이지 크기
+    private boolean count; // 전체 건수 조회 여부
+
+    public CursorRequestDto(String cursor, Integer size, boolean count) {
+        this.cursor = cursor;
+        this.size = size;
+        this.count = count;
+    }
+
+    /**
+     * 페이지 크기, 없으면 10 건이며 최대 100 건
+     *
+     * @return
+     */
+    public int getSize() {
+        if (size == null || size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * 이전 페이지의 마지막 행 정보, 첫 페이지이면 null
+     *
+     * @return
+     */
+    public PageCursor getPageCursor() {
+        return StringUtils.hasText(cursor) ? PageCursor.decode(cursor) : null;
+    }
+
+}
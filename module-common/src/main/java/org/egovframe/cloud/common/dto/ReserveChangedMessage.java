@@ -0,0 +1,53 @@
+package org.egovframe.cloud.common.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * org.egovframe.cloud.common.dto.ReserveChangedMessage
+ * <p>
+ * 예약 추가/변경/취소/삭제 이벤트 메시지
+ * 예약 확인 서비스는 이 메시지로 예약 물품별 예약 현황 캐시를 갱신한다.
+ * deleted 가 true 이면 예약이 삭제된 것이며 reserveId, reserveItemId 만 설정된다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj       최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+@ToString
+public class ReserveChangedMessage {
+
+    private String reserveId;
+    private Long reserveItemId;
+    private Integer reserveQty;
+    private LocalDateTime reserveStartDate;
+    private LocalDateTime reserveEndDate;
+    private String reserveStatusId;
+    private boolean deleted;
+
+    @Builder
+    public ReserveChangedMessage(String reserveId, Long reserveItemId, Integer reserveQty,
+                                 LocalDateTime reserveStartDate, LocalDateTime reserveEndDate,
+                                 String reserveStatusId, boolean deleted) {
+        this.reserveId = reserveId;
+        this.reserveItemId = reserveItemId;
+        this.reserveQty = reserveQty;
+        this.reserveStartDate = reserveStartDate;
+        this.reserveEndDate = reserveEndDate;
+        this.reserveStatusId = reserveStatusId;
+        this.deleted = deleted;
+    }
+}
@@ -0,0 +1,39 @@
+package org.egovframe.cloud.common.event;
+
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * org.egovframe.cloud.common.event.AuthorizationChangedEvent
+ * <p>
+ * 인가 변경 bus 이벤트
+ * user-service 에서 인가 또는 권한 인가가 변경되어 커밋되면 발행하고, 게이트웨이는 받으면 인가 규칙을 다시 읽는다.
+ * 발행하는 서비스와 받는 서비스 모두 @RemoteApplicationEventScan 으로 이 패키지를 등록해야 역직렬화된다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+public class AuthorizationChangedEvent extends RemoteApplicationEvent {
+
+    /**
+     * 역직렬화
+     */
+    @SuppressWarnings("unused")
+    protected AuthorizationChangedEvent() {
+        super();
+    }
+
+    public AuthorizationChangedEvent(Object source, String originService, Destination destination) {
+        super(source, originService, destination);
+    }
+
+}
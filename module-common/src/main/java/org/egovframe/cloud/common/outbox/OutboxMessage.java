@@ -0,0 +1,38 @@
+package org.egovframe.cloud.common.outbox;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * org.egovframe.cloud.common.outbox.OutboxMessage
+ * <p>
+ * outbox 에서 읽어 발행할 이벤트
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+@Getter
+@ToString(exclude = "payload")
+public class OutboxMessage {
+
+    private final Long id;
+    private final String bindingName;
+    private final String aggregateId;
+    private final String payload; // json
+
+    public OutboxMessage(Long id, String bindingName, String aggregateId, String payload) {
+        this.id = id;
+        this.bindingName = bindingName;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,197 @@
+package org.egovframe.cloud.common.outbox;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * org.egovframe.cloud.common.outbox.OutboxRelay
+ * <p>
+ * outbox 테이블에 저장된 이벤트를 batchSize 건씩 읽어 발행하는 component
+ * 요청 스레드는 이벤트를 업무 데이터와 같은 트랜잭션에서 outbox 에 저장만 하고, 백그라운드 스레드가 broker 로 발행한다.
+ * 발행한 이벤트는 삭제하며, 발행하지 못한 이벤트는 선점(lease)이 만료된 후 다시 발행하므로 최소 한 번 이상 전달된다.
+ * 같은 aggregate 의 이벤트는 앞선 이벤트가 발행(삭제)된 후에 선점하므로, relay 가 여러 개여도 저장된 순서대로 발행된다.
+ * 발행한 이벤트가 있으면 다음 이벤트를 바로 선점하고, 없으면 pollInterval 동안 기다린다.
+ * 커밋 후 wakeUp 을 호출하면 pollInterval 을 기다리지 않고 바로 발행한다.
+ * outbox 를 사용하는 서비스에서만 outbox.relay.enabled=true 로 설정하여 사용한다. outbox_event 테이블이 있어야 한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  outbox.relay.enabled=true 로 설정한 서비스에서만 등록
+ *  2026/10/17    jaeyeolkim  aggregate 별 가장 앞선 이벤트만 선점, 발행 후 바로 다음 이벤트 선점
+ * </pre>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "outbox.relay.enabled", havingValue = "true")
+public class OutboxRelay implements MeterBinder {
+
+    private static final String METER_NAME = "outbox.events";
+
+    private final OutboxStore outboxStore;
+
+    private final StreamBridge streamBridge;
+
+    private final int batchSize;
+
+    private final long pollIntervalNanos;
+
+    private final long leaseSeconds;
+
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong deferredCount = new AtomicLong();
+
+    private volatile boolean running;
+
+    private Thread worker;
+
+    /**
+     * @param outboxStore
+     * @param streamBridge
+     * @param batchSize          한 번에 발행하는 최대 건수
+     * @param pollIntervalMillis 발행할 이벤트를 조회하는 간격
+     * @param leaseSeconds       선점 유지 시간, 발행하지 못한 이벤트는 이 시간이 지난 후 다시 발행한다
+     */
+    public OutboxRelay(OutboxStore outboxStore,
+                       StreamBridge streamBridge,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.poll-interval-ms:1000}") long pollIntervalMillis,
+                       @Value("${outbox.relay.lease-seconds:30}") long leaseSeconds) {
+        this.outboxStore = outboxStore;
+        this.streamBridge = streamBridge;
+        this.batchSize = batchSize;
+        this.pollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(pollIntervalMillis);
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "outbox-relay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.NANOSECONDS.toMillis(pollIntervalNanos) * 5);
+    }
+
+    /**
+     * 이벤트가 저장된 트랜잭션이 커밋된 후 호출하면 바로 발행한다.
+     */
+    public void wakeUp() {
+        Thread current = worker;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            int published;
+            try {
+                published = relay();
+            } catch (RuntimeException e) {
+                log.error("outbox relay 오류 : {}", e.getMessage());
+                published = 0;
+            }
+            if (published == 0) {
+                LockSupport.parkNanos(this, pollIntervalNanos);
+            }
+        }
+    }
+
+    /**
+     * 이벤트를 선점하여 id 순으로 발행하고, 발행한 이벤트를 삭제한다.
+     *
+     * @return 발행한 건수
+     */
+    int relay() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> messages = outboxStore.claim(batchSize, now, now.plusSeconds(leaseSeconds));
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        // aggregate 별로 한 건씩 선점하므로, 발행하지 못한 이벤트는 lease 가 만료된 후 같은 순서로 다시 선점된다
+        List<Long> published = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            if (publish(message)) {
+                published.add(message.getId());
+            }
+        }
+
+        if (!published.isEmpty()) {
+            outboxStore.delete(published);
+        }
+        publishedCount.addAndGet(published.size());
+        deferredCount.addAndGet(messages.size() - published.size());
+        return published.size();
+    }
+
+    private boolean publish(OutboxMessage message) {
+        try {
+            boolean sent = streamBridge.send(message.getBindingName(),
+                MessageBuilder.withPayload(message.getPayload().getBytes(StandardCharsets.UTF_8))
+                    .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON_VALUE)
+                    .build());
+            if (!sent) {
+                log.warn("outbox 이벤트 발행 실패 {}", message);
+            }
+            return sent;
+        } catch (RuntimeException e) {
+            log.warn("outbox 이벤트 발행 오류 {} : {}", message, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * actuator metrics 에 outbox.events 지표를 등록한다.
+     *
+     * @param registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METER_NAME, publishedCount, AtomicLong::doubleValue)
+                .tag("result", "published")
+                .description("outbox 에서 발행한 이벤트 건수")
+                .register(registry);
+        FunctionCounter.builder(METER_NAME, deferredCount, AtomicLong::doubleValue)
+                .tag("result", "deferred")
+                .description("발행하지 못해 다음 주기로 미룬 이벤트 건수")
+                .register(registry);
+    }
+
+}
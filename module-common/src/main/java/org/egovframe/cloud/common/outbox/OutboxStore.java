@@ -0,0 +1,65 @@
+package org.egovframe.cloud.common.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * org.egovframe.cloud.common.outbox.OutboxStore
+ * <p>
+ * outbox 테이블 조회/삭제 인터페이스
+ * servlet(JDBC), reactive(R2DBC) 서비스별로 구현하며 sql 은 named parameter 로 공유한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  aggregate 별 가장 앞선 이벤트만 선점
+ * </pre>
+ */
+public interface OutboxStore {
+
+    String INSERT_SQL = "insert into outbox_event (binding_name, aggregate_id, payload, created_date, modified_date) "
+        + "values (:bindingName, :aggregateId, :payload, :createdDate, :createdDate)";
+
+    // 선점되지 않은 이벤트 중 aggregate 별로 가장 앞선(발행되지 않은 이전 이벤트가 없는) 이벤트만 조회한다 (%d: batch size)
+    // 앞선 이벤트가 삭제(발행)되기 전에는 다음 이벤트를 조회하지 않으므로 여러 relay 가 같은 aggregate 의 이벤트를 동시에 발행하지 않는다
+    String SELECT_CLAIMABLE_SQL = "select o.outbox_event_id from outbox_event o "
+        + "where (o.lease_until is null or o.lease_until < :now) "
+        + "and not exists (select 1 from outbox_event p where p.aggregate_id = o.aggregate_id "
+        + "and p.outbox_event_id < o.outbox_event_id) "
+        + "order by o.outbox_event_id limit %d";
+
+    String CLAIM_SQL = "update outbox_event set lease_owner = :leaseOwner, lease_until = :leaseUntil "
+        + "where outbox_event_id in (:ids) and (lease_until is null or lease_until < :now)";
+
+    String SELECT_CLAIMED_SQL = "select outbox_event_id, binding_name, aggregate_id, payload from outbox_event "
+        + "where lease_owner = :leaseOwner order by outbox_event_id";
+
+    String DELETE_SQL = "delete from outbox_event where outbox_event_id in (:ids)";
+
+    /**
+     * 발행할 이벤트를 최대 batchSize 건 선점하여 id 순으로 리턴한다.
+     * aggregate 별로 가장 앞선 이벤트 한 건만 선점하며, 선점한 이벤트는 leaseUntil 까지 다른 relay 가 조회하지 않는다.
+     *
+     * @param batchSize
+     * @param now
+     * @param leaseUntil 선점 만료 일시, 발행하지 못한 이벤트는 이후에 다시 발행한다
+     * @return
+     */
+    List<OutboxMessage> claim(int batchSize, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * 발행한 이벤트를 삭제한다.
+     *
+     * @param ids
+     */
+    void delete(Collection<Long> ids);
+
+}
@@ -0,0 +1,208 @@
+package org.egovframe.cloud.common.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * org.egovframe.cloud.common.util.BloomFilter
+ * <p>
+ * 문자열 키의 포함 여부를 고정된 메모리로 확인하는 lock-free bloom filter
+ * mightContain 이 false 이면 put 한 적이 없는 키이고, true 이면 오탐률(fpp) 확률로 put 하지 않은 키일 수 있다.
+ * 여러 스레드가 동시에 put, mightContain 할 수 있으며 writeTo/readFrom 으로 snapshot 을 저장하고 복원한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+public class BloomFilter {
+
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final AtomicLongArray bits;
+
+    private final long bitSize;
+
+    private final int hashCount;
+
+    private final AtomicLong insertions = new AtomicLong();
+
+    /**
+     * @param expectedInsertions 예상 키 수
+     * @param fpp                예상 키 수만큼 put 했을 때의 오탐률 (0 < fpp < 1)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("fpp must be between 0 and 1");
+        }
+        long size = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (size + 63) / 64));
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    private BloomFilter(AtomicLongArray bits, int hashCount, long insertions) {
+        this.bits = bits;
+        this.bitSize = (long) bits.length() * 64;
+        this.hashCount = hashCount;
+        this.insertions.set(insertions);
+    }
+
+    /**
+     * 키를 추가한다.
+     *
+     * @param key
+     */
+    public void put(String key) {
+        long hash1 = hash(key, 0xcbf29ce484222325L);
+        long hash2 = hash(key, 0x84222325cbf29ce4L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(hash1 + i * hash2));
+        }
+        insertions.incrementAndGet();
+    }
+
+    /**
+     * 키가 추가되었을 수 있는지 확인한다.
+     *
+     * @param key
+     * @return false 이면 추가된 적이 없는 키
+     */
+    public boolean mightContain(String key) {
+        long hash1 = hash(key, 0xcbf29ce484222325L);
+        long hash2 = hash(key, 0x84222325cbf29ce4L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(index(hash1 + i * hash2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * put 호출 횟수, 같은 키를 여러 번 put 한 경우도 포함한다.
+     *
+     * @return
+     */
+    public long getInsertions() {
+        return insertions.get();
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 추정한 오탐률
+     *
+     * @return
+     */
+    public double expectedFpp() {
+        long setBits = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            setBits += Long.bitCount(bits.get(i));
+        }
+        return Math.pow((double) setBits / bitSize, hashCount);
+    }
+
+    /**
+     * snapshot 을 저장한다.
+     * 저장 중에 추가되는 키는 포함되지 않을 수 있다.
+     *
+     * @param out
+     * @throws IOException
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeInt(hashCount);
+        out.writeLong(insertions.get());
+        out.writeInt(bits.length());
+        for (int i = 0; i < bits.length(); i++) {
+            out.writeLong(bits.get(i));
+        }
+    }
+
+    /**
+     * writeTo 로 저장한 snapshot 을 복원한다.
+     *
+     * @param in
+     * @return
+     * @throws IOException
+     */
+    public static BloomFilter readFrom(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IOException("unsupported bloom filter snapshot version : " + version);
+        }
+        int hashCount = in.readInt();
+        long insertions = in.readLong();
+        int words = in.readInt();
+        if (hashCount < 1 || words < 1) {
+            throw new IOException("invalid bloom filter snapshot");
+        }
+        AtomicLongArray bits = new AtomicLongArray(words);
+        for (int i = 0; i < words; i++) {
+            bits.set(i, in.readLong());
+        }
+        return new BloomFilter(bits, hashCount, insertions);
+    }
+
+    /**
+     * 같은 크기, hash 수로 생성된 filter 인지 확인한다. snapshot 을 설정 변경 후에도 사용할 수 있는지 판단할 때 사용한다.
+     *
+     * @param other
+     * @return
+     */
+    public boolean isCompatible(BloomFilter other) {
+        return other != null && bitSize == other.bitSize && hashCount == other.hashCount;
+    }
+
+    private long index(long combinedHash) {
+        return (combinedHash & Long.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    /**
+     * FNV-1a 64 bit hash 에 murmur3 finalizer 를 적용하여 비트를 고르게 섞는다.
+     */
+    private static long hash(String key, long seed) {
+        long hash = seed;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93e7f4a7d3bL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
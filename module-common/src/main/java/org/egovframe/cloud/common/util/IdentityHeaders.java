@@ -0,0 +1,147 @@
+package org.egovframe.cloud.common.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.egovframe.cloud.common.config.GlobalConstant.HEADER_IDENTITY_AUTHORITIES;
+import static org.egovframe.cloud.common.config.GlobalConstant.HEADER_IDENTITY_EXPIRATION;
+import static org.egovframe.cloud.common.config.GlobalConstant.HEADER_IDENTITY_SIGNATURE;
+import static org.egovframe.cloud.common.config.GlobalConstant.HEADER_IDENTITY_SUBJECT;
+
+/**
+ * org.egovframe.cloud.common.util.IdentityHeaders
+ * <p>
+ * api gateway 가 토큰 검증 후 전달하는 사용자 정보 header(X-Identity-*) 를 확인한다.
+ * 사용자 id, 권한, 만료 시각에 대한 HMAC-SHA256 서명이 일치하면 JWT 를 다시 파싱하지 않고 header 정보를 사용한다.
+ * identity.header.enabled=true 로 설정한 서비스에서만 header 를 신뢰하므로 서비스별로 순차 적용할 수 있다.
+ * header 가 없거나 서명이 일치하지 않으면 empty 를 리턴하여 기존처럼 토큰을 검증하도록 한다.
+ * 서명 키는 토큰 서명 키(token.secret) 와 별도로 identity.header.secret 에 설정하며, identity.header.enabled=true 인데 없으면 기동하지 않는다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  서명 키 identity.header.secret 필수, apigateway 서명 생성 공통화
+ *  2026/10/17    jaeyeolkim  서명 키는 identity.header.enabled=true 인 경우에만 필수
+ * </pre>
+ */
+@Slf4j
+@Component
+public class IdentityHeaders {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String TOKEN_CLAIM_NAME = "authorities";
+
+    private final boolean enabled;
+
+    private final ThreadLocal<Mac> macHolder;
+
+    public IdentityHeaders(@Value("${identity.header.enabled:false}") boolean enabled,
+                           @Value("${identity.header.secret:}") String secret) {
+        this.enabled = enabled;
+        if (!enabled) {
+            this.macHolder = null;
+            return;
+        }
+        if (!StringUtils.hasText(secret)) {
+            throw new IllegalStateException("identity.header.enabled=true 인 경우 identity.header.secret 이 설정되어야 합니다.");
+        }
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.macHolder = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청 header 의 사용자 정보 서명을 확인하고 Claims 로 변환하여 리턴한다.
+     *
+     * @param headerReader header 이름으로 값을 조회하는 함수
+     * @return Optional<Claims> 서명이 유효한 경우 subject, authorities, expiration 이 설정된 Claims
+     */
+    public Optional<Claims> getVerifiedClaims(Function<String, String> headerReader) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        String subject = headerReader.apply(HEADER_IDENTITY_SUBJECT);
+        String signature = headerReader.apply(HEADER_IDENTITY_SIGNATURE);
+        if (!StringUtils.hasText(subject) || !StringUtils.hasText(signature)) {
+            return Optional.empty();
+        }
+        String authorities = headerReader.apply(HEADER_IDENTITY_AUTHORITIES);
+        String expiration = headerReader.apply(HEADER_IDENTITY_EXPIRATION);
+
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(expiration);
+        } catch (NumberFormatException e) {
+            log.warn("사용자 정보 header 만료 시각 오류 : {}", expiration);
+            return Optional.empty();
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+
+        String expected = sign(subject, authorities, expiresAt);
+        if (!MessageDigest.isEqual(expected.getBytes(StandardCharsets.US_ASCII), signature.getBytes(StandardCharsets.US_ASCII))) {
+            log.warn("사용자 정보 header 서명 불일치 subject={}", subject);
+            return Optional.empty();
+        }
+
+        Claims claims = Jwts.claims()
+                .setSubject(subject)
+                .setExpiration(new Date(expiresAt));
+        claims.put(TOKEN_CLAIM_NAME, authorities);
+        return Optional.of(claims);
+    }
+
+    /**
+     * 사용자 id, 권한, 만료 시각에 대한 서명을 생성한다.
+     * apigateway IdentityHeaderFilter 에서 header 를 추가할 때도 사용한다.
+     * identity.header.enabled=false 이면 서명 키가 없으므로 호출할 수 없다.
+     *
+     * @param subject     사용자 id
+     * @param authorities 권한(콤마 구분)
+     * @param expiresAt   만료 시각(epoch millis)
+     * @return String Base64 URL 인코딩된 서명
+     */
+    public String sign(String subject, String authorities, long expiresAt) {
+        if (!enabled) {
+            throw new IllegalStateException("identity.header.enabled=false 인 경우 사용자 정보 header 를 서명할 수 없습니다.");
+        }
+        String payload = subject + "\n" + (authorities == null ? "" : authorities) + "\n" + expiresAt;
+        byte[] hash = macHolder.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+}
@@ -0,0 +1,215 @@
+package org.egovframe.cloud.common.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * org.egovframe.cloud.common.util.JwtClaimsCache
+ * <p>
+ * 검증이 끝난 JWT 의 Claims 를 토큰 만료 시각까지 보관한다.
+ * 한 화면에서 같은 토큰으로 여러 API 를 호출하는 경우 서명 검증과 파싱을 한 번만 수행한다.
+ * 토큰 원문 대신 SHA-256 digest 를 키로 사용하며, 만료(exp) 클레임이 없는 토큰은 보관하지 않는다.
+ * 최대 건수를 넘으면 가장 오래 사용하지 않은 항목(LRU)을 제거한다.
+ * 리턴되는 Claims 는 여러 요청이 공유하므로 조회 용도로만 사용해야 한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  최대 건수 초과 시 LRU 제거, 시계 주입
+ * </pre>
+ */
+@Component
+public class JwtClaimsCache implements MeterBinder {
+
+    private static final String METER_NAME = "jwt.claims.cache";
+
+    private final String TOKEN_SECRET;
+
+    private final int maxSize;
+
+    private final Clock clock;
+
+    /**
+     * 토큰 digest -> 검증된 Claims, 접근 순서로 정렬하여 최대 건수를 넘으면 가장 오래 사용하지 않은 항목을 제거한다
+     */
+    private final LinkedHashMap<String, CachedClaims> cache;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    @Autowired
+    public JwtClaimsCache(@Value("${token.secret}") String tokenSecret,
+                          @Value("${token.claims-cache.max-size:10000}") int maxSize) {
+        this(tokenSecret, maxSize, Clock.systemUTC());
+    }
+
+    /**
+     * @param tokenSecret 토큰 서명 키
+     * @param maxSize     최대 보관 건수
+     * @param clock       만료 확인에 사용하는 시계, 토큰 파싱 시 만료 검증에도 사용한다
+     */
+    public JwtClaimsCache(String tokenSecret, int maxSize, Clock clock) {
+        this.TOKEN_SECRET = tokenSecret;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<String, CachedClaims>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedClaims> eldest) {
+                if (size() > JwtClaimsCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 토큰의 Claims 를 리턴한다.
+     * 보관된 Claims 가 없거나 만료된 경우 서명을 검증하여 파싱하고, 검증 오류는 jjwt 예외를 그대로 던진다.
+     * 서명 검증은 잠금 밖에서 수행한다.
+     *
+     * @param token
+     * @return
+     */
+    public Claims getClaims(String token) {
+        String key = digest(token);
+        long now = clock.millis();
+
+        lock.lock();
+        try {
+            CachedClaims cached = cache.get(key);
+            if (cached != null) {
+                if (cached.expiresAt > now) {
+                    hitCount.incrementAndGet();
+                    return cached.claims;
+                }
+                // 만료된 토큰은 다시 파싱하여 ExpiredJwtException 이 발생하도록 한다
+                cache.remove(key);
+                evictionCount.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        missCount.incrementAndGet();
+        Claims claims = Jwts.parser()
+                .setClock(() -> new Date(clock.millis()))
+                .setSigningKey(TOKEN_SECRET)
+                .parseClaimsJws(token)
+                .getBody();
+
+        Date expiration = claims.getExpiration();
+        if (expiration != null && expiration.getTime() > now && maxSize > 0) {
+            lock.lock();
+            try {
+                cache.put(key, new CachedClaims(claims, expiration.getTime()));
+            } finally {
+                lock.unlock();
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * 토큰 원문을 메모리에 남기지 않도록 SHA-256 digest 를 키로 사용한다.
+     *
+     * @param token
+     * @return
+     */
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return cache.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * actuator metrics 에 jwt.claims.cache 지표를 등록한다.
+     *
+     * @param registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METER_NAME + ".requests", hitCount, AtomicLong::doubleValue)
+                .tag("result", "hit")
+                .description("JWT Claims 캐시 적중 건수")
+                .register(registry);
+        FunctionCounter.builder(METER_NAME + ".requests", missCount, AtomicLong::doubleValue)
+                .tag("result", "miss")
+                .description("JWT Claims 캐시 미적중(서명 검증) 건수")
+                .register(registry);
+        FunctionCounter.builder(METER_NAME + ".evictions", evictionCount, AtomicLong::doubleValue)
+                .description("만료되었거나 최대 건수를 넘어 제거된 JWT Claims 건수")
+                .register(registry);
+        Gauge.builder(METER_NAME + ".size", this, JwtClaimsCache::size)
+                .description("보관 중인 JWT Claims 건수")
+                .register(registry);
+    }
+
+    /**
+     * 검증된 Claims 와 만료 시각
+     */
+    private static class CachedClaims {
+        private final Claims claims;
+        private final long expiresAt;
+
+        private CachedClaims(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+package org.egovframe.cloud.common.util;
+
+import org.egovframe.cloud.common.exception.InvalidValueException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * org.egovframe.cloud.common.util.PageCursor
+ * <p>
+ * 커서(keyset) 페이징의 연속 토큰
+ * 마지막으로 조회한 행의 정렬 키와 pk 값을 순서대로 담아 URL 에 사용할 수 있는 문자열로 변환한다.
+ * 다음 페이지는 offset 대신 이 값들보다 뒤에 있는 행을 조회하므로 페이지가 깊어져도 조회 시간이 늘어나지 않는다.
+ * 토큰 형식은 클라이언트가 해석하지 않는 것으로 하며, 잘못된 토큰은 InvalidValueException 을 던진다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+public final class PageCursor {
+
+    private static final int VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte STRING = 4;
+    private static final byte DATE_TIME = 5;
+
+    private final List<Object> values;
+
+    private PageCursor(List<Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * 정렬 키와 pk 값으로 토큰을 생성한다.
+     *
+     * @param values Boolean, Integer, Long, String, LocalDateTime 또는 null
+     * @return URL-safe base64 토큰
+     */
+    public static String encode(Object... values) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(values.length);
+            for (Object value : values) {
+                write(out, value);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * 토큰을 해석한다.
+     *
+     * @param cursor 토큰
+     * @return
+     */
+    public static PageCursor decode(String cursor) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (in.readByte() != VERSION) {
+                throw new InvalidValueException(cursor);
+            }
+            int size = in.readUnsignedByte();
+            List<Object> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(read(in));
+            }
+            if (in.available() > 0) {
+                throw new InvalidValueException(cursor);
+            }
+            return new PageCursor(Collections.unmodifiableList(values));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidValueException(cursor);
+        }
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public Boolean getBoolean(int index) {
+        return get(index, Boolean.class);
+    }
+
+    public Integer getInteger(int index) {
+        return get(index, Integer.class);
+    }
+
+    public Long getLong(int index) {
+        return get(index, Long.class);
+    }
+
+    public String getString(int index) {
+        return get(index, String.class);
+    }
+
+    public LocalDateTime getDateTime(int index) {
+        return get(index, LocalDateTime.class);
+    }
+
+    private <T> T get(int index, Class<T> type) {
+        if (index >= values.size()) {
+            throw new InvalidValueException("cursor");
+        }
+        Object value = values.get(index);
+        if (value != null && !type.isInstance(value)) {
+            throw new InvalidValueException("cursor");
+        }
+        return type.cast(value);
+    }
+
+    private static void write(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            out.writeUTF((String) value);
+        } else if (value instanceof LocalDateTime) {
+            LocalDateTime dateTime = (LocalDateTime) value;
+            out.writeByte(DATE_TIME);
+            out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(dateTime.getNano());
+        } else {
+            throw new IllegalArgumentException("unsupported cursor value type : " + value.getClass().getName());
+        }
+    }
+
+    private static Object read(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return in.readBoolean();
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case STRING:
+                return in.readUTF();
+            case DATE_TIME:
+                return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            default:
+                throw new IOException("unsupported cursor value type : " + type);
+        }
+    }
+
+}
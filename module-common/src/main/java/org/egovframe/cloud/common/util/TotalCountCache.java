@@ -0,0 +1,161 @@
+package org.egovframe.cloud.common.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * org.egovframe.cloud.common.util.TotalCountCache
+ * <p>
+ * 목록 조회의 전체 건수를 조회 조건별로 일정 시간 보관한다.
+ * 같은 조건으로 페이지를 넘길 때마다 실행되는 count 쿼리를 보관 시간 동안 한 번만 실행한다.
+ * 보관 시간(기본 30초) 동안에는 등록/삭제된 건이 전체 건수에 반영되지 않으며, 보관 시간이 0 이면 보관하지 않는다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  보관 시간 기본값 30초로 변경
+ * </pre>
+ */
+@Component
+public class TotalCountCache implements MeterBinder {
+
+    private static final String METER_NAME = "page.count.cache";
+
+    private final long ttlNanos;
+
+    private final int maxSize;
+
+    /**
+     * 조회 조건 -> 전체 건수
+     */
+    private final Map<String, CachedCount> cache = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * @param ttlSeconds 보관 시간(초), 0 이면 보관하지 않는다
+     * @param maxSize    최대 보관 건수
+     */
+    public TotalCountCache(@Value("${page.count-cache.ttl-seconds:30}") long ttlSeconds,
+                           @Value("${page.count-cache.max-size:10000}") int maxSize) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 보관된 전체 건수를 리턴하고, 없으면 조회하여 보관한다.
+     *
+     * @param key     조회 대상과 조회 조건으로 구성한 키
+     * @param counter 전체 건수 조회
+     * @return
+     */
+    public long get(String key, LongSupplier counter) {
+        long now = System.nanoTime();
+        Long cached = getIfPresent(key, now);
+        if (cached != null) {
+            return cached;
+        }
+        long count = counter.getAsLong();
+        put(key, count, now);
+        return count;
+    }
+
+    /**
+     * 보관된 전체 건수를 리턴하고, 없으면 조회하여 보관한다. (reactive)
+     *
+     * @param key     조회 대상과 조회 조건으로 구성한 키
+     * @param counter 전체 건수 조회
+     * @return
+     */
+    public Mono<Long> getMono(String key, Supplier<Mono<Long>> counter) {
+        return Mono.defer(() -> {
+            long now = System.nanoTime();
+            Long cached = getIfPresent(key, now);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return counter.get().doOnNext(count -> put(key, count, now));
+        });
+    }
+
+    private Long getIfPresent(String key, long now) {
+        if (ttlNanos <= 0) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        CachedCount cached = cache.get(key);
+        if (cached != null && cached.expiresAt - now > 0) {
+            hitCount.incrementAndGet();
+            return cached.count;
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    private void put(String key, long count, long now) {
+        if (ttlNanos <= 0) {
+            return;
+        }
+        if (cache.size() >= maxSize) {
+            cache.entrySet().removeIf(entry -> entry.getValue().expiresAt - now <= 0);
+            if (cache.size() >= maxSize) {
+                return;
+            }
+        }
+        cache.put(key, new CachedCount(count, now + ttlNanos));
+    }
+
+    /**
+     * actuator metrics 에 page.count.cache 지표를 등록한다.
+     *
+     * @param registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METER_NAME + ".requests", hitCount, AtomicLong::doubleValue)
+                .tag("result", "hit")
+                .description("보관된 전체 건수를 사용한 건수")
+                .register(registry);
+        FunctionCounter.builder(METER_NAME + ".requests", missCount, AtomicLong::doubleValue)
+                .tag("result", "miss")
+                .description("count 쿼리를 실행한 건수")
+                .register(registry);
+        Gauge.builder(METER_NAME + ".size", cache, Map::size)
+                .description("보관 중인 전체 건수")
+                .register(registry);
+    }
+
+    /**
+     * 전체 건수와 만료 시각
+     */
+    private static class CachedCount {
+        private final long count;
+        private final long expiresAt;
+
+        private CachedCount(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+}
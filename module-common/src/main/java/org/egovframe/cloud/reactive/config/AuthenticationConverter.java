@@ -1,9 +1,10 @@
 package org.egovframe.cloud.reactive.config;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.egovframe.cloud.common.util.IdentityHeaders;
+import org.egovframe.cloud.common.util.JwtClaimsCache;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -35,13 +36,16 @@ import java.util.List;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/06    shinmj       최초 생성
+ *  2026/10/17    jaeyeolkim   JwtClaimsCache 로 토큰 검증 결과 재사용
+ *  2026/10/17    jaeyeolkim   api gateway 사용자 정보 header 서명 확인 시 토큰 파싱 생략
  * </pre>
  */
 @Slf4j
+@RequiredArgsConstructor
 @Component
 public class AuthenticationConverter implements ServerAuthenticationConverter {
-    @Value("${token.secret}")
-    private String TOKEN_SECRET;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final IdentityHeaders identityHeaders;
     final String TOKEN_CLAIM_NAME = "authorities";
 
     /**
@@ -64,7 +68,9 @@ public class AuthenticationConverter implements ServerAuthenticationConverter {
                         return Mono.empty();
                     }
 
-                    Claims claims = getClaimsFromToken(token);
+                    // api gateway 에서 서명한 사용자 정보 header 가 유효하면 토큰을 다시 파싱하지 않는다.
+                    Claims claims = identityHeaders.getVerifiedClaims(exchange.getRequest().getHeaders()::getFirst)
+                            .orElseGet(() -> getClaimsFromToken(token));
                     String authorities = claims.get(TOKEN_CLAIM_NAME, String.class);
                     List<SimpleGrantedAuthority> roleList = new ArrayList<>();
                     roleList.add(new SimpleGrantedAuthority(authorities));
@@ -91,9 +97,6 @@ public class AuthenticationConverter implements ServerAuthenticationConverter {
      * @return
      */
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .setSigningKey(TOKEN_SECRET)
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtClaimsCache.getClaims(token);
     }
 }
@@ -0,0 +1,161 @@
+package org.egovframe.cloud.reactive.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * org.egovframe.cloud.reactive.domain.ReserveQtyCounter
+ *
+ * 조회 기간 중 동시에 예약된 수량의 최대값 계산
+ * 예약 시작/종료 시점을 +수량/-수량 이벤트로 만들어 시간순으로 정렬한 뒤 한 번 훑으며 누적 수량의 최대값을 구한다. (O(n log n))
+ * 예약 기간은 시작일, 종료일을 모두 포함하므로 같은 시점에서는 시작 이벤트를 먼저 처리한다.
+ * 예약 신청, 예약 확인 서비스가 같이 사용하므로 예약 엔티티는 Reservation 을 구현한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj       최초 생성
+ *  2026/10/17    shinmj       일자별 동시 예약 수량 max 추가
+ *  2026/10/17    shinmj       예약 서비스별 복사본을 module-common 으로 이동
+ * </pre>
+ */
+public final class ReserveQtyCounter {
+
+    private static final Comparator<Event> EVENT_ORDER = Comparator.comparing((Event event) -> event.at)
+        .thenComparing(event -> event.qty < 0);
+
+    private ReserveQtyCounter() {
+    }
+
+    /**
+     * 조회 기간 내 동시 예약 수량 max
+     * 조회 기간 밖의 예약 구간은 잘라내고 계산한다.
+     *
+     * @param reserves  조회 기간과 겹치는 예약 목록
+     * @param startDate 조회 시작일
+     * @param endDate   조회 종료일
+     * @return
+     */
+    public static int max(Collection<? extends Reservation> reserves, LocalDateTime startDate, LocalDateTime endDate) {
+        if (reserves == null || reserves.isEmpty()) {
+            return 0;
+        }
+
+        List<Event> events = toEvents(reserves, startDate, endDate);
+
+        int current = 0;
+        int max = 0;
+        for (Event event : events) {
+            current += event.qty;
+            if (current > max) {
+                max = current;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 시작일부터 days 일 동안 일자별 동시 예약 수량 max
+     * 모든 일자를 한 번의 sweep 으로 계산한다.
+     *
+     * @param reserves 조회 기간과 겹치는 예약 목록
+     * @param fromDate 조회 시작일
+     * @param days     조회 일 수
+     * @return 일자별 동시 예약 수량 max
+     */
+    public static int[] maxByDay(Collection<? extends Reservation> reserves, LocalDate fromDate, int days) {
+        int[] result = new int[Math.max(days, 0)];
+        if (reserves == null || reserves.isEmpty() || days <= 0) {
+            return result;
+        }
+
+        LocalDateTime startDate = fromDate.atStartOfDay();
+        List<Event> events = toEvents(reserves, startDate, fromDate.plusDays(days).atStartOfDay().minusNanos(1));
+
+        int index = 0;
+        int current = 0;
+        for (int day = 0; day < days; day++) {
+            LocalDateTime nextDay = startDate.plusDays(day + 1L);
+            // 전날까지 처리한 결과가 해당 일자 시작 시점의 예약 수량이다
+            int max = current;
+            while (index < events.size() && events.get(index).at.isBefore(nextDay)) {
+                current += events.get(index).qty;
+                if (current > max) {
+                    max = current;
+                }
+                index++;
+            }
+            result[day] = max;
+        }
+        return result;
+    }
+
+    /**
+     * 조회 기간으로 잘라낸 예약 구간을 시간순 이벤트 목록으로 변환한다.
+     *
+     * @param reserves
+     * @param startDate
+     * @param endDate
+     * @return
+     */
+    private static List<Event> toEvents(Collection<? extends Reservation> reserves, LocalDateTime startDate, LocalDateTime endDate) {
+        List<Event> events = new ArrayList<>(reserves.size() * 2);
+        for (Reservation reserve : reserves) {
+            Integer qty = reserve.getReserveQty();
+            if (qty == null || qty == 0) {
+                continue;
+            }
+            LocalDateTime from = reserve.getReserveStartDate().isBefore(startDate) ? startDate : reserve.getReserveStartDate();
+            LocalDateTime to = reserve.getReserveEndDate().isAfter(endDate) ? endDate : reserve.getReserveEndDate();
+            if (from.isAfter(to)) {
+                continue;
+            }
+            events.add(new Event(from, qty));
+            events.add(new Event(to, -qty));
+        }
+        events.sort(EVENT_ORDER);
+        return events;
+    }
+
+    /**
+     * 동시 예약 수량 계산에 필요한 예약 정보
+     */
+    public interface Reservation {
+
+        /**
+         * @return 예약 신청 인원/수량
+         */
+        Integer getReserveQty();
+
+        /**
+         * @return 예약 신청 시작일
+         */
+        LocalDateTime getReserveStartDate();
+
+        /**
+         * @return 예약 신청 종료일
+         */
+        LocalDateTime getReserveEndDate();
+    }
+
+    private static final class Event {
+        private final LocalDateTime at;
+        private final int qty;
+
+        private Event(LocalDateTime at, int qty) {
+            this.at = at;
+            this.qty = qty;
+        }
+    }
+
+}
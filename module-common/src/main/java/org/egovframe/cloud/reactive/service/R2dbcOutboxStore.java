@@ -0,0 +1,91 @@
+package org.egovframe.cloud.reactive.service;
+
+import lombok.RequiredArgsConstructor;
+import org.egovframe.cloud.common.outbox.OutboxMessage;
+import org.egovframe.cloud.common.outbox.OutboxStore;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * org.egovframe.cloud.reactive.service.R2dbcOutboxStore
+ * <p>
+ * R2DBC outbox 테이블 조회/삭제 구현체
+ * OutboxRelay 의 백그라운드 스레드에서 호출되므로 결과를 기다려서 리턴한다.
+ * outbox_event 테이블은 서비스별 schema.sql 에 정의한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Component
+public class R2dbcOutboxStore implements OutboxStore {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public List<OutboxMessage> claim(int batchSize, LocalDateTime now, LocalDateTime leaseUntil) {
+        String leaseOwner = UUID.randomUUID().toString();
+        List<OutboxMessage> messages = databaseClient.sql(String.format(SELECT_CLAIMABLE_SQL, batchSize))
+            .bind("now", now)
+            .map((row, metadata) -> row.get("outbox_event_id", Long.class))
+            .all()
+            .collectList()
+            .flatMap(ids -> {
+                if (ids.isEmpty()) {
+                    return Mono.just(0);
+                }
+                return databaseClient.sql(CLAIM_SQL)
+                    .bind("leaseOwner", leaseOwner)
+                    .bind("leaseUntil", leaseUntil)
+                    .bind("ids", ids)
+                    .bind("now", now)
+                    .fetch()
+                    .rowsUpdated();
+            })
+            .flatMap(claimed -> {
+                if (claimed == 0) {
+                    return Mono.just(Collections.<OutboxMessage>emptyList());
+                }
+                return databaseClient.sql(SELECT_CLAIMED_SQL)
+                    .bind("leaseOwner", leaseOwner)
+                    .map((row, metadata) -> new OutboxMessage(
+                        row.get("outbox_event_id", Long.class),
+                        row.get("binding_name", String.class),
+                        row.get("aggregate_id", String.class),
+                        row.get("payload", String.class)))
+                    .all()
+                    .collectList();
+            })
+            .block(TIMEOUT);
+        return messages == null ? Collections.emptyList() : messages;
+    }
+
+    @Override
+    public void delete(Collection<Long> ids) {
+        databaseClient.sql(DELETE_SQL)
+            .bind("ids", ids)
+            .fetch()
+            .rowsUpdated()
+            .block(TIMEOUT);
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.egovframe.cloud.reactive.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.egovframe.cloud.common.outbox.OutboxRelay;
+import org.egovframe.cloud.common.outbox.OutboxStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * org.egovframe.cloud.reactive.service.ReactiveOutboxEventWriter
+ * <p>
+ * 발행할 이벤트를 업무 데이터와 같은 reactive 트랜잭션에서 outbox 에 저장한다.
+ * 트랜잭션이 rollback 되면 이벤트도 저장되지 않으며, 커밋된 후 OutboxRelay 가 발행한다.
+ * 요청 처리 중에는 broker 에 접근하지 않는다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  relay 를 등록하지 않은 서비스에서도 사용할 수 있도록 변경
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Component
+public class ReactiveOutboxEventWriter {
+
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+    /**
+     * outbox.relay.enabled=false 인 경우 relay 가 없으므로 다른 인스턴스/서비스의 relay 가 주기적으로 발행한다.
+     */
+    private final ObjectProvider<OutboxRelay> outboxRelay;
+
+    /**
+     * 이벤트를 outbox 에 저장한다.
+     *
+     * @param bindingName 발행할 binding name
+     * @param aggregateId 발행 순서를 보장할 단위 (e.g. 첨부파일 코드, 예약 id)
+     * @param payload     json 으로 변환하여 저장할 메시지
+     * @return
+     */
+    public Mono<Void> write(String bindingName, String aggregateId, Object payload) {
+        return Mono.fromCallable(() -> toJson(payload))
+            .flatMap(json -> databaseClient.sql(OutboxStore.INSERT_SQL)
+                .bind("bindingName", bindingName)
+                .bind("aggregateId", aggregateId)
+                .bind("payload", json)
+                .bind("createdDate", LocalDateTime.now())
+                .fetch()
+                .rowsUpdated())
+            .then(wakeUpAfterCommit());
+    }
+
+    /**
+     * 트랜잭션 안에서 호출된 경우 커밋 후, 그렇지 않은 경우 바로 relay 를 깨운다.
+     *
+     * @return
+     */
+    private Mono<Void> wakeUpAfterCommit() {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .filter(TransactionSynchronizationManager::isSynchronizationActive)
+            .map(synchronizationManager -> {
+                synchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCommit() {
+                        return Mono.fromRunnable(() -> wakeUp());
+                    }
+                });
+                return true;
+            })
+            .onErrorResume(NoTransactionException.class, e -> Mono.empty())
+            .switchIfEmpty(Mono.fromRunnable(this::wakeUp))
+            .then();
+    }
+
+    private void wakeUp() {
+        outboxRelay.ifAvailable(OutboxRelay::wakeUp);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("outbox payload 변환 오류 : " + payload.getClass().getName(), e);
+        }
+    }
+
+}
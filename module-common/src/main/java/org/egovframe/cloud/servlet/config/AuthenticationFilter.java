@@ -1,7 +1,8 @@
 package org.egovframe.cloud.servlet.config;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
+import org.egovframe.cloud.common.util.IdentityHeaders;
+import org.egovframe.cloud.common.util.JwtClaimsCache;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -36,17 +37,22 @@ import java.util.List;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/06/30    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  JwtClaimsCache 로 토큰 검증 결과 재사용
+ *  2026/10/17    jaeyeolkim  api gateway 사용자 정보 header 서명 확인 시 토큰 파싱 생략
  * </pre>
  */
 public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
-    private final String TOKEN_SECRET;
+    private final JwtClaimsCache jwtClaimsCache;
+
+    private final IdentityHeaders identityHeaders;
 
     final String TOKEN_CLAIM_NAME = "authorities";
 
-    public AuthenticationFilter(AuthenticationManager authenticationManager, String tokenSecret) {
+    public AuthenticationFilter(AuthenticationManager authenticationManager, JwtClaimsCache jwtClaimsCache, IdentityHeaders identityHeaders) {
         super.setAuthenticationManager(authenticationManager);
-        this.TOKEN_SECRET = tokenSecret;
+        this.jwtClaimsCache = jwtClaimsCache;
+        this.identityHeaders = identityHeaders;
     }
 
     /**
@@ -56,14 +62,9 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
      * @return
      */
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .setSigningKey(TOKEN_SECRET)
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtClaimsCache.getClaims(token);
     }
 
-
-
     /**
      * 로그인 요청 뿐만 아니라 모든 요청시마다 호출된다.
      * 토큰에 담긴 정보로 Authentication 정보를 설정한다.
@@ -82,7 +83,9 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
         if (token == null || "undefined".equals(token) || "".equals(token)) {
             super.doFilter(request, response, chain);
         } else {
-            Claims claims = getClaimsFromToken(token);
+            // api gateway 에서 서명한 사용자 정보 header 가 유효하면 토큰을 다시 파싱하지 않는다.
+            Claims claims = identityHeaders.getVerifiedClaims(httpRequest::getHeader)
+                    .orElseGet(() -> getClaimsFromToken(token));
             String authorities = claims.get(TOKEN_CLAIM_NAME, String.class);
             List<SimpleGrantedAuthority> roleList = new ArrayList<>();
             roleList.add(new SimpleGrantedAuthority(authorities));
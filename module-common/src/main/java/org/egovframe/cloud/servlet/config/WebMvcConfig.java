@@ -58,6 +58,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
                         "/error",
                         "/favicon.ico",
                         "/api/v1/authorizations/check",
+                        "/api/v1/authorizations/rules",
                         "/api/v1/users/token/refresh",
                         "/api/v1/menu-roles/**",
                         "/api/v1/messages/**"
@@ -0,0 +1,70 @@
+package org.egovframe.cloud.servlet.domain.outbox;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.egovframe.cloud.servlet.domain.BaseTimeEntity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+import static javax.persistence.GenerationType.IDENTITY;
+
+/**
+ * org.egovframe.cloud.servlet.domain.outbox.OutboxEvent
+ * <p>
+ * 발행 대기 이벤트(outbox) 엔티티
+ * 업무 데이터와 같은 트랜잭션에서 저장하고, OutboxRelay 가 발행한 후 삭제한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "outbox_event", indexes = {
+    @Index(name = "idx_outbox_event_lease_owner", columnList = "lease_owner"),
+    @Index(name = "idx_outbox_event_aggregate_id", columnList = "aggregate_id")
+})
+public class OutboxEvent extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String bindingName;
+
+    @Column(nullable = false)
+    private String aggregateId;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(length = 50)
+    private String leaseOwner;
+
+    private LocalDateTime leaseUntil;
+
+    @Builder
+    public OutboxEvent(String bindingName, String aggregateId, String payload) {
+        this.bindingName = bindingName;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+    }
+}
@@ -1,15 +1,12 @@
 package org.egovframe.cloud.servlet.service;
 
 import lombok.extern.slf4j.Slf4j;
-import org.egovframe.cloud.servlet.domain.log.ApiLog;
 import org.egovframe.cloud.common.service.AbstractService;
-import org.egovframe.cloud.servlet.domain.log.ApiLogRepository;
 import org.egovframe.cloud.common.util.LogUtil;
 import org.egovframe.cloud.servlet.interceptor.ApiLogInterceptor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -28,30 +25,32 @@ import javax.servlet.http.HttpServletRequest;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/01    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  ApiLogWriter 로 비동기 일괄 입력
  * </pre>
  */
 @Slf4j
 @Service
 public class ApiLogService extends AbstractService {
 
-    private final ApiLogRepository apiLogRepository;
+    private final ApiLogWriter apiLogWriter;
 
-    public ApiLogService(ApiLogRepository apiLogRepository) {
-        this.apiLogRepository = apiLogRepository;
+    public ApiLogService(ApiLogWriter apiLogWriter) {
+        this.apiLogWriter = apiLogWriter;
     }
 
     /**
      * API log 입력
      * LogInterceptor 에서 호출된다
+     * 요청 정보만 읽어 버퍼에 넣고 DB 입력은 ApiLogWriter 백그라운드 스레드에서 처리한다.
      *
      * @param request
      * @see ApiLogInterceptor
+     * @see ApiLogWriter
      */
-    @Transactional
     public void saveApiLog(HttpServletRequest request) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        apiLogRepository.save(
-                ApiLog.builder()
+        apiLogWriter.write(
+                ApiLogWriter.Record.builder()
                         .siteId(LogUtil.getSiteId(request))
                         .httpMethod(request.getMethod())
                         .requestUrl(request.getRequestURI())
@@ -0,0 +1,94 @@
+package org.egovframe.cloud.servlet.service;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+/**
+ * org.egovframe.cloud.servlet.service.ApiLogWriter
+ * <p>
+ * API Log 를 요청 스레드와 분리하여 일괄 입력한다.
+ * 버퍼 크기, 일괄 입력 건수, 입력 간격, 버퍼 초과 시 처리 방식은 api-log.* 속성으로 설정한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  BufferedEventSink 로 공통화
+ * </pre>
+ */
+@Component
+public class ApiLogWriter extends BufferedEventSink<ApiLogWriter.Record> {
+
+    private static final String INSERT_SQL = "insert into api_log (site_id, user_id, http_method, request_url, ip_addr, created_date, modified_date) values (?, ?, ?, ?, ?, ?, ?)";
+
+    public ApiLogWriter(JdbcTemplate jdbcTemplate,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${api-log.buffer-size:8192}") int bufferSize,
+                        @Value("${api-log.batch-size:200}") int batchSize,
+                        @Value("${api-log.flush-interval-ms:1000}") long flushIntervalMillis,
+                        @Value("${api-log.overflow-policy:DROP}") OverflowPolicy overflowPolicy) {
+        super("api-log", jdbcTemplate, transactionManager, bufferSize, batchSize, flushIntervalMillis, overflowPolicy);
+    }
+
+    @Override
+    protected String getInsertSql() {
+        return INSERT_SQL;
+    }
+
+    @Override
+    protected void setValues(PreparedStatement ps, Record record) throws SQLException {
+        Timestamp createdDate = Timestamp.valueOf(record.getCreatedDate());
+        if (record.getSiteId() == null) {
+            ps.setNull(1, Types.BIGINT);
+        } else {
+            ps.setLong(1, record.getSiteId());
+        }
+        ps.setString(2, record.getUserId());
+        ps.setString(3, record.getHttpMethod());
+        ps.setString(4, record.getRequestUrl());
+        ps.setString(5, record.getRemoteIp());
+        ps.setTimestamp(6, createdDate);
+        ps.setTimestamp(7, createdDate);
+    }
+
+    /**
+     * 버퍼에 보관하는 API Log
+     * 요청 스레드에서 필요한 값을 모두 읽어 두고 입력 시각도 요청 시점으로 기록한다.
+     */
+    @Getter
+    public static class Record {
+        private final Long siteId;
+        private final String userId;
+        private final String httpMethod;
+        private final String requestUrl;
+        private final String remoteIp;
+        private final LocalDateTime createdDate;
+
+        @Builder
+        public Record(Long siteId, String userId, String httpMethod, String requestUrl, String remoteIp) {
+            this.siteId = siteId;
+            this.userId = userId;
+            this.httpMethod = httpMethod;
+            this.requestUrl = requestUrl;
+            this.remoteIp = remoteIp;
+            this.createdDate = LocalDateTime.now();
+        }
+    }
+
+}
@@ -0,0 +1,362 @@
+package org.egovframe.cloud.servlet.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.cloud.common.util.RingBuffer;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * org.egovframe.cloud.servlet.service.BufferedEventSink
+ * <p>
+ * 로그, 통계처럼 요청 처리 결과에 영향을 주지 않는 이벤트를 모아서 일괄 입력하는 추상 클래스
+ * 요청 스레드는 RingBuffer 에 이벤트를 넣기만 하고, 백그라운드 스레드가 batchSize 건씩 모아 JDBC batch insert 한다.
+ * 모인 건수가 batchSize 에 못 미치더라도 flushInterval 이 지나면 입력하고, 종료 시에는 남은 이벤트를 모두 입력한다.
+ * 버퍼가 가득 찬 경우 OverflowPolicy 에 따라 버리고 건수를 세거나(DROP) 요청 스레드에서 바로 입력한다(CALLER_RUNS).
+ * 키 중복이나 교착 상태로 batch 가 rollback 되면 이벤트를 잃지 않도록 건별로 다시 입력한다.
+ * 하위 클래스는 insert 문과 파라미터 설정만 구현하며 bean 으로 등록해야 한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  일괄 입력 후처리(afterBatchInsert) 추가
+ *  2026/10/17    jaeyeolkim  일괄 입력 완료 후처리(afterBatchComplete) 추가, 호출한 트랜잭션과 분리하여 입력
+ *  2026/10/17    jaeyeolkim  일괄 입력 후처리에 건별 처리 건수 전달
+ *  2026/10/17    jaeyeolkim  충돌한 batch 는 건별로 재시도, flush 는 진행 중인 입력이 끝난 후 리턴
+ *  2026/10/17    jaeyeolkim  버퍼 초과로 버린 이벤트는 write 결과로 알림
+ * </pre>
+ */
+@Slf4j
+public abstract class BufferedEventSink<T> implements MeterBinder {
+
+    private static final String METER_NAME = "event.sink";
+
+    /**
+     * 건별로 다시 입력할 때 충돌한 이벤트의 최대 시도 횟수
+     */
+    private static final int MAX_ATTEMPTS = 3;
+
+    /**
+     * 버퍼가 가득 찬 경우 처리 방식
+     */
+    public enum OverflowPolicy {
+        DROP, CALLER_RUNS
+    }
+
+    private final String name;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final RingBuffer<T> buffer;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    /**
+     * 버퍼에서 꺼낸 이벤트를 입력하는 동안 flush 가 먼저 리턴하지 않도록 꺼내기와 입력을 함께 잠근다.
+     */
+    private final ReentrantLock insertLock = new ReentrantLock();
+
+    private volatile boolean running;
+
+    private Thread worker;
+
+    /**
+     * @param name                이벤트 이름, 스레드 이름과 metrics tag 로 사용한다
+     * @param jdbcTemplate
+     * @param transactionManager
+     * @param bufferSize          버퍼 크기
+     * @param batchSize           한 번에 입력하는 최대 건수
+     * @param flushIntervalMillis batchSize 만큼 모이지 않아도 입력하는 간격
+     * @param overflowPolicy      버퍼가 가득 찬 경우 처리 방식
+     */
+    protected BufferedEventSink(String name,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                int bufferSize,
+                                int batchSize,
+                                long flushIntervalMillis,
+                                OverflowPolicy overflowPolicy) {
+        this.name = name;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 버퍼 초과로 요청 스레드에서 입력하는 경우에도 요청의 (읽기 전용) 트랜잭션에 참여하지 않는다
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.buffer = new RingBuffer<>(bufferSize);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * 이벤트 입력 sql
+     *
+     * @return
+     */
+    protected abstract String getInsertSql();
+
+    /**
+     * insert 문의 파라미터를 설정한다.
+     *
+     * @param ps
+     * @param event
+     * @throws SQLException
+     */
+    protected abstract void setValues(PreparedStatement ps, T event) throws SQLException;
+
+    /**
+     * 일괄 입력 후 같은 트랜잭션에서 추가 처리가 필요한 경우 재정의한다.
+     * 예외가 발생하면 해당 batch 전체가 rollback 된다.
+     *
+     * @param events 입력한 이벤트 목록
+     */
+    protected void afterBatchInsert(List<T> events) {
+    }
+
+    /**
+     * 건별 처리 건수가 필요한 경우 재정의한다. 조건부 insert 처럼 입력되지 않는 이벤트가 있는 경우 사용한다.
+     * 기본 구현은 afterBatchInsert(events) 를 호출한다.
+     *
+     * @param events       입력한 이벤트 목록
+     * @param updateCounts 이벤트 순서대로의 처리 건수, 드라이버가 건수를 알려주지 않으면 Statement.SUCCESS_NO_INFO
+     */
+    protected void afterBatchInsert(List<T> events, int[] updateCounts) {
+        afterBatchInsert(events);
+    }
+
+    /**
+     * 일괄 입력 트랜잭션이 끝난 후 처리가 필요한 경우 재정의한다.
+     * 입력에 실패한 경우에도 호출된다.
+     *
+     * @param events  입력을 시도한 이벤트 목록
+     * @param success 입력 성공 여부
+     */
+    protected void afterBatchComplete(List<T> events, boolean success) {
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, name + "-sink");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 종료 시 버퍼에 남은 이벤트를 모두 입력한다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) * 5);
+        flush();
+    }
+
+    /**
+     * 이벤트를 버퍼에 넣는다. 요청 스레드에서 호출되며 DB 에 접근하지 않는다.
+     * 버퍼가 가득 차 버린 이벤트는 afterBatchComplete 가 호출되지 않으므로, 호출한 쪽에서 리턴 값으로 정리한다.
+     *
+     * @param event
+     * @return 버퍼에 넣었거나 바로 입력을 시도했으면 true, 버퍼 초과로 버렸으면(DROP) false
+     */
+    public boolean write(T event) {
+        if (buffer.offer(event)) {
+            if (buffer.size() >= batchSize) {
+                LockSupport.unpark(worker);
+            }
+            return true;
+        }
+
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            insert(Collections.singletonList(event));
+            return true;
+        }
+
+        long dropped = droppedCount.incrementAndGet();
+        if (dropped % 1000 == 1) {
+            log.warn("{} 버퍼가 가득 차 이벤트를 버립니다. 누적 {}건", name, dropped);
+        }
+        return false;
+    }
+
+    /**
+     * 버퍼에 남은 이벤트를 모두 입력한다.
+     * 백그라운드 스레드가 입력 중인 이벤트가 있으면 입력이 끝날 때까지 기다리므로,
+     * 리턴하면 호출 전에 write 한 이벤트는 모두 입력(또는 실패 처리)된 상태이다.
+     */
+    public void flush() {
+        List<T> events = new ArrayList<>(batchSize);
+        while (drainAndInsert(events) > 0) {
+            // 버퍼가 빌 때까지 반복
+        }
+    }
+
+    private void run() {
+        List<T> events = new ArrayList<>(batchSize);
+        while (running) {
+            if (buffer.size() < batchSize) {
+                // batchSize 만큼 모일 때까지 flushInterval 동안 기다린다
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            drainAndInsert(events);
+        }
+    }
+
+    /**
+     * 버퍼에서 batchSize 건까지 꺼내 입력한다.
+     *
+     * @param events 재사용하는 목록
+     * @return 꺼낸 건수
+     */
+    private int drainAndInsert(List<T> events) {
+        insertLock.lock();
+        try {
+            int drained = buffer.drainTo(events, batchSize);
+            if (drained > 0) {
+                insert(events);
+            }
+            return drained;
+        } finally {
+            events.clear();
+            insertLock.unlock();
+        }
+    }
+
+    /**
+     * 한 트랜잭션에서 JDBC batch insert 한다.
+     * 키 중복이나 교착 상태로 실패하면 batch 전체가 rollback 되므로 건별로 다시 입력한다.
+     * 입력 오류는 요청 처리에 영향을 주지 않도록 건수만 기록한다.
+     *
+     * @param events
+     */
+    private void insert(List<T> events) {
+        boolean success = false;
+        try {
+            insertBatch(events);
+            writtenCount.addAndGet(events.size());
+            success = true;
+        } catch (DuplicateKeyException | ConcurrencyFailureException e) {
+            log.warn("{} 일괄 입력 충돌, 건별로 다시 입력합니다. {}건 : {}", name, events.size(), e.getMessage());
+            success = insertEach(events);
+        } catch (RuntimeException e) {
+            failedCount.addAndGet(events.size());
+            log.error("{} 입력 오류 {}건 : {}", name, events.size(), e.getMessage());
+        } finally {
+            afterBatchComplete(events, success);
+        }
+    }
+
+    private void insertBatch(List<T> events) {
+        transactionTemplate.executeWithoutResult(status -> {
+            int[][] updateCounts = jdbcTemplate.batchUpdate(getInsertSql(), events, events.size(), this::setValues);
+            afterBatchInsert(events, updateCounts.length == 0 ? new int[0] : updateCounts[0]);
+        });
+    }
+
+    /**
+     * 건별로 별도 트랜잭션에서 입력한다.
+     * 다른 인스턴스와 같은 키를 채번하는 경우처럼 다시 입력하면 성공할 수 있는 충돌은 MAX_ATTEMPTS 번까지 시도한다.
+     *
+     * @param events
+     * @return 모두 입력했는지 여부
+     */
+    private boolean insertEach(List<T> events) {
+        int failed = 0;
+        for (T event : events) {
+            if (!insertWithRetry(event)) {
+                failed++;
+            }
+        }
+        writtenCount.addAndGet(events.size() - failed);
+        failedCount.addAndGet(failed);
+        return failed == 0;
+    }
+
+    private boolean insertWithRetry(T event) {
+        List<T> single = Collections.singletonList(event);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                insertBatch(single);
+                return true;
+            } catch (DuplicateKeyException | ConcurrencyFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.error("{} 입력 충돌 {}회 : {}", name, attempt, e.getMessage());
+                    return false;
+                }
+            } catch (RuntimeException e) {
+                log.error("{} 입력 오류 : {}", name, e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * actuator metrics 에 event.sink 지표를 등록한다.
+     *
+     * @param registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METER_NAME + ".events", writtenCount, AtomicLong::doubleValue)
+                .tags("sink", name, "result", "written")
+                .register(registry);
+        FunctionCounter.builder(METER_NAME + ".events", droppedCount, AtomicLong::doubleValue)
+                .tags("sink", name, "result", "dropped")
+                .register(registry);
+        FunctionCounter.builder(METER_NAME + ".events", failedCount, AtomicLong::doubleValue)
+                .tags("sink", name, "result", "failed")
+                .register(registry);
+        Gauge.builder(METER_NAME + ".buffer.size", buffer, RingBuffer::size)
+                .tag("sink", name)
+                .register(registry);
+    }
+
+}
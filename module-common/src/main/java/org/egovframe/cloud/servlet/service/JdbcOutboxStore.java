@@ -0,0 +1,75 @@
+package org.egovframe.cloud.servlet.service;
+
+import org.egovframe.cloud.common.outbox.OutboxMessage;
+import org.egovframe.cloud.common.outbox.OutboxStore;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * org.egovframe.cloud.servlet.service.JdbcOutboxStore
+ * <p>
+ * JDBC outbox 테이블 조회/삭제 구현체
+ * 운영 DB 에는 각 서비스의 outbox-schema.sql 로 테이블을 생성해야 한다. (ddl-auto: none)
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  테이블 생성 안내 수정
+ * </pre>
+ */
+@Component
+public class JdbcOutboxStore implements OutboxStore {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcOutboxStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public List<OutboxMessage> claim(int batchSize, LocalDateTime now, LocalDateTime leaseUntil) {
+        List<Long> ids = jdbcTemplate.queryForList(String.format(SELECT_CLAIMABLE_SQL, batchSize),
+            new MapSqlParameterSource("now", now), Long.class);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String leaseOwner = UUID.randomUUID().toString();
+        int claimed = jdbcTemplate.update(CLAIM_SQL, new MapSqlParameterSource()
+            .addValue("leaseOwner", leaseOwner)
+            .addValue("leaseUntil", leaseUntil)
+            .addValue("ids", ids)
+            .addValue("now", now));
+        if (claimed == 0) {
+            return Collections.emptyList();
+        }
+
+        return jdbcTemplate.query(SELECT_CLAIMED_SQL, new MapSqlParameterSource("leaseOwner", leaseOwner),
+            (rs, rowNum) -> new OutboxMessage(
+                rs.getLong("outbox_event_id"),
+                rs.getString("binding_name"),
+                rs.getString("aggregate_id"),
+                rs.getString("payload")));
+    }
+
+    @Override
+    public void delete(Collection<Long> ids) {
+        jdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("ids", ids));
+    }
+
+}
@@ -0,0 +1,132 @@
+package org.egovframe.cloud.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * org.egovframe.cloud.common.util.BloomFilterTest
+ * <p>
+ * bloom filter 테스트 클래스
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+class BloomFilterTest {
+
+    private static final int EXPECTED_INSERTIONS = 100_000;
+
+    private static final double FPP = 0.01;
+
+    @Test
+    public void 추가한_키는_항상_포함() throws Exception {
+        // given
+        BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, FPP);
+
+        // when
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            filter.put("1:" + i + ":user" + i + ":127.0.0." + (i % 256));
+        }
+
+        // then
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            assertThat(filter.mightContain("1:" + i + ":user" + i + ":127.0.0." + (i % 256))).isTrue();
+        }
+        assertThat(filter.getInsertions()).isEqualTo(EXPECTED_INSERTIONS);
+    }
+
+    @Test
+    public void 예상_키수만큼_추가하면_오탐률은_설정값_근처() throws Exception {
+        // given
+        BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, FPP);
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            filter.put("1:" + i + ":user" + i + ":127.0.0.1");
+        }
+
+        // when
+        int falsePositives = 0;
+        int checks = EXPECTED_INSERTIONS;
+        for (int i = 0; i < checks; i++) {
+            if (filter.mightContain("2:" + i + ":user" + i + ":127.0.0.1")) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        double rate = (double) falsePositives / checks;
+        assertThat(rate).isBetween(FPP / 2, FPP * 1.5);
+        assertThat(filter.expectedFpp()).isBetween(FPP / 2, FPP * 1.5);
+    }
+
+    @Test
+    public void 추가하지_않은_filter는_포함하는_키가_없음() throws Exception {
+        // given
+        BloomFilter filter = new BloomFilter(1000, FPP);
+
+        // then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.mightContain("key" + i)).isFalse();
+        }
+        assertThat(filter.expectedFpp()).isZero();
+    }
+
+    @Test
+    public void snapshot_저장후_복원하면_같은_결과() throws Exception {
+        // given
+        BloomFilter filter = new BloomFilter(1000, FPP);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("key" + i);
+        }
+
+        // when
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            filter.writeTo(out);
+        }
+        BloomFilter restored = BloomFilter.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // then
+        assertThat(restored.isCompatible(filter)).isTrue();
+        assertThat(restored.isCompatible(new BloomFilter(2000, FPP))).isFalse();
+        assertThat(restored.getInsertions()).isEqualTo(filter.getInsertions());
+        for (int i = 0; i < 2000; i++) {
+            assertThat(restored.mightContain("key" + i)).isEqualTo(filter.mightContain("key" + i));
+        }
+    }
+
+    @Test
+    public void 다른_버전의_snapshot은_복원하지_않음() throws Exception {
+        // given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(99);
+        }
+
+        // then
+        assertThatThrownBy(() -> BloomFilter.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))))
+                .isInstanceOf(java.io.IOException.class);
+    }
+
+    @Test
+    public void 잘못된_설정값은_생성하지_않음() throws Exception {
+        assertThatThrownBy(() -> new BloomFilter(0, FPP)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(1000, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(1000, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.egovframe.cloud.common.util;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.egovframe.cloud.common.config.GlobalConstant.HEADER_IDENTITY_AUTHORITIES;
+import static org.egovframe.cloud.common.config.GlobalConstant.HEADER_IDENTITY_EXPIRATION;
+import static org.egovframe.cloud.common.config.GlobalConstant.HEADER_IDENTITY_SIGNATURE;
+import static org.egovframe.cloud.common.config.GlobalConstant.HEADER_IDENTITY_SUBJECT;
+
+/**
+ * org.egovframe.cloud.common.util.IdentityHeadersTest
+ * <p>
+ * 사용자 정보 header 서명 테스트 클래스
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+class IdentityHeadersTest {
+
+    private static final String IDENTITY_SECRET = "egovframe_identity_header";
+
+    @Test
+    public void 사용하는데_서명키_없으면_생성_실패() {
+        assertThatThrownBy(() -> new IdentityHeaders(true, ""))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new IdentityHeaders(true, null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void 사용하지_않으면_서명키_없어도_생성() {
+        // given
+        IdentityHeaders identityHeaders = new IdentityHeaders(false, null);
+        IdentityHeaders signer = new IdentityHeaders(true, IDENTITY_SECRET);
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        Map<String, String> headers = headers("user-1", "ROLE_USER", expiresAt,
+                signer.sign("user-1", "ROLE_USER", expiresAt));
+
+        // when
+        Optional<Claims> claims = identityHeaders.getVerifiedClaims(headers::get);
+
+        // then
+        assertThat(identityHeaders.isEnabled()).isFalse();
+        assertThat(claims).isEmpty();
+        assertThatThrownBy(() -> identityHeaders.sign("user-1", "ROLE_USER", expiresAt))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void 서명한_header_확인() {
+        // given
+        IdentityHeaders identityHeaders = new IdentityHeaders(true, IDENTITY_SECRET);
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        Map<String, String> headers = headers("user-1", "ROLE_USER", expiresAt,
+                identityHeaders.sign("user-1", "ROLE_USER", expiresAt));
+
+        // when
+        Optional<Claims> claims = identityHeaders.getVerifiedClaims(headers::get);
+
+        // then
+        assertThat(claims).isPresent();
+        assertThat(claims.get().getSubject()).isEqualTo("user-1");
+        assertThat(claims.get().get("authorities")).isEqualTo("ROLE_USER");
+    }
+
+    @Test
+    public void 다른_키로_서명한_header_무시() {
+        // given
+        IdentityHeaders identityHeaders = new IdentityHeaders(true, IDENTITY_SECRET);
+        IdentityHeaders other = new IdentityHeaders(true, "egovframe_user_token");
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        Map<String, String> headers = headers("user-1", "ROLE_ADMIN", expiresAt,
+                other.sign("user-1", "ROLE_ADMIN", expiresAt));
+
+        // when
+        Optional<Claims> claims = identityHeaders.getVerifiedClaims(headers::get);
+
+        // then
+        assertThat(claims).isEmpty();
+    }
+
+    private Map<String, String> headers(String subject, String authorities, long expiresAt, String signature) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(HEADER_IDENTITY_SUBJECT, subject);
+        headers.put(HEADER_IDENTITY_AUTHORITIES, authorities);
+        headers.put(HEADER_IDENTITY_EXPIRATION, String.valueOf(expiresAt));
+        headers.put(HEADER_IDENTITY_SIGNATURE, signature);
+        return headers;
+    }
+
+}
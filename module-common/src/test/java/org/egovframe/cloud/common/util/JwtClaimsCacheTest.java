@@ -0,0 +1,155 @@
+package org.egovframe.cloud.common.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * org.egovframe.cloud.common.util.JwtClaimsCacheTest
+ * <p>
+ * JWT Claims 캐시 테스트 클래스
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  게이트웨이에서 module-common 으로 이동, 대기 대신 시계 이동
+ * </pre>
+ */
+class JwtClaimsCacheTest {
+
+    private static final String TOKEN_SECRET = "egovframe_user_token";
+
+    private final TestClock clock = new TestClock(Instant.parse("2026-10-17T00:00:00Z").toEpochMilli());
+
+    private String createToken(String secret, String subject, long expirationMillis) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .claim("authorities", "ROLE_USER")
+                .setExpiration(new Date(clock.millis() + expirationMillis))
+                .signWith(SignatureAlgorithm.HS512, secret)
+                .compact();
+    }
+
+    @Test
+    public void 같은_토큰은_한번만_검증한다() throws Exception {
+        // given
+        JwtClaimsCache jwtClaimsCache = new JwtClaimsCache(TOKEN_SECRET, 100, clock);
+        String token = createToken(TOKEN_SECRET, "user-id", 60000);
+
+        // when
+        Claims first = jwtClaimsCache.getClaims(token);
+        Claims second = jwtClaimsCache.getClaims(token);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getSubject()).isEqualTo("user-id");
+        assertThat(jwtClaimsCache.getMissCount()).isEqualTo(1);
+        assertThat(jwtClaimsCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void 만료된_토큰은_보관된_항목을_제거하고_예외가_발생한다() throws Exception {
+        // given
+        JwtClaimsCache jwtClaimsCache = new JwtClaimsCache(TOKEN_SECRET, 100, clock);
+        String token = createToken(TOKEN_SECRET, "user-id", 2000);
+        jwtClaimsCache.getClaims(token);
+
+        // when
+        clock.advance(2001);
+
+        // then
+        assertThatThrownBy(() -> jwtClaimsCache.getClaims(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(jwtClaimsCache.size()).isZero();
+        assertThat(jwtClaimsCache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void 서명이_다른_토큰은_보관하지_않는다() throws Exception {
+        // given
+        JwtClaimsCache jwtClaimsCache = new JwtClaimsCache(TOKEN_SECRET, 100, clock);
+        String token = createToken("other_secret", "user-id", 60000);
+
+        // then
+        assertThatThrownBy(() -> jwtClaimsCache.getClaims(token)).isInstanceOf(SignatureException.class);
+        assertThat(jwtClaimsCache.size()).isZero();
+    }
+
+    @Test
+    public void 최대_건수를_넘으면_가장_오래_사용하지_않은_토큰을_제거한다() throws Exception {
+        // given
+        JwtClaimsCache jwtClaimsCache = new JwtClaimsCache(TOKEN_SECRET, 2, clock);
+        String first = createToken(TOKEN_SECRET, "user1", 60000);
+        String second = createToken(TOKEN_SECRET, "user2", 60000);
+        String third = createToken(TOKEN_SECRET, "user3", 60000);
+        jwtClaimsCache.getClaims(first);
+        jwtClaimsCache.getClaims(second);
+
+        // when
+        jwtClaimsCache.getClaims(first);
+        jwtClaimsCache.getClaims(third);
+
+        // then
+        assertThat(jwtClaimsCache.size()).isEqualTo(2);
+        assertThat(jwtClaimsCache.getEvictionCount()).isEqualTo(1);
+        long missCount = jwtClaimsCache.getMissCount();
+        jwtClaimsCache.getClaims(first);
+        jwtClaimsCache.getClaims(third);
+        assertThat(jwtClaimsCache.getMissCount()).isEqualTo(missCount);
+        jwtClaimsCache.getClaims(second);
+        assertThat(jwtClaimsCache.getMissCount()).isEqualTo(missCount + 1);
+    }
+
+    /**
+     * 테스트에서 시간을 이동할 수 있는 시계
+     */
+    private static class TestClock extends Clock {
+        private long millis;
+
+        private TestClock(long millis) {
+            this.millis = millis;
+        }
+
+        private void advance(long millis) {
+            this.millis += millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package org.egovframe.cloud.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * org.egovframe.cloud.common.util.RingBufferTest
+ * <p>
+ * lock-free 순환 큐 테스트 클래스
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+class RingBufferTest {
+
+    @Test
+    public void 용량은_2의_거듭제곱으로_올림() {
+        // when // then
+        assertThat(new RingBuffer<Integer>(1).capacity()).isEqualTo(1);
+        assertThat(new RingBuffer<Integer>(5).capacity()).isEqualTo(8);
+        assertThat(new RingBuffer<Integer>(8).capacity()).isEqualTo(8);
+        assertThatThrownBy(() -> new RingBuffer<Integer>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void 넣은_순서대로_꺼내고_비어있으면_null() {
+        // given
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+
+        // when
+        buffer.offer(1);
+        buffer.offer(2);
+        buffer.offer(3);
+
+        // then
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.poll()).isEqualTo(1);
+        assertThat(buffer.poll()).isEqualTo(2);
+        assertThat(buffer.poll()).isEqualTo(3);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void 가득_차면_offer_가_false_를_리턴하고_꺼내면_다시_넣을_수_있음() {
+        // given
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // when
+        boolean offered = buffer.offer(4);
+
+        // then
+        assertThat(offered).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.offer(5)).isFalse();
+    }
+
+    @Test
+    public void 용량을_여러번_넘겨_순환해도_순서_유지() {
+        // given
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        List<Integer> polled = new ArrayList<>();
+
+        // when
+        int next = 0;
+        for (int round = 0; round < 100; round++) {
+            // 가득 채운 후 2건만 꺼내 매번 다른 위치에서 시작한다
+            while (buffer.offer(next)) {
+                next++;
+            }
+            buffer.drainTo(polled, 2);
+        }
+        buffer.drainTo(polled, Integer.MAX_VALUE);
+
+        // then
+        assertThat(polled).hasSize(next);
+        for (int i = 0; i < next; i++) {
+            assertThat(polled.get(i)).isEqualTo(i);
+        }
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void drainTo_는_최대_건수까지만_꺼냄() {
+        // given
+        RingBuffer<Integer> buffer = new RingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> target = new ArrayList<>();
+
+        // when
+        int drained = buffer.drainTo(target, 3);
+
+        // then
+        assertThat(drained).isEqualTo(3);
+        assertThat(target).containsExactly(0, 1, 2);
+        assertThat(buffer.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void 여러_스레드가_동시에_넣고_꺼내도_모든_항목을_한번씩_꺼냄() throws Exception {
+        // given
+        int producers = 4;
+        int perProducer = 50_000;
+        RingBuffer<Integer> buffer = new RingBuffer<>(64);
+        ConcurrentLinkedQueue<Integer> consumed = new ConcurrentLinkedQueue<>();
+        AtomicInteger remaining = new AtomicInteger(producers * perProducer);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 2);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (int c = 0; c < 2; c++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (remaining.get() > 0) {
+                    Integer element = buffer.poll();
+                    if (element == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    consumed.add(element);
+                    remaining.decrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(consumed).hasSize(producers * perProducer).doesNotHaveDuplicates();
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+}
@@ -0,0 +1,111 @@
+package org.egovframe.cloud.reactive.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class ReserveQtyCounterTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2021, 10, 1, 0, 0);
+
+    private ReserveQtyCounter.Reservation reserve(int fromDay, int toDay, int qty) {
+        return new TestReservation(qty, BASE.plusDays(fromDay), BASE.plusDays(toDay));
+    }
+
+    @Test
+    public void 수량이_없는_예약은_제외한다() throws Exception {
+        int max = ReserveQtyCounter.max(Arrays.asList(
+            new TestReservation(null, BASE, BASE.plusDays(3)),
+            reserve(1, 2, 0),
+            reserve(1, 2, 2)), BASE, BASE.plusDays(30));
+
+        assertThat(max).isEqualTo(2);
+    }
+
+    @Test
+    public void 예약이_없으면_0() throws Exception {
+        assertThat(ReserveQtyCounter.max(Collections.emptyList(), BASE, BASE.plusDays(30))).isEqualTo(0);
+    }
+
+    @Test
+    public void 겹치지_않는_예약은_합산하지_않는다() throws Exception {
+        int max = ReserveQtyCounter.max(Arrays.asList(
+            reserve(0, 2, 3),
+            reserve(5, 7, 4),
+            reserve(10, 12, 2)), BASE, BASE.plusDays(30));
+
+        assertThat(max).isEqualTo(4);
+    }
+
+    @Test
+    public void 겹치는_예약은_동시_수량의_최대값() throws Exception {
+        int max = ReserveQtyCounter.max(Arrays.asList(
+            reserve(0, 10, 2),
+            reserve(3, 5, 3),
+            reserve(4, 8, 1),
+            reserve(9, 12, 5)), BASE, BASE.plusDays(30));
+
+        // 4~5일 : 2 + 3 + 1, 9~10일 : 2 + 5
+        assertThat(max).isEqualTo(7);
+    }
+
+    @Test
+    public void 종료일과_시작일이_같으면_겹친다() throws Exception {
+        int max = ReserveQtyCounter.max(Arrays.asList(
+            reserve(0, 3, 2),
+            reserve(3, 6, 2)), BASE, BASE.plusDays(30));
+
+        assertThat(max).isEqualTo(4);
+    }
+
+    @Test
+    public void 조회기간_밖에서만_겹치는_수량은_제외한다() throws Exception {
+        int max = ReserveQtyCounter.max(Arrays.asList(
+            reserve(0, 10, 2),
+            reserve(0, 5, 3)), BASE.plusDays(6), BASE.plusDays(8));
+
+        assertThat(max).isEqualTo(2);
+    }
+
+    @Test
+    public void 일자별_동시_예약_수량() throws Exception {
+        int[] maxByDay = ReserveQtyCounter.maxByDay(Arrays.asList(
+            reserve(0, 2, 2),
+            reserve(2, 3, 3),
+            reserve(5, 5, 1)), LocalDate.of(2021, 10, 1), 7);
+
+        assertThat(maxByDay).containsExactly(2, 2, 5, 3, 0, 1, 0);
+    }
+
+    private static final class TestReservation implements ReserveQtyCounter.Reservation {
+        private final Integer reserveQty;
+        private final LocalDateTime reserveStartDate;
+        private final LocalDateTime reserveEndDate;
+
+        private TestReservation(Integer reserveQty, LocalDateTime reserveStartDate, LocalDateTime reserveEndDate) {
+            this.reserveQty = reserveQty;
+            this.reserveStartDate = reserveStartDate;
+            this.reserveEndDate = reserveEndDate;
+        }
+
+        @Override
+        public Integer getReserveQty() {
+            return reserveQty;
+        }
+
+        @Override
+        public LocalDateTime getReserveStartDate() {
+            return reserveStartDate;
+        }
+
+        @Override
+        public LocalDateTime getReserveEndDate() {
+            return reserveEndDate;
+        }
+    }
+
+}
@@ -0,0 +1,320 @@
+package org.egovframe.cloud.servlet.service;
+
+import org.egovframe.cloud.servlet.service.BufferedEventSink.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * org.egovframe.cloud.servlet.service.BufferedEventSinkTest
+ * <p>
+ * 이벤트 일괄 입력 테스트 클래스
+ * 백그라운드 스레드가 필요 없는 경우 start 하지 않고 flush 로 입력 시점을 정한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+class BufferedEventSinkTest {
+
+    private static final long LONG_INTERVAL_MILLIS = 60_000L;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private DataSourceTransactionManager transactionManager;
+
+    private TestSink sink;
+
+    @BeforeEach
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:bufferedEventSink;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate.execute("create table test_event (event_id int not null, event_name varchar(100) not null, "
+                + "primary key (event_id))");
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        if (sink != null && sink.started) {
+            sink.stop();
+        }
+        jdbcTemplate.execute("drop table test_event");
+    }
+
+    @Test
+    public void batchSize_만큼_모이면_flushInterval_전에_입력() throws Exception {
+        // given
+        sink = new TestSink(16, 3, LONG_INTERVAL_MILLIS, OverflowPolicy.DROP);
+        sink.start();
+
+        // when
+        sink.write(event(1));
+        sink.write(event(2));
+        sink.write(event(3));
+
+        // then
+        await(() -> count() == 3);
+        assertThat(sink.getWrittenCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void batchSize_에_못_미쳐도_flushInterval_이_지나면_입력() throws Exception {
+        // given
+        sink = new TestSink(16, 100, 50L, OverflowPolicy.DROP);
+        sink.start();
+
+        // when
+        sink.write(event(1));
+        sink.write(event(2));
+
+        // then
+        await(() -> count() == 2);
+    }
+
+    @Test
+    public void 종료시_버퍼에_남은_이벤트를_모두_입력() throws Exception {
+        // given
+        sink = new TestSink(16, 100, LONG_INTERVAL_MILLIS, OverflowPolicy.DROP);
+        sink.start();
+        for (int i = 1; i <= 10; i++) {
+            sink.write(event(i));
+        }
+
+        // when
+        sink.stop();
+        sink.started = false;
+
+        // then
+        assertThat(count()).isEqualTo(10);
+        assertThat(sink.getWrittenCount()).isEqualTo(10);
+    }
+
+    @Test
+    public void 버퍼가_가득_차면_DROP_은_이벤트를_버리고_false_리턴() {
+        // given
+        sink = new TestSink(2, 10, LONG_INTERVAL_MILLIS, OverflowPolicy.DROP);
+        sink.write(event(1));
+        sink.write(event(2));
+
+        // when
+        boolean written = sink.write(event(3));
+
+        // then
+        assertThat(written).isFalse();
+        assertThat(sink.getDroppedCount()).isEqualTo(1);
+        sink.flush();
+        assertThat(ids()).containsExactly(1, 2);
+    }
+
+    @Test
+    public void 버퍼가_가득_차면_CALLER_RUNS_는_호출한_스레드에서_바로_입력() {
+        // given
+        sink = new TestSink(2, 10, LONG_INTERVAL_MILLIS, OverflowPolicy.CALLER_RUNS);
+        sink.write(event(1));
+        sink.write(event(2));
+
+        // when
+        boolean written = sink.write(event(3));
+
+        // then
+        assertThat(written).isTrue();
+        assertThat(ids()).containsExactly(3);
+        assertThat(sink.getDroppedCount()).isZero();
+        sink.flush();
+        assertThat(ids()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void 일괄_입력_후처리에_이벤트와_건별_처리_건수를_전달() {
+        // given
+        sink = new TestSink(16, 10, LONG_INTERVAL_MILLIS, OverflowPolicy.DROP);
+        sink.write(event(1));
+        sink.write(event(2));
+
+        // when
+        sink.flush();
+
+        // then
+        assertThat(sink.insertedBatches).hasSize(1);
+        assertThat(sink.insertedBatches.get(0)).extracting(e -> e.id).containsExactly(1, 2);
+        assertThat(sink.updateCounts.get(0)).containsExactly(1, 1);
+        assertThat(sink.completedBatches).hasSize(1);
+        assertThat(sink.completedResults).containsExactly(true);
+    }
+
+    @Test
+    public void 일괄_입력_후처리_오류시_batch_전체를_rollback_하고_실패로_완료() {
+        // given
+        sink = new TestSink(16, 10, LONG_INTERVAL_MILLIS, OverflowPolicy.DROP);
+        sink.afterInsertError = new IllegalStateException("after insert error");
+        sink.write(event(1));
+        sink.write(event(2));
+
+        // when
+        sink.flush();
+
+        // then
+        assertThat(count()).isZero();
+        assertThat(sink.getFailedCount()).isEqualTo(2);
+        assertThat(sink.completedResults).containsExactly(false);
+    }
+
+    @Test
+    public void 키_중복으로_batch_가_실패하면_건별로_다시_입력() {
+        // given
+        jdbcTemplate.update("insert into test_event (event_id, event_name) values (2, 'exists')");
+        sink = new TestSink(16, 10, LONG_INTERVAL_MILLIS, OverflowPolicy.DROP);
+        sink.write(event(1));
+        sink.write(event(2));
+        sink.write(event(3));
+
+        // when
+        sink.flush();
+
+        // then
+        assertThat(ids()).containsExactly(1, 2, 3);
+        assertThat(jdbcTemplate.queryForObject("select event_name from test_event where event_id = 2", String.class))
+                .isEqualTo("exists");
+        assertThat(sink.getWrittenCount()).isEqualTo(2);
+        assertThat(sink.getFailedCount()).isEqualTo(1);
+        // batch 1회 + 중복이 아닌 이벤트 각 1회 + 중복 이벤트 최대 시도 3회
+        assertThat(sink.insertAttempts.get()).isEqualTo(6);
+        assertThat(sink.completedResults).containsExactly(false);
+    }
+
+    @Test
+    public void 건별_입력_중_일시적인_충돌은_다시_시도하여_입력() {
+        // given
+        sink = new TestSink(16, 10, LONG_INTERVAL_MILLIS, OverflowPolicy.DROP);
+        sink.conflictsRemaining.set(2);
+        sink.write(event(1));
+        sink.write(event(2));
+
+        // when
+        sink.flush();
+
+        // then
+        // batch 충돌 후 건별 입력에서 첫 이벤트가 한 번 더 충돌하고 다시 시도하여 입력된다
+        assertThat(ids()).containsExactly(1, 2);
+        assertThat(sink.getWrittenCount()).isEqualTo(2);
+        assertThat(sink.getFailedCount()).isZero();
+        assertThat(sink.completedResults).containsExactly(true);
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("select count(*) from test_event", Integer.class);
+    }
+
+    private List<Integer> ids() {
+        return jdbcTemplate.queryForList("select event_id from test_event order by event_id", Integer.class);
+    }
+
+    private static TestEvent event(int id) {
+        return new TestEvent(id, "event" + id);
+    }
+
+    private static class TestEvent {
+        private final int id;
+        private final String name;
+
+        private TestEvent(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    /**
+     * 후처리 호출을 기록하는 테스트용 sink
+     */
+    private class TestSink extends BufferedEventSink<TestEvent> {
+
+        private final List<List<TestEvent>> insertedBatches = Collections.synchronizedList(new ArrayList<>());
+        private final List<int[]> updateCounts = Collections.synchronizedList(new ArrayList<>());
+        private final List<List<TestEvent>> completedBatches = Collections.synchronizedList(new ArrayList<>());
+        private final List<Boolean> completedResults = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger insertAttempts = new AtomicInteger();
+
+        /**
+         * 남은 횟수만큼 후처리에서 충돌 예외를 던진다
+         */
+        private final AtomicInteger conflictsRemaining = new AtomicInteger();
+
+        private RuntimeException afterInsertError;
+
+        private boolean started;
+
+        private TestSink(int bufferSize, int batchSize, long flushIntervalMillis, OverflowPolicy overflowPolicy) {
+            super("test", jdbcTemplate, transactionManager, bufferSize, batchSize, flushIntervalMillis, overflowPolicy);
+        }
+
+        @Override
+        public void start() {
+            super.start();
+            started = true;
+        }
+
+        @Override
+        protected String getInsertSql() {
+            insertAttempts.incrementAndGet();
+            return "insert into test_event (event_id, event_name) values (?, ?)";
+        }
+
+        @Override
+        protected void setValues(PreparedStatement ps, TestEvent event) throws SQLException {
+            ps.setInt(1, event.id);
+            ps.setString(2, event.name);
+        }
+
+        @Override
+        protected void afterBatchInsert(List<TestEvent> events, int[] counts) {
+            if (conflictsRemaining.getAndDecrement() > 0) {
+                throw new DuplicateKeyException("conflict");
+            }
+            if (afterInsertError != null) {
+                throw afterInsertError;
+            }
+            insertedBatches.add(new ArrayList<>(events));
+            updateCounts.add(Arrays.copyOf(counts, counts.length));
+        }
+
+        @Override
+        protected void afterBatchComplete(List<TestEvent> events, boolean success) {
+            completedBatches.add(new ArrayList<>(events));
+            completedResults.add(success);
+        }
+    }
+
+}
@@ -0,0 +1,193 @@
+package org.egovframe.cloud.servlet.service;
+
+import org.egovframe.cloud.common.outbox.OutboxMessage;
+import org.egovframe.cloud.common.outbox.OutboxStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * org.egovframe.cloud.servlet.service.JdbcOutboxStoreTest
+ * <p>
+ * outbox 이벤트 선점 테스트 클래스
+ * relay 두 개가 같은 outbox 테이블을 선점할 때 aggregate 별 발행 순서가 지켜지는지 확인한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+class JdbcOutboxStoreTest {
+
+    private static final String BINDING_NAME = "test-out-0";
+
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcOutboxStore relayA;
+    private JdbcOutboxStore relayB;
+
+    @BeforeEach
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:outbox;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists outbox_event ("
+                + "outbox_event_id bigint not null auto_increment, "
+                + "binding_name varchar(100) not null, "
+                + "aggregate_id varchar(255) not null, "
+                + "payload clob not null, "
+                + "lease_owner varchar(50) null, "
+                + "lease_until datetime null, "
+                + "created_date datetime null, "
+                + "modified_date datetime null, "
+                + "primary key (outbox_event_id))");
+        relayA = new JdbcOutboxStore(jdbcTemplate);
+        relayB = new JdbcOutboxStore(jdbcTemplate);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("drop table outbox_event");
+    }
+
+    @Test
+    public void aggregate_별_가장_앞선_이벤트만_선점() {
+        // given
+        long a1 = insert("a");
+        insert("a");
+        long b1 = insert("b");
+        insert("b");
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        List<OutboxMessage> claimedByA = relayA.claim(10, now, now.plusSeconds(30));
+        List<OutboxMessage> claimedByB = relayB.claim(10, now, now.plusSeconds(30));
+
+        // then
+        assertThat(ids(claimedByA)).containsExactly(a1, b1);
+        assertThat(claimedByB).isEmpty();
+    }
+
+    @Test
+    public void 앞선_이벤트_발행_후_다음_이벤트_선점() {
+        // given
+        long a1 = insert("a");
+        long a2 = insert("a");
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> claimedByA = relayA.claim(10, now, now.plusSeconds(30));
+
+        // when
+        relayA.delete(ids(claimedByA));
+        List<OutboxMessage> claimedByB = relayB.claim(10, now, now.plusSeconds(30));
+
+        // then
+        assertThat(ids(claimedByA)).containsExactly(a1);
+        assertThat(ids(claimedByB)).containsExactly(a2);
+    }
+
+    @Test
+    public void 앞선_이벤트_선점_만료시_다음_이벤트가_아닌_앞선_이벤트_다시_선점() {
+        // given
+        long a1 = insert("a");
+        insert("a");
+        LocalDateTime now = LocalDateTime.now();
+        relayA.claim(10, now, now.plusSeconds(30));
+
+        // when
+        LocalDateTime expired = now.plusSeconds(31);
+        List<OutboxMessage> claimedByB = relayB.claim(10, expired, expired.plusSeconds(30));
+
+        // then
+        assertThat(ids(claimedByB)).containsExactly(a1);
+    }
+
+    @Test
+    public void relay_두개가_동시에_발행해도_aggregate_별_순서_유지() throws Exception {
+        // given
+        int aggregateCount = 5;
+        int eventsPerAggregate = 40;
+        for (int i = 0; i < eventsPerAggregate; i++) {
+            for (int a = 0; a < aggregateCount; a++) {
+                insert("aggregate-" + a);
+            }
+        }
+        List<OutboxMessage> publishedLog = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (OutboxStore relay : new OutboxStore[]{relayA, relayB}) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+                while (count() > 0 && System.nanoTime() < deadline) {
+                    LocalDateTime now = LocalDateTime.now();
+                    List<OutboxMessage> messages = relay.claim(3, now, now.plusSeconds(30));
+                    if (messages.isEmpty()) {
+                        Thread.yield();
+                        continue;
+                    }
+                    // 발행 순서를 기록한 후 삭제한다
+                    publishedLog.addAll(messages);
+                    relay.delete(ids(messages));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(count()).isZero();
+        assertThat(publishedLog).hasSize(aggregateCount * eventsPerAggregate);
+        Map<String, List<Long>> publishedByAggregate = new LinkedHashMap<>();
+        for (OutboxMessage message : publishedLog) {
+            publishedByAggregate.computeIfAbsent(message.getAggregateId(), k -> new ArrayList<>()).add(message.getId());
+        }
+        publishedByAggregate.forEach((aggregateId, ids) ->
+                assertThat(ids).as(aggregateId).isSorted().doesNotHaveDuplicates());
+    }
+
+    private long insert(String aggregateId) {
+        jdbcTemplate.update("insert into outbox_event (binding_name, aggregate_id, payload, created_date, modified_date) "
+                + "values (?, ?, '{}', now(), now())", BINDING_NAME, aggregateId);
+        return jdbcTemplate.queryForObject("select max(outbox_event_id) from outbox_event", Long.class);
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("select count(*) from outbox_event", Integer.class);
+    }
+
+    private List<Long> ids(List<OutboxMessage> messages) {
+        return messages.stream().map(OutboxMessage::getId).collect(Collectors.toList());
+    }
+
+}
@@ -2,6 +2,7 @@ package org.egovframe.cloud.apigateway;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 
 /**
@@ -20,8 +21,10 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/06/30    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  인가 변경 bus 이벤트 등록
  * </pre>
  */
+@RemoteApplicationEventScan(basePackages = "org.egovframe.cloud.common.event") // AuthorizationChangedEvent
 @EnableDiscoveryClient
 @SpringBootApplication
 public class ApigatewayApplication {
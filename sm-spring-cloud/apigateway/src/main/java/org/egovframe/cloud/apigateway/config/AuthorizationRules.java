@@ -0,0 +1,196 @@
+package org.egovframe.cloud.apigateway.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.cloud.apigateway.config.dto.AuthorizationRuleDto;
+import org.egovframe.cloud.common.event.AuthorizationChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * org.egovframe.cloud.apigateway.config.AuthorizationRules
+ * <p>
+ * user-service 의 권한별 인가 규칙(권한 -> Http Method, URL 패턴)을 게이트웨이 메모리에 보관한다.
+ * user-service 가 인가 변경 커밋 후 bus 로 발행하는 AuthorizationChangedEvent 를 받거나 refresh-seconds 가 지나면 전체 규칙을 다시 읽어 교체하며,
+ * ReactiveAuthorization 은 이 규칙으로 네트워크 호출 없이 인가 여부를 판단한다.
+ * 규칙은 게이트웨이 라우트를 거치지 않고 discovery 로 user-service 를 직접 호출하여 서비스 간 인증 header(X-Service-Token)와 함께 조회하며,
+ * 외부에서 게이트웨이 라우트로 조회하는 요청은 WebFluxSecurityConfig 에서 거부한다.
+ * 주기적인 갱신은 이벤트 유실이나 broker 장애에 대비한 것으로, 이벤트를 받지 못하면 최대 refresh-seconds(기본 60초) 동안 이전 규칙으로 판단할 수 있다.
+ * 이벤트와 주기 갱신은 하나의 흐름에서 순서대로 처리하므로 먼저 요청한 조회 결과가 나중 결과를 덮어쓰지 않는다.
+ * 규칙에 없는 권한은 user-service 에 직접 인가를 요청하므로 새로 추가한 권한은 바로 반영된다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  게이트웨이 라우트를 거치지 않고 서비스 간 인증 header 로 인가 규칙 조회
+ *  2026/10/17    jaeyeolkim  인가 변경 이벤트를 받으면 바로 인가 규칙 갱신
+ * </pre>
+ */
+@Slf4j
+@Component
+public class AuthorizationRules {
+
+    // org.egovframe.cloud.common.config.GlobalConstant 값도 같이 변경해주어야 한다.
+    public static final String AUTHORIZATION_RULES_URI = "/user-service" + "/api/v1/authorizations/rules";
+    public static final String HEADER_SERVICE_TOKEN = "X-Service-Token";
+
+    /**
+     * 게이트웨이 라우트를 거치지 않도록 discovery 로 user-service 를 직접 호출한다.
+     */
+    private static final String USER_SERVICE_AUTHORIZATION_RULES_URL = "http://USER-SERVICE/api/v1/authorizations/rules";
+
+    @Value("${apigateway.authorization.refresh-seconds:60}")
+    private long refreshSeconds;
+
+    private final WebClient webClient;
+
+    private final String serviceTokenSecret;
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    /**
+     * 권한 id -> Http Method -> URL 패턴 목록
+     * 갱신 시 통째로 교체하므로 조회 시 별도 동기화가 필요 없다.
+     */
+    private volatile Map<String, Map<String, List<String>>> rules = Collections.emptyMap();
+
+    /**
+     * 인가 변경 이벤트로 요청된 갱신, 주기 갱신과 합쳐 순서대로 처리한다.
+     */
+    private final Sinks.Many<Long> refreshRequests = Sinks.many().unicast().onBackpressureBuffer();
+
+    private Disposable refresher;
+
+    public AuthorizationRules(WebClient.Builder webClientBuilder,
+                              LoadBalancedExchangeFilterFunction loadBalancerFunction,
+                              @Value("${service.token.secret:}") String serviceTokenSecret) {
+        if (!StringUtils.hasText(serviceTokenSecret)) {
+            throw new IllegalStateException("service.token.secret 이 설정되지 않았습니다.");
+        }
+        this.webClient = webClientBuilder.clone().filter(loadBalancerFunction).build();
+        this.serviceTokenSecret = serviceTokenSecret;
+    }
+
+    /**
+     * 기동 시 규칙을 읽어오고 refreshSeconds 간격 또는 인가 변경 이벤트를 받을 때마다 갱신한다.
+     * user-service 가 아직 기동되지 않았으면 다음 주기에 다시 시도하며, 그동안은 user-service 에 직접 인가를 요청한다.
+     */
+    @PostConstruct
+    public void start() {
+        refresher = Flux.merge(Flux.interval(Duration.ZERO, Duration.ofSeconds(refreshSeconds)), refreshRequests.asFlux())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh()
+                        .onErrorResume(e -> {
+                            log.warn("인가 규칙 갱신 중 오류 : {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    /**
+     * user-service 에서 인가가 변경되면 규칙 갱신을 요청한다.
+     * bus 이벤트는 여러 스레드에서 동시에 받을 수 있으므로 요청 시 동기화한다.
+     *
+     * @param event 인가 변경 이벤트
+     */
+    @EventListener
+    public synchronized void onAuthorizationChanged(AuthorizationChangedEvent event) {
+        log.debug("인가 변경 이벤트 수신 originService={}", event.getOriginService());
+        refreshRequests.tryEmitNext(System.currentTimeMillis());
+    }
+
+    /**
+     * user-service 에서 권한별 인가 규칙 전체를 조회하여 교체한다.
+     *
+     * @return
+     */
+    public Mono<Void> refresh() {
+        return webClient.get()
+                .uri(USER_SERVICE_AUTHORIZATION_RULES_URL)
+                .header(HEADER_SERVICE_TOKEN, serviceTokenSecret)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, List<AuthorizationRuleDto>>>() {})
+                .doOnNext(body -> {
+                    rules = compile(body);
+                    log.debug("인가 규칙 갱신 roles={}", rules.keySet());
+                })
+                .then();
+    }
+
+    /**
+     * 로컬 규칙으로 인가 여부를 판단한다.
+     * 요청 권한 중 하나라도 로컬 규칙에 없으면 판단하지 않고 empty 를 리턴하여 user-service 에 확인하도록 한다.
+     *
+     * @param roles       권한 목록
+     * @param httpMethod  Http Method
+     * @param requestPath 요청 경로
+     * @return Optional<Boolean> 인가 여부, 판단할 수 없으면 empty
+     */
+    public Optional<Boolean> isGranted(List<String> roles, String httpMethod, String requestPath) {
+        Map<String, Map<String, List<String>>> current = rules;
+        if (roles.isEmpty() || !current.keySet().containsAll(roles)) {
+            return Optional.empty();
+        }
+
+        for (String role : roles) {
+            List<String> patterns = current.get(role).getOrDefault(httpMethod, Collections.emptyList());
+            for (String pattern : patterns) {
+                if (antPathMatcher.match(pattern, requestPath)) {
+                    return Optional.of(true);
+                }
+            }
+        }
+        return Optional.of(false);
+    }
+
+    /**
+     * 응답을 권한 -> Http Method -> URL 패턴 목록 구조로 변환한다.
+     *
+     * @param body user-service 응답
+     * @return
+     */
+    private Map<String, Map<String, List<String>>> compile(Map<String, List<AuthorizationRuleDto>> body) {
+        Map<String, Map<String, List<String>>> compiled = new HashMap<>();
+        body.forEach((role, authorizations) -> {
+            Map<String, List<String>> byMethod = new HashMap<>();
+            authorizations.forEach(dto ->
+                    byMethod.computeIfAbsent(dto.getHttpMethodCode(), k -> new ArrayList<>()).add(dto.getUrlPatternValue()));
+            compiled.put(role, byMethod);
+        });
+        return compiled;
+    }
+
+}
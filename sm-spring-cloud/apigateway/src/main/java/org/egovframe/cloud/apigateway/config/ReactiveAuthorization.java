@@ -1,13 +1,17 @@
 package org.egovframe.cloud.apigateway.config;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.egovframe.cloud.apigateway.filter.IdentityHeaderFilter;
+import org.egovframe.cloud.common.util.JwtClaimsCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.server.RequestPath;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.access.AuthorizationServiceException;
@@ -37,45 +41,60 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/19    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  게이트웨이 로컬 인가 규칙 적용, user-service 호출 non-blocking 처리
+ *  2026/10/17    jaeyeolkim  JwtClaimsCache 로 토큰 검증 결과 재사용
+ *  2026/10/17    jaeyeolkim  검증한 Claims 를 IdentityHeaderFilter 에 전달
+ *  2026/10/17    jaeyeolkim  module-common 의 JwtClaimsCache 사용
  * </pre>
  */
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class ReactiveAuthorization implements ReactiveAuthorizationManager<AuthorizationContext> {
 
     @Value("${apigateway.host:http://localhost:8000}")
     private String APIGATEWAY_HOST;
 
-    @Value("${token.secret}")
-    private String TOKEN_SECRET;
-
     // org.egovframe.cloud.common.config.GlobalConstant 값도 같이 변경해주어야 한다.
     public static final String AUTHORIZATION_URI = "/user-service" + "/api/v1/authorizations/check";
     public static final String REFRESH_TOKEN_URI = "/user-service" + "/api/v1/users/token/refresh";
 
+    private static final String TOKEN_CLAIM_NAME = "authorities";
+    private static final String ROLE_ANONYMOUS = "ROLE_ANONYMOUS";
+
+    private final AuthorizationRules authorizationRules;
+
+    private final JwtClaimsCache jwtClaimsCache;
+
+    private final WebClient webClient;
+
+    public ReactiveAuthorization(AuthorizationRules authorizationRules, JwtClaimsCache jwtClaimsCache, WebClient.Builder webClientBuilder) {
+        this.authorizationRules = authorizationRules;
+        this.jwtClaimsCache = jwtClaimsCache;
+        this.webClient = webClientBuilder.build();
+    }
+
     /**
      * 요청에 대한 사용자의 권한여부 체크하여 true/false 리턴한다
      * 헤더에 토큰이 있으면 유효성을 체크한다.
+     * 게이트웨이에 보관된 인가 규칙으로 먼저 판단하고, 판단할 수 없는 경우에만 user-service 에 요청한다.
      *
      * @param authentication
      * @param context
      * @return
      * @see WebFluxSecurityConfig
+     * @see AuthorizationRules
      */
     @Override
     public Mono<AuthorizationDecision> check(Mono<Authentication> authentication, AuthorizationContext context) {
         ServerHttpRequest request = context.getExchange().getRequest();
         RequestPath requestPath = request.getPath();
-        HttpMethod httpMethod = request.getMethod();
-
-        String baseUrl = APIGATEWAY_HOST + AUTHORIZATION_URI + "?httpMethod=" + httpMethod + "&requestPath=" + requestPath;
-        log.info("baseUrl={}", baseUrl);
+        String httpMethod = request.getMethodValue();
 
         List<String> authorizations =
             request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION) ?
                 request.getHeaders().get(HttpHeaders.AUTHORIZATION) : null;
         String authorizationHeader = "";
+        List<String> roles = Collections.singletonList(ROLE_ANONYMOUS);
 
         if (authorizations != null && authorizations.size() > 0
             && StringUtils.hasLength(authorizations.get(0))
@@ -84,10 +103,8 @@ public class ReactiveAuthorization implements ReactiveAuthorizationManager<Autho
             try {
                 authorizationHeader = authorizations.get(0);
                 String jwt = authorizationHeader.replace("Bearer", "");
-                String subject = Jwts.parser().setSigningKey(TOKEN_SECRET)
-                        .parseClaimsJws(jwt)
-                        .getBody()
-                        .getSubject();
+                Claims claims = jwtClaimsCache.getClaims(jwt);
+                String subject = claims.getSubject();
 
                 // refresh token 요청 시 토큰 검증만 하고 인가 처리 한다.
                 if (REFRESH_TOKEN_URI.equals(requestPath + "")) {
@@ -97,6 +114,9 @@ public class ReactiveAuthorization implements ReactiveAuthorizationManager<Autho
                     log.error("토큰 인증 오류");
                     throw new AuthorizationServiceException("토큰 인증 오류");
                 }
+                roles = getRoles(claims);
+                // 하위 서비스에 서명된 사용자 정보 header 를 전달할 수 있도록 보관한다.
+                context.getExchange().getAttributes().put(IdentityHeaderFilter.VERIFIED_CLAIMS_ATTRIBUTE, claims);
             } catch (IllegalArgumentException e) {
                 log.error("토큰 헤더 오류 : {}", e.getMessage());
                 throw new AuthorizationServiceException("토큰 인증 오류");
@@ -109,23 +129,41 @@ public class ReactiveAuthorization implements ReactiveAuthorizationManager<Autho
             }
         }
 
-        boolean granted = false;
-        try {
-            String token = authorizationHeader; // Variable used in lambda expression should be final or effectively final
-            Mono<Boolean> body = WebClient.create(baseUrl)
-                    .get()
-                    .headers(httpHeaders -> {
-                        httpHeaders.add(HttpHeaders.AUTHORIZATION, token);
-                    })
-                    .retrieve().bodyToMono(Boolean.class);
-            granted = body.blockOptional().orElse(false);
-            log.info("Security AuthorizationDecision granted={}", granted);
-        } catch (Exception e) {
-            log.error("인가 서버에 요청 중 오류 : {}", e.getMessage());
-            throw new AuthorizationServiceException("인가 요청시 오류 발생");
+        Optional<Boolean> localGranted = authorizationRules.isGranted(roles, httpMethod, requestPath.value());
+        if (localGranted.isPresent()) {
+            log.debug("Security AuthorizationDecision granted={} (local rules)", localGranted.get());
+            return Mono.just(new AuthorizationDecision(localGranted.get()));
         }
 
-        return Mono.just(new AuthorizationDecision(granted));
+        String token = authorizationHeader; // Variable used in lambda expression should be final or effectively final
+        return webClient.get()
+                .uri(APIGATEWAY_HOST + AUTHORIZATION_URI + "?httpMethod={httpMethod}&requestPath={requestPath}", httpMethod, requestPath.value())
+                .headers(httpHeaders -> httpHeaders.add(HttpHeaders.AUTHORIZATION, token))
+                .retrieve()
+                .bodyToMono(Boolean.class)
+                .defaultIfEmpty(false)
+                .doOnNext(granted -> log.info("Security AuthorizationDecision granted={}", granted))
+                .map(AuthorizationDecision::new)
+                .onErrorMap(e -> {
+                    log.error("인가 서버에 요청 중 오류 : {}", e.getMessage());
+                    return new AuthorizationServiceException("인가 요청시 오류 발생");
+                });
+    }
+
+    /**
+     * 토큰의 authorities 클레임을 권한 목록으로 변환한다.
+     *
+     * @param claims
+     * @return
+     */
+    private List<String> getRoles(Claims claims) {
+        String authorities = claims.get(TOKEN_CLAIM_NAME, String.class);
+        if (!StringUtils.hasText(authorities)) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(authorities.split(","))
+                .map(String::trim)
+                .collect(Collectors.toList());
     }
 
 }
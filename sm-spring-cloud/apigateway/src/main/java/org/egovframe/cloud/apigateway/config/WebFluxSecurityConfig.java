@@ -1,5 +1,8 @@
 package org.egovframe.cloud.apigateway.config;
 
+import org.egovframe.cloud.common.util.IdentityHeaders;
+import org.egovframe.cloud.common.util.JwtClaimsCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -26,6 +29,9 @@ import org.springframework.security.web.server.authorization.AuthorizationContex
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/06/30    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  인가 규칙 조회 API 는 외부 요청 거부
+ *  2026/10/17    jaeyeolkim  module-common 의 JwtClaimsCache 등록
+ *  2026/10/17    jaeyeolkim  module-common 의 IdentityHeaders 등록
  * </pre>
  */
 @EnableWebFluxSecurity // Spring Security 설정들을 활성화시켜 준다
@@ -58,10 +64,39 @@ public class WebFluxSecurityConfig {
                 .httpBasic().authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED)) // login dialog disabled & 401 HttpStatus return
             .and()
                 .authorizeExchange()
+                .pathMatchers(AuthorizationRules.AUTHORIZATION_RULES_URI).denyAll() // 게이트웨이 내부에서 user-service 를 직접 호출한다
                 .pathMatchers(PERMITALL_ANTPATTERNS).permitAll()
                 .pathMatchers(HttpMethod.POST, USER_JOIN_ANTPATTERNS).permitAll()
                 .anyExchange().access(check);
         return http.build();
     }
 
+    /**
+     * 검증된 JWT Claims 캐시
+     * 게이트웨이는 module-common 을 component scan 하지 않으므로 직접 등록한다.
+     *
+     * @param tokenSecret 토큰 서명 키
+     * @param maxSize     최대 보관 건수
+     * @return
+     */
+    @Bean
+    public JwtClaimsCache jwtClaimsCache(@Value("${token.secret}") String tokenSecret,
+                                         @Value("${token.claims-cache.max-size:10000}") int maxSize) {
+        return new JwtClaimsCache(tokenSecret, maxSize);
+    }
+
+    /**
+     * 하위 서비스에 전달하는 사용자 정보 header 서명
+     * 사용자 정보 header 를 전달하는 경우(identity.header.enabled=true) 서명 키(identity.header.secret) 가 없으면 기동하지 않는다.
+     *
+     * @param enabled 사용자 정보 header 전달 여부
+     * @param secret  header 서명 키
+     * @return
+     */
+    @Bean
+    public IdentityHeaders identityHeaders(@Value("${identity.header.enabled:false}") boolean enabled,
+                                           @Value("${identity.header.secret:}") String secret) {
+        return new IdentityHeaders(enabled, secret);
+    }
+
 }
@@ -0,0 +1,38 @@
+package org.egovframe.cloud.apigateway.config.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * org.egovframe.cloud.apigateway.config.dto.AuthorizationRuleDto
+ * <p>
+ * user-service 에서 조회한 권한별 인가 규칙 DTO
+ * /user-service/api/v1/authorizations/rules 응답의 인가 항목과 매핑된다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+public class AuthorizationRuleDto {
+
+    /**
+     * URL 패턴 값
+     */
+    private String urlPatternValue;
+
+    /**
+     * Http Method 코드
+     */
+    private String httpMethodCode;
+
+}
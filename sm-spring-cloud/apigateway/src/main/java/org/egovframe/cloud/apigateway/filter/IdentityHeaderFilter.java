@@ -0,0 +1,102 @@
+package org.egovframe.cloud.apigateway.filter;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.cloud.common.util.IdentityHeaders;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.egovframe.cloud.common.config.GlobalConstant.HEADER_IDENTITY_AUTHORITIES;
+import static org.egovframe.cloud.common.config.GlobalConstant.HEADER_IDENTITY_EXPIRATION;
+import static org.egovframe.cloud.common.config.GlobalConstant.HEADER_IDENTITY_SIGNATURE;
+import static org.egovframe.cloud.common.config.GlobalConstant.HEADER_IDENTITY_SUBJECT;
+
+/**
+ * org.egovframe.cloud.apigateway.filter.IdentityHeaderFilter
+ * <p>
+ * ReactiveAuthorization 에서 검증한 토큰의 사용자 정보를 서명된 header(X-Identity-*) 로 하위 서비스에 전달한다.
+ * 서명은 module-common IdentityHeaders 로 생성하며, 하위 서비스는 같은 class 로 서명만 확인하고 JWT 파싱을 생략할 수 있다.
+ * 외부에서 보낸 X-Identity-* header 는 항상 제거하며, identity.header.enabled=true 인 경우에만 header 를 추가한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  module-common IdentityHeaders 로 서명 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class IdentityHeaderFilter implements org.springframework.cloud.gateway.filter.GlobalFilter, Ordered {
+
+    /**
+     * ReactiveAuthorization 에서 검증한 Claims 를 담는 exchange attribute
+     */
+    public static final String VERIFIED_CLAIMS_ATTRIBUTE = IdentityHeaderFilter.class.getName() + ".claims";
+
+    private static final String TOKEN_CLAIM_NAME = "authorities";
+
+    private final IdentityHeaders identityHeaders;
+
+    public IdentityHeaderFilter(IdentityHeaders identityHeaders) {
+        this.identityHeaders = identityHeaders;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Claims claims = exchange.getAttribute(VERIFIED_CLAIMS_ATTRIBUTE);
+        boolean inject = identityHeaders.isEnabled() && claims != null && claims.getSubject() != null && claims.getExpiration() != null;
+
+        ServerWebExchange mutated = exchange.mutate()
+                .request(request -> request.headers(headers -> {
+                    removeIdentityHeaders(headers);
+                    if (inject) {
+                        addIdentityHeaders(headers, claims);
+                    }
+                }))
+                .build();
+        return chain.filter(mutated);
+    }
+
+    /**
+     * 라우팅 전에 처리되도록 가장 먼저 실행한다.
+     *
+     * @return
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private void removeIdentityHeaders(HttpHeaders headers) {
+        headers.remove(HEADER_IDENTITY_SUBJECT);
+        headers.remove(HEADER_IDENTITY_AUTHORITIES);
+        headers.remove(HEADER_IDENTITY_EXPIRATION);
+        headers.remove(HEADER_IDENTITY_SIGNATURE);
+    }
+
+    private void addIdentityHeaders(HttpHeaders headers, Claims claims) {
+        String subject = claims.getSubject();
+        String authorities = claims.get(TOKEN_CLAIM_NAME, String.class);
+        if (authorities == null) {
+            authorities = "";
+        }
+        long expiresAt = claims.getExpiration().getTime();
+
+        headers.set(HEADER_IDENTITY_SUBJECT, subject);
+        headers.set(HEADER_IDENTITY_AUTHORITIES, authorities);
+        headers.set(HEADER_IDENTITY_EXPIRATION, String.valueOf(expiresAt));
+        headers.set(HEADER_IDENTITY_SIGNATURE, identityHeaders.sign(subject, authorities, expiresAt));
+    }
+
+}
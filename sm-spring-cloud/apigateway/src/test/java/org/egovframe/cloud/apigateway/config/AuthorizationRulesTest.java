@@ -0,0 +1,178 @@
+package org.egovframe.cloud.apigateway.config;
+
+import org.egovframe.cloud.common.event.AuthorizationChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * org.egovframe.cloud.apigateway.config.AuthorizationRulesTest
+ * <p>
+ * 게이트웨이 인가 규칙 테스트 클래스
+ * user-service 응답은 WebClient 의 ExchangeFunction 으로 대신한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+class AuthorizationRulesTest {
+
+    private static final String RULES = "{"
+            + "\"ROLE_ANONYMOUS\":[{\"urlPatternValue\":\"/user-service/api/v1/users/token/**\",\"httpMethodCode\":\"POST\"}],"
+            + "\"ROLE_USER\":[{\"urlPatternValue\":\"/board-service/api/v1/posts/**\",\"httpMethodCode\":\"GET\"}],"
+            + "\"ROLE_ADMIN\":[{\"urlPatternValue\":\"/board-service/api/v1/posts/**\",\"httpMethodCode\":\"GET\"},"
+            + "{\"urlPatternValue\":\"/board-service/api/v1/posts/*\",\"httpMethodCode\":\"DELETE\"}],"
+            + "\"ROLE_EMPTY\":[]"
+            + "}";
+
+    private static final List<String> USER = Collections.singletonList("ROLE_USER");
+
+    private final AtomicReference<String> responseBody = new AtomicReference<>(RULES);
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private final List<String> serviceTokens = Collections.synchronizedList(new ArrayList<>());
+
+    private AuthorizationRules authorizationRules;
+
+    @AfterEach
+    public void tearDown() {
+        if (authorizationRules != null) {
+            authorizationRules.stop();
+        }
+    }
+
+    @Test
+    public void 규칙의_Http_Method_와_URL_패턴이_일치하면_허용() {
+        // given
+        authorizationRules = createAuthorizationRules();
+        authorizationRules.refresh().block();
+
+        // when
+        Optional<Boolean> granted = authorizationRules.isGranted(Collections.singletonList("ROLE_USER"), "GET", "/board-service/api/v1/posts/1/2");
+
+        // then
+        assertThat(granted).contains(true);
+        assertThat(serviceTokens).containsExactly("test-service-token");
+    }
+
+    @Test
+    public void Http_Method_나_URL_패턴이_다르면_거부() {
+        // given
+        authorizationRules = createAuthorizationRules();
+        authorizationRules.refresh().block();
+
+        // when // then
+        assertThat(authorizationRules.isGranted(Collections.singletonList("ROLE_USER"), "DELETE", "/board-service/api/v1/posts/1")).contains(false);
+        assertThat(authorizationRules.isGranted(Collections.singletonList("ROLE_USER"), "GET", "/user-service/api/v1/users")).contains(false);
+        assertThat(authorizationRules.isGranted(Collections.singletonList("ROLE_EMPTY"), "GET", "/board-service/api/v1/posts/1")).contains(false);
+    }
+
+    @Test
+    public void 권한_중_하나라도_일치하면_허용() {
+        // given
+        authorizationRules = createAuthorizationRules();
+        authorizationRules.refresh().block();
+
+        // when
+        Optional<Boolean> granted = authorizationRules.isGranted(Arrays.asList("ROLE_USER", "ROLE_ADMIN"), "DELETE", "/board-service/api/v1/posts/1");
+
+        // then
+        assertThat(granted).contains(true);
+    }
+
+    @Test
+    public void 규칙에_없는_권한이_있으면_판단하지_않음() {
+        // given
+        authorizationRules = createAuthorizationRules();
+        authorizationRules.refresh().block();
+
+        // when // then
+        assertThat(authorizationRules.isGranted(Arrays.asList("ROLE_USER", "ROLE_NEW"), "GET", "/board-service/api/v1/posts/1")).isEmpty();
+        assertThat(authorizationRules.isGranted(Collections.emptyList(), "GET", "/board-service/api/v1/posts/1")).isEmpty();
+    }
+
+    @Test
+    public void 규칙을_읽기_전에는_판단하지_않음() {
+        // given
+        authorizationRules = createAuthorizationRules();
+
+        // when
+        Optional<Boolean> granted = authorizationRules.isGranted(Collections.singletonList("ROLE_USER"), "GET", "/board-service/api/v1/posts/1");
+
+        // then
+        assertThat(granted).isEmpty();
+    }
+
+    @Test
+    public void 인가_변경_이벤트를_받으면_주기를_기다리지_않고_규칙을_다시_읽음() throws Exception {
+        // given
+        authorizationRules = createAuthorizationRules();
+        ReflectionTestUtils.setField(authorizationRules, "refreshSeconds", 3600L);
+        authorizationRules.start();
+        await(() -> authorizationRules.isGranted(USER, "GET", "/board-service/api/v1/posts/1").isPresent());
+        assertThat(authorizationRules.isGranted(USER, "GET", "/board-service/api/v1/posts/1")).contains(true);
+
+        // when
+        responseBody.set("{\"ROLE_USER\":[]}");
+        authorizationRules.onAuthorizationChanged(new AuthorizationChangedEvent(this, "user-service", null));
+        await(() -> requestCount.get() == 2);
+
+        // then
+        await(() -> !authorizationRules.isGranted(USER, "GET", "/board-service/api/v1/posts/1").orElse(true));
+        assertThat(authorizationRules.isGranted(USER, "GET", "/board-service/api/v1/posts/1")).contains(false);
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    private AuthorizationRules createAuthorizationRules() {
+        WebClient.Builder webClientBuilder = WebClient.builder()
+                .exchangeFunction(request -> {
+                    serviceTokens.add(request.headers().getFirst(AuthorizationRules.HEADER_SERVICE_TOKEN));
+                    ClientResponse response = ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(responseBody.get())
+                            .build();
+                    return Mono.just(response).doOnNext(r -> requestCount.incrementAndGet());
+                });
+        LoadBalancedExchangeFilterFunction loadBalancerFunction = (request, next) -> next.exchange(request);
+        return new AuthorizationRules(webClientBuilder, loadBalancerFunction, "test-service-token");
+    }
+
+    /**
+     * 규칙 갱신은 별도 스레드에서 수행되므로 조건을 만족할 때까지 기다린다.
+     */
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+}
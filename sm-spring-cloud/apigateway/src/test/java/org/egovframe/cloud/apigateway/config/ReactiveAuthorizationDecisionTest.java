@@ -0,0 +1,160 @@
+package org.egovframe.cloud.apigateway.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.egovframe.cloud.apigateway.filter.IdentityHeaderFilter;
+import org.egovframe.cloud.common.util.JwtClaimsCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * org.egovframe.cloud.apigateway.config.ReactiveAuthorizationDecisionTest
+ * <p>
+ * 게이트웨이 인가 판단 테스트 클래스
+ * 로컬 인가 규칙으로 허용/거부를 판단하고, 판단할 수 없는 권한만 user-service 에 요청하는지 확인한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+class ReactiveAuthorizationDecisionTest {
+
+    private static final String TOKEN_SECRET = "dGVzdC10b2tlbi1zZWNyZXQtZm9yLXJlYWN0aXZlLWF1dGhvcml6YXRpb24tdGVzdA==";
+
+    private static final String RULES = "{"
+            + "\"ROLE_ANONYMOUS\":[{\"urlPatternValue\":\"/user-service/api/v1/users/token/**\",\"httpMethodCode\":\"POST\"}],"
+            + "\"ROLE_USER\":[{\"urlPatternValue\":\"/board-service/api/v1/posts/**\",\"httpMethodCode\":\"GET\"}]"
+            + "}";
+
+    /**
+     * user-service 인가 확인 요청 URL
+     */
+    private final List<String> checkRequests = Collections.synchronizedList(new ArrayList<>());
+
+    private ReactiveAuthorization reactiveAuthorization;
+
+    @BeforeEach
+    public void setUp() {
+        WebClient.Builder rulesClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(jsonResponse(RULES)));
+        LoadBalancedExchangeFilterFunction loadBalancerFunction = (request, next) -> next.exchange(request);
+        AuthorizationRules authorizationRules = new AuthorizationRules(rulesClient, loadBalancerFunction, "test-service-token");
+        authorizationRules.refresh().block();
+
+        WebClient.Builder checkClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    checkRequests.add(request.url().toString());
+                    return Mono.just(jsonResponse("true"));
+                });
+        reactiveAuthorization = new ReactiveAuthorization(authorizationRules, new JwtClaimsCache(TOKEN_SECRET, 100), checkClient);
+        ReflectionTestUtils.setField(reactiveAuthorization, "APIGATEWAY_HOST", "http://localhost:8000");
+    }
+
+    @Test
+    public void 토큰이_없으면_익명_권한_규칙으로_허용() {
+        // when
+        AuthorizationDecision decision = check(MockServerHttpRequest.post("/user-service/api/v1/users/token/login").build());
+
+        // then
+        assertThat(decision.isGranted()).isTrue();
+        assertThat(checkRequests).isEmpty();
+    }
+
+    @Test
+    public void 토큰이_없으면_익명_권한_규칙에_없는_요청은_user_service_호출_없이_거부() {
+        // when
+        AuthorizationDecision decision = check(MockServerHttpRequest.get("/board-service/api/v1/posts/1").build());
+
+        // then
+        assertThat(decision.isGranted()).isFalse();
+        assertThat(checkRequests).isEmpty();
+    }
+
+    @Test
+    public void 토큰의_권한이_규칙과_일치하면_허용하고_검증한_Claims_를_보관() {
+        // given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/board-service/api/v1/posts/1")
+                .header(HttpHeaders.AUTHORIZATION, token("ROLE_USER")));
+
+        // when
+        AuthorizationDecision decision = reactiveAuthorization.check(Mono.empty(), new AuthorizationContext(exchange)).block();
+
+        // then
+        assertThat(decision.isGranted()).isTrue();
+        assertThat(checkRequests).isEmpty();
+        Claims claims = exchange.getAttribute(IdentityHeaderFilter.VERIFIED_CLAIMS_ATTRIBUTE);
+        assertThat(claims.getSubject()).isEqualTo("user1");
+    }
+
+    @Test
+    public void 토큰의_권한이_규칙과_다르면_거부() {
+        // when
+        AuthorizationDecision decision = check(MockServerHttpRequest.delete("/board-service/api/v1/posts/1")
+                .header(HttpHeaders.AUTHORIZATION, token("ROLE_USER")).build());
+
+        // then
+        assertThat(decision.isGranted()).isFalse();
+        assertThat(checkRequests).isEmpty();
+    }
+
+    @Test
+    public void 규칙에_없는_권한이면_user_service_에_인가_요청() {
+        // when
+        AuthorizationDecision decision = check(MockServerHttpRequest.get("/board-service/api/v1/posts/1")
+                .header(HttpHeaders.AUTHORIZATION, token("ROLE_NEW")).build());
+
+        // then
+        assertThat(decision.isGranted()).isTrue();
+        assertThat(checkRequests).hasSize(1);
+        assertThat(checkRequests.get(0)).startsWith("http://localhost:8000" + ReactiveAuthorization.AUTHORIZATION_URI);
+    }
+
+    private AuthorizationDecision check(MockServerHttpRequest request) {
+        return reactiveAuthorization.check(Mono.empty(), new AuthorizationContext(MockServerWebExchange.from(request))).block();
+    }
+
+    private String token(String authorities) {
+        return "Bearer" + Jwts.builder()
+                .setSubject("user1")
+                .claim("authorities", authorities)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS512, TOKEN_SECRET)
+                .compact();
+    }
+
+    private static ClientResponse jsonResponse(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+}
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.egovframe.cloud.boardservice.api.board.dto.BoardResponseDto;
 import org.egovframe.cloud.boardservice.api.posts.dto.*;
 import org.egovframe.cloud.boardservice.service.posts.PostsService;
+import org.egovframe.cloud.common.dto.CursorPage;
+import org.egovframe.cloud.common.dto.CursorRequestDto;
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.common.util.LogUtil;
 import org.springframework.data.domain.Page;
@@ -33,6 +35,7 @@ import java.util.Map;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/28    jooho       최초 생성
+ *  2026/10/17    jooho       게시물 커서 페이지 목록 조회 추가
  * </pre>
  */
 @RequiredArgsConstructor
@@ -63,6 +66,22 @@ public class PostsApiController {
         return postsService.findPage(boardNo, null, requestDto, pageable);
     }
 
+    /**
+     * 게시물(삭제 포함) 커서 페이지 목록 조회
+     * cursor 파라미터가 있으면 offset 대신 이전 페이지 마지막 게시물 이후부터 조회한다
+     *
+     * @param boardNo          게시판 번호
+     * @param requestDto       요청 DTO
+     * @param cursorRequestDto 커서 페이징 요청 DTO
+     * @return CursorPage<PostsListResponseDto> 커서 페이지 게시물 목록 응답 DTO
+     */
+    @GetMapping(value = "/api/v1/posts/{boardNo}", params = "cursor")
+    public CursorPage<PostsListResponseDto> findCursorPage(@PathVariable Integer boardNo,
+                                                           RequestDto requestDto,
+                                                           CursorRequestDto cursorRequestDto) {
+        return postsService.findCursorPage(boardNo, null, requestDto, cursorRequestDto);
+    }
+
     /**
      * 게시물(삭제 제외) 페이지 목록 조회
      *
@@ -82,6 +101,22 @@ public class PostsApiController {
         return postsService.findPage(boardNo, 0, requestDto, pageable);
     }
 
+    /**
+     * 게시물(삭제 제외) 커서 페이지 목록 조회
+     * cursor 파라미터가 있으면 offset 대신 이전 페이지 마지막 게시물 이후부터 조회한다
+     *
+     * @param boardNo          게시판 번호
+     * @param requestDto       요청 DTO
+     * @param cursorRequestDto 커서 페이징 요청 DTO
+     * @return CursorPage<PostsListResponseDto> 커서 페이지 게시물 목록 응답 DTO
+     */
+    @GetMapping(value = "/api/v1/posts/list/{boardNo}", params = "cursor")
+    public CursorPage<PostsListResponseDto> findListCursorPage(@PathVariable Integer boardNo,
+                                                               RequestDto requestDto,
+                                                               CursorRequestDto cursorRequestDto) {
+        return postsService.findCursorPage(boardNo, 0, requestDto, cursorRequestDto);
+    }
+
     /**
      * 최근 게시물이 포함된 게시판 목록 조회
      *
@@ -26,6 +26,8 @@ import java.util.List;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/28    jooho       최초 생성
+ *  2026/10/17    jooho       유저 게시물 조회 수 없는 생성자 추가
+ *  2026/10/17    jooho       유저 게시물 조회 수 설정 추가
  * </pre>
  */
 @Getter
@@ -166,6 +168,33 @@ public class PostsResponseDto implements Serializable {
         this.userPostsReadCount = userPostsReadCount;
     }
 
+    /**
+     * 게시물 상세 응답 DTO 생성자
+     * 유저 게시물 조회 수를 조회하지 않는 경우 사용하며 userPostsReadCount 는 null 이다.
+     *
+     * @param boardNo            게시판 번호
+     * @param postsNo            게시물 번호
+     * @param postsTitle         게시물 제목
+     * @param postsContent       게시물 내용
+     * @param postsAnswerContent 게시물 답변 내용
+     * @param attachmentCode     첨부파일 코드
+     * @param readCount          조회 수
+     * @param noticeAt           공지 여부
+     * @param deleteAt           삭제 여부
+     * @param createdBy          생성자 id
+     * @param createdName        생성자 명
+     * @param createdDate        생성 일시
+     * @param board              게시판
+     */
+    @QueryProjection
+    public PostsResponseDto(Integer boardNo, Integer postsNo, String postsTitle, String postsContent,
+                            String postsAnswerContent, String attachmentCode, Integer readCount, Boolean noticeAt,
+                            Integer deleteAt, String createdBy, String createdName, LocalDateTime createdDate,
+                            BoardResponseDto board) {
+        this(boardNo, postsNo, postsTitle, postsContent, postsAnswerContent, attachmentCode, readCount, noticeAt,
+                deleteAt, createdBy, createdName, createdDate, board, null);
+    }
+
     /**
      * 게시물 엔티티를 생성자로 주입 받아서 게시물 상세 응답 DTO 속성 값 세팅
      *
@@ -199,6 +228,13 @@ public class PostsResponseDto implements Serializable {
         this.readCount = this.readCount + 1;
     }
 
+    /**
+     * 유저 게시물 조회 수
+     */
+    public void setUserPostsReadCount(Long userPostsReadCount) {
+        this.userPostsReadCount = userPostsReadCount;
+    }
+
     /**
      * 이전 게시물
      */
@@ -0,0 +1,290 @@
+package org.egovframe.cloud.boardservice.domain.posts;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.cloud.common.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * org.egovframe.cloud.boardservice.domain.posts.PostsReadFilter
+ * <p>
+ * 게시물 조회 이력(posts_read) 을 bloom filter 로 보관하여 조회 여부 확인 시 DB 조회를 줄인다.
+ * filter 에 없으면 조회한 적이 없는 것으로 판단하고, filter 에 있을 수 있는 경우에만 DB 에서 확인한다.
+ * 기동 시 백그라운드 스레드가 snapshot 과 posts_read 로 filter 를 채우며, 채우는 동안에는 항상 DB 에서 확인한다.
+ * 다른 인스턴스의 조회 이력은 기동 이후 filter 에 반영되지 않지만 PostsReadWriter 가 입력 시 중복을 걸러내므로 조회 수는 중복 증가하지 않는다.
+ * snapshot-path 를 설정하면 종료 시 filter 를 저장하고, 다음 기동 시 저장 시점 이후의 조회 이력만 읽는다.
+ *
+ * @author 표준프레임워크센터 jooho
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jooho       최초 생성
+ *  2026/10/17    jooho       적재 완료 대기 추가
+ * </pre>
+ */
+@Slf4j
+@Component
+public class PostsReadFilter implements MeterBinder {
+
+    private static final String METER_NAME = "posts.read.filter";
+
+    private static final String SELECT_SQL = "select board_no, posts_no, user_id, ip_addr from posts_read";
+
+    private static final String SELECT_FROM_SQL = SELECT_SQL + " where created_date >= ?";
+
+    /**
+     * 조회 이력은 조회 시점으로 기록되어 늦게 입력될 수 있으므로 snapshot 기준 시각을 여유 있게 앞당긴다
+     */
+    private static final Duration WATERMARK_MARGIN = Duration.ofMinutes(10);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final boolean enabled;
+
+    private final long expectedInsertions;
+
+    private final double fpp;
+
+    private final String snapshotPath;
+
+    private volatile BloomFilter filter;
+
+    private volatile boolean ready;
+
+    /**
+     * snapshot 에 포함된 조회 이력의 기준 시각, 이 시각 이후의 조회 이력은 다음 기동 시 DB 에서 다시 읽는다
+     */
+    private volatile LocalDateTime watermark;
+
+    private Thread loader;
+
+    private final AtomicLong negativeCount = new AtomicLong();
+    private final AtomicLong positiveCount = new AtomicLong();
+
+    /**
+     * @param dataSource
+     * @param enabled            사용 여부
+     * @param expectedInsertions 예상 키 수, 조회 이력 1건당 사용자+ip, ip 두 개의 키를 추가한다
+     * @param fpp                예상 키 수만큼 추가했을 때의 오탐률
+     * @param fetchSize          기동 시 조회 이력을 읽는 fetch size
+     * @param snapshotPath       snapshot 파일 경로, 없으면 저장하지 않는다
+     */
+    public PostsReadFilter(DataSource dataSource,
+                           @Value("${posts.read.filter.enabled:true}") boolean enabled,
+                           @Value("${posts.read.filter.expected-insertions:10000000}") long expectedInsertions,
+                           @Value("${posts.read.filter.fpp:0.01}") double fpp,
+                           @Value("${posts.read.filter.fetch-size:1000}") int fetchSize,
+                           @Value("${posts.read.filter.snapshot-path:}") String snapshotPath) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.snapshotPath = snapshotPath;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("posts read filter disabled");
+            return;
+        }
+        filter = new BloomFilter(expectedInsertions, fpp);
+        LocalDateTime loadFrom = readSnapshot();
+        loader = new Thread(() -> load(loadFrom), "posts-read-filter");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * 종료 시 snapshot 을 저장한다.
+     */
+    @PreDestroy
+    public void stop() {
+        if (!ready || !StringUtils.hasText(snapshotPath)) {
+            return;
+        }
+        Path path = Paths.get(snapshotPath);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeLong(Timestamp.valueOf(watermark).getTime());
+            filter.writeTo(out);
+        } catch (IOException e) {
+            log.warn("posts read filter snapshot 저장 오류 : {}", e.getMessage());
+            return;
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("posts read filter snapshot 저장 오류 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기동 시 조회 이력 적재가 끝날 때까지 기다린다.
+     *
+     * @param timeoutMillis 최대 대기 시간
+     * @throws InterruptedException
+     */
+    void awaitLoaded(long timeoutMillis) throws InterruptedException {
+        if (loader != null) {
+            loader.join(timeoutMillis);
+        }
+    }
+
+    /**
+     * filter 로 조회 여부를 확인할 수 있는지 여부
+     *
+     * @return
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 조회한 적이 있을 수 있는지 확인한다.
+     * false 이면 조회한 적이 없고, true 이면 DB 에서 확인해야 한다.
+     *
+     * @param boardNo 게시판 번호
+     * @param postsNo 게시물 번호
+     * @param userId  사용자 id
+     * @param ipAddr  ip 주소
+     * @return 조회 이력이 있을 수 있는지 여부
+     */
+    public boolean mightContain(Integer boardNo, Integer postsNo, String userId, String ipAddr) {
+        if (!ready || !StringUtils.hasText(ipAddr)) {
+            return true;
+        }
+        // 사용자 id 가 없으면 ip 주소만으로 조회 여부를 확인한다 (PostsReadRepository.countByBoardNoAndPostsNoAndUserId 와 같은 조건)
+        String key = StringUtils.hasText(userId) ? key(boardNo, postsNo, userId, ipAddr) : key(boardNo, postsNo, null, ipAddr);
+        boolean contains = filter.mightContain(key);
+        (contains ? positiveCount : negativeCount).incrementAndGet();
+        return contains;
+    }
+
+    /**
+     * 조회 이력을 추가한다.
+     *
+     * @param boardNo 게시판 번호
+     * @param postsNo 게시물 번호
+     * @param userId  사용자 id
+     * @param ipAddr  ip 주소
+     */
+    public void put(Integer boardNo, Integer postsNo, String userId, String ipAddr) {
+        BloomFilter current = filter;
+        if (current == null || !StringUtils.hasText(ipAddr)) {
+            return;
+        }
+        if (StringUtils.hasText(userId)) {
+            current.put(key(boardNo, postsNo, userId, ipAddr));
+        }
+        current.put(key(boardNo, postsNo, null, ipAddr));
+    }
+
+    /**
+     * snapshot 이후(없으면 전체) 조회 이력을 DB 에서 읽어 filter 를 채운다.
+     * 읽는 동안 추가되는 조회 이력도 filter 에 반영된다.
+     *
+     * @param loadFrom snapshot 기준 시각
+     */
+    private void load(LocalDateTime loadFrom) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long started = System.currentTimeMillis();
+        try {
+            AtomicLong rows = new AtomicLong();
+            if (loadFrom == null) {
+                jdbcTemplate.query(SELECT_SQL, rs -> {
+                    put(rs.getInt(1), rs.getInt(2), rs.getString(3), rs.getString(4));
+                    rows.incrementAndGet();
+                });
+            } else {
+                jdbcTemplate.query(SELECT_FROM_SQL, rs -> {
+                    put(rs.getInt(1), rs.getInt(2), rs.getString(3), rs.getString(4));
+                    rows.incrementAndGet();
+                }, Timestamp.valueOf(loadFrom));
+            }
+            watermark = startedAt.minus(WATERMARK_MARGIN);
+            ready = true;
+            log.info("posts read filter loaded {} rows in {}ms", rows.get(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("posts read filter 적재 오류, DB 로 조회 여부를 확인합니다 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * snapshot 을 읽어 filter 를 교체한다.
+     *
+     * @return snapshot 기준 시각, snapshot 이 없거나 사용할 수 없으면 null
+     */
+    private LocalDateTime readSnapshot() {
+        if (!StringUtils.hasText(snapshotPath) || !Files.exists(Paths.get(snapshotPath))) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(Paths.get(snapshotPath))))) {
+            LocalDateTime snapshotWatermark = new Timestamp(in.readLong()).toLocalDateTime();
+            BloomFilter snapshot = BloomFilter.readFrom(in);
+            if (!snapshot.isCompatible(filter)) {
+                log.info("posts read filter 설정이 변경되어 snapshot 을 사용하지 않습니다");
+                return null;
+            }
+            filter = snapshot;
+            return snapshotWatermark;
+        } catch (IOException e) {
+            log.warn("posts read filter snapshot 읽기 오류 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String key(Integer boardNo, Integer postsNo, String userId, String ipAddr) {
+        return boardNo + ":" + postsNo + ":" + (userId == null ? "" : userId) + ":" + ipAddr;
+    }
+
+    /**
+     * actuator metrics 에 posts.read.filter 지표를 등록한다.
+     *
+     * @param registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METER_NAME + ".checks", negativeCount, AtomicLong::doubleValue)
+                .tag("result", "negative")
+                .description("filter 로 조회하지 않은 것을 확인하여 DB 조회를 생략한 건수")
+                .register(registry);
+        FunctionCounter.builder(METER_NAME + ".checks", positiveCount, AtomicLong::doubleValue)
+                .tag("result", "positive")
+                .description("filter 에 있을 수 있어 DB 에서 확인한 건수")
+                .register(registry);
+        Gauge.builder(METER_NAME + ".insertions", this, f -> f.filter == null ? 0 : f.filter.getInsertions())
+                .description("filter 에 추가한 키 수")
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,205 @@
+package org.egovframe.cloud.boardservice.domain.posts;
+
+import lombok.Getter;
+import org.egovframe.cloud.servlet.service.BufferedEventSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * org.egovframe.cloud.boardservice.domain.posts.PostsReadWriter
+ * <p>
+ * 게시물 조회 이력과 조회 수를 요청 스레드와 분리하여 일괄 반영한다.
+ * 조회 이력(posts_read)은 JDBC batch insert 하고, 같은 트랜잭션에서 게시물별 조회 수를 합산하여 한 번씩 증가시킨다.
+ * 조회 요청은 게시물 행을 잠그지 않으므로 조회가 몰리는 공지 게시물도 서로 기다리지 않는다.
+ * 같은 사용자/ip 의 조회 이력이 이미 있으면 입력하지 않고 조회 수도 증가시키지 않으므로, 요청 시점의 중복 확인은 근사치여도 된다.
+ * 버퍼 크기, 일괄 입력 건수, 입력 간격, 버퍼 초과 시 처리 방식은 posts.read.* 속성으로 설정한다.
+ *
+ * @author 표준프레임워크센터 jooho
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jooho       최초 생성
+ *  2026/10/17    jooho       이미 조회한 이력은 입력하지 않음
+ *  2026/10/17    jooho       조회 번호 중복 시 건별 재입력
+ *  2026/10/17    jooho       버퍼 초과로 버린 조회 이력의 대기 키 제거
+ * </pre>
+ */
+@Component
+public class PostsReadWriter extends BufferedEventSink<PostsReadWriter.Record> {
+
+    /**
+     * 조회 번호는 입력 시점에 게시물별 최대값 + 1 로 채번하며, 사용자 id, ip 주소가 같은 조회 이력이 있으면 입력하지 않는다.
+     * 여러 인스턴스가 동시에 같은 게시물의 번호를 채번하여 키가 중복되면 BufferedEventSink 가 건별로 다시 입력하며, 다시 채번한다.
+     * 사용자 id 또는 ip 주소가 없으면 PostsReadRepository.countByBoardNoAndPostsNoAndUserId 와 같이 조건에서 제외한다.
+     */
+    private static final String INSERT_SQL = "insert into posts_read (board_no, posts_no, read_no, user_id, ip_addr, created_date) "
+            + "select ?, ?, m.read_no, ?, ?, ? from (select coalesce(max(read_no), 0) + 1 as read_no from posts_read where board_no = ? and posts_no = ?) m "
+            + "where not exists (select 1 from posts_read r where r.board_no = ? and r.posts_no = ? "
+            + "and (? is null or r.user_id = ?) and (? is null or r.ip_addr = ?))";
+
+    private static final String UPDATE_READ_COUNT_SQL = "update posts set read_count = read_count + ? where board_no = ? and posts_no = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 아직 입력되지 않은 조회 이력 키
+     * 입력 전에 같은 사용자가 다시 조회해도 조회 수가 중복으로 증가하지 않도록 한다.
+     */
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+
+    public PostsReadWriter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${posts.read.buffer-size:8192}") int bufferSize,
+                           @Value("${posts.read.batch-size:500}") int batchSize,
+                           @Value("${posts.read.flush-interval-ms:1000}") long flushIntervalMillis,
+                           @Value("${posts.read.overflow-policy:CALLER_RUNS}") OverflowPolicy overflowPolicy) {
+        super("posts-read", jdbcTemplate, transactionManager, bufferSize, batchSize, flushIntervalMillis, overflowPolicy);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 게시물 조회를 기록한다.
+     *
+     * @param boardNo 게시판 번호
+     * @param postsNo 게시물 번호
+     * @param userId  사용자 id
+     * @param ipAddr  ip 주소
+     * @return 기록 여부, 입력을 기다리는 같은 조회 이력이 있거나 버퍼 초과로 버린 경우 false
+     */
+    public boolean write(Integer boardNo, Integer postsNo, String userId, String ipAddr) {
+        Record record = new Record(boardNo, postsNo, userId, ipAddr);
+        if (!pendingKeys.add(record.getKey())) {
+            return false;
+        }
+        if (!write(record)) {
+            // 버린 이벤트는 afterBatchComplete 가 호출되지 않으므로 여기서 제거한다
+            pendingKeys.remove(record.getKey());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 입력을 기다리는 조회 이력인지 확인한다.
+     *
+     * @param boardNo 게시판 번호
+     * @param postsNo 게시물 번호
+     * @param userId  사용자 id
+     * @param ipAddr  ip 주소
+     * @return 입력 대기 여부
+     */
+    public boolean isPending(Integer boardNo, Integer postsNo, String userId, String ipAddr) {
+        return pendingKeys.contains(Record.key(boardNo, postsNo, userId, ipAddr));
+    }
+
+    @Override
+    protected String getInsertSql() {
+        return INSERT_SQL;
+    }
+
+    @Override
+    protected void setValues(PreparedStatement ps, Record record) throws SQLException {
+        ps.setInt(1, record.getBoardNo());
+        ps.setInt(2, record.getPostsNo());
+        ps.setString(3, record.getUserId());
+        ps.setString(4, record.getIpAddr());
+        ps.setTimestamp(5, Timestamp.valueOf(record.getCreatedDate()));
+        ps.setInt(6, record.getBoardNo());
+        ps.setInt(7, record.getPostsNo());
+        ps.setInt(8, record.getBoardNo());
+        ps.setInt(9, record.getPostsNo());
+        ps.setString(10, emptyToNull(record.getUserId()));
+        ps.setString(11, emptyToNull(record.getUserId()));
+        ps.setString(12, emptyToNull(record.getIpAddr()));
+        ps.setString(13, emptyToNull(record.getIpAddr()));
+    }
+
+    /**
+     * 입력한 조회 이력을 게시물별로 합산하여 조회 수를 한 번씩 증가시킨다.
+     * 이미 조회 이력이 있어 입력되지 않은 건은 제외한다.
+     *
+     * @param records
+     * @param updateCounts
+     */
+    @Override
+    protected void afterBatchInsert(List<Record> records, int[] updateCounts) {
+        Map<PostsId, Integer> readCounts = new HashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            if (i < updateCounts.length && updateCounts[i] == 0) {
+                continue;
+            }
+            Record record = records.get(i);
+            readCounts.merge(new PostsId(record.getBoardNo(), record.getPostsNo()), 1, Integer::sum);
+        }
+        if (readCounts.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(readCounts.size());
+        readCounts.forEach((postsId, count) -> args.add(new Object[]{count, postsId.getBoardNo(), postsId.getPostsNo()}));
+        jdbcTemplate.batchUpdate(UPDATE_READ_COUNT_SQL, args);
+    }
+
+    /**
+     * 입력이 끝난 조회 이력은 DB 에서 확인하므로 대기 키에서 제거한다.
+     *
+     * @param records
+     * @param success
+     */
+    @Override
+    protected void afterBatchComplete(List<Record> records, boolean success) {
+        records.forEach(record -> pendingKeys.remove(record.getKey()));
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 버퍼에 보관하는 게시물 조회 이력
+     * 입력 시각은 조회 시점으로 기록한다.
+     */
+    @Getter
+    public static class Record {
+        private final Integer boardNo;
+        private final Integer postsNo;
+        private final String userId;
+        private final String ipAddr;
+        private final LocalDateTime createdDate;
+
+        public Record(Integer boardNo, Integer postsNo, String userId, String ipAddr) {
+            this.boardNo = boardNo;
+            this.postsNo = postsNo;
+            this.userId = userId;
+            this.ipAddr = ipAddr;
+            this.createdDate = LocalDateTime.now();
+        }
+
+        private String getKey() {
+            return key(boardNo, postsNo, userId, ipAddr);
+        }
+
+        private static String key(Integer boardNo, Integer postsNo, String userId, String ipAddr) {
+            return boardNo + ":" + postsNo + ":" + userId + ":" + ipAddr;
+        }
+    }
+
+}
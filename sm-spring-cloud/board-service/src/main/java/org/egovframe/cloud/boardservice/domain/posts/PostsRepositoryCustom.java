@@ -3,6 +3,8 @@ package org.egovframe.cloud.boardservice.domain.posts;
 import org.egovframe.cloud.boardservice.api.posts.dto.PostsListResponseDto;
 import org.egovframe.cloud.boardservice.api.posts.dto.PostsResponseDto;
 import org.egovframe.cloud.boardservice.api.posts.dto.PostsSimpleResponseDto;
+import org.egovframe.cloud.common.dto.CursorPage;
+import org.egovframe.cloud.common.dto.CursorRequestDto;
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +27,8 @@ import java.util.Map;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/28    jooho       최초 생성
+ *  2026/10/17    jooho       유저 게시물 조회 수 없는 게시물 상세 조회 추가
+ *  2026/10/17    jooho       게시물 커서 페이지 목록 조회 추가
  * </pre>
  */
 public interface PostsRepositoryCustom {
@@ -40,6 +44,17 @@ public interface PostsRepositoryCustom {
      */
     Page<PostsListResponseDto> findPage(Integer boardNo, Integer deleteAt, RequestDto requestDto, Pageable pageable);
 
+    /**
+     * 게시물 커서 페이지 목록 조회
+     *
+     * @param boardNo          게시판 번호
+     * @param deleteAt         삭제 여부
+     * @param requestDto       요청 DTO
+     * @param cursorRequestDto 커서 페이징 요청 DTO
+     * @return CursorPage<PostsListResponseDto> 커서 페이지 게시물 목록 응답 DTO
+     */
+    CursorPage<PostsListResponseDto> findCursorPage(Integer boardNo, Integer deleteAt, RequestDto requestDto, CursorRequestDto cursorRequestDto);
+
     /**
      * 게시판별 최근 게시물 목록 조회
      *
@@ -60,6 +75,15 @@ public interface PostsRepositoryCustom {
      */
     PostsResponseDto findById(Integer boardNo, Integer postsNo, String userId, String ipAddr);
 
+    /**
+     * 게시물 상세 조회, 유저 게시물 조회 수는 조회하지 않는다
+     *
+     * @param boardNo  게시판 번호
+     * @param postsNo  게시물 번호
+     * @return PostsResponseDto 게시물 상세 응답 DTO
+     */
+    PostsResponseDto findById(Integer boardNo, Integer postsNo);
+
     /**
      * 근처 게시물 조회
      *
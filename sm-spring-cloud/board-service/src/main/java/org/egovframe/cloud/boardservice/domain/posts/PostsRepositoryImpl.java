@@ -1,7 +1,6 @@
 package org.egovframe.cloud.boardservice.domain.posts;
 
 import com.google.common.base.CaseFormat;
-import com.querydsl.core.QueryResults;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Order;
@@ -20,10 +19,15 @@ import org.egovframe.cloud.boardservice.api.posts.dto.*;
 import org.egovframe.cloud.boardservice.domain.board.QBoard;
 import org.egovframe.cloud.boardservice.domain.comment.QComment;
 import org.egovframe.cloud.boardservice.domain.user.QUser;
+import org.egovframe.cloud.common.dto.CursorPage;
+import org.egovframe.cloud.common.dto.CursorRequestDto;
 import org.egovframe.cloud.common.dto.RequestDto;
+import org.egovframe.cloud.common.exception.InvalidValueException;
+import org.egovframe.cloud.common.util.PageCursor;
+import org.egovframe.cloud.common.util.TotalCountCache;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 
 import java.time.LocalDateTime;
 import java.util.Iterator;
@@ -45,6 +49,9 @@ import java.util.Map;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/28    jooho       최초 생성
+ *  2026/10/17    jooho       유저 게시물 조회 수 없는 게시물 상세 조회 추가
+ *  2026/10/17    jooho       검색어 조건을 검색 index 로 조회
+ *  2026/10/17    jooho       커서 페이지 목록 조회 추가, 전체 건수 조회 생략/캐시
  * </pre>
  */
 @RequiredArgsConstructor
@@ -60,6 +67,16 @@ public class PostsRepositoryImpl implements PostsRepositoryCustom {
      */
     private final SQLQueryFactory sqlQueryFactory;
 
+    /**
+     * 게시물 검색 index
+     */
+    private final PostsSearchIndex postsSearchIndex;
+
+    /**
+     * 전체 건수 캐시
+     */
+    private final TotalCountCache totalCountCache;
+
     /**
      * 게시물 페이지 목록 조회
      * 가급적 Entity 보다는 Dto를 리턴 - Entity 조회시 hibernate 캐시, 불필요 컬럼 조회, oneToOne N+1 문제 발생
@@ -72,7 +89,74 @@ public class PostsRepositoryImpl implements PostsRepositoryCustom {
      */
     @Override
 	public Page<PostsListResponseDto> findPage(Integer boardNo, Integer deleteAt, RequestDto requestDto, Pageable pageable) {
-        JPQLQuery<PostsListResponseDto> query = jpaQueryFactory
+        BooleanExpression where = QPosts.posts.postsId.boardNo.eq(boardNo)
+                .and(getKeywordExpression(boardNo, requestDto))
+                .and(getBooleanExpression("deleteAt", deleteAt));
+
+        JPQLQuery<PostsListResponseDto> query = getPostsListQuery(deleteAt)
+                .where(where);
+
+        //정렬
+        pageable.getSort().stream().forEach(sort -> {
+            Order order = sort.isAscending() ? Order.ASC : Order.DESC;
+            String property = sort.getProperty();
+            Path<?> parent;
+            if ("board_no".equals(property) || "posts_no".equals(property)) parent = QPosts.posts.postsId;
+            else parent = QPosts.posts;
+
+            Path<Object> target = Expressions.path(Object.class, parent, CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, property));
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+			OrderSpecifier<?> orderSpecifier = new OrderSpecifier(order, target);
+            query.orderBy(orderSpecifier);
+        });
+
+        List<PostsListResponseDto> content = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize()) //페이징
+                .fetch();
+
+        // 마지막 페이지 등 조회 건수로 전체 건수를 알 수 있으면 count 쿼리를 실행하지 않는다
+        return PageableExecutionUtils.getPage(content, pageable, () -> totalCountCache.get("posts:" + where, query::fetchCount));
+    }
+
+    /**
+     * 게시물 커서 페이지 목록 조회
+     * 공지 여부, 게시물 번호 역순으로 정렬하고 이전 페이지 마지막 게시물 이후부터 조회한다
+     *
+     * @param boardNo          게시판 번호
+     * @param deleteAt         삭제 여부
+     * @param requestDto       요청 DTO
+     * @param cursorRequestDto 커서 페이징 요청 DTO
+     * @return CursorPage<PostsListResponseDto> 커서 페이지 게시물 목록 응답 DTO
+     */
+    @Override
+    public CursorPage<PostsListResponseDto> findCursorPage(Integer boardNo, Integer deleteAt, RequestDto requestDto, CursorRequestDto cursorRequestDto) {
+        BooleanExpression where = QPosts.posts.postsId.boardNo.eq(boardNo)
+                .and(getKeywordExpression(boardNo, requestDto))
+                .and(getBooleanExpression("deleteAt", deleteAt));
+
+        List<PostsListResponseDto> rows = getPostsListQuery(deleteAt)
+                .where(where.and(getCursorExpression(cursorRequestDto.getPageCursor())))
+                .orderBy(QPosts.posts.noticeAt.desc(), QPosts.posts.postsId.postsNo.desc())
+                .limit(cursorRequestDto.getSize() + 1)
+                .fetch();
+
+        Long totalElements = cursorRequestDto.isCount()
+                ? totalCountCache.get("posts:" + where, () -> jpaQueryFactory.selectFrom(QPosts.posts).where(where).fetchCount())
+                : null;
+
+        return CursorPage.of(rows, cursorRequestDto.getSize(),
+                posts -> PageCursor.encode(posts.getNoticeAt(), posts.getPostsNo()), totalElements);
+    }
+
+    /**
+     * 게시물 목록 조회 쿼리 생성
+     *
+     * @param deleteAt 삭제 여부
+     * @return JPQLQuery<PostsListResponseDto> 게시물 목록 조회 쿼리
+     */
+    private JPQLQuery<PostsListResponseDto> getPostsListQuery(Integer deleteAt) {
+        return jpaQueryFactory
                 .select(new QPostsListResponseDto(
                         QPosts.posts.postsId.boardNo,
                         QPosts.posts.postsId.postsNo,
@@ -97,31 +181,27 @@ public class PostsRepositoryImpl implements PostsRepositoryCustom {
                 .innerJoin(QBoard.board).on(QPosts.posts.postsId.boardNo.eq(QBoard.board.boardNo))
                 .fetchJoin()
                 .leftJoin(QUser.user).on(QPosts.posts.createdBy.eq(QUser.user.userId))
-                .fetchJoin()
-                .where(QPosts.posts.postsId.boardNo.eq(boardNo)
-                        .and(getBooleanExpression(requestDto.getKeywordType(), requestDto.getKeyword()))
-                        .and(getBooleanExpression("deleteAt", deleteAt)));
-
-        //정렬
-        pageable.getSort().stream().forEach(sort -> {
-            Order order = sort.isAscending() ? Order.ASC : Order.DESC;
-            String property = sort.getProperty();
-            Path<?> parent;
-            if ("board_no".equals(property) || "posts_no".equals(property)) parent = QPosts.posts.postsId;
-            else parent = QPosts.posts;
+                .fetchJoin();
+    }
 
-            Path<Object> target = Expressions.path(Object.class, parent, CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, property));
-            @SuppressWarnings({ "unchecked", "rawtypes" })
-			OrderSpecifier<?> orderSpecifier = new OrderSpecifier(order, target);
-            query.orderBy(orderSpecifier);
-        });
+    /**
+     * 커서 이후 게시물 조건 생성
+     * 공지 게시물 다음에 일반 게시물을 게시물 번호 역순으로 조회하므로 (공지 여부, 게시물 번호) 보다 작은 게시물을 조회한다
+     *
+     * @param pageCursor 이전 페이지 마지막 게시물의 공지 여부, 게시물 번호
+     * @return BooleanExpression where 절 조건
+     */
+    private BooleanExpression getCursorExpression(PageCursor pageCursor) {
+        if (pageCursor == null) return null;
 
-        QueryResults<PostsListResponseDto> result = query
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize()) //페이징
-                .fetchResults();
+        Boolean noticeAt = pageCursor.getBoolean(0);
+        Integer postsNo = pageCursor.getInteger(1);
+        if (noticeAt == null || postsNo == null) {
+            throw new InvalidValueException("cursor");
+        }
 
-        return new PageImpl<>(result.getResults(), pageable, result.getTotal());
+        BooleanExpression samePosts = QPosts.posts.noticeAt.eq(noticeAt).and(QPosts.posts.postsId.postsNo.lt(postsNo));
+        return noticeAt ? samePosts.or(QPosts.posts.noticeAt.isFalse()) : samePosts;
     }
 
     /**
@@ -242,6 +322,55 @@ public class PostsRepositoryImpl implements PostsRepositoryCustom {
                 .fetchOne();
     }
 
+    /**
+     * 게시물 상세 조회
+     * 유저 게시물 조회 수 subquery 를 실행하지 않으며, 조회 여부는 PostsReadFilter 로 확인한다.
+     *
+     * @param boardNo 게시판 번호
+     * @param postsNo 게시물 번호
+     * @return PostsResponseDto 게시물 상세 응답 DTO
+     */
+    @Override
+    public PostsResponseDto findById(Integer boardNo, Integer postsNo) {
+        return jpaQueryFactory
+                .select(
+                        // 게시물
+                        new QPostsResponseDto(
+                                QPosts.posts.postsId.boardNo,
+                                QPosts.posts.postsId.postsNo,
+                                QPosts.posts.postsTitle,
+                                QPosts.posts.postsContent,
+                                QPosts.posts.postsAnswerContent,
+                                QPosts.posts.attachmentCode,
+                                QPosts.posts.readCount,
+                                QPosts.posts.noticeAt,
+                                QPosts.posts.deleteAt,
+                                QPosts.posts.createdBy,
+                                QUser.user.userName.as("createdName"),
+                                QPosts.posts.createdDate,
+                                // 게시판
+                                new QBoardResponseDto(QBoard.board.boardNo,
+                                        QBoard.board.boardName,
+                                        QBoard.board.skinTypeCode,
+                                        QBoard.board.titleDisplayLength,
+                                        QBoard.board.postDisplayCount,
+                                        QBoard.board.pageDisplayCount,
+                                        QBoard.board.newDisplayDayCount,
+                                        QBoard.board.editorUseAt,
+                                        QBoard.board.userWriteAt,
+                                        QBoard.board.commentUseAt,
+                                        QBoard.board.uploadUseAt,
+                                        QBoard.board.uploadLimitCount,
+                                        QBoard.board.uploadLimitSize)))
+                .from(QPosts.posts) // 게시물
+                .innerJoin(QBoard.board).on(QPosts.posts.postsId.boardNo.eq(QBoard.board.boardNo)) // 게시판
+                .leftJoin(QUser.user).on(QPosts.posts.createdBy.eq(QUser.user.userId)) // 생성자
+                .fetchJoin()
+                .where(QPosts.posts.postsId.boardNo.eq(boardNo)
+                        .and(QPosts.posts.postsId.postsNo.eq(postsNo)))
+                .fetchOne();
+    }
+
     /**
      * 이전 게시물 조회
      *
@@ -263,7 +392,7 @@ public class PostsRepositoryImpl implements PostsRepositoryCustom {
                         QPosts.posts.createdDate))
                 .from(QPosts.posts)
                 .where(QPosts.posts.postsId.boardNo.eq(boardNo)
-                        .and(getBooleanExpression(requestDto.getKeywordType(), requestDto.getKeyword()))
+                        .and(getKeywordExpression(boardNo, requestDto))
                         .and(getBooleanExpression("deleteAt", deleteAt))
                         .and(getBooleanExpression(gap < 0 ? "postsNoLt" : "postsNoGt", postsNo)))
                 .orderBy(gap < 0 ? QPosts.posts.noticeAt.asc() : QPosts.posts.noticeAt.desc(),
@@ -359,6 +488,27 @@ public class PostsRepositoryImpl implements PostsRepositoryCustom {
                 , "commentCount");
     }
 
+    /**
+     * 검색어 조건 생성
+     * 검색 index 로 찾은 게시물 번호 조건을 리턴하고, index 로 검색할 수 없으면 like 조건을 리턴한다
+     *
+     * @param boardNo    게시판 번호
+     * @param requestDto 요청 DTO
+     * @return BooleanExpression where 절 조건
+     */
+    private BooleanExpression getKeywordExpression(Integer boardNo, RequestDto requestDto) {
+        if (requestDto.getKeyword() == null || "".equals(requestDto.getKeyword())) return null;
+
+        List<Integer> postsNos = postsSearchIndex.search(boardNo, requestDto.getKeywordType(), requestDto.getKeyword());
+        if (postsNos == null) {
+            return getBooleanExpression(requestDto.getKeywordType(), requestDto.getKeyword());
+        }
+        if (postsNos.isEmpty()) {
+            return QPosts.posts.postsId.postsNo.isNull(); // 검색 결과 없음
+        }
+        return QPosts.posts.postsId.postsNo.in(postsNos);
+    }
+
     /**
      * 엔티티 속성별 동적 검색 표현식 리턴
      *
@@ -0,0 +1,499 @@
+package org.egovframe.cloud.boardservice.domain.posts;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * org.egovframe.cloud.boardservice.domain.posts.PostsSearchIndex
+ * <p>
+ * 게시물 제목, 내용 검색을 위한 내장 Lucene index
+ * 제목, 내용을 소문자 2-gram 으로 색인하고 검색어의 2-gram 을 연속된 구문(phrase)으로 검색하므로
+ * 띄어쓰기, 형태소와 관계없이 like '%검색어%' 와 같은 결과를 게시물 수와 관계없이 빠르게 찾는다.
+ * 게시물 등록/수정/삭제 시 커밋 후 색인하고, 다른 인스턴스에서 변경된 게시물은 수정일시 기준으로 주기적으로 색인한다.
+ * index 가 비어 있으면 기동 시 DB 에서 전체 색인하며, rebuild 로 다시 색인할 수 있다.
+ * 삭제 여부, 정렬, 페이징은 DB 에서 처리하므로 index 는 검색어에 해당하는 게시물 번호만 찾는다.
+ *
+ * @author 표준프레임워크센터 jooho
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jooho       최초 생성
+ *  2026/10/17    jooho       색인 완료 대기 추가
+ * </pre>
+ */
+@Slf4j
+@Component
+public class PostsSearchIndex implements MeterBinder {
+
+    private static final String METER_NAME = "posts.search";
+
+    private static final String ID = "id";
+    private static final String BOARD_NO = "boardNo";
+    private static final String POSTS_NO = "postsNo";
+    private static final String POSTS_TITLE = "postsTitle";
+    private static final String POSTS_CONTENT = "postsContent";
+
+    /**
+     * index commit 에 기록하는 색인 기준 시각, 이 시각 이후 수정된 게시물은 다음 기동 시 다시 색인한다
+     */
+    private static final String WATERMARK = "watermark";
+
+    private static final String SELECT_SQL = "select board_no, posts_no, posts_title, posts_content from posts";
+
+    private static final String SELECT_MODIFIED_SQL = SELECT_SQL + " where modified_date >= ?";
+
+    /**
+     * 커밋이 늦은 트랜잭션의 수정일시를 놓치지 않도록 색인 기준 시각을 여유 있게 앞당긴다
+     */
+    private static final Duration WATERMARK_MARGIN = Duration.ofMinutes(1);
+
+    /**
+     * 검색어는 2-gram 으로 검색하므로 1글자 검색어는 DB 에서 검색한다
+     */
+    private static final int MIN_KEYWORD_LENGTH = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final boolean enabled;
+
+    private final String indexPath;
+
+    private final int maxCandidates;
+
+    private final long syncIntervalNanos;
+
+    private final Analyzer analyzer = new NGramAnalyzer();
+
+    private Directory directory;
+
+    private IndexWriter indexWriter;
+
+    private SearcherManager searcherManager;
+
+    private volatile boolean ready;
+
+    private final CountDownLatch opened = new CountDownLatch(1);
+
+    private volatile boolean running;
+
+    private volatile LocalDateTime watermark;
+
+    private Thread worker;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong fallbackCount = new AtomicLong();
+
+    /**
+     * @param dataSource
+     * @param enabled            사용 여부
+     * @param indexPath          index 디렉토리, 없으면 메모리에 색인하며 기동할 때마다 전체 색인한다
+     * @param maxCandidates      index 로 찾은 게시물이 이 수보다 많으면 DB 에서 검색한다
+     * @param syncIntervalMillis 다른 인스턴스에서 변경된 게시물을 색인하는 간격
+     */
+    public PostsSearchIndex(DataSource dataSource,
+                            @Value("${posts.search.enabled:true}") boolean enabled,
+                            @Value("${posts.search.index-path:}") String indexPath,
+                            @Value("${posts.search.max-candidates:5000}") int maxCandidates,
+                            @Value("${posts.search.sync-interval-ms:30000}") long syncIntervalMillis) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(1000);
+        this.enabled = enabled;
+        this.indexPath = indexPath;
+        this.maxCandidates = maxCandidates;
+        this.syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(syncIntervalMillis);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            log.info("posts search index disabled");
+            return;
+        }
+        directory = StringUtils.hasText(indexPath) ? FSDirectory.open(Paths.get(indexPath)) : new ByteBuffersDirectory();
+        indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(indexWriter, null);
+
+        running = true;
+        worker = new Thread(this::run, "posts-search-index");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.NANOSECONDS.toMillis(syncIntervalNanos));
+        if (ready) {
+            commit();
+        }
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    /**
+     * index 로 검색할 수 있는지 여부
+     *
+     * @return
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 기동 시 색인이 끝날 때까지 기다린다.
+     *
+     * @param timeoutMillis 최대 대기 시간
+     * @return index 로 검색할 수 있는지 여부
+     * @throws InterruptedException
+     */
+    public boolean awaitReady(long timeoutMillis) throws InterruptedException {
+        return opened.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 검색어를 포함하는 게시물 번호를 찾는다.
+     *
+     * @param boardNo     게시판 번호
+     * @param keywordType 검색 구분 (postsData: 제목 + 내용, postsTitle: 제목, postsContent: 내용)
+     * @param keyword     검색어
+     * @return 게시물 번호 목록, index 로 검색할 수 없거나 찾은 게시물이 max-candidates 보다 많으면 null
+     */
+    public List<Integer> search(Integer boardNo, String keywordType, String keyword) {
+        if (!ready || boardNo == null || keyword == null || keyword.length() < MIN_KEYWORD_LENGTH) {
+            return null;
+        }
+
+        BooleanQuery.Builder keywordQuery = new BooleanQuery.Builder();
+        switch (keywordType == null ? "" : keywordType) {
+            case "postsData": // 게시물 제목 + 내용
+                keywordQuery.add(phraseQuery(POSTS_TITLE, keyword), BooleanClause.Occur.SHOULD);
+                keywordQuery.add(phraseQuery(POSTS_CONTENT, keyword), BooleanClause.Occur.SHOULD);
+                break;
+            case "postsTitle": // 게시물 제목
+                keywordQuery.add(phraseQuery(POSTS_TITLE, keyword), BooleanClause.Occur.MUST);
+                break;
+            case "postsContent": // 게시물 내용
+                keywordQuery.add(phraseQuery(POSTS_CONTENT, keyword), BooleanClause.Occur.MUST);
+                break;
+            default:
+                return null;
+        }
+
+        Query query = new BooleanQuery.Builder()
+                .add(IntPoint.newExactQuery(BOARD_NO, boardNo), BooleanClause.Occur.FILTER)
+                .add(keywordQuery.build(), BooleanClause.Occur.FILTER)
+                .build();
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(query, maxCandidates + 1);
+            if (topDocs.scoreDocs.length > maxCandidates) {
+                fallbackCount.incrementAndGet();
+                return null;
+            }
+            List<Integer> postsNos = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                postsNos.add(searcher.doc(scoreDoc.doc).getField(POSTS_NO).numericValue().intValue());
+            }
+            hitCount.incrementAndGet();
+            return postsNos;
+        } catch (IOException e) {
+            log.warn("posts search index 검색 오류, DB 에서 검색합니다 : {}", e.getMessage());
+            fallbackCount.incrementAndGet();
+            return null;
+        } finally {
+            if (searcher != null) {
+                release(searcher);
+            }
+        }
+    }
+
+    /**
+     * 게시물을 색인한다. 트랜잭션 중이면 커밋 후 색인한다.
+     *
+     * @param posts 게시물 엔티티
+     */
+    public void index(Posts posts) {
+        Integer boardNo = posts.getPostsId().getBoardNo();
+        Integer postsNo = posts.getPostsId().getPostsNo();
+        String postsTitle = posts.getPostsTitle();
+        String postsContent = posts.getPostsContent();
+        afterCommit(() -> updateDocument(boardNo, postsNo, postsTitle, postsContent));
+    }
+
+    /**
+     * 게시물 색인을 삭제한다. 트랜잭션 중이면 커밋 후 삭제한다.
+     *
+     * @param boardNo 게시판 번호
+     * @param postsNo 게시물 번호
+     */
+    public void delete(Integer boardNo, Integer postsNo) {
+        afterCommit(() -> {
+            indexWriter.deleteDocuments(new Term(ID, id(boardNo, postsNo)));
+            searcherManager.maybeRefresh();
+        });
+    }
+
+    /**
+     * DB 의 게시물 전체를 다시 색인한다.
+     * 색인하는 동안에는 이전 index 로 검색한다.
+     */
+    public synchronized void rebuild() {
+        if (indexWriter == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        long started = System.currentTimeMillis();
+        try {
+            indexWriter.deleteAll();
+            long count = load(SELECT_SQL);
+            watermark = startedAt.minus(WATERMARK_MARGIN);
+            commit();
+            searcherManager.maybeRefreshBlocking();
+            log.info("posts search index rebuilt {} posts in {}ms", count, System.currentTimeMillis() - started);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 색인 기준 시각 이후 수정된 게시물을 색인한다.
+     */
+    synchronized void sync() throws IOException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        load(SELECT_MODIFIED_SQL, Timestamp.valueOf(watermark));
+        watermark = startedAt.minus(WATERMARK_MARGIN);
+        commit();
+        searcherManager.maybeRefresh();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (!ready) {
+                    open();
+                    ready = true;
+                    opened.countDown();
+                } else {
+                    sync();
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("posts search index 색인 오류 : {}", e.getMessage());
+            }
+            LockSupport.parkNanos(this, syncIntervalNanos);
+        }
+    }
+
+    /**
+     * 저장된 index 의 색인 기준 시각이 있으면 이후 수정된 게시물만, 없으면 전체를 색인한다.
+     */
+    private void open() throws IOException {
+        String committed = null;
+        Iterable<Map.Entry<String, String>> commitData = indexWriter.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (WATERMARK.equals(entry.getKey())) {
+                    committed = entry.getValue();
+                }
+            }
+        }
+        if (committed == null) {
+            rebuild();
+            return;
+        }
+        watermark = LocalDateTime.parse(committed);
+        sync();
+    }
+
+    private long load(String sql, Object... args) {
+        AtomicLong count = new AtomicLong();
+        jdbcTemplate.query(sql, (ResultSet rs) -> {
+            try {
+                updateDocument(rs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count.incrementAndGet();
+        }, args);
+        return count.get();
+    }
+
+    private void updateDocument(ResultSet rs) throws SQLException, IOException {
+        Integer boardNo = rs.getInt(1);
+        Integer postsNo = rs.getInt(2);
+        Document document = document(boardNo, postsNo, rs.getString(3), rs.getString(4));
+        indexWriter.updateDocument(new Term(ID, id(boardNo, postsNo)), document);
+    }
+
+    private void updateDocument(Integer boardNo, Integer postsNo, String postsTitle, String postsContent) throws IOException {
+        indexWriter.updateDocument(new Term(ID, id(boardNo, postsNo)), document(boardNo, postsNo, postsTitle, postsContent));
+        searcherManager.maybeRefresh();
+    }
+
+    private void commit() throws IOException {
+        indexWriter.setLiveCommitData(Collections.singletonMap(WATERMARK, watermark.toString()).entrySet());
+        indexWriter.commit();
+    }
+
+    private void afterCommit(IndexTask task) {
+        if (!ready) {
+            // 전체 색인 중이거나 색인 전이면 주기적 색인에서 반영된다
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    run(task);
+                }
+            });
+        } else {
+            run(task);
+        }
+    }
+
+    private void run(IndexTask task) {
+        try {
+            task.run();
+        } catch (IOException | RuntimeException e) {
+            log.warn("posts search index 색인 오류, 주기적 색인에서 반영됩니다 : {}", e.getMessage());
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("posts search index searcher 반환 오류 : {}", e.getMessage());
+        }
+    }
+
+    private Query phraseQuery(String field, String keyword) {
+        PhraseQuery.Builder builder = new PhraseQuery.Builder();
+        try (TokenStream tokenStream = analyzer.tokenStream(field, keyword)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            int position = 0;
+            while (tokenStream.incrementToken()) {
+                builder.add(new Term(field, term.toString()), position++);
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.build();
+    }
+
+    private static Document document(Integer boardNo, Integer postsNo, String postsTitle, String postsContent) {
+        Document document = new Document();
+        document.add(new StringField(ID, id(boardNo, postsNo), Field.Store.NO));
+        document.add(new IntPoint(BOARD_NO, boardNo));
+        document.add(new StoredField(POSTS_NO, postsNo));
+        document.add(new TextField(POSTS_TITLE, postsTitle == null ? "" : postsTitle, Field.Store.NO));
+        document.add(new TextField(POSTS_CONTENT, postsContent == null ? "" : postsContent, Field.Store.NO));
+        return document;
+    }
+
+    private static String id(Integer boardNo, Integer postsNo) {
+        return boardNo + ":" + postsNo;
+    }
+
+    /**
+     * actuator metrics 에 posts.search 지표를 등록한다.
+     *
+     * @param registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METER_NAME + ".queries", hitCount, AtomicLong::doubleValue)
+                .tag("source", "index")
+                .description("index 로 검색한 건수")
+                .register(registry);
+        FunctionCounter.builder(METER_NAME + ".queries", fallbackCount, AtomicLong::doubleValue)
+                .tag("source", "database")
+                .description("찾은 게시물이 많거나 index 오류로 DB 에서 검색한 건수")
+                .register(registry);
+    }
+
+    @FunctionalInterface
+    private interface IndexTask {
+        void run() throws IOException;
+    }
+
+    /**
+     * 소문자 2-gram 분석기, 한글처럼 띄어쓰기로 단어를 구분하기 어려운 경우에도 부분 문자열을 검색할 수 있다
+     */
+    private static class NGramAnalyzer extends Analyzer {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new NGramTokenizer(2, 2);
+            return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+        }
+    }
+
+}
@@ -5,13 +5,16 @@ import org.egovframe.cloud.boardservice.api.board.dto.BoardResponseDto;
 import org.egovframe.cloud.boardservice.api.posts.dto.*;
 import org.egovframe.cloud.boardservice.domain.posts.*;
 import org.egovframe.cloud.boardservice.service.board.BoardService;
+import org.egovframe.cloud.common.config.GlobalConstant;
 import org.egovframe.cloud.common.dto.AttachmentEntityMessage;
+import org.egovframe.cloud.common.dto.CursorPage;
+import org.egovframe.cloud.common.dto.CursorRequestDto;
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.common.exception.BusinessMessageException;
 import org.egovframe.cloud.common.exception.EntityNotFoundException;
 import org.egovframe.cloud.common.exception.InvalidValueException;
 import org.egovframe.cloud.common.service.AbstractService;
-import org.springframework.cloud.stream.function.StreamBridge;
+import org.egovframe.cloud.servlet.service.OutboxEventWriter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -38,6 +41,12 @@ import java.util.stream.Collectors;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/28    jooho       최초 생성
+ *  2026/10/17    jooho       첨부파일 이벤트를 outbox 로 발행
+ *  2026/10/17    jooho       게시물 조회 이력, 조회 수 일괄 반영
+ *  2026/10/17    jooho       조회 이력 filter 로 조회 여부 확인
+ *  2026/10/17    jooho       filter 사용 시에도 유저 게시물 조회 수 응답
+ *  2026/10/17    jooho       게시물 검색 index 반영
+ *  2026/10/17    jooho       게시물 커서 페이지 목록 조회 추가
  * </pre>
  */
 @Transactional(readOnly = true)
@@ -55,15 +64,30 @@ public class PostsService extends AbstractService {
      */
     private final PostsReadRepository postsReadRepository;
 
+    /**
+     * 게시물 조회 이력, 조회 수 일괄 입력 클래스
+     */
+    private final PostsReadWriter postsReadWriter;
+
+    /**
+     * 게시물 조회 이력 filter
+     */
+    private final PostsReadFilter postsReadFilter;
+
+    /**
+     * 게시물 검색 index
+     */
+    private final PostsSearchIndex postsSearchIndex;
+
     /**
      * 게시판 서비스 클래스
      */
     private final BoardService boardService;
 
     /**
-     * 이벤트 메시지 발행하기 위한 spring cloud stream 유틸리티 클래스
+     * 첨부파일 이벤트를 업무 데이터와 같은 트랜잭션에서 outbox 에 저장하는 클래스
      */
-    private final StreamBridge streamBridge;
+    private final OutboxEventWriter outboxEventWriter;
 
     /**
      * 조회 조건에 일치하는 게시물 페이지 목록 조회
@@ -79,6 +103,20 @@ public class PostsService extends AbstractService {
         return postsRepository.findPage(boardNo, deleteAt, requestDto, pageable);
     }
 
+    /**
+     * 조회 조건에 일치하는 게시물 커서 페이지 목록 조회
+     *
+     * @param boardNo          게시판 번호
+     * @param deleteAt         삭제 여부
+     * @param requestDto       요청 DTO
+     * @param cursorRequestDto 커서 페이징 요청 DTO
+     * @return CursorPage<PostsListResponseDto> 커서 페이지 게시물 목록 응답 DTO
+     */
+    public CursorPage<PostsListResponseDto> findCursorPage(Integer boardNo, Integer deleteAt, RequestDto requestDto, CursorRequestDto cursorRequestDto) {
+        if (boardNo == null || boardNo <= 0) throw new InvalidValueException(getMessage("err.invalid.input.value"));
+        return postsRepository.findCursorPage(boardNo, deleteAt, requestDto, cursorRequestDto);
+    }
+
     /**
      * 최근 게시물이 포함된 게시판 목록 조회
      *
@@ -117,7 +155,6 @@ public class PostsService extends AbstractService {
      * @param ipAddr  ip 주소
      * @return PostsResponseDto 게시물 응답 DTO
      */
-    @Transactional
     public PostsResponseDto findById(Integer boardNo, Integer postsNo, Integer deleteAt, String userId, String ipAddr) {
         return findById(boardNo, postsNo, deleteAt, userId, ipAddr, null);
     }
@@ -133,9 +170,11 @@ public class PostsService extends AbstractService {
      * @param requestDto 요청 DTO
      * @return PostsResponseDto 게시물 응답 DTO
      */
-    @Transactional
     public PostsResponseDto findById(Integer boardNo, Integer postsNo, Integer deleteAt, String userId, String ipAddr, RequestDto requestDto) throws EntityNotFoundException, BusinessMessageException {
-        PostsResponseDto dto = postsRepository.findById(boardNo, postsNo, userId, ipAddr);
+        // filter 를 사용할 수 있으면 유저 게시물 조회 수 subquery 를 실행하지 않는다
+        PostsResponseDto dto = postsReadFilter.isReady()
+                ? postsRepository.findById(boardNo, postsNo)
+                : postsRepository.findById(boardNo, postsNo, userId, ipAddr);
 
         if (dto == null) {
             throw new EntityNotFoundException("not found posts : "+ boardNo + ", " + postsNo + ", " + userId + ", " + ipAddr);
@@ -146,21 +185,12 @@ public class PostsService extends AbstractService {
             throw new BusinessMessageException(getMessage("err.posts.deleted"));
         }
 
-        if (dto.getUserPostsReadCount() == 0) {
-            // 게시판 조회 등록
-            Integer readNo = postsReadRepository.findNextReadNo(boardNo, postsNo);
-            PostsRead postsRead = PostsRead.builder()
-                    .boardNo(boardNo)
-                    .postsNo(postsNo)
-                    .readNo(readNo)
-                    .userId(userId)
-                    .ipAddr(ipAddr)
-                    .build();
+        // filter 로 조회 여부를 확인한 경우에도 응답에 유저 게시물 조회 수를 설정한다
+        dto.setUserPostsReadCount(countUserPostsRead(dto, userId, ipAddr));
 
-            postsReadRepository.save(postsRead);
-
-            // 조회 수 증가
-            postsRepository.updateReadCount(boardNo, postsNo);
+        // 게시물 조회 이력 등록, 조회 수 증가는 PostsReadWriter 가 일괄 반영한다
+        if (dto.getUserPostsReadCount() == 0 && postsReadWriter.write(boardNo, postsNo, userId, ipAddr)) {
+            postsReadFilter.put(boardNo, postsNo, userId, ipAddr);
 
             // dto 조회 수 증가
             dto.increaseReadCount();
@@ -177,6 +207,25 @@ public class PostsService extends AbstractService {
         return dto;
     }
 
+    /**
+     * 유저 게시물 조회 수 조회
+     * 조회 이력 filter 에 없으면 조회하지 않은 것으로 판단하고, filter 에 있을 수 있는 경우에만 DB 에서 확인한다.
+     *
+     * @param dto    게시물 응답 DTO
+     * @param userId 사용자 id
+     * @param ipAddr ip 주소
+     * @return Long 유저 게시물 조회 수
+     */
+    private Long countUserPostsRead(PostsResponseDto dto, String userId, String ipAddr) {
+        if (dto.getUserPostsReadCount() != null) {
+            return dto.getUserPostsReadCount();
+        }
+        if (!postsReadFilter.mightContain(dto.getBoardNo(), dto.getPostsNo(), userId, ipAddr)) {
+            return 0L;
+        }
+        return postsReadRepository.countByBoardNoAndPostsNoAndUserId(dto.getBoardNo(), dto.getPostsNo(), userId, ipAddr);
+    }
+
     /**
      * 게시물 등록
      *
@@ -197,6 +246,8 @@ public class PostsService extends AbstractService {
             sendAttachmentEvent(entity);
         }
 
+        postsSearchIndex.index(entity);
+
         return new PostsResponseDto(entity);
     }
 
@@ -215,6 +266,8 @@ public class PostsService extends AbstractService {
         // 수정
         entity.update(requestDto.getPostsTitle(), requestDto.getPostsContent(), requestDto.getPostsAnswerContent(), requestDto.getAttachmentCode(), requestDto.getNoticeAt());
 
+        postsSearchIndex.index(entity);
+
         return new PostsResponseDto(entity);
     }
 
@@ -263,6 +316,8 @@ public class PostsService extends AbstractService {
 
         // 일괄 처리
         postsRepository.deleteAll(deleteEntityList);
+
+        requestDtoList.forEach(requestDto -> postsSearchIndex.delete(requestDto.getBoardNo(), requestDto.getPostsNo()));
     }
 
     /**
@@ -285,6 +340,8 @@ public class PostsService extends AbstractService {
          */
         sendAttachmentEvent(entity);
 
+        postsSearchIndex.index(entity);
+
         return new PostsResponseDto(entity);
     }
 
@@ -304,6 +361,8 @@ public class PostsService extends AbstractService {
         // 수정
         entity.update(requestDto.getPostsTitle(), requestDto.getPostsContent(), requestDto.getAttachmentCode());
 
+        postsSearchIndex.index(entity);
+
         return new PostsResponseDto(entity);
     }
 
@@ -384,7 +443,8 @@ public class PostsService extends AbstractService {
     }
 
     /**
-     * 첨부파일 entity 정보 업데이트 하기 위해 이벤트 메세지 발행
+     * 첨부파일 entity 정보 업데이트 하기 위해 이벤트 메세지를 outbox 에 저장
+     * 게시물과 같은 트랜잭션에서 저장되며 커밋 후 발행된다.
      *
      * @param entity
      */
@@ -392,7 +452,7 @@ public class PostsService extends AbstractService {
         if (!StringUtils.hasText(entity.getAttachmentCode())) {
             return;
         }
-        sendAttachmentEntityInfo(streamBridge,
+        outboxEventWriter.write(GlobalConstant.ATTACHMENT_ENTITY_BINDING_NAME, entity.getAttachmentCode(),
             AttachmentEntityMessage.builder()
                 .attachmentCode(entity.getAttachmentCode())
                 .entityName(entity.getClass().getName())
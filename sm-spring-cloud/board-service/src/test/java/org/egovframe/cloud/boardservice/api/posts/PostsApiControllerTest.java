@@ -17,6 +17,8 @@ import org.egovframe.cloud.boardservice.domain.board.Board;
 import org.egovframe.cloud.boardservice.domain.board.BoardRepository;
 import org.egovframe.cloud.boardservice.domain.posts.Posts;
 import org.egovframe.cloud.boardservice.domain.posts.PostsId;
+import org.egovframe.cloud.boardservice.domain.posts.PostsReadRepository;
+import org.egovframe.cloud.boardservice.domain.posts.PostsReadWriter;
 import org.egovframe.cloud.boardservice.domain.posts.PostsRepository;
 import org.egovframe.cloud.boardservice.util.RestResponsePage;
 import org.junit.jupiter.api.AfterEach;
@@ -56,6 +58,11 @@ import lombok.extern.slf4j.Slf4j;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/08/10    jooho       최초 생성
+ *  2026/10/17    jooho       게시물 조회 수 일괄 반영 테스트 추가
+ *  2026/10/17    jooho       게시물 커서 페이지 목록 조회 테스트 추가
+ *  2026/10/17    jooho       게시물 조회 수 일괄 반영 테스트에서 대기 대신 flush 후 확인
+ *  2026/10/17    jooho       유저 게시물 조회 수, 조회 이력 중복 입력 제외 테스트 추가
+ *  2026/10/17    jooho       검색 index 미사용 시 DB 검색어 조회 테스트 추가
  * </pre>
  */
 @Slf4j
@@ -83,6 +90,18 @@ class PostsApiControllerTest {
     @Autowired
     PostsRepository postsRepository;
 
+    /**
+     * 게시물 조회 레파지토리 인터페이스
+     */
+    @Autowired
+    PostsReadRepository postsReadRepository;
+
+    /**
+     * 게시물 조회 이력 일괄 입력 클래스
+     */
+    @Autowired
+    PostsReadWriter postsReadWriter;
+
     /**
      * 게시물 API 경로
      */
@@ -144,6 +163,7 @@ class PostsApiControllerTest {
     void tearDown() {
         log.info("###tearDown");
 
+        postsReadRepository.deleteAll();
         postsRepository.deleteAll();
 
         // 게시판 삭제
@@ -222,6 +242,32 @@ class PostsApiControllerTest {
                 .has(new Condition<>(l -> (INSERT_POSTS_TITLE + "6").equals(l.get(1).getPostsTitle()) && l.get(0).getNoticeAt(), "PostsApiControllerTest.findPage contains [notice] " + INSERT_POSTS_TITLE + "6"));
     }
 
+    /**
+     * 검색 index 를 사용할 수 없으면 DB 에서 검색어로 조회
+     * 테스트는 posts.search.enabled: false 이므로 index 가 준비되지 않은 경우와 같다
+     */
+    @Test
+    void 검색_index_미사용시_DB에서_검색어_조회() {
+        log.info("###검색_index_미사용시_DB에서_검색어_조회");
+
+        // given
+        insertPosts(null);
+
+        String url = URL + "/" + board.getBoardNo() + "?page=0&size=" + GIVEN_DATA_COUNT;
+
+        // when
+        List<PostsListResponseDto> content = findPageContent(url + "&keywordType=postsContent&keyword=" + INSERT_POSTS_CONTENT + "10");
+        List<PostsListResponseDto> data = findPageContent(url + "&keywordType=postsData&keyword=내용1");
+        List<PostsListResponseDto> oneCharacter = findPageContent(url + "&keywordType=postsTitle&keyword=1");
+
+        // then
+        assertThat(content).extracting(PostsListResponseDto::getPostsTitle).containsExactly(INSERT_POSTS_TITLE + "10");
+        assertThat(data).extracting(PostsListResponseDto::getPostsTitle)
+                .containsExactlyInAnyOrder(INSERT_POSTS_TITLE + "1", INSERT_POSTS_TITLE + "10");
+        assertThat(oneCharacter).extracting(PostsListResponseDto::getPostsTitle)
+                .containsExactlyInAnyOrder(INSERT_POSTS_TITLE + "1", INSERT_POSTS_TITLE + "10");
+    }
+
     /**
      * 게시물 삭제제외 페이지 목록 조회
      */
@@ -257,6 +303,52 @@ class PostsApiControllerTest {
                 .has(new Condition<>(l -> (INSERT_POSTS_TITLE + "10").equals(l.get(1).getPostsTitle()) && l.get(0).getNoticeAt(), "PostsApiControllerTest.findPage contains [notice] " + INSERT_POSTS_TITLE + "10"));
     }
 
+    /**
+     * 게시물 삭제포함 커서 페이지 목록 조회
+     */
+    @Test
+    void 게시물_삭제포함_커서_페이지_목록_조회() throws JsonMappingException, JsonProcessingException {
+        log.info("###게시물_삭제포함_커서_페이지_목록_조회");
+
+        // given
+        insertPosts(null);
+
+        String url = URL + "/" + board.getBoardNo();
+        String queryString = "?keywordType=postsTitle&keyword=" + INSERT_POSTS_TITLE; // 검색 조건
+        queryString += "&size=4&count=true"; // 페이지 정보
+
+        // when
+        List<String> postsTitles = new ArrayList<>();
+        List<Boolean> hasNexts = new ArrayList<>();
+        String cursor = "";
+        Long totalElements = null;
+        ObjectMapper mapper = new ObjectMapper();
+        do {
+            ResponseEntity<String> responseEntity = restTemplate.exchange(
+                    url + queryString + "&cursor=" + cursor,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<String>() {
+                    }
+            );
+            assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+            JsonNode data = mapper.readTree(responseEntity.getBody());
+            data.get("content").forEach(node -> postsTitles.add(node.get("postsTitle").asText()));
+            hasNexts.add(data.get("hasNext").asBoolean());
+            totalElements = data.get("totalElements").asLong();
+            cursor = data.get("nextCursor").isNull() ? null : data.get("nextCursor").asText();
+        } while (cursor != null);
+
+        // then
+        assertThat(hasNexts).containsExactly(true, true, false);
+        assertThat(totalElements).isEqualTo(GIVEN_DATA_COUNT.longValue());
+        assertThat(postsTitles).containsExactly(
+                INSERT_POSTS_TITLE + "9", INSERT_POSTS_TITLE + "6", INSERT_POSTS_TITLE + "3", // 공지
+                INSERT_POSTS_TITLE + "10", INSERT_POSTS_TITLE + "8", INSERT_POSTS_TITLE + "7", INSERT_POSTS_TITLE + "5",
+                INSERT_POSTS_TITLE + "4", INSERT_POSTS_TITLE + "2", INSERT_POSTS_TITLE + "1");
+    }
+
     /**
      * 게시물 삭제포함 단건 조회
      */
@@ -294,6 +386,64 @@ class PostsApiControllerTest {
         assertThat(dto.getDeleteAt()).isEqualTo(post.getDeleteAt());
     }
 
+    /**
+     * 게시물 조회 이력, 조회 수 일괄 반영
+     */
+    @Test
+    void 게시물_조회수_일괄_반영() throws Exception {
+        log.info("###게시물_조회수_일괄_반영");
+
+        // given
+        final Posts post = insertPost(1);
+
+        String url = URL + "/" + post.getPostsId().getBoardNo() + "/" + post.getPostsId().getPostsNo();
+
+        // when
+        PostsResponseDto first = restTemplate.getForObject(url, PostsResponseDto.class);
+        postsReadWriter.flush();
+        PostsResponseDto second = restTemplate.getForObject(url, PostsResponseDto.class);
+        postsReadWriter.flush();
+
+        // then
+        assertThat(first.getReadCount()).isEqualTo(post.getReadCount() + 1);
+        assertThat(first.getUserPostsReadCount()).isEqualTo(0L);
+        assertThat(second.getReadCount()).isEqualTo(post.getReadCount() + 1);
+        assertThat(second.getUserPostsReadCount()).isEqualTo(1L);
+        assertThat(selectData(post.getPostsId().getBoardNo(), post.getPostsId().getPostsNo()).map(Posts::getReadCount))
+                .hasValue(post.getReadCount() + 1);
+        assertThat(postsReadRepository.countByBoardNoAndPostsNoAndUserId(post.getPostsId().getBoardNo(), post.getPostsId().getPostsNo(), null, null)).isEqualTo(1L);
+    }
+
+    /**
+     * 이미 입력된 조회 이력과 같은 사용자, ip 의 조회 이력은 입력하지 않고 조회 수도 증가하지 않는다
+     */
+    @Test
+    void 게시물_조회이력_중복입력_제외() throws Exception {
+        log.info("###게시물_조회이력_중복입력_제외");
+
+        // given
+        final Posts post = insertPost(1);
+        Integer boardNo = post.getPostsId().getBoardNo();
+        Integer postsNo = post.getPostsId().getPostsNo();
+
+        // when
+        // 다른 인스턴스가 같은 조회 이력을 입력한 경우처럼 입력 후 같은 조회 이력을 다시 입력한다
+        boolean firstWritten = postsReadWriter.write(boardNo, postsNo, "user1", "127.0.0.1");
+        postsReadWriter.flush();
+        boolean secondWritten = postsReadWriter.write(boardNo, postsNo, "user1", "127.0.0.1");
+        postsReadWriter.flush();
+        boolean otherUserWritten = postsReadWriter.write(boardNo, postsNo, "user2", "127.0.0.1");
+        postsReadWriter.flush();
+
+        // then
+        assertThat(firstWritten).isTrue();
+        assertThat(secondWritten).isTrue();
+        assertThat(otherUserWritten).isTrue();
+        assertThat(postsReadRepository.countByBoardNoAndPostsNoAndUserId(boardNo, postsNo, "user1", "127.0.0.1")).isEqualTo(1L);
+        assertThat(postsReadRepository.countByBoardNoAndPostsNoAndUserId(boardNo, postsNo, null, null)).isEqualTo(2L);
+        assertThat(selectData(boardNo, postsNo).map(Posts::getReadCount)).hasValue(post.getReadCount() + 2);
+    }
+
     /**
      * 게시물 삭제제외 단건 조회
      */
@@ -646,6 +796,25 @@ class PostsApiControllerTest {
         assertThat(list.size()).isZero();
     }
 
+    /**
+     * 게시물 페이지 목록 조회
+     *
+     * @param url 조회 url
+     * @return List<PostsListResponseDto> 게시물 목록
+     */
+    private List<PostsListResponseDto> findPageContent(String url) {
+        ResponseEntity<RestResponsePage<PostsListResponseDto>> responseEntity = restTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<RestResponsePage<PostsListResponseDto>>() {
+                }
+        );
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        return responseEntity.getBody().getContent();
+    }
+
     /**
      * 테스트 데이터 등록
      */
@@ -0,0 +1,174 @@
+package org.egovframe.cloud.boardservice.domain.posts;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * org.egovframe.cloud.boardservice.domain.posts.PostsReadFilterTest
+ * <p>
+ * 게시물 조회 이력 filter 테스트 클래스
+ *
+ * @author 표준프레임워크센터 jooho
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jooho       최초 생성
+ * </pre>
+ */
+class PostsReadFilterTest {
+
+    private static final long EXPECTED_INSERTIONS = 1000;
+
+    private static final double FPP = 0.001;
+
+    private static final long LOAD_TIMEOUT_MILLIS = 5000;
+
+    private DriverManagerDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:postsReadFilter;MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table posts_read (board_no int not null, posts_no int not null, read_no int not null, "
+                + "user_id varchar(255), ip_addr varchar(100), created_date timestamp, primary key (board_no, posts_no, read_no))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop table posts_read");
+    }
+
+    @Test
+    void 적재_전에는_항상_DB에서_확인() throws Exception {
+        // given
+        PostsReadFilter filter = createFilter(EXPECTED_INSERTIONS, "");
+
+        // then
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContain(1, 1, "user1", "127.0.0.1")).isTrue();
+    }
+
+    @Test
+    void 조회이력을_적재하면_사용자와_ip로_조회여부를_판단() throws Exception {
+        // given
+        insertPostsRead(1, 1, 1, "user1", "127.0.0.1", LocalDateTime.now());
+        insertPostsRead(1, 1, 2, null, "127.0.0.2", LocalDateTime.now());
+        PostsReadFilter filter = createFilter(EXPECTED_INSERTIONS, "");
+
+        // when
+        startAndAwait(filter);
+
+        // then
+        assertThat(filter.isReady()).isTrue();
+        // 같은 사용자, ip
+        assertThat(filter.mightContain(1, 1, "user1", "127.0.0.1")).isTrue();
+        // 사용자 id 가 없으면 ip 만으로 확인한다
+        assertThat(filter.mightContain(1, 1, null, "127.0.0.1")).isTrue();
+        assertThat(filter.mightContain(1, 1, null, "127.0.0.2")).isTrue();
+        // 같은 ip 라도 다른 사용자는 조회하지 않은 것으로 판단한다
+        assertThat(filter.mightContain(1, 1, "user2", "127.0.0.1")).isFalse();
+        assertThat(filter.mightContain(1, 1, "user2", "127.0.0.2")).isFalse();
+        // 다른 게시물
+        assertThat(filter.mightContain(1, 2, "user1", "127.0.0.1")).isFalse();
+        // ip 가 없으면 DB 에서 확인한다
+        assertThat(filter.mightContain(1, 2, "user1", null)).isTrue();
+    }
+
+    @Test
+    void 조회이력을_추가하면_조회한것으로_판단() throws Exception {
+        // given
+        PostsReadFilter filter = createFilter(EXPECTED_INSERTIONS, "");
+        startAndAwait(filter);
+
+        // when
+        boolean before = filter.mightContain(1, 1, "user1", "127.0.0.1");
+        filter.put(1, 1, "user1", "127.0.0.1");
+
+        // then
+        assertThat(before).isFalse();
+        assertThat(filter.mightContain(1, 1, "user1", "127.0.0.1")).isTrue();
+        assertThat(filter.mightContain(1, 1, null, "127.0.0.1")).isTrue();
+    }
+
+    @Test
+    void snapshot_으로_복원하면_기준시각_이후의_조회이력만_다시_읽음() throws Exception {
+        // given
+        String snapshotPath = tempDir.resolve("posts-read.filter").toString();
+        insertPostsRead(1, 1, 1, "user1", "127.0.0.1", LocalDateTime.now().minusDays(1));
+        PostsReadFilter first = createFilter(EXPECTED_INSERTIONS, snapshotPath);
+        startAndAwait(first);
+        first.stop();
+
+        // snapshot 에만 있는 조회 이력, 기준 시각 이전에 늦게 입력된 조회 이력, 기준 시각 이후의 조회 이력
+        jdbcTemplate.update("delete from posts_read");
+        insertPostsRead(1, 2, 1, "user2", "127.0.0.2", LocalDateTime.now().minusDays(1));
+        insertPostsRead(1, 3, 1, "user3", "127.0.0.3", LocalDateTime.now());
+
+        // when
+        PostsReadFilter second = createFilter(EXPECTED_INSERTIONS, snapshotPath);
+        startAndAwait(second);
+
+        // then
+        assertThat(Files.exists(tempDir.resolve("posts-read.filter"))).isTrue();
+        assertThat(second.mightContain(1, 1, "user1", "127.0.0.1")).isTrue();
+        assertThat(second.mightContain(1, 2, "user2", "127.0.0.2")).isFalse();
+        assertThat(second.mightContain(1, 3, "user3", "127.0.0.3")).isTrue();
+    }
+
+    @Test
+    void 설정이_변경되면_snapshot_을_사용하지_않고_전체를_다시_읽음() throws Exception {
+        // given
+        String snapshotPath = tempDir.resolve("posts-read.filter").toString();
+        insertPostsRead(1, 1, 1, "user1", "127.0.0.1", LocalDateTime.now().minusDays(1));
+        PostsReadFilter first = createFilter(EXPECTED_INSERTIONS, snapshotPath);
+        startAndAwait(first);
+        first.stop();
+
+        jdbcTemplate.update("delete from posts_read");
+        insertPostsRead(1, 2, 1, "user2", "127.0.0.2", LocalDateTime.now().minusDays(1));
+
+        // when
+        PostsReadFilter second = createFilter(EXPECTED_INSERTIONS * 2, snapshotPath);
+        startAndAwait(second);
+
+        // then
+        assertThat(second.mightContain(1, 1, "user1", "127.0.0.1")).isFalse();
+        assertThat(second.mightContain(1, 2, "user2", "127.0.0.2")).isTrue();
+    }
+
+    private PostsReadFilter createFilter(long expectedInsertions, String snapshotPath) {
+        return new PostsReadFilter(dataSource, true, expectedInsertions, FPP, 100, snapshotPath);
+    }
+
+    private void startAndAwait(PostsReadFilter filter) throws InterruptedException {
+        filter.start();
+        filter.awaitLoaded(LOAD_TIMEOUT_MILLIS);
+    }
+
+    private void insertPostsRead(int boardNo, int postsNo, int readNo, String userId, String ipAddr, LocalDateTime createdDate) {
+        jdbcTemplate.update("insert into posts_read (board_no, posts_no, read_no, user_id, ip_addr, created_date) values (?, ?, ?, ?, ?, ?)",
+                boardNo, postsNo, readNo, userId, ipAddr, Timestamp.valueOf(createdDate));
+    }
+
+}
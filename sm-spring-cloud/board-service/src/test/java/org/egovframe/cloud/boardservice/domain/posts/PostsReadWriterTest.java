@@ -0,0 +1,120 @@
+package org.egovframe.cloud.boardservice.domain.posts;
+
+import org.egovframe.cloud.servlet.service.BufferedEventSink.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * org.egovframe.cloud.boardservice.domain.posts.PostsReadWriterTest
+ * <p>
+ * 게시물 조회 이력 일괄 입력 테스트 클래스
+ * 백그라운드 스레드를 시작하지 않고 flush 로 입력 시점을 정한다.
+ *
+ * @author 표준프레임워크센터 jooho
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jooho       최초 생성
+ * </pre>
+ */
+class PostsReadWriterTest {
+
+    private static final int BUFFER_SIZE = 2;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:postsReadWriter;MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate.execute("create table posts (board_no int not null, posts_no int not null, read_count int not null, "
+                + "primary key (board_no, posts_no))");
+        jdbcTemplate.execute("create table posts_read (board_no int not null, posts_no int not null, read_no int not null, "
+                + "user_id varchar(255), ip_addr varchar(100), created_date timestamp, primary key (board_no, posts_no, read_no))");
+        jdbcTemplate.update("insert into posts (board_no, posts_no, read_count) values (1, 1, 0)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop table posts_read");
+        jdbcTemplate.execute("drop table posts");
+    }
+
+    @Test
+    void 입력_대기중인_같은_조회_이력은_기록하지_않음() {
+        // given
+        PostsReadWriter writer = createWriter(OverflowPolicy.DROP);
+        assertThat(writer.write(1, 1, "user1", "127.0.0.1")).isTrue();
+
+        // when
+        boolean written = writer.write(1, 1, "user1", "127.0.0.1");
+
+        // then
+        assertThat(written).isFalse();
+        writer.flush();
+        assertThat(writer.isPending(1, 1, "user1", "127.0.0.1")).isFalse();
+        assertThat(readCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 버퍼_초과로_버린_조회_이력은_대기_키에서_제거() {
+        // given
+        PostsReadWriter writer = createWriter(OverflowPolicy.DROP);
+        assertThat(writer.write(1, 1, "user1", "127.0.0.1")).isTrue();
+        assertThat(writer.write(1, 1, "user2", "127.0.0.1")).isTrue();
+
+        // when
+        boolean written = writer.write(1, 1, "user3", "127.0.0.1");
+
+        // then
+        assertThat(written).isFalse();
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+        assertThat(writer.isPending(1, 1, "user3", "127.0.0.1")).isFalse();
+
+        // 버퍼가 비면 버렸던 사용자의 조회를 다시 기록한다
+        writer.flush();
+        assertThat(writer.write(1, 1, "user3", "127.0.0.1")).isTrue();
+        writer.flush();
+        assertThat(writer.isPending(1, 1, "user3", "127.0.0.1")).isFalse();
+        assertThat(readCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 버퍼_초과시_CALLER_RUNS_이면_바로_입력() {
+        // given
+        PostsReadWriter writer = createWriter(OverflowPolicy.CALLER_RUNS);
+        writer.write(1, 1, "user1", "127.0.0.1");
+        writer.write(1, 1, "user2", "127.0.0.1");
+
+        // when
+        boolean written = writer.write(1, 1, "user3", "127.0.0.1");
+
+        // then
+        assertThat(written).isTrue();
+        assertThat(writer.isPending(1, 1, "user3", "127.0.0.1")).isFalse();
+        assertThat(readCount()).isEqualTo(1);
+    }
+
+    private PostsReadWriter createWriter(OverflowPolicy overflowPolicy) {
+        return new PostsReadWriter(jdbcTemplate, transactionManager, BUFFER_SIZE, 100, 1000L, overflowPolicy);
+    }
+
+    private int readCount() {
+        return jdbcTemplate.queryForObject("select read_count from posts where board_no = 1 and posts_no = 1", Integer.class);
+    }
+
+}
@@ -0,0 +1,249 @@
+package org.egovframe.cloud.boardservice.domain.posts;
+
+import org.egovframe.cloud.boardservice.domain.board.Board;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * org.egovframe.cloud.boardservice.domain.posts.PostsSearchIndexTest
+ * <p>
+ * 게시물 검색 index 테스트 클래스
+ *
+ * @author 표준프레임워크센터 jooho
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jooho       최초 생성
+ * </pre>
+ */
+class PostsSearchIndexTest {
+
+    private static final long READY_TIMEOUT_MILLIS = 5000;
+
+    /**
+     * 테스트에서는 주기적 색인을 직접 호출한다
+     */
+    private static final long SYNC_INTERVAL_MILLIS = 3600000;
+
+    private DriverManagerDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<PostsSearchIndex> indexes = new ArrayList<>();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:postsSearchIndex;MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table posts (board_no int not null, posts_no int not null, posts_title varchar(100), "
+                + "posts_content clob, modified_date timestamp, primary key (board_no, posts_no))");
+        insertPosts(1, 1, "전자정부 표준프레임워크 게시판", "안녕하세요 Spring Cloud 예제입니다", LocalDateTime.now().minusDays(1));
+        insertPosts(1, 2, "공지사항", "표준프레임워크 교육 안내", LocalDateTime.now().minusDays(1));
+        insertPosts(2, 1, "표준프레임워크", "다른 게시판", LocalDateTime.now().minusDays(1));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (PostsSearchIndex index : indexes) {
+            index.stop();
+        }
+        jdbcTemplate.execute("drop table posts");
+    }
+
+    @Test
+    void 색인_전에는_DB에서_검색() throws Exception {
+        // given
+        PostsSearchIndex index = createIndex("", 5000);
+
+        // then
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.search(1, "postsTitle", "표준프레임워크")).isNull();
+    }
+
+    @Test
+    void 기동시_전체_색인후_한글_부분문자열_검색() throws Exception {
+        // given
+        PostsSearchIndex index = createIndex("", 5000);
+
+        // when
+        startAndAwait(index);
+
+        // then
+        assertThat(index.search(1, "postsTitle", "표준프레임")).containsExactly(1);
+        assertThat(index.search(1, "postsTitle", "게시판")).containsExactly(1);
+        assertThat(index.search(1, "postsTitle", "공지")).containsExactly(2);
+        assertThat(index.search(1, "postsContent", "spring CLOUD")).containsExactly(1);
+        assertThat(index.search(1, "postsData", "표준프레임워크")).containsExactlyInAnyOrder(1, 2);
+        assertThat(index.search(2, "postsData", "표준프레임워크")).containsExactly(1);
+        // like '%정부표준%' 과 같이 띄어쓰기가 다르면 찾지 않는다
+        assertThat(index.search(1, "postsTitle", "정부표준")).isEmpty();
+        assertThat(index.search(1, "postsTitle", "교육")).isEmpty();
+    }
+
+    @Test
+    void 한글자_검색어와_알수없는_검색구분은_DB에서_검색() throws Exception {
+        // given
+        PostsSearchIndex index = createIndex("", 5000);
+
+        // when
+        startAndAwait(index);
+
+        // then
+        assertThat(index.search(1, "postsTitle", "표")).isNull();
+        assertThat(index.search(1, "postsTitle", "")).isNull();
+        assertThat(index.search(1, "createdBy", "표준")).isNull();
+    }
+
+    @Test
+    void 찾은_게시물이_많으면_DB에서_검색() throws Exception {
+        // given
+        PostsSearchIndex index = createIndex("", 1);
+
+        // when
+        startAndAwait(index);
+
+        // then
+        assertThat(index.search(1, "postsData", "표준프레임워크")).isNull();
+        assertThat(index.search(1, "postsTitle", "공지")).containsExactly(2);
+    }
+
+    @Test
+    void 게시물_수정_삭제는_즉시_반영() throws Exception {
+        // given
+        PostsSearchIndex index = createIndex("", 5000);
+        startAndAwait(index);
+
+        // when
+        index.index(posts(1, 2, "행사 일정", "표준프레임워크 교육 안내"));
+        List<Integer> oldTitle = index.search(1, "postsTitle", "공지");
+        List<Integer> newTitle = index.search(1, "postsTitle", "행사");
+        index.delete(1, 1);
+
+        // then
+        assertThat(oldTitle).isEmpty();
+        assertThat(newTitle).containsExactly(2);
+        assertThat(index.search(1, "postsData", "표준프레임워크")).containsExactly(2);
+    }
+
+    @Test
+    void 트랜잭션_중에는_커밋후_반영() throws Exception {
+        // given
+        PostsSearchIndex index = createIndex("", 5000);
+        startAndAwait(index);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        List<List<Integer>> inTransaction = new ArrayList<>();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            index.index(posts(1, 2, "행사 일정", "표준프레임워크 교육 안내"));
+            index.delete(1, 1);
+            inTransaction.add(index.search(1, "postsTitle", "행사"));
+            inTransaction.add(index.search(1, "postsTitle", "게시판"));
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            index.index(posts(1, 3, "롤백 게시물", ""));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(inTransaction.get(0)).isEmpty();
+        assertThat(inTransaction.get(1)).containsExactly(1);
+        assertThat(index.search(1, "postsTitle", "행사")).containsExactly(2);
+        assertThat(index.search(1, "postsTitle", "게시판")).isEmpty();
+        assertThat(index.search(1, "postsTitle", "롤백")).isEmpty();
+    }
+
+    @Test
+    void 다른_인스턴스에서_수정된_게시물은_주기적_색인으로_반영() throws Exception {
+        // given
+        PostsSearchIndex index = createIndex("", 5000);
+        startAndAwait(index);
+
+        // when
+        jdbcTemplate.update("update posts set posts_title = ?, modified_date = ? where board_no = 1 and posts_no = 2",
+                "행사 일정", Timestamp.valueOf(LocalDateTime.now()));
+        insertPosts(1, 3, "새 게시물", "새 내용", LocalDateTime.now());
+        index.sync();
+
+        // then
+        assertThat(index.search(1, "postsTitle", "공지")).isEmpty();
+        assertThat(index.search(1, "postsTitle", "행사")).containsExactly(2);
+        assertThat(index.search(1, "postsContent", "새 내용")).containsExactly(3);
+    }
+
+    @Test
+    void 저장된_index_는_기준시각_이후_수정된_게시물만_다시_색인() throws Exception {
+        // given
+        String indexPath = tempDir.resolve("posts-index").toString();
+        PostsSearchIndex first = createIndex(indexPath, 5000);
+        startAndAwait(first);
+        first.stop();
+        indexes.remove(first);
+
+        // 기준 시각 이전에 수정된 게시물은 다시 색인하지 않는다
+        jdbcTemplate.update("update posts set posts_title = ? where board_no = 1 and posts_no = 1", "색인되지 않는 제목");
+        jdbcTemplate.update("update posts set posts_title = ?, modified_date = ? where board_no = 1 and posts_no = 2",
+                "행사 일정", Timestamp.valueOf(LocalDateTime.now()));
+
+        // when
+        PostsSearchIndex second = createIndex(indexPath, 5000);
+        startAndAwait(second);
+
+        // then
+        assertThat(second.search(1, "postsTitle", "게시판")).containsExactly(1);
+        assertThat(second.search(1, "postsTitle", "색인되지")).isEmpty();
+        assertThat(second.search(1, "postsTitle", "행사")).containsExactly(2);
+
+        // 전체 다시 색인하면 모두 반영된다
+        second.rebuild();
+        assertThat(second.search(1, "postsTitle", "색인되지")).containsExactly(1);
+    }
+
+    private PostsSearchIndex createIndex(String indexPath, int maxCandidates) {
+        PostsSearchIndex index = new PostsSearchIndex(dataSource, true, indexPath, maxCandidates, SYNC_INTERVAL_MILLIS);
+        indexes.add(index);
+        return index;
+    }
+
+    private void startAndAwait(PostsSearchIndex index) throws Exception {
+        index.start();
+        assertThat(index.awaitReady(READY_TIMEOUT_MILLIS)).isTrue();
+    }
+
+    private void insertPosts(int boardNo, int postsNo, String postsTitle, String postsContent, LocalDateTime modifiedDate) {
+        jdbcTemplate.update("insert into posts (board_no, posts_no, posts_title, posts_content, modified_date) values (?, ?, ?, ?, ?)",
+                boardNo, postsNo, postsTitle, postsContent, Timestamp.valueOf(modifiedDate));
+    }
+
+    private Posts posts(int boardNo, int postsNo, String postsTitle, String postsContent) {
+        return Posts.builder()
+                .board(Board.builder().boardNo(boardNo).build())
+                .postsId(PostsId.builder().boardNo(boardNo).postsNo(postsNo).build())
+                .postsTitle(postsTitle)
+                .postsContent(postsContent)
+                .build();
+    }
+
+}
@@ -6,8 +6,11 @@ import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.common.exception.BusinessMessageException;
 import org.egovframe.cloud.portalservice.api.attachment.dto.*;
 import org.egovframe.cloud.portalservice.service.attachment.AttachmentService;
+import org.egovframe.cloud.portalservice.utils.PortalUtils;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -17,10 +20,12 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * org.egovframe.cloud.portalservice.api.attachment.AttachmentApiController
@@ -37,6 +42,11 @@ import java.util.List;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/14    shinmj  최초 생성
+ *  2026/10/17    shinmj  이미지 조회를 byte[] 대신 Resource 로 응답하여 Range, 조건부 요청 지원
+ *  2026/10/17    shinmj  이미지 조회 시 크기 변환 파라미터(w, h) 추가
+ *  2026/10/17    shinmj  내용 해시 기반 첨부파일 다운로드 시 ETag, immutable 캐시 헤더 추가
+ *  2026/10/17    shinmj  이어받기 가능한 분할 업로드 API 추가
+ *  2026/10/17    shinmj  내용 해시 기반 첨부파일 다운로드 시 원본 파일명으로 content type 판단
  * </pre>
  */
 @Slf4j
@@ -76,6 +86,73 @@ public class AttachmentApiController {
         return attachmentService.uploadFiles(files);
     }
 
+    /**
+     * 첨부파일 분할 업로드 시작
+     * 빈 .temp 파일을 만들고 업로드 id 를 리턴한다.
+     * 조각 업로드 후 완료하면 단건 업로드와 같은 .temp 파일 정보를 리턴하므로 추후 저장 필요
+     *
+     * @param requestDto
+     * @return
+     */
+    @PostMapping(value = "/api/v1/upload/chunk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public AttachmentChunkResponseDto initChunkUpload(@RequestBody AttachmentChunkInitRequestDto requestDto) {
+        return attachmentService.initChunkUpload(requestDto);
+    }
+
+    /**
+     * 첨부파일 분할 업로드 상태 조회
+     * 연결이 끊긴 경우 응답의 offset 부터 이어서 업로드한다.
+     *
+     * @param uploadId
+     * @return
+     */
+    @GetMapping(value = "/api/v1/upload/chunk/{uploadId}")
+    public AttachmentChunkResponseDto findChunkUpload(@PathVariable String uploadId) {
+        return attachmentService.findChunkUpload(uploadId);
+    }
+
+    /**
+     * 첨부파일 분할 업로드 조각 저장
+     * 요청 본문(application/octet-stream)을 multipart 로 받지 않고 스트림으로 읽어 .temp 파일에 바로 쓴다.
+     *
+     * @param uploadId
+     * @param offset      조각의 시작 위치
+     * @param inputStream 요청 본문
+     * @return
+     */
+    @PutMapping(value = "/api/v1/upload/chunk/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public AttachmentChunkResponseDto uploadChunk(@PathVariable String uploadId,
+                                                  @RequestParam("offset") long offset,
+                                                  InputStream inputStream) {
+        return attachmentService.uploadChunk(uploadId, offset, inputStream);
+    }
+
+    /**
+     * 첨부파일 분할 업로드 완료
+     * 받은 크기와 SHA-256 해시를 검증하고 .temp 파일 정보를 리턴한다.
+     *
+     * @param uploadId
+     * @param requestDto
+     * @return
+     */
+    @PostMapping(value = "/api/v1/upload/chunk/{uploadId}/complete")
+    public AttachmentFileResponseDto completeChunkUpload(@PathVariable String uploadId,
+                                                         @RequestBody AttachmentChunkCompleteRequestDto requestDto) {
+        return attachmentService.completeChunkUpload(uploadId, requestDto);
+    }
+
+    /**
+     * 첨부파일 분할 업로드 취소
+     *
+     * @param uploadId
+     */
+    @DeleteMapping(value = "/api/v1/upload/chunk/{uploadId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void cancelChunkUpload(@PathVariable String uploadId) {
+        attachmentService.cancelChunkUpload(uploadId);
+    }
+
     /**
      * 에디터에서 파일 업로드
      * 현재 이미지만 적용
@@ -91,32 +168,56 @@ public class AttachmentApiController {
 
     /**
      * 에디터에서 파일 경로(명) 이미지 load
+     * w, h 를 지정하면 비율을 유지하여 그 안에 들어가도록 축소한 이미지를 응답한다.
      *
      * @param imagename
+     * @param width     가로
+     * @param height    세로
      * @return
-     * @throws IOException
      */
     @GetMapping(value = "/api/v1/images/editor/{imagename}")
-    public ResponseEntity<byte[]> loadImages(@PathVariable("imagename") String imagename) {
-        AttachmentImageResponseDto image = attachmentService.loadImage(imagename);
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(image.getMimeType()))
-                .body(image.getData());
+    public ResponseEntity<Resource> loadImages(@PathVariable("imagename") String imagename,
+                                               @RequestParam(value = "w", required = false) Integer width,
+                                               @RequestParam(value = "h", required = false) Integer height) {
+        AttachmentImageResponseDto image = attachmentService.loadImage(imagename, width, height);
+        return toImageResponse(image);
     }
 
     /**
      * unique id로 이미지 태그에서 이미지 load
+     * w, h 를 지정하면 비율을 유지하여 그 안에 들어가도록 축소한 이미지를 응답한다. (배너 썸네일 등)
      *
      * @param uniqueId
+     * @param width    가로
+     * @param height   세로
      * @return
      */
     @GetMapping(value = "/api/v1/images/{uniqueId}")
-    public ResponseEntity<byte[]> loadImagesByUniqueId(@PathVariable String uniqueId) {
-        AttachmentImageResponseDto image = attachmentService.loadImageByUniqueId(uniqueId);
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(image.getMimeType()))
-                .body(image.getData());
+    public ResponseEntity<Resource> loadImagesByUniqueId(@PathVariable String uniqueId,
+                                                         @RequestParam(value = "w", required = false) Integer width,
+                                                         @RequestParam(value = "h", required = false) Integer height) {
+        AttachmentImageResponseDto image = attachmentService.loadImageByUniqueId(uniqueId, width, height);
+        return toImageResponse(image);
+    }
 
+    /**
+     * 이미지 응답
+     * 본문은 Resource 로 응답하여 스트림으로 전송하며, Range 요청이면 206 으로 요청한 범위만 전송한다.
+     * ETag, Last-Modified 가 요청의 If-None-Match, If-Modified-Since 와 일치하면 본문 없이 304 로 응답한다.
+     * no-cache 는 저장은 허용하고 사용 전에 재검증하도록 하여 변경되지 않은 이미지는 304 로 처리된다.
+     *
+     * @param image
+     * @return
+     */
+    private ResponseEntity<Resource> toImageResponse(AttachmentImageResponseDto image) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(image.getMimeType()))
+                .cacheControl(CacheControl.noCache());
+        if (image.getLastModified() > 0) {
+            builder.eTag(image.getETag())
+                    .lastModified(image.getLastModified());
+        }
+        return builder.body(image.getResource());
     }
 
     /**
@@ -130,14 +231,31 @@ public class AttachmentApiController {
     public ResponseEntity<?> downloadFile(@PathVariable String uniqueId) {
         AttachmentDownloadResponseDto downloadFile = attachmentService.downloadFile(uniqueId);
 
+        return toDownloadResponse(downloadFile);
+    }
+
+    /**
+     * 첨부파일 다운로드 응답
+     * 내용 해시 기반 파일은 같은 uniqueId 의 내용이 바뀌지 않으므로 해시를 ETag 로 하여 immutable 로 캐시하도록 한다.
+     * 캐시가 만료된 후의 재요청은 If-None-Match 가 일치하면 본문 없이 304 로 응답한다.
+     *
+     * @param downloadFile
+     * @return
+     */
+    private ResponseEntity<?> toDownloadResponse(AttachmentDownloadResponseDto downloadFile) {
         String mimeType = null;
-        try {
-            // get mime type
-            URLConnection connection = new URL(downloadFile.getFile().getURL().toString()).openConnection();
-            mimeType = connection.getContentType();
-        } catch (IOException ex) {
-            log.error("download fail", ex);
-            throw new BusinessMessageException("Sorry. download fail... \uD83D\uDE3F");
+        if (downloadFile.getContentHash() != null) {
+            // 내용 해시 기반 파일은 확장자 없이 저장하므로 원본 파일명으로 판단한다
+            mimeType = PortalUtils.getContentType(downloadFile.getOriginalFileName());
+        } else {
+            try {
+                // get mime type
+                URLConnection connection = new URL(downloadFile.getFile().getURL().toString()).openConnection();
+                mimeType = connection.getContentType();
+            } catch (IOException ex) {
+                log.error("download fail", ex);
+                throw new BusinessMessageException("Sorry. download fail... \uD83D\uDE3F");
+            }
         }
 
         if (mimeType == null) {
@@ -152,6 +270,12 @@ public class AttachmentApiController {
         headers.add(HttpHeaders.CONTENT_TYPE, mimeType);
         headers.setContentDisposition(contentDisposition);
 
+        if (downloadFile.getContentHash() != null) {
+            headers.setETag("\"" + downloadFile.getContentHash() + "\"");
+            // 다운로드 권한이 필요한 파일일 수 있으므로 공유 캐시에는 저장하지 않는다
+            headers.setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().getHeaderValue() + ", immutable");
+        }
+
         return ResponseEntity.ok()
                 .headers(headers)
                 .body(downloadFile.getFile());
@@ -179,31 +303,7 @@ public class AttachmentApiController {
     public ResponseEntity<?> downloadAttachment(@PathVariable String uniqueId) {
         AttachmentDownloadResponseDto downloadFile = attachmentService.downloadAttachment(uniqueId);
 
-        String mimeType = null;
-        try {
-            // get mime type
-            URLConnection connection = new URL(downloadFile.getFile().getURL().toString()).openConnection();
-            mimeType = connection.getContentType();
-        } catch (IOException ex) {
-            log.error("download fail", ex);
-            throw new BusinessMessageException("Sorry. download fail... \uD83D\uDE3F");
-        }
-
-        if (mimeType == null) {
-            mimeType = MediaType.APPLICATION_OCTET_STREAM_VALUE;
-        }
-
-        ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
-                .filename(downloadFile.getOriginalFileName(), StandardCharsets.UTF_8)
-                .build();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.add(HttpHeaders.CONTENT_TYPE, mimeType);
-        headers.setContentDisposition(contentDisposition);
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(downloadFile.getFile());
+        return toDownloadResponse(downloadFile);
     }
 
     /**
@@ -0,0 +1,41 @@
+package org.egovframe.cloud.portalservice.api.attachment.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * org.egovframe.cloud.portalservice.api.attachment.dto.AttachmentChunkCompleteRequestDto
+ * <p>
+ * 첨부파일 분할 업로드 완료 요청 dto class
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj  최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+@ToString
+public class AttachmentChunkCompleteRequestDto {
+    private String originalName;
+    private String fileType;
+    private Long size;
+    private String sha256; // 전체 파일 SHA-256 hex
+
+    @Builder
+    public AttachmentChunkCompleteRequestDto(String originalName, String fileType, Long size, String sha256) {
+        this.originalName = originalName;
+        this.fileType = fileType;
+        this.size = size;
+        this.sha256 = sha256;
+    }
+}
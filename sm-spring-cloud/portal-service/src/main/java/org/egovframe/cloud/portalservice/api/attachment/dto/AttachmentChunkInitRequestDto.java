@@ -0,0 +1,37 @@
+package org.egovframe.cloud.portalservice.api.attachment.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * org.egovframe.cloud.portalservice.api.attachment.dto.AttachmentChunkInitRequestDto
+ * <p>
+ * 첨부파일 분할 업로드 시작 요청 dto class
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj  최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+@ToString
+public class AttachmentChunkInitRequestDto {
+    private String originalName;
+    private Long size;
+
+    @Builder
+    public AttachmentChunkInitRequestDto(String originalName, Long size) {
+        this.originalName = originalName;
+        this.size = size;
+    }
+}
@@ -0,0 +1,37 @@
+package org.egovframe.cloud.portalservice.api.attachment.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * org.egovframe.cloud.portalservice.api.attachment.dto.AttachmentChunkResponseDto
+ * <p>
+ * 첨부파일 분할 업로드 상태 응답 dto class
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj  최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+@ToString
+public class AttachmentChunkResponseDto {
+    private String uploadId;
+    private long offset; // 지금까지 받은 크기, 다음 조각의 시작 위치
+
+    @Builder
+    public AttachmentChunkResponseDto(String uploadId, long offset) {
+        this.uploadId = uploadId;
+        this.offset = offset;
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.core.io.Resource;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/21    shinmj  최초 생성
+ *  2026/10/17    shinmj  내용 해시 추가
  * </pre>
  */
 @Getter
@@ -26,10 +27,12 @@ import org.springframework.core.io.Resource;
 public class AttachmentDownloadResponseDto {
     private String originalFileName;
     private Resource file;
+    private String contentHash; // 내용 해시 기반 파일이 아니면 null
 
     @Builder
-    public AttachmentDownloadResponseDto(String originalFileName, Resource file) {
+    public AttachmentDownloadResponseDto(String originalFileName, Resource file, String contentHash) {
         this.originalFileName = originalFileName;
         this.file = file;
+        this.contentHash = contentHash;
     }
 }
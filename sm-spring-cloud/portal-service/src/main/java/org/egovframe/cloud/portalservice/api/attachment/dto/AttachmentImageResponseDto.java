@@ -3,12 +3,14 @@ package org.egovframe.cloud.portalservice.api.attachment.dto;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.core.io.Resource;
 
 
 /**
  * org.egovframe.cloud.portalservice.api.attachment.dto.AttachmentImageResponseDto
  * <p>
  * 이미지태그에 대한 응답 dto class
+ * 파일 내용은 메모리에 올리지 않고 Resource 로 전달하여 응답 시 스트림으로 전송한다.
  *
  * @author 표준프레임워크센터 shinmj
  * @version 1.0
@@ -20,20 +22,35 @@ import lombok.NoArgsConstructor;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/14    shinmj  최초 생성
+ *  2026/10/17    shinmj  byte[] 대신 Resource 와 조건부 요청용 정보(크기, 수정일시) 전달
  * </pre>
  */
 @Getter
 @NoArgsConstructor
 public class AttachmentImageResponseDto {
     private String mimeType;
-    private byte[] data;
+    private Resource resource; // 이미지 파일
+    private long contentLength; // 파일 크기
+    private long lastModified; // 수정일시(ms), 알 수 없으면 0
 
     @Builder
-    public AttachmentImageResponseDto(String mimeType, byte[] data) {
+    public AttachmentImageResponseDto(String mimeType, Resource resource, long contentLength, long lastModified) {
         this.mimeType = mimeType;
-        this.data = new byte[data.length];
-        for (int i = 0; i < data.length; i++) {
-            this.data[i] = data[i];
+        this.resource = resource;
+        this.contentLength = contentLength;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * 파일 크기와 수정일시로 ETag 를 생성한다.
+     * 수정일시를 알 수 없으면 null
+     *
+     * @return
+     */
+    public String getETag() {
+        if (lastModified <= 0) {
+            return null;
         }
+        return "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(contentLength) + "\"";
     }
 }
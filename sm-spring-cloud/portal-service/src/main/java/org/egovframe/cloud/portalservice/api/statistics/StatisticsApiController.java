@@ -4,10 +4,12 @@ import lombok.RequiredArgsConstructor;
 import org.egovframe.cloud.portalservice.api.statistics.dto.StatisticsResponseDto;
 import org.egovframe.cloud.portalservice.api.statistics.dto.StatisticsYMRequestDto;
 import org.egovframe.cloud.portalservice.service.statistics.StatisticsService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDate;
 import java.util.List;
 /**
  * org.egovframe.cloud.portalservice.api.statistics.StatisticsApiController
@@ -24,6 +26,7 @@ import java.util.List;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/07    shinmj      최초 생성
+ *  2026/10/17    shinmj      접속통계 집계 재생성 추가
  * </pre>
  */
 @RequiredArgsConstructor
@@ -64,4 +67,18 @@ public class StatisticsApiController {
     public void save(@PathVariable String statisticsId, HttpServletRequest request) {
         statisticsService.save(request, statisticsId);
     }
+
+    /**
+     * 접속통계 집계 재생성
+     * 기간 내 접속통계 로그로 시간/일/월 집계를 다시 생성한다.
+     *
+     * @param fromDate 시작일(yyyy-MM-dd)
+     * @param toDate   종료일(yyyy-MM-dd)
+     * @return 생성된 집계 구간 건수
+     */
+    @PostMapping("/api/v1/statistics/rollups")
+    public Integer rebuildRollups(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        return statisticsService.rebuildRollups(fromDate, toDate);
+    }
 }
@@ -1,9 +1,9 @@
 package org.egovframe.cloud.portalservice.config;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.egovframe.cloud.common.dto.AttachmentEntityMessage;
-import org.egovframe.cloud.portalservice.api.attachment.dto.AttachmentUploadRequestDto;
 import org.egovframe.cloud.portalservice.service.attachment.AttachmentService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -18,13 +18,17 @@ public class EventStreamConfig {
 	@Autowired
 	private AttachmentService attachmentService;
 
+	/**
+	 * 첨부파일 entity 정보 업데이트 이벤트를 batch 로 수신한다.
+	 * batch 크기와 대기 시간은 attachmentEntity-in-0 binding 의 batch-size, receive-timeout 으로 설정한다.
+	 *
+	 * @return
+	 */
 	@Bean
-	public Consumer<AttachmentEntityMessage> attachmentEntity() {
-		return attachmentEntityMessage -> attachmentService.updateEntity(
-			attachmentEntityMessage.getAttachmentCode(),
-			AttachmentUploadRequestDto.builder()
-				.entityName(attachmentEntityMessage.getEntityName())
-				.entityId(attachmentEntityMessage.getEntityId())
-				.build());
+	public Consumer<List<AttachmentEntityMessage>> attachmentEntity() {
+		return attachmentEntityMessages -> {
+			int updated = attachmentService.updateEntities(attachmentEntityMessages);
+			log.debug("attachment entity batch : {} messages, {} codes", attachmentEntityMessages.size(), updated);
+		};
 	}
 }
@@ -0,0 +1,114 @@
+package org.egovframe.cloud.portalservice.config;
+
+import org.egovframe.cloud.portalservice.utils.FileTransferUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * org.egovframe.cloud.portalservice.config.FileTransferConfig
+ * <p>
+ * 파일 응답 전송 Config 클래스
+ * Resource 를 응답하는 기본 converter 는 InputStream 을 읽어 복사하고 Range 요청 시 시작 위치까지 읽어서 버린다.
+ * 로컬 파일이면 FileTransferUtils 로 지정한 위치부터 바로 전송하도록 converter 를 교체한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj  최초 생성
+ * </pre>
+ */
+@Configuration
+public class FileTransferConfig implements WebMvcConfigurer {
+
+    private final long sendfileMinSize;
+
+    /**
+     * @param sendfileMinSize sendfile 을 사용할 최소 바이트 수
+     */
+    public FileTransferConfig(@Value("${file.sendfile-min-size:49152}") long sendfileMinSize) {
+        this.sendfileMinSize = sendfileMinSize;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            HttpMessageConverter<?> converter = converters.get(i);
+            if (converter.getClass() == ResourceHttpMessageConverter.class) {
+                converters.set(i, new FileResourceHttpMessageConverter(sendfileMinSize));
+            } else if (converter.getClass() == ResourceRegionHttpMessageConverter.class) {
+                converters.set(i, new FileResourceRegionHttpMessageConverter(sendfileMinSize));
+            }
+        }
+    }
+
+    /**
+     * 전체 파일 응답
+     */
+    private static class FileResourceHttpMessageConverter extends ResourceHttpMessageConverter {
+
+        private final long sendfileMinSize;
+
+        private FileResourceHttpMessageConverter(long sendfileMinSize) {
+            super(true);
+            this.sendfileMinSize = sendfileMinSize;
+        }
+
+        @Override
+        protected void writeContent(Resource resource, HttpOutputMessage outputMessage) throws IOException {
+            if (!resource.isFile()) {
+                super.writeContent(resource, outputMessage);
+                return;
+            }
+            FileTransferUtils.transfer(resource.getFile(), 0, resource.contentLength(), outputMessage, sendfileMinSize);
+        }
+    }
+
+    /**
+     * Range 요청 응답 (206 Partial Content)
+     */
+    private static class FileResourceRegionHttpMessageConverter extends ResourceRegionHttpMessageConverter {
+
+        private final long sendfileMinSize;
+
+        private FileResourceRegionHttpMessageConverter(long sendfileMinSize) {
+            this.sendfileMinSize = sendfileMinSize;
+        }
+
+        @Override
+        protected void writeResourceRegion(ResourceRegion region, HttpOutputMessage outputMessage) throws IOException {
+            Resource resource = region.getResource();
+            if (!resource.isFile()) {
+                super.writeResourceRegion(region, outputMessage);
+                return;
+            }
+
+            long start = region.getPosition();
+            long resourceLength = resource.contentLength();
+            long end = Math.min(start + region.getCount() - 1, resourceLength - 1);
+            long rangeLength = end - start + 1;
+
+            HttpHeaders responseHeaders = outputMessage.getHeaders();
+            responseHeaders.add(HttpHeaders.CONTENT_RANGE, "bytes " + start + '-' + end + '/' + resourceLength);
+            responseHeaders.setContentLength(rangeLength);
+
+            FileTransferUtils.transfer(resource.getFile(), start, rangeLength, outputMessage, sendfileMinSize);
+        }
+    }
+}
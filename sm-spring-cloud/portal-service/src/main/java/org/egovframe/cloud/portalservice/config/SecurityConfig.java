@@ -1,8 +1,9 @@
 package org.egovframe.cloud.portalservice.config;
 
 import lombok.RequiredArgsConstructor;
+import org.egovframe.cloud.common.util.IdentityHeaders;
+import org.egovframe.cloud.common.util.JwtClaimsCache;
 import org.egovframe.cloud.servlet.config.AuthenticationFilter;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
@@ -30,8 +31,9 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 @EnableWebSecurity // Spring Security 설정들을 활성화시켜 준다
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
-    @Value("${token.secret}")
-    private String TOKEN_SECRET;
+    private final JwtClaimsCache jwtClaimsCache;
+
+    private final IdentityHeaders identityHeaders;
 
     /**
      * 스프링 시큐리티 설정
@@ -59,7 +61,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
      * @throws Exception
      */
     private AuthenticationFilter getAuthenticationFilter() throws Exception {
-        return new AuthenticationFilter(authenticationManager(), TOKEN_SECRET);
+        return new AuthenticationFilter(authenticationManager(), jwtClaimsCache, identityHeaders);
     }
 
 }
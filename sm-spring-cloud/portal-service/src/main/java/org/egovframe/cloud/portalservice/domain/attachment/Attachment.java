@@ -5,11 +5,14 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.egovframe.cloud.portalservice.utils.PortalUtils;
 import org.egovframe.cloud.servlet.domain.BaseEntity;
 
 import javax.persistence.Column;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
 import org.springframework.util.StringUtils;
 
 /**
@@ -27,6 +30,8 @@ import org.springframework.util.StringUtils;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/14    shinmj  최초 생성
+ *  2026/10/17    shinmj  내용 해시(SHA-256) 기반 물리적 파일 조회 추가
+ *  2026/10/17    shinmj  물리적 파일명 index 추가
  * </pre>
  */
 
@@ -41,6 +46,9 @@ import org.springframework.util.StringUtils;
 @NoArgsConstructor
 @ToString
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_attachment_physical_file_name", columnList = "physical_file_name")
+})
 public class Attachment extends BaseEntity {
 
     @EmbeddedId
@@ -52,7 +60,7 @@ public class Attachment extends BaseEntity {
     @Column(name = "attachment_id", length = 50, nullable = false, unique = true)
     private String uniqueId;
 
-    @Column(nullable = false, length = 200)
+    @Column(name = "physical_file_name", nullable = false, length = 200)
     private String physicalFileName;
 
     @Column(nullable = false, length = 200)
@@ -135,5 +143,19 @@ public class Attachment extends BaseEntity {
         return Boolean.TRUE.equals(isDelete);
     }
 
+    /**
+     * 내용 해시 기반 물리적 파일이면 SHA-256 hex
+     * 같은 해시의 물리적 파일은 여러 첨부파일이 함께 참조한다.
+     *
+     * @return 내용 해시 기반 파일이 아니면 null
+     */
+    public String getContentHash() {
+        return PortalUtils.getContentHash(physicalFileName);
+    }
+
+    public boolean isContentAddressed() {
+        return getContentHash() != null;
+    }
+
 
 }
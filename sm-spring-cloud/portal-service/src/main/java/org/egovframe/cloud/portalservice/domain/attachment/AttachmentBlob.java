@@ -0,0 +1,55 @@
+package org.egovframe.cloud.portalservice.domain.attachment;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * org.egovframe.cloud.portalservice.domain.attachment.AttachmentBlob
+ * <p>
+ * 내용 해시 기반 물리적 파일의 참조 대기 엔티티
+ * 업로드한 파일은 첨부파일로 저장되기 전까지 참조하는 첨부파일이 없으므로,
+ * 업로드할 때 참조 대기 기간을 기록하여 그 사이에 같은 파일의 마지막 참조가 삭제되어도 물리적 파일을 삭제하지 않는다.
+ * 참조 대기 기간이 지난 파일은 참조하는 첨부파일이 없을 때 삭제한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj  최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "attachment_blob", indexes = {
+        @Index(name = "idx_attachment_blob_pending_until", columnList = "pending_until")
+})
+public class AttachmentBlob {
+
+    @Id
+    @Column(name = "physical_file_name", length = 200)
+    private String physicalFileName;
+
+    /**
+     * 이 일시까지는 참조하는 첨부파일이 없어도 삭제하지 않는다
+     */
+    @Column(name = "pending_until")
+    private LocalDateTime pendingUntil;
+
+    public boolean isPending(LocalDateTime now) {
+        return pendingUntil != null && pendingUntil.isAfter(now);
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.egovframe.cloud.portalservice.domain.attachment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * org.egovframe.cloud.portalservice.domain.attachment.AttachmentBlobRepository
+ * <p>
+ * 내용 해시 기반 물리적 파일 참조 대기 repository interface
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj  최초 생성
+ * </pre>
+ */
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, String>, AttachmentBlobRepositoryCustom {
+
+    /**
+     * 물리적 파일 삭제 여부를 확인하는 동안 업로드가 참조 대기를 기록하지 못하도록 lock 을 걸고 조회한다.
+     *
+     * @param physicalFileName
+     * @return
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<AttachmentBlob> findWithLockByPhysicalFileName(String physicalFileName);
+
+    /**
+     * 참조 대기 기간이 지난 물리적 파일 목록
+     *
+     * @param now
+     * @return
+     */
+    List<AttachmentBlob> findTop100ByPendingUntilBeforeOrderByPendingUntil(LocalDateTime now);
+}
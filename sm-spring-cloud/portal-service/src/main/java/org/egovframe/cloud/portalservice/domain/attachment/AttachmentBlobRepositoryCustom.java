@@ -0,0 +1,31 @@
+package org.egovframe.cloud.portalservice.domain.attachment;
+
+import java.time.LocalDateTime;
+
+/**
+ * org.egovframe.cloud.portalservice.domain.attachment.AttachmentBlobRepositoryCustom
+ * <p>
+ * 내용 해시 기반 물리적 파일 참조 대기 JDBC interface
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj  최초 생성
+ * </pre>
+ */
+public interface AttachmentBlobRepositoryCustom {
+
+    /**
+     * 참조 대기 기간을 기록한다. 이미 있으면 기간만 변경한다.
+     *
+     * @param physicalFileName
+     * @param pendingUntil
+     */
+    void markPending(String physicalFileName, LocalDateTime pendingUntil);
+}
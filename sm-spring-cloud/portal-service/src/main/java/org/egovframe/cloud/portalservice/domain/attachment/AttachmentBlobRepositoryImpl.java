@@ -0,0 +1,41 @@
+package org.egovframe.cloud.portalservice.domain.attachment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * org.egovframe.cloud.portalservice.domain.attachment.AttachmentBlobRepositoryImpl
+ * <p>
+ * 내용 해시 기반 물리적 파일 참조 대기 JDBC 구현 클래스
+ * 같은 파일을 동시에 업로드해도 키 중복 오류가 나지 않도록 한 문장으로 입력/변경한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj  최초 생성
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Repository
+public class AttachmentBlobRepositoryImpl implements AttachmentBlobRepositoryCustom {
+
+    private static final String MARK_PENDING_SQL = "insert into attachment_blob (physical_file_name, pending_until) values (?, ?)"
+            + " on duplicate key update pending_until = values(pending_until)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void markPending(String physicalFileName, LocalDateTime pendingUntil) {
+        jdbcTemplate.update(MARK_PENDING_SQL, physicalFileName, Timestamp.valueOf(pendingUntil));
+    }
+}
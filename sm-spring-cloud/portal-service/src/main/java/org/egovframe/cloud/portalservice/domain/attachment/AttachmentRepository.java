@@ -20,8 +20,28 @@ import java.util.Optional;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/14    shinmj  최초 생성
+ *  2026/10/17    shinmj  물리적 파일 참조 수 조회 추가
  * </pre>
  */
 public interface AttachmentRepository extends JpaRepository<Attachment, AttachmentId>, AttachmentRepositoryCustom {
     Optional<Attachment> findAllByUniqueId(String uniqueId);
+
+    /**
+     * 같은 물리적 파일을 참조하는 다른 첨부파일 존재 여부 (삭제 여부 Y 포함)
+     * idx_attachment_physical_file_name index 로 첫 건만 확인한다.
+     *
+     * @param physicalFileName
+     * @param uniqueId         제외할 첨부파일
+     * @return
+     */
+    boolean existsByPhysicalFileNameAndUniqueIdNot(String physicalFileName, String uniqueId);
+
+    /**
+     * 물리적 파일을 참조하는 첨부파일 존재 여부 (삭제 여부 Y 포함)
+     * idx_attachment_physical_file_name index 로 첫 건만 확인한다.
+     *
+     * @param physicalFileName
+     * @return
+     */
+    boolean existsByPhysicalFileName(String physicalFileName);
 }
@@ -22,10 +22,12 @@ import java.util.List;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/14    shinmj  최초 생성
+ *  2026/10/17    shinmj  첨부파일 코드별 entity 정보 일괄 수정 추가
  * </pre>
  */
 public interface AttachmentRepositoryCustom {
     List<Attachment> findByCode(String attachmentCode);
     AttachmentId getId(String attachmentCode);
     Page<AttachmentResponseDto> search(RequestDto searchRequestDto, Pageable pageable);
+    long updateEntity(String attachmentCode, String entityName, String entityId);
 }
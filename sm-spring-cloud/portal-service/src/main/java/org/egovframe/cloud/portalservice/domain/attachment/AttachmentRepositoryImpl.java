@@ -11,6 +11,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.querydsl.core.types.Projections.constructor;
@@ -32,6 +33,7 @@ import static org.springframework.util.StringUtils.hasLength;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/14    shinmj  최초 생성
+ *  2026/10/17    shinmj  첨부파일 코드별 entity 정보 일괄 수정 추가
  * </pre>
  */
 @Slf4j
@@ -131,4 +133,23 @@ public class AttachmentRepositoryImpl implements AttachmentRepositoryCustom{
         }
         return null;
     }
+
+    /**
+     * 첨부파일 코드에 해당하는 첨부파일 전체의 entity 정보를 한 번의 update 문으로 수정
+     * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 조회한 엔티티에는 반영되지 않는다.
+     *
+     * @param attachmentCode
+     * @param entityName
+     * @param entityId
+     * @return 수정된 건수
+     */
+    @Override
+    public long updateEntity(String attachmentCode, String entityName, String entityId) {
+        return queryFactory.update(attachment)
+                .set(attachment.entityName, entityName)
+                .set(attachment.entityId, entityId)
+                .set(attachment.modifiedDate, LocalDateTime.now())
+                .where(attachment.attachmentId.code.eq(attachmentCode), attachment.isDelete.eq(false))
+                .execute();
+    }
 }
@@ -0,0 +1,92 @@
+package org.egovframe.cloud.portalservice.domain.statistics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * org.egovframe.cloud.portalservice.domain.statistics.StatisticsRollupCounter
+ * <p>
+ * 접속 건수를 사이트별 시간/일/월 집계 구간으로 모은다.
+ * 같은 구간의 건수는 합산하여 구간당 한 건의 StatisticsRollup 으로 리턴한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj      최초 생성
+ * </pre>
+ */
+public class StatisticsRollupCounter {
+
+    private final Map<Key, Long> counts = new LinkedHashMap<>();
+
+    /**
+     * 접속 건수를 시간/일/월 구간에 모두 더한다.
+     * 사이트 정보가 없는 접속은 조회 대상이 아니므로 집계하지 않는다.
+     *
+     * @param siteId   사이트 id
+     * @param dateTime 접속 일시
+     * @param count    건수
+     */
+    public void add(Long siteId, LocalDateTime dateTime, long count) {
+        if (siteId == null) {
+            return;
+        }
+        for (StatisticsRollup.PeriodType periodType : StatisticsRollup.PeriodType.values()) {
+            counts.merge(new Key(siteId, periodType, periodType.truncate(dateTime)), count, Long::sum);
+        }
+    }
+
+    public boolean isEmpty() {
+        return counts.isEmpty();
+    }
+
+    public List<StatisticsRollup> getRollups() {
+        List<StatisticsRollup> rollups = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> rollups.add(StatisticsRollup.builder()
+                .siteId(key.siteId)
+                .periodType(key.periodType)
+                .periodStart(key.periodStart)
+                .viewCount(count)
+                .build()));
+        return rollups;
+    }
+
+    private static class Key {
+        private final Long siteId;
+        private final StatisticsRollup.PeriodType periodType;
+        private final LocalDateTime periodStart;
+
+        private Key(Long siteId, StatisticsRollup.PeriodType periodType, LocalDateTime periodStart) {
+            this.siteId = siteId;
+            this.periodType = periodType;
+            this.periodStart = periodStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return siteId.equals(key.siteId) && periodType == key.periodType && periodStart.equals(key.periodStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(siteId, periodType, periodStart);
+        }
+    }
+}
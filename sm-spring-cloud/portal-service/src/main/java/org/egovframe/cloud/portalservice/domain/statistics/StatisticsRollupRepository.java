@@ -0,0 +1,24 @@
+package org.egovframe.cloud.portalservice.domain.statistics;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * org.egovframe.cloud.portalservice.domain.statistics.StatisticsRollupRepository
+ * <p>
+ * 접속통계 집계 Repository
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj      최초 생성
+ * </pre>
+ */
+public interface StatisticsRollupRepository extends JpaRepository<StatisticsRollup, Long>, StatisticsRollupRepositoryCustom {
+
+}
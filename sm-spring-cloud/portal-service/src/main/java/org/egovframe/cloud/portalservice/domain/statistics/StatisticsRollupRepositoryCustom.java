@@ -0,0 +1,15 @@
+package org.egovframe.cloud.portalservice.domain.statistics;
+
+import org.egovframe.cloud.portalservice.api.statistics.dto.StatisticsResponseDto;
+import org.egovframe.cloud.portalservice.api.statistics.dto.StatisticsYMRequestDto;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StatisticsRollupRepositoryCustom {
+    List<StatisticsResponseDto> findMonthBySiteId(Long siteId);
+    List<StatisticsResponseDto> findDayBySiteId(Long siteId, StatisticsYMRequestDto requestDto);
+    void increment(Collection<StatisticsRollup> rollups);
+    long deleteInPeriod(LocalDateTime from, LocalDateTime to);
+}
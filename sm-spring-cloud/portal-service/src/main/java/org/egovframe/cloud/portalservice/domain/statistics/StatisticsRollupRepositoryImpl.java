@@ -0,0 +1,141 @@
+package org.egovframe.cloud.portalservice.domain.statistics;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.egovframe.cloud.portalservice.api.statistics.dto.StatisticsResponseDto;
+import org.egovframe.cloud.portalservice.api.statistics.dto.StatisticsYMRequestDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.egovframe.cloud.portalservice.domain.statistics.QStatisticsRollup.statisticsRollup;
+
+/**
+ * org.egovframe.cloud.portalservice.domain.statistics.StatisticsRollupRepositoryImpl
+ * <p>
+ * 접속통계 집계 Querydsl, JDBC 구현 클래스
+ * 조회는 집계 구간 수만큼만 읽으므로 원본 로그 건수와 무관하다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj      최초 생성
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Repository
+public class StatisticsRollupRepositoryImpl implements StatisticsRollupRepositoryCustom {
+
+    private static final String INCREMENT_SQL = "insert into statistics_rollup (site_id, period_type, period_start, view_count) values (?, ?, ?, ?)"
+            + " on duplicate key update view_count = view_count + values(view_count)";
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 현재 년도의 접속통계 월별 조회
+     *
+     * @param siteId
+     * @return
+     */
+    @Override
+    public List<StatisticsResponseDto> findMonthBySiteId(Long siteId) {
+        int year = LocalDateTime.now().getYear();
+
+        return jpaQueryFactory.selectFrom(statisticsRollup)
+                .where(
+                        statisticsRollup.siteId.eq(siteId),
+                        statisticsRollup.periodType.eq(StatisticsRollup.PeriodType.MONTH),
+                        statisticsRollup.periodStart.goe(LocalDateTime.of(year, 1, 1, 0, 0)),
+                        statisticsRollup.periodStart.lt(LocalDateTime.of(year + 1, 1, 1, 0, 0)))
+                .orderBy(statisticsRollup.periodStart.asc())
+                .fetch()
+                .stream()
+                .map(rollup -> StatisticsResponseDto.builder()
+                        .year(year)
+                        .month(rollup.getPeriodStart().getMonthValue())
+                        .day(0)
+                        .x(rollup.getPeriodStart().getMonthValue())
+                        .y(rollup.getViewCount())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 접속통계 일별 조회
+     *
+     * @param siteId
+     * @param requestDto
+     * @return
+     */
+    @Override
+    public List<StatisticsResponseDto> findDayBySiteId(Long siteId, StatisticsYMRequestDto requestDto) {
+        YearMonth yearMonth = YearMonth.of(requestDto.getYear(), requestDto.getMonth());
+
+        return jpaQueryFactory.selectFrom(statisticsRollup)
+                .where(
+                        statisticsRollup.siteId.eq(siteId),
+                        statisticsRollup.periodType.eq(StatisticsRollup.PeriodType.DAY),
+                        statisticsRollup.periodStart.goe(yearMonth.atDay(1).atStartOfDay()),
+                        statisticsRollup.periodStart.lt(yearMonth.plusMonths(1).atDay(1).atStartOfDay()))
+                .orderBy(statisticsRollup.periodStart.asc())
+                .fetch()
+                .stream()
+                .map(rollup -> StatisticsResponseDto.builder()
+                        .year(yearMonth.getYear())
+                        .month(yearMonth.getMonthValue())
+                        .day(rollup.getPeriodStart().getDayOfMonth())
+                        .x(rollup.getPeriodStart().getDayOfMonth())
+                        .y(rollup.getViewCount())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 집계 구간별 건수를 더한다. 구간이 없으면 새로 입력한다.
+     *
+     * @param rollups 집계 구간과 더할 건수
+     */
+    @Override
+    public void increment(Collection<StatisticsRollup> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, new ArrayList<>(rollups), rollups.size(), (ps, rollup) -> {
+            ps.setLong(1, rollup.getSiteId());
+            ps.setString(2, rollup.getPeriodType().name());
+            ps.setTimestamp(3, Timestamp.valueOf(rollup.getPeriodStart()));
+            ps.setLong(4, rollup.getViewCount());
+        });
+    }
+
+    /**
+     * 구간 시작 일시가 from 이상 to 미만인 집계를 삭제한다.
+     *
+     * @param from
+     * @param to
+     * @return 삭제 건수
+     */
+    @Override
+    public long deleteInPeriod(LocalDateTime from, LocalDateTime to) {
+        return jpaQueryFactory.delete(statisticsRollup)
+                .where(
+                        statisticsRollup.periodStart.goe(from),
+                        statisticsRollup.periodStart.lt(to))
+                .execute();
+    }
+}
@@ -0,0 +1,138 @@
+package org.egovframe.cloud.portalservice.service.attachment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * org.egovframe.cloud.portalservice.service.attachment.AttachmentBlobSweeper
+ * <p>
+ * 참조 대기 기간이 지난 내용 해시 기반 물리적 파일과 기간이 지난 분할 업로드 .temp 파일을 주기적으로 정리하는 component
+ * 업로드 후 첨부파일로 저장되지 않은 파일과, 참조 대기 중이라 삭제를 미룬 파일을 삭제한다.
+ * 내용 해시 기반 파일은 file.content-addressed=true 인 경우에만 정리한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj  최초 생성
+ *  2026/10/17    shinmj  기간이 지난 분할 업로드 정리 추가, 내용 해시 기반 저장 여부와 관계없이 등록
+ * </pre>
+ */
+@Slf4j
+@Component
+public class AttachmentBlobSweeper {
+
+    private final AttachmentService attachmentService;
+
+    private final boolean contentAddressed;
+
+    private final long sweepIntervalNanos;
+
+    private volatile boolean running;
+
+    private Thread worker;
+
+    /**
+     * @param attachmentService
+     * @param contentAddressed    내용 해시 기반 저장 여부
+     * @param sweepIntervalMillis 참조 대기 기간이 지난 파일을 조회하는 간격
+     */
+    public AttachmentBlobSweeper(AttachmentService attachmentService,
+                                 @Value("${file.content-addressed:false}") boolean contentAddressed,
+                                 @Value("${file.blob.sweep-interval-ms:600000}") long sweepIntervalMillis) {
+        this.attachmentService = attachmentService;
+        this.contentAddressed = contentAddressed;
+        this.sweepIntervalNanos = TimeUnit.MILLISECONDS.toNanos(sweepIntervalMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "attachment-blob-sweeper");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            LockSupport.parkNanos(this, sweepIntervalNanos);
+            if (!running) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            try {
+                sweepChunkUploads(now);
+            } catch (RuntimeException e) {
+                log.error("chunk upload sweep 오류 : {}", e.getMessage());
+            }
+            if (!contentAddressed) {
+                continue;
+            }
+            try {
+                sweep(now);
+            } catch (RuntimeException e) {
+                log.error("attachment blob sweep 오류 : {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 참조 대기 기간이 지난 파일을 한 건씩 별도 트랜잭션으로 정리한다.
+     * 정리하지 못한 파일은 다음 주기에 다시 확인한다.
+     *
+     * @param now
+     * @return 물리적 파일을 삭제한 건수
+     */
+    int sweep(LocalDateTime now) {
+        List<String> expired = attachmentService.findExpiredBlobs(now);
+        int deleted = 0;
+        for (String physicalFileName : expired) {
+            try {
+                if (attachmentService.sweepBlob(physicalFileName, now)) {
+                    deleted++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("attachment blob 정리 오류 {} : {}", physicalFileName, e.getMessage());
+            }
+        }
+        if (!expired.isEmpty()) {
+            log.info("attachment blob sweep expired={}, deleted={}", expired.size(), deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * 기간이 지난 분할 업로드 .temp 파일을 삭제한다.
+     *
+     * @param now
+     * @return 삭제한 파일 수
+     */
+    int sweepChunkUploads(LocalDateTime now) {
+        int deleted = attachmentService.sweepExpiredChunkUploads(now);
+        if (deleted > 0) {
+            log.info("chunk upload sweep deleted={}", deleted);
+        }
+        return deleted;
+    }
+}
@@ -1,24 +1,32 @@
 package org.egovframe.cloud.portalservice.service.attachment;
 
 import java.io.File;
+import java.io.InputStream;
 import java.util.Objects;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.RandomStringUtils;
+import org.egovframe.cloud.common.dto.AttachmentEntityMessage;
 import org.egovframe.cloud.common.dto.RequestDto;
+import org.egovframe.cloud.common.exception.BusinessException;
 import org.egovframe.cloud.common.exception.BusinessMessageException;
 import org.egovframe.cloud.common.exception.EntityNotFoundException;
+import org.egovframe.cloud.common.exception.dto.ErrorCode;
 import org.egovframe.cloud.common.service.AbstractService;
 import org.egovframe.cloud.portalservice.api.attachment.dto.*;
 import org.egovframe.cloud.portalservice.domain.attachment.Attachment;
+import org.egovframe.cloud.portalservice.domain.attachment.AttachmentBlob;
+import org.egovframe.cloud.portalservice.domain.attachment.AttachmentBlobRepository;
 import org.egovframe.cloud.portalservice.domain.attachment.AttachmentId;
 import org.egovframe.cloud.portalservice.domain.attachment.AttachmentRepository;
 import org.egovframe.cloud.portalservice.utils.PortalUtils;
 import org.egovframe.cloud.portalservice.utils.StorageUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -26,8 +34,14 @@ import org.springframework.web.multipart.MultipartFile;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -45,21 +59,68 @@ import java.util.stream.Collectors;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/13    shinmj  최초 생성
+ *  2026/10/17    shinmj  첨부파일 entity 정보 일괄 업데이트 추가
+ *  2026/10/17    shinmj  이미지 조회 시 크기 변환(w, h) 추가
+ *  2026/10/17    shinmj  내용 해시 기반 중복 제거 저장, 참조 수에 따른 물리적 파일 삭제 추가
+ *  2026/10/17    shinmj  이어받기 가능한 분할 업로드 추가
+ *  2026/10/17    shinmj  내용 해시 기반 파일 업로드 시 참조 대기 기록, 참조 대기 기간이 지난 파일 정리 추가
+ *  2026/10/17    shinmj  분할 업로드 완료 파일 내용 해시 기반 저장, 기간이 지난 분할 업로드 정리 추가
  * </pre>
  */
 @Slf4j
-@RequiredArgsConstructor
 @Transactional
 @Service
 public class AttachmentService extends AbstractService {
     private static final String SUCCESS_MESSAGE = "Success";
     private static final String FILE_SEPARATOR = File.separator;
     private static final String EDITOR_FILE_SEPARATOR = "-";
-    private static final String BASE_PATH = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
+    private static final DateTimeFormatter BASE_PATH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String BASE_PATH = LocalDateTime.now().format(BASE_PATH_FORMATTER);
     private static final String EDITOR_PATH = "editor/"+BASE_PATH;
+    private static final Pattern CHUNK_UPLOAD_ID = Pattern.compile("^\\d{6}-[0-9a-f]{32}\\.[^/\\\\]+\\.temp$");
 
     private final AttachmentRepository attachmentRepository;
+    private final AttachmentBlobRepository attachmentBlobRepository;
     private final StorageUtils storageUtils;
+    private final ImageVariantService imageVariantService;
+
+    /**
+     * 첨부파일을 내용 해시(SHA-256) 기반으로 저장하여 같은 내용의 파일은 한 번만 저장한다
+     */
+    private final boolean contentAddressed;
+
+    /**
+     * 분할 업로드 최대 크기
+     */
+    private final long chunkMaxSize;
+
+    /**
+     * 내용 해시 기반 파일 업로드 후 첨부파일로 저장될 때까지 물리적 파일을 삭제하지 않는 시간
+     */
+    private final long blobPendingHours;
+
+    /**
+     * 마지막 조각을 받은 후 완료하지 않은 분할 업로드 .temp 파일을 삭제하기까지의 시간
+     */
+    private final long chunkExpireHours;
+
+    public AttachmentService(AttachmentRepository attachmentRepository,
+                             AttachmentBlobRepository attachmentBlobRepository,
+                             StorageUtils storageUtils,
+                             ImageVariantService imageVariantService,
+                             @Value("${file.content-addressed:false}") boolean contentAddressed,
+                             @Value("${file.chunk.max-size:2147483648}") long chunkMaxSize,
+                             @Value("${file.blob.pending-hours:24}") long blobPendingHours,
+                             @Value("${file.chunk.expire-hours:24}") long chunkExpireHours) {
+        this.attachmentRepository = attachmentRepository;
+        this.attachmentBlobRepository = attachmentBlobRepository;
+        this.storageUtils = storageUtils;
+        this.imageVariantService = imageVariantService;
+        this.contentAddressed = contentAddressed;
+        this.chunkMaxSize = chunkMaxSize;
+        this.blobPendingHours = blobPendingHours;
+        this.chunkExpireHours = chunkExpireHours;
+    }
 
     /**
      * 첨부파일 업로드
@@ -77,22 +138,47 @@ public class AttachmentService extends AbstractService {
      * 첨부파일 업로드
      * .temp 파일 생성
      * 추후 저장로직에서 rename
+     * 내용 해시 기반 저장이면 basePath, isTemp 와 관계없이 해시 경로에 저장한다.
      *
      * @param file
      * @param basePath
      * @return
      */
     private AttachmentFileResponseDto upload(MultipartFile file, String basePath, boolean isTemp) {
-        String storeFile = storageUtils.storeFile(file, basePath, isTemp);
+        String physicalFileName;
+        if (contentAddressed) {
+            physicalFileName = storeContentAddressedFile(file);
+        } else {
+            String storeFile = storageUtils.storeFile(file, basePath, isTemp);
+            physicalFileName = StringUtils.cleanPath(basePath + FILE_SEPARATOR + storeFile);
+        }
         return AttachmentFileResponseDto.builder()
                 .originalFileName(file.getOriginalFilename())
-                .physicalFileName(StringUtils.cleanPath(basePath + FILE_SEPARATOR + storeFile))
+                .physicalFileName(physicalFileName)
                 .message(SUCCESS_MESSAGE)
                 .size(file.getSize())
                 .fileType(file.getContentType())
                 .build();
     }
 
+    /**
+     * 내용 해시 기반 저장
+     * 첨부파일로 저장되기 전에는 참조하는 첨부파일이 없으므로 참조 대기 기간을 기록하여,
+     * 그 사이에 같은 파일을 참조하던 마지막 첨부파일이 삭제되어도 물리적 파일을 삭제하지 않도록 한다.
+     * 참조 대기 기록은 삭제 여부 확인과 같은 row 를 lock 하므로, 기록하기 전에 이미 삭제된 경우에는 다시 저장한다.
+     *
+     * @param file
+     * @return
+     */
+    private String storeContentAddressedFile(MultipartFile file) {
+        String physicalFileName = storageUtils.storeContentAddressedFile(file);
+        attachmentBlobRepository.markPending(physicalFileName, LocalDateTime.now().plusHours(blobPendingHours));
+        if (storageUtils.getFileSize(physicalFileName) < 0) {
+            physicalFileName = storageUtils.storeContentAddressedFile(file);
+        }
+        return physicalFileName;
+    }
+
 
     /**
      * 여러 첨부파일 업로드
@@ -111,6 +197,195 @@ public class AttachmentService extends AbstractService {
         return responseDtoList;
     }
 
+    /**
+     * 분할 업로드 시작
+     * 빈 .temp 파일을 만들고 업로드 id 를 리턴한다.
+     * 업로드 id 는 .temp 파일 경로이므로 서버 재기동이나 다른 인스턴스에서도 이어서 업로드할 수 있다.
+     * 조각을 받는 동안 DB 연결을 잡지 않도록 분할 업로드는 트랜잭션 없이 처리한다.
+     *
+     * @param requestDto
+     * @return
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AttachmentChunkResponseDto initChunkUpload(AttachmentChunkInitRequestDto requestDto) {
+        if (requestDto.getSize() == null || requestDto.getSize() < 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (requestDto.getSize() > chunkMaxSize) {
+            //파일 용량이 너무 큽니다.
+            throw new BusinessMessageException(getMessage("valid.file.too_big"));
+        }
+
+        String storeFile = storageUtils.createTempFile(requestDto.getOriginalName(), BASE_PATH);
+        String physicalFileName = StringUtils.cleanPath(BASE_PATH + FILE_SEPARATOR + storeFile);
+
+        return AttachmentChunkResponseDto.builder()
+                .uploadId(physicalFileName.replace(FILE_SEPARATOR, EDITOR_FILE_SEPARATOR))
+                .offset(0L)
+                .build();
+    }
+
+    /**
+     * 분할 업로드 상태 조회
+     * 연결이 끊긴 후 offset 부터 이어서 업로드한다.
+     *
+     * @param uploadId
+     * @return
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AttachmentChunkResponseDto findChunkUpload(String uploadId) {
+        long received = storageUtils.getFileSize(getChunkFileName(uploadId));
+        if (received < 0) {
+            // 파일을 찾을 수 없습니다.
+            throw new BusinessMessageException(getMessage("valid.file.not_found"));
+        }
+
+        return AttachmentChunkResponseDto.builder()
+                .uploadId(uploadId)
+                .offset(received)
+                .build();
+    }
+
+    /**
+     * 분할 업로드 조각 저장
+     * offset 은 지금까지 받은 크기보다 클 수 없으며, 작으면 겹치는 부분을 다시 쓴다.
+     *
+     * @param uploadId
+     * @param offset      조각의 시작 위치
+     * @param inputStream 조각 내용 (요청 본문)
+     * @return
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AttachmentChunkResponseDto uploadChunk(String uploadId, long offset, InputStream inputStream) {
+        String physicalFileName = getChunkFileName(uploadId);
+        if (offset < 0 || offset > chunkMaxSize) {
+            throw new BusinessException("Invalid chunk offset : " + offset, ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        long received = storageUtils.writeChunk(physicalFileName, offset, inputStream, chunkMaxSize - offset);
+
+        return AttachmentChunkResponseDto.builder()
+                .uploadId(uploadId)
+                .offset(received)
+                .build();
+    }
+
+    /**
+     * 분할 업로드 완료
+     * 받은 크기와 SHA-256 해시를 검증한 후 .temp 파일 정보를 리턴하며, 이후 저장은 기존 .temp 파일 저장과 같다.
+     * 내용 해시 기반 저장이면 검증한 해시로 해시 경로에 저장한 파일 정보를 리턴한다.
+     * 해시가 다르면 .temp 파일을 삭제하므로 처음부터 다시 업로드해야 한다.
+     *
+     * @param uploadId
+     * @param requestDto
+     * @return
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AttachmentFileResponseDto completeChunkUpload(String uploadId, AttachmentChunkCompleteRequestDto requestDto) {
+        String physicalFileName = getChunkFileName(uploadId);
+        if (requestDto.getSize() == null || !StringUtils.hasText(requestDto.getSha256())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        long received = storageUtils.getFileSize(physicalFileName);
+        if (received < 0) {
+            // 파일을 찾을 수 없습니다.
+            throw new BusinessMessageException(getMessage("valid.file.not_found"));
+        }
+        if (received != requestDto.getSize()) {
+            throw new BusinessException("Chunk upload not completed. received : " + received + ", size : " + requestDto.getSize(), ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        String contentHash = storageUtils.getFileContentHash(physicalFileName);
+        if (!contentHash.equalsIgnoreCase(requestDto.getSha256())) {
+            log.error("Chunk upload hash mismatch. uploadId={}, expected={}, actual={}", uploadId, requestDto.getSha256(), contentHash);
+            storageUtils.deleteFile(physicalFileName);
+            // 파일을 저장할 수 없습니다. 다시 시도해 주세요.
+            throw new BusinessMessageException(getMessage("valid.file.not_saved_try_again"));
+        }
+
+        if (contentAddressed) {
+            physicalFileName = storeContentAddressedChunk(physicalFileName, contentHash);
+        }
+
+        return AttachmentFileResponseDto.builder()
+                .originalFileName(requestDto.getOriginalName())
+                .physicalFileName(physicalFileName)
+                .message(SUCCESS_MESSAGE)
+                .size(received)
+                .fileType(requestDto.getFileType())
+                .build();
+    }
+
+    /**
+     * 분할 업로드 완료 파일 내용 해시 기반 저장
+     * 완료 시 검증한 해시로 .temp 파일을 다시 읽지 않고 해시 경로로 옮긴 후 storeContentAddressedFile 과 같이 참조 대기를 기록한다.
+     * 같은 내용의 파일이 이미 있어 옮기지 않은 .temp 파일은 삭제한다.
+     *
+     * @param chunkFileName .temp 파일 경로
+     * @param contentHash   검증한 SHA-256 hex
+     * @return
+     */
+    private String storeContentAddressedChunk(String chunkFileName, String contentHash) {
+        String physicalFileName = storageUtils.storeContentAddressedFile(chunkFileName, contentHash);
+        attachmentBlobRepository.markPending(physicalFileName, LocalDateTime.now().plusHours(blobPendingHours));
+        if (storageUtils.getFileSize(physicalFileName) < 0) {
+            physicalFileName = storageUtils.storeContentAddressedFile(chunkFileName, contentHash);
+        }
+        storageUtils.deleteFile(chunkFileName);
+        return physicalFileName;
+    }
+
+    /**
+     * 기간이 지난 분할 업로드 정리
+     * 마지막 조각을 받은 후 file.chunk.expire-hours 가 지나도록 완료하거나 취소하지 않은 .temp 파일을 삭제한다.
+     * 같은 디렉토리에서 업로드 후 그 기간 동안 저장하지 않은 단건 업로드 .temp 파일도 함께 삭제된다.
+     * .temp 파일은 월별 디렉토리에 만들어지므로 기동 시점, 이번 달, 지난 달 디렉토리를 확인한다.
+     *
+     * @param now
+     * @return 삭제한 파일 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int sweepExpiredChunkUploads(LocalDateTime now) {
+        LocalDateTime expiredBefore = now.minusHours(chunkExpireHours);
+        Set<String> directories = new LinkedHashSet<>(Arrays.asList(
+                BASE_PATH, now.format(BASE_PATH_FORMATTER), now.minusMonths(1).format(BASE_PATH_FORMATTER)));
+        int deleted = 0;
+        for (String directory : directories) {
+            for (String physicalFileName : storageUtils.listExpiredTempFiles(directory, expiredBefore)) {
+                if (storageUtils.deleteFile(physicalFileName)) {
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 분할 업로드 취소, 받은 .temp 파일을 삭제한다
+     *
+     * @param uploadId
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void cancelChunkUpload(String uploadId) {
+        storageUtils.deleteFile(getChunkFileName(uploadId));
+    }
+
+    /**
+     * 분할 업로드 id -> .temp 파일 경로
+     * initChunkUpload 에서 만든 .temp 파일만 허용한다.
+     *
+     * @param uploadId
+     * @return
+     */
+    private String getChunkFileName(String uploadId) {
+        if (uploadId == null || !CHUNK_UPLOAD_ID.matcher(uploadId).matches() || uploadId.contains("..")) {
+            // 파일명이 잘못되었습니다.
+            throw new BusinessMessageException(getMessage("valid.file.invalid_name"));
+        }
+        return uploadId.replaceFirst(EDITOR_FILE_SEPARATOR, FILE_SEPARATOR);
+    }
+
     /**
      * 에디터 파일 업로드
      *
@@ -143,27 +418,47 @@ public class AttachmentService extends AbstractService {
     }
 
     /**
-     * 에디터에서 호출 시 byte[] 형태의 값으로 incoding
+     * 에디터에서 호출 시 이미지 Resource 조회
+     * 가로, 세로를 요청하면 크기를 변환한 이미지를 조회한다.
      *
      * @param imagename
+     * @param width     가로, 없으면 원본
+     * @param height    세로, 없으면 원본
      * @return
      */
     @Transactional(readOnly = true)
-    public AttachmentImageResponseDto loadImage(String imagename) {
-        return storageUtils.loadImage(imagename.replaceAll(EDITOR_FILE_SEPARATOR, FILE_SEPARATOR));
+    public AttachmentImageResponseDto loadImage(String imagename, Integer width, Integer height) {
+        String filename = imagename.replaceAll(EDITOR_FILE_SEPARATOR, FILE_SEPARATOR);
+        return imageVariantService.load(filename, width, height, () -> storageUtils.loadImage(filename));
     }
 
     /**
-     * img 태그에서 호출 시 byte[] 형태의 값으로 incoding
+     * img 태그에서 호출 시 이미지 Resource 조회
+     * 가로, 세로를 요청하면 크기를 변환한 이미지를 조회한다.
      *
      * @param uniqueId
+     * @param width    가로, 없으면 원본
+     * @param height   세로, 없으면 원본
      * @return
      */
     @Transactional(readOnly = true)
-    public AttachmentImageResponseDto loadImageByUniqueId(String uniqueId) throws EntityNotFoundException {
+    public AttachmentImageResponseDto loadImageByUniqueId(String uniqueId, Integer width, Integer height) throws EntityNotFoundException {
         Attachment attachment = findAttachmentByUniqueId(uniqueId);
+        String filename = attachment.getPhysicalFileName();
+        if (!attachment.isContentAddressed()) {
+            return imageVariantService.load(filename, width, height, () -> storageUtils.loadImage(filename));
+        }
 
-        return storageUtils.loadImage(attachment.getPhysicalFileName());
+        // 내용 해시 기반 파일은 확장자 없이 저장하므로 원본 파일명으로 형식을 판단한다
+        return imageVariantService.load(filename, attachment.getOriginalFileName(), width, height, () -> {
+            AttachmentImageResponseDto image = storageUtils.loadImage(filename);
+            return AttachmentImageResponseDto.builder()
+                    .mimeType(PortalUtils.getContentType(attachment.getOriginalFileName()))
+                    .resource(image.getResource())
+                    .contentLength(image.getContentLength())
+                    .lastModified(image.getLastModified())
+                    .build();
+        });
     }
 
     /**
@@ -187,6 +482,7 @@ public class AttachmentService extends AbstractService {
         return AttachmentDownloadResponseDto.builder()
                 .file(resource)
                 .originalFileName(attachment.getOriginalFileName())
+                .contentHash(attachment.getContentHash())
                 .build();
     }
 
@@ -221,6 +517,7 @@ public class AttachmentService extends AbstractService {
         return AttachmentDownloadResponseDto.builder()
                 .file(resource)
                 .originalFileName(attachment.getOriginalFileName())
+                .contentHash(attachment.getContentHash())
                 .build();
     }
 
@@ -392,6 +689,30 @@ public class AttachmentService extends AbstractService {
         return attachmentCode;
     }
 
+    /**
+     * 첨부파일 entity 정보 일괄 업데이트
+     * 메시지를 첨부파일 코드별로 모아 코드마다 한 번의 update 문으로 반영한다.
+     * 같은 코드의 메시지가 여러 건이면 마지막 메시지로 반영하며, 오류가 나면 전체가 rollback 된다.
+     *
+     * @param messages 첨부파일 entity 정보 메시지 목록
+     * @return 반영한 첨부파일 코드 수
+     */
+    public int updateEntities(List<AttachmentEntityMessage> messages) {
+        Map<String, AttachmentEntityMessage> latest = new LinkedHashMap<>();
+        for (AttachmentEntityMessage message : messages) {
+            if (message == null || !StringUtils.hasText(message.getAttachmentCode())) {
+                continue;
+            }
+            latest.remove(message.getAttachmentCode());
+            latest.put(message.getAttachmentCode(), message);
+        }
+
+        latest.values().forEach(message ->
+            attachmentRepository.updateEntity(message.getAttachmentCode(), message.getEntityName(), message.getEntityId()));
+
+        return latest.size();
+    }
+
     /**
      * 첨부파일 저장 후 기능 저장 시 오류 날 경우
      * 조회되는 첨부파일 목록 전부 삭제
@@ -416,20 +737,89 @@ public class AttachmentService extends AbstractService {
         }
     }
 
+    /**
+     * 참조 대기 기간이 지난 내용 해시 기반 물리적 파일 목록 조회
+     *
+     * @param now
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<String> findExpiredBlobs(LocalDateTime now) {
+        return attachmentBlobRepository.findTop100ByPendingUntilBeforeOrderByPendingUntil(now).stream()
+                .map(AttachmentBlob::getPhysicalFileName)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 참조 대기 기간이 지난 내용 해시 기반 물리적 파일 정리
+     * 업로드 후 첨부파일로 저장되지 않았거나 참조 대기 중에 마지막 참조가 삭제된 파일을 삭제하고,
+     * 참조하는 첨부파일이 있으면 참조 대기 정보만 삭제한다.
+     *
+     * @param physicalFileName
+     * @param now
+     * @return 물리적 파일 삭제 여부
+     */
+    public boolean sweepBlob(String physicalFileName, LocalDateTime now) {
+        return deleteUnreferencedBlob(physicalFileName, null, now);
+    }
+
     /**
      * 첨부파일 삭제
-     * 
+     * 내용 해시 기반 파일은 같은 파일을 참조하는 다른 첨부파일이 없고 참조 대기 중이 아닐 때만 물리적 파일을 삭제한다.
+     *
      * @param attachment
      */
     private void deleteFile(Attachment attachment) {
+        if (attachment.isContentAddressed()) {
+            attachmentRepository.delete(attachment);
+            deleteUnreferencedBlob(attachment.getPhysicalFileName(), attachment.getUniqueId(), LocalDateTime.now());
+            return;
+        }
+
         // 물리적 파일 삭제
         boolean deleted = storageUtils.deleteFile(attachment.getPhysicalFileName());
         if (!deleted) {
             throw new BusinessMessageException(getMessage("valid.file.not_deleted"));
         }
+        // 변환 이미지 삭제
+        imageVariantService.deleteVariants(attachment.getPhysicalFileName());
         attachmentRepository.delete(attachment);
     }
 
+    /**
+     * 참조하는 첨부파일이 없는 내용 해시 기반 물리적 파일 삭제
+     * 확인하는 동안 같은 파일의 업로드가 참조 대기를 기록하지 못하도록 참조 대기 row 를 lock 한 후 참조 여부를 확인한다.
+     *
+     * @param physicalFileName
+     * @param excludeUniqueId  삭제 중인 첨부파일, 없으면 null
+     * @param now
+     * @return 물리적 파일 삭제 여부
+     */
+    private boolean deleteUnreferencedBlob(String physicalFileName, String excludeUniqueId, LocalDateTime now) {
+        Optional<AttachmentBlob> blob = attachmentBlobRepository.findWithLockByPhysicalFileName(physicalFileName);
+        if (blob.isPresent() && blob.get().isPending(now)) {
+            // 참조 대기 기간이 지나면 sweepBlob 에서 다시 확인한다
+            return false;
+        }
+
+        boolean referenced = excludeUniqueId == null
+                ? attachmentRepository.existsByPhysicalFileName(physicalFileName)
+                : attachmentRepository.existsByPhysicalFileNameAndUniqueIdNot(physicalFileName, excludeUniqueId);
+        blob.ifPresent(attachmentBlobRepository::delete);
+        if (referenced) {
+            return false;
+        }
+
+        // 물리적 파일 삭제
+        boolean deleted = storageUtils.deleteFile(physicalFileName);
+        if (!deleted) {
+            throw new BusinessMessageException(getMessage("valid.file.not_deleted"));
+        }
+        // 변환 이미지 삭제
+        imageVariantService.deleteVariants(physicalFileName);
+        return true;
+    }
+
     /**
      * unique id 로 첨부파일 조회
      *
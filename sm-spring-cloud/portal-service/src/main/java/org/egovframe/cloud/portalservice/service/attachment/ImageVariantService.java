@@ -0,0 +1,404 @@
+package org.egovframe.cloud.portalservice.service.attachment;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.cloud.common.exception.BusinessMessageException;
+import org.egovframe.cloud.portalservice.api.attachment.dto.AttachmentImageResponseDto;
+import org.egovframe.cloud.portalservice.utils.ImageResizeUtils;
+import org.egovframe.cloud.portalservice.utils.ImageVariantCache;
+import org.egovframe.cloud.portalservice.utils.StorageUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * org.egovframe.cloud.portalservice.service.attachment.ImageVariantService
+ * <p>
+ * 이미지 크기 변환(썸네일) 서비스 class
+ * 요청한 가로, 세로(w, h)를 허용 크기 목록 중 크거나 같은 가장 작은 값으로 맞추어 이미지당 변환 이미지 수를 제한한다.
+ * 처음 요청될 때 변환하여 원본과 같은 경로에 '파일명_가로x세로.형식' 으로 StorageUtils 에 저장하고, 로컬 디스크 LRU 캐시에서 응답한다.
+ * 변환은 전용 스레드 풀에서만 실행하여 CPU 사용을 제한하며, 풀이 가득 차거나 대기 시간을 넘으면 원본 이미지로 응답한다.
+ * 대기 시간을 넘긴 변환은 계속 진행되어 다음 요청부터 캐시에서 응답한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj  최초 생성
+ *  2026/10/17    shinmj  변환 이미지 삭제 시 저장소에 있는 변환 이미지만 삭제
+ *  2026/10/17    shinmj  확장자가 없는 파일은 원본 파일명으로 변환 형식 판단
+ * </pre>
+ */
+@Slf4j
+@Service
+public class ImageVariantService implements MeterBinder {
+
+    private static final String METER_NAME = "image.variant";
+
+    /**
+     * 변환 이미지 파일명의 '_' 뒤 부분 (가로x세로.형식)
+     */
+    private static final Pattern VARIANT_SUFFIX = Pattern.compile("^\\d+x\\d+\\.(jpg|png)$");
+
+    private final StorageUtils storageUtils;
+
+    /**
+     * 허용 크기 목록, 오름차순
+     */
+    private final int[] sizes;
+
+    private final long maxPixels;
+
+    private final long timeoutMillis;
+
+    private final ImageVariantCache cache;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 변환 중인 이미지, 같은 이미지를 동시에 요청해도 한 번만 변환한다
+     */
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong storedCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong fallbackCount = new AtomicLong();
+
+    /**
+     * @param storageUtils   첨부파일 저장소
+     * @param sizes          허용 크기 목록(px)
+     * @param cacheDirectory 로컬 디스크 캐시 디렉토리
+     * @param cacheMaxSize   로컬 디스크 캐시 최대 크기(byte)
+     * @param threads        변환 스레드 수, 0 이면 CPU 코어 수의 절반
+     * @param queueSize      변환 대기 최대 건수
+     * @param timeoutMillis  변환 대기 시간(ms), 넘으면 원본으로 응답한다
+     * @param maxPixels      변환할 수 있는 최대 픽셀 수, 넘으면 원본으로 응답한다
+     * @throws IOException
+     */
+    public ImageVariantService(StorageUtils storageUtils,
+                               @Value("${image.variant.sizes:160,320,640,1280}") int[] sizes,
+                               @Value("${image.variant.cache-directory:${java.io.tmpdir}/portal-image-variants}") String cacheDirectory,
+                               @Value("${image.variant.cache-max-size:268435456}") long cacheMaxSize,
+                               @Value("${image.variant.threads:0}") int threads,
+                               @Value("${image.variant.queue-size:100}") int queueSize,
+                               @Value("${image.variant.timeout-ms:10000}") long timeoutMillis,
+                               @Value("${image.variant.max-pixels:40000000}") long maxPixels) throws IOException {
+        this.storageUtils = storageUtils;
+        this.sizes = Arrays.stream(sizes).filter(size -> size > 0).sorted().distinct().toArray();
+        this.maxPixels = maxPixels;
+        this.timeoutMillis = timeoutMillis;
+        this.cache = new ImageVariantCache(Paths.get(cacheDirectory), cacheMaxSize);
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread worker = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    worker.setDaemon(true);
+                    return worker;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 변환 이미지를 조회한다.
+     * 크기를 요청하지 않았거나 변환할 수 없는 형식이면 원본을 리턴한다.
+     *
+     * @param filename 원본 파일명(저장 경로 포함)
+     * @param width    가로
+     * @param height   세로
+     * @param original 원본 이미지 조회, 캐시에 없는 경우에만 호출한다
+     * @return
+     */
+    public AttachmentImageResponseDto load(String filename, Integer width, Integer height, Supplier<AttachmentImageResponseDto> original) {
+        return load(filename, filename, width, height, original);
+    }
+
+    /**
+     * 변환 이미지를 조회한다.
+     * 내용 해시 기반 파일처럼 저장 파일명에 확장자가 없으면 원본 파일명으로 변환 형식을 판단한다.
+     *
+     * @param filename         원본 파일명(저장 경로 포함)
+     * @param originalFileName 변환 형식을 판단할 파일명
+     * @param width            가로
+     * @param height           세로
+     * @param original         원본 이미지 조회, 캐시에 없는 경우에만 호출한다
+     * @return
+     */
+    public AttachmentImageResponseDto load(String filename, String originalFileName, Integer width, Integer height,
+                                           Supplier<AttachmentImageResponseDto> original) {
+        int w = normalize(width);
+        int h = normalize(height);
+        String format = ImageResizeUtils.getOutputFormat(originalFileName);
+        if ((w == 0 && h == 0) || format == null) {
+            return original.get();
+        }
+
+        String variantName = getVariantName(filename, w, h, format);
+        Path cached = cache.get(variantName);
+        if (cached != null) {
+            AttachmentImageResponseDto response = toResponse(cached, format);
+            if (response != null) {
+                hitCount.incrementAndGet();
+                return response;
+            }
+        }
+
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(variantName, created);
+        if (running == null) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        created.complete(create(variantName, w, h, format, original));
+                    } catch (Throwable e) {
+                        created.completeExceptionally(e);
+                    } finally {
+                        inFlight.remove(variantName, created);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(variantName, created);
+                log.debug("image variant queue is full. {}", variantName);
+                return fallback(original);
+            }
+        }
+        CompletableFuture<Path> future = running == null ? created : running;
+
+        try {
+            Path path = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            AttachmentImageResponseDto response = path == null ? null : toResponse(path, format);
+            return response == null ? fallback(original) : response;
+        } catch (TimeoutException e) {
+            log.debug("image variant timeout. {}", variantName);
+            return fallback(original);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessMessageException) {
+                // 원본을 찾을 수 없는 경우
+                throw (BusinessMessageException) e.getCause();
+            }
+            log.warn("image variant 생성 오류. {} : {}", variantName, e.getCause().getMessage());
+            return fallback(original);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback(original);
+        }
+    }
+
+    /**
+     * 원본의 변환 이미지를 저장소와 캐시에서 삭제한다.
+     * 허용 크기 조합을 모두 삭제 요청하지 않고, 원본과 같은 경로의 '파일명_' 으로 시작하는 파일 중 변환 이미지만 삭제한다.
+     * 삭제는 변환 스레드 풀에서 실행한다.
+     *
+     * @param filename 원본 파일명(저장 경로 포함)
+     */
+    public void deleteVariants(String filename) {
+        String prefix = StringUtils.stripFilenameExtension(StringUtils.cleanPath(filename)) + "_";
+        int index = prefix.lastIndexOf('/');
+        String directory = index < 0 ? "" : prefix.substring(0, index);
+        String namePrefix = prefix.substring(index + 1);
+        try {
+            executor.execute(() -> {
+                cache.removeIf(key -> isVariantName(key, prefix));
+                for (String variantName : storageUtils.listFiles(directory, namePrefix)) {
+                    if (isVariantName(variantName, prefix)) {
+                        storageUtils.deleteFile(variantName);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("image variant 삭제 요청 실패. {}", filename);
+        }
+    }
+
+    /**
+     * 변환 이미지를 캐시에 생성한다.
+     * 저장소에 이미 변환 이미지가 있으면 내려받고, 없으면 원본을 변환하여 저장소에 저장한다.
+     *
+     * @return 캐시된 파일 경로, 변환할 수 없는 이미지이면 null
+     * @throws IOException
+     */
+    private Path create(String variantName, int width, int height, String format,
+                        Supplier<AttachmentImageResponseDto> original) throws IOException {
+        Path temp = cache.createTempFile(variantName);
+        try {
+            AttachmentImageResponseDto stored = findStored(variantName);
+            if (stored != null) {
+                try (InputStream in = stored.getResource().getInputStream()) {
+                    Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+                }
+                storedCount.incrementAndGet();
+                return cache.put(variantName, temp);
+            }
+
+            AttachmentImageResponseDto image = original.get();
+            boolean resized;
+            try (InputStream in = image.getResource().getInputStream()) {
+                resized = ImageResizeUtils.resize(in, temp.toFile(), width, height, format, maxPixels);
+            }
+            if (!resized) {
+                return null;
+            }
+            Path path = cache.put(variantName, temp);
+            createdCount.incrementAndGet();
+
+            try {
+                Path parent = Paths.get(variantName).getParent();
+                storageUtils.storeFiles(Collections.singletonList(path.toFile()), parent == null ? "" : parent.toString());
+            } catch (RuntimeException e) {
+                log.warn("image variant 저장 오류. {} : {}", variantName, e.getMessage());
+            }
+            return path;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private AttachmentImageResponseDto findStored(String variantName) {
+        try {
+            return storageUtils.loadImage(variantName);
+        } catch (BusinessMessageException e) {
+            return null;
+        }
+    }
+
+    private AttachmentImageResponseDto fallback(Supplier<AttachmentImageResponseDto> original) {
+        fallbackCount.incrementAndGet();
+        return original.get();
+    }
+
+    private AttachmentImageResponseDto toResponse(Path path, String format) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return AttachmentImageResponseDto.builder()
+                    .mimeType("jpg".equals(format) ? "image/jpeg" : "image/" + format)
+                    .resource(new FileSystemResource(path))
+                    .contentLength(attributes.size())
+                    .lastModified(attributes.lastModifiedTime().toMillis())
+                    .build();
+        } catch (IOException e) {
+            // 캐시에서 삭제된 경우
+            return null;
+        }
+    }
+
+    /**
+     * 요청 크기를 허용 크기 목록 중 크거나 같은 가장 작은 값으로 맞춘다.
+     * 가장 큰 허용 크기보다 크면 가장 큰 허용 크기, 요청하지 않았으면 0
+     *
+     * @param size
+     * @return
+     */
+    private int normalize(Integer size) {
+        if (size == null || size <= 0 || sizes.length == 0) {
+            return 0;
+        }
+        for (int allowed : sizes) {
+            if (allowed >= size) {
+                return allowed;
+            }
+        }
+        return sizes[sizes.length - 1];
+    }
+
+    /**
+     * 변환 이미지 파일명, 원본과 같은 경로에 '파일명_가로x세로.형식' 으로 저장한다.
+     *
+     * @param filename 원본 파일명
+     * @param width    가로
+     * @param height   세로
+     * @param format   형식
+     * @return
+     */
+    static String getVariantName(String filename, int width, int height, String format) {
+        return StringUtils.stripFilenameExtension(filename) + "_" + width + "x" + height + "." + format;
+    }
+
+    /**
+     * 원본 파일명_가로x세로.형식 인지 여부
+     *
+     * @param name   파일명(저장 경로 포함)
+     * @param prefix 원본 파일명(확장자 제외) + '_'
+     * @return
+     */
+    static boolean isVariantName(String name, String prefix) {
+        return name.startsWith(prefix) && VARIANT_SUFFIX.matcher(name.substring(prefix.length())).matches();
+    }
+
+    /**
+     * actuator metrics 에 image.variant 지표를 등록한다.
+     *
+     * @param registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METER_NAME + ".requests", hitCount, AtomicLong::doubleValue)
+                .tag("result", "hit")
+                .description("로컬 디스크 캐시에서 응답한 건수")
+                .register(registry);
+        FunctionCounter.builder(METER_NAME + ".requests", storedCount, AtomicLong::doubleValue)
+                .tag("result", "stored")
+                .description("저장소의 변환 이미지를 내려받아 응답한 건수")
+                .register(registry);
+        FunctionCounter.builder(METER_NAME + ".requests", createdCount, AtomicLong::doubleValue)
+                .tag("result", "created")
+                .description("원본을 변환하여 응답한 건수")
+                .register(registry);
+        FunctionCounter.builder(METER_NAME + ".requests", fallbackCount, AtomicLong::doubleValue)
+                .tag("result", "fallback")
+                .description("변환하지 못해 원본으로 응답한 건수")
+                .register(registry);
+        Gauge.builder(METER_NAME + ".cache.size", cache, ImageVariantCache::size)
+                .description("로컬 디스크 캐시 크기(byte)")
+                .register(registry);
+        Gauge.builder(METER_NAME + ".cache.count", cache, ImageVariantCache::count)
+                .description("로컬 디스크 캐시 파일 수")
+                .register(registry);
+        FunctionCounter.builder(METER_NAME + ".cache.evictions", cache, ImageVariantCache::evictionCount)
+                .description("로컬 디스크 캐시에서 삭제한 파일 수")
+                .register(registry);
+        Gauge.builder(METER_NAME + ".queue.size", executor, e -> e.getQueue().size())
+                .description("변환 대기 건수")
+                .register(registry);
+    }
+}
@@ -5,9 +5,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.egovframe.cloud.common.config.GlobalConstant;
 import org.egovframe.cloud.common.dto.AttachmentEntityMessage;
 import org.egovframe.cloud.common.exception.EntityNotFoundException;
 import org.egovframe.cloud.common.service.AbstractService;
+import org.egovframe.cloud.servlet.service.OutboxEventWriter;
 import org.egovframe.cloud.portalservice.api.banner.dto.BannerImageResponseDto;
 import org.egovframe.cloud.portalservice.api.banner.dto.BannerListResponseDto;
 import org.egovframe.cloud.portalservice.api.banner.dto.BannerRequestDto;
@@ -18,11 +20,11 @@ import org.egovframe.cloud.portalservice.domain.banner.Banner;
 import org.egovframe.cloud.portalservice.domain.banner.BannerRepository;
 import org.egovframe.cloud.portalservice.domain.menu.Site;
 import org.egovframe.cloud.portalservice.domain.menu.SiteRepository;
-import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import lombok.RequiredArgsConstructor;
 
@@ -41,6 +43,7 @@ import lombok.RequiredArgsConstructor;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/08/18    jooho       최초 생성
+ *  2026/10/17    jooho       첨부파일 이벤트를 outbox 로 발행
  * </pre>
  */
 @Transactional(readOnly = true)
@@ -55,9 +58,9 @@ public class BannerService extends AbstractService {
     private final SiteRepository siteRepository;
 
     /**
-     * 이벤트 메시지 발행하기 위한 spring cloud stream 유틸리티 클래스
+     * 첨부파일 이벤트를 업무 데이터와 같은 트랜잭션에서 outbox 에 저장하는 클래스
      */
-    private final StreamBridge streamBridge;
+    private final OutboxEventWriter outboxEventWriter;
 
     /**
      * 조회 조건에 일치하는 배너 페이지 목록 조회
@@ -131,14 +134,17 @@ public class BannerService extends AbstractService {
 
         Banner entity = bannerRepository.save(requestDto.toEntity(site));
 
-        //첨부파일 entity 정보 업데이트 하기 위해 이벤트 메세지 발행
+        //첨부파일 entity 정보 업데이트 하기 위해 이벤트 메세지를 outbox 에 저장, 커밋 후 발행된다.
         sendAttachment(entity);
 
         return new BannerResponseDto(entity);
     }
 
     public void sendAttachment(Banner entity) {
-        sendAttachmentEntityInfo(streamBridge,
+        if (!StringUtils.hasText(entity.getAttachmentCode())) {
+            return;
+        }
+        outboxEventWriter.write(GlobalConstant.ATTACHMENT_ENTITY_BINDING_NAME, entity.getAttachmentCode(),
             AttachmentEntityMessage.builder()
                 .attachmentCode(entity.getAttachmentCode())
                 .entityName(entity.getClass().getName())
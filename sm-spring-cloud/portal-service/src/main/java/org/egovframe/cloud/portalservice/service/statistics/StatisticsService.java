@@ -5,12 +5,17 @@ import org.egovframe.cloud.common.service.AbstractService;
 import org.egovframe.cloud.common.util.LogUtil;
 import org.egovframe.cloud.portalservice.api.statistics.dto.StatisticsResponseDto;
 import org.egovframe.cloud.portalservice.api.statistics.dto.StatisticsYMRequestDto;
-import org.egovframe.cloud.portalservice.domain.statistics.Statistics;
 import org.egovframe.cloud.portalservice.domain.statistics.StatisticsRepository;
+import org.egovframe.cloud.portalservice.domain.statistics.StatisticsRollup;
+import org.egovframe.cloud.portalservice.domain.statistics.StatisticsRollupCounter;
+import org.egovframe.cloud.portalservice.domain.statistics.StatisticsRollupRepository;
+import org.egovframe.cloud.portalservice.domain.statistics.StatisticsWriter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +34,8 @@ import java.util.Map;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/07    shinmj      최초 생성
+ *  2026/10/17    shinmj      접속통계 로그 StatisticsWriter 로 일괄 입력
+ *  2026/10/17    shinmj      접속통계 조회를 집계 테이블로 변경, 집계 재생성 추가
  * </pre>
  */
 @RequiredArgsConstructor
@@ -37,6 +44,10 @@ public class StatisticsService extends AbstractService {
 
     private final StatisticsRepository statisticsRepository;
 
+    private final StatisticsWriter statisticsWriter;
+
+    private final StatisticsRollupRepository statisticsRollupRepository;
+
     /**
      * 접속 통계 월별 조회
      *
@@ -44,7 +55,7 @@ public class StatisticsService extends AbstractService {
      * @return
      */
     public List<StatisticsResponseDto> findMonthlyBySiteId(Long siteId) {
-        return statisticsRepository.findMonthBySiteId(siteId);
+        return statisticsRollupRepository.findMonthBySiteId(siteId);
     }
 
     /**
@@ -55,19 +66,44 @@ public class StatisticsService extends AbstractService {
      * @return
      */
     public List<StatisticsResponseDto> findDailyBySiteId(Long siteId, StatisticsYMRequestDto requestDto) {
-        return statisticsRepository.findDayBySiteId(siteId, requestDto);
+        return statisticsRollupRepository.findDayBySiteId(siteId, requestDto);
+    }
+
+    /**
+     * 접속통계 로그로 집계를 다시 생성한다(backfill).
+     * 월 집계가 일부 기간만으로 덮어써지지 않도록 기간은 월 단위로 확장된다.
+     * 진행 중인 기간을 재생성하면 그 사이 입력되는 로그가 누락될 수 있으므로 지난 기간에 대해 실행한다.
+     *
+     * @param fromDate 시작일
+     * @param toDate   종료일
+     * @return 생성된 집계 구간 건수
+     */
+    @Transactional
+    public int rebuildRollups(LocalDate fromDate, LocalDate toDate) {
+        LocalDateTime from = fromDate.withDayOfMonth(1).atStartOfDay();
+        LocalDateTime to = toDate.withDayOfMonth(1).plusMonths(1).atStartOfDay();
+
+        StatisticsRollupCounter counter = new StatisticsRollupCounter();
+        for (StatisticsRollup hourly : statisticsRepository.aggregateHourly(from, to)) {
+            counter.add(hourly.getSiteId(), hourly.getPeriodStart(), hourly.getViewCount());
+        }
+
+        List<StatisticsRollup> rollups = counter.getRollups();
+        statisticsRollupRepository.deleteInPeriod(from, to);
+        statisticsRollupRepository.increment(rollups);
+        return rollups.size();
     }
 
 
     /**
      * 접속통계 log 입력
+     * 요청 정보만 버퍼에 넣고 DB 입력은 StatisticsWriter 에서 일괄 처리한다.
      *
      * @param request
      */
-    @Transactional
     public void save(HttpServletRequest request, String statisticsId) {
-        statisticsRepository.save(
-                Statistics.builder()
+        statisticsWriter.write(
+                StatisticsWriter.Record.builder()
                         .siteId(LogUtil.getSiteId(request))
                         .statisticsId(statisticsId)
                         .remoteIp(LogUtil.getUserIp())
@@ -9,6 +9,7 @@ import org.egovframe.cloud.common.util.MessageUtil;
 import org.egovframe.cloud.portalservice.api.attachment.dto.AttachmentBase64RequestDto;
 import org.egovframe.cloud.portalservice.api.attachment.dto.AttachmentImageResponseDto;
 import org.springframework.core.env.Environment;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Component;
@@ -19,11 +20,28 @@ import javax.annotation.PostConstruct;
 import java.io.*;
 import java.net.MalformedURLException;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
 
+import static org.egovframe.cloud.portalservice.utils.PortalUtils.CONTENT_ADDRESSED_DIRECTORY;
+import static org.egovframe.cloud.portalservice.utils.PortalUtils.copyWithContentHash;
+import static org.egovframe.cloud.portalservice.utils.PortalUtils.digestContentHash;
+import static org.egovframe.cloud.portalservice.utils.PortalUtils.getContentAddressedFileName;
 import static org.egovframe.cloud.portalservice.utils.PortalUtils.getPhysicalFileName;
+import static org.egovframe.cloud.portalservice.utils.PortalUtils.isContentAddressed;
 
 /**
  * org.egovframe.cloud.portalservice.utils.FileStorageUtils
@@ -40,6 +58,13 @@ import static org.egovframe.cloud.portalservice.utils.PortalUtils.getPhysicalFil
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/13    shinmj  최초 생성
+ *  2026/10/17    shinmj  loadImage 에서 파일을 byte 배열로 읽지 않고 FileSystemResource 로 리턴
+ *  2026/10/17    shinmj  storeFiles 구현 (변환 이미지 저장)
+ *  2026/10/17    shinmj  내용 해시(SHA-256) 기반 중복 제거 저장 추가
+ *  2026/10/17    shinmj  분할 업로드 조각을 FileChannel 위치 지정 쓰기로 .temp 파일에 저장
+ *  2026/10/17    shinmj  디렉토리 파일 목록 조회 추가
+ *  2026/10/17    shinmj  내용 해시 기반 파일을 확장자 없이 저장
+ *  2026/10/17    shinmj  분할 업로드 파일의 내용 해시 기반 저장, 기간이 지난 .temp 파일 목록 추가
  * </pre>
  */
 @Slf4j
@@ -108,6 +133,10 @@ public class FileStorageUtils implements StorageUtils {
      * @return
      */
     public String renameTemp(String physicalFileName) {
+        // 내용 해시 기반 파일은 .temp 로 저장하지 않는다
+        if (isContentAddressed(physicalFileName)) {
+            return physicalFileName;
+        }
         String rename = physicalFileName.replace(".temp", "");
         //물리적 파일 처리
         Path path = getStorePath("");
@@ -193,8 +222,249 @@ public class FileStorageUtils implements StorageUtils {
         }
     }
 
+    /**
+     * MultipartFile -> 내용 해시(SHA-256) 기반 물리적 파일 저장
+     * 같은 파일시스템의 임시 파일에 복사하면서 해시를 계산한 후 해시 경로로 rename 한다.
+     * 같은 내용의 파일이 이미 있으면 임시 파일을 삭제하고 기존 파일 이름을 리턴한다.
+     *
+     * @param file MultipartFile
+     * @return
+     */
+    @Override
+    public String storeContentAddressedFile(MultipartFile file) {
+        Path directory = getStorePath(CONTENT_ADDRESSED_DIRECTORY);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, "upload-", ".temp");
+            String contentHash;
+            try (InputStream inputStream = file.getInputStream()) {
+                contentHash = copyWithContentHash(inputStream, temp);
+            }
+
+            String filename = getContentAddressedFileName(contentHash);
+            Path target = fileStorageLocation.resolve(filename);
+            if (Files.exists(target)) {
+                log.debug("content addressed file already exists : {}", filename);
+                return filename;
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                // 같은 내용이므로 동시에 저장한 파일이 있어도 덮어써도 된다
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return filename;
+        } catch (IOException ex) {
+            log.error("Could not stored file", ex);
+            // 파일을 저장할 수 없습니다. 다시 시도해 주세요.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_saved_try_again"));
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ex) {
+                    log.warn("Could not deleted temp file : {}", ex.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 해시를 이미 계산한 파일 -> 내용 해시(SHA-256) 기반 물리적 파일 저장
+     * 같은 파일시스템이므로 복사하지 않고 해시 경로로 rename 한다.
+     *
+     * @param filename    기본 root 기준 파일 경로
+     * @param contentHash 파일 내용의 SHA-256 hex
+     * @return
+     */
+    @Override
+    public String storeContentAddressedFile(String filename, String contentHash) {
+        Path source = resolveFile(filename);
+        String contentAddressedFileName = getContentAddressedFileName(contentHash);
+        Path target = fileStorageLocation.resolve(contentAddressedFileName);
+        if (Files.exists(target)) {
+            log.debug("content addressed file already exists : {}", contentAddressedFileName);
+            return contentAddressedFileName;
+        }
+
+        try {
+            Files.createDirectories(target.getParent());
+            try {
+                // 같은 내용이므로 동시에 저장한 파일이 있어도 덮어써도 된다
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return contentAddressedFileName;
+        } catch (NoSuchFileException ex) {
+            // 파일을 찾을 수 없습니다.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_found"));
+        } catch (IOException ex) {
+            log.error("Could not stored file", ex);
+            // 파일을 저장할 수 없습니다. 다시 시도해 주세요.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_saved_try_again"));
+        }
+    }
+
+    /**
+     * 분할 업로드할 빈 .temp 파일 생성
+     *
+     * @param originalFileName 원본 파일명
+     * @param basePath         기본 root외 파일이 저장될 경로
+     * @return
+     */
+    @Override
+    public String createTempFile(String originalFileName, String basePath) {
+        String filename = getPhysicalFileName(originalFileName, true);
+
+        try {
+            if (filename.contains("..")) {
+                log.error("Filename contains invalid path sequence : " + filename);
+                // 파일명이 잘못되었습니다.
+                throw new BusinessMessageException(messageUtil.getMessage("valid.file.invalid_name") + " : " + filename);
+            }
+
+            Path path = getStorePath(basePath);
+            Files.createFile(path.resolve(filename));
+
+            return filename;
+        } catch (IOException ex) {
+            log.error("Could not create file", ex);
+            // 파일을 저장할 수 없습니다. 다시 시도해 주세요.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_saved_try_again"));
+        }
+    }
+
+    /**
+     * 분할 업로드 조각을 position 위치부터 저장한다.
+     * 요청 스트림을 읽는 대로 FileChannel 의 위치 지정 쓰기로 .temp 파일에 바로 쓰므로 한 번만 복사한다.
+     * 같은 파일에 동시에 쓰지 않도록 파일 잠금을 얻지 못하면 오류를 던진다.
+     *
+     * @param filename  기본 root 기준 파일 경로
+     * @param position  쓰기 시작 위치, 파일 크기보다 클 수 없다
+     * @param in        조각 내용
+     * @param maxLength position 부터 쓸 수 있는 최대 크기
+     * @return
+     */
+    @Override
+    public long writeChunk(String filename, long position, InputStream in, long maxLength) {
+        Path path = resolveFile(filename);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException ex) {
+                lock = null;
+            }
+            if (lock == null) {
+                throw new BusinessException("Chunk upload in progress : " + filename, ErrorCode.INVALID_INPUT_VALUE);
+            }
+
+            try {
+                if (position < 0 || position > channel.size()) {
+                    throw new BusinessException("Invalid chunk position : " + position + ", size : " + channel.size(), ErrorCode.INVALID_INPUT_VALUE);
+                }
+
+                long limit = position + maxLength;
+                long writePosition = position;
+                ReadableByteChannel source = Channels.newChannel(in);
+                ByteBuffer buffer = ByteBuffer.allocate(65536);
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    if (writePosition + buffer.remaining() > limit) {
+                        // 파일 용량이 너무 큽니다.
+                        throw new BusinessMessageException(messageUtil.getMessage("valid.file.too_big"));
+                    }
+                    while (buffer.hasRemaining()) {
+                        writePosition += channel.write(buffer, writePosition);
+                    }
+                    buffer.clear();
+                }
+                return channel.size();
+            } finally {
+                lock.release();
+            }
+        } catch (NoSuchFileException ex) {
+            // 파일을 찾을 수 없습니다.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_found"));
+        } catch (IOException ex) {
+            log.error("Could not stored chunk", ex);
+            // 파일을 저장할 수 없습니다. 다시 시도해 주세요.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_saved_try_again"));
+        }
+    }
+
+    /**
+     * 파일 크기
+     *
+     * @param filename 기본 root 기준 파일 경로
+     * @return 파일이 없으면 -1
+     */
+    @Override
+    public long getFileSize(String filename) {
+        try {
+            return Files.size(resolveFile(filename));
+        } catch (IOException ex) {
+            return -1L;
+        }
+    }
+
+    /**
+     * 파일 내용의 SHA-256 해시
+     *
+     * @param filename 기본 root 기준 파일 경로
+     * @return
+     */
+    @Override
+    public String getFileContentHash(String filename) {
+        try (InputStream inputStream = Files.newInputStream(resolveFile(filename))) {
+            return digestContentHash(inputStream);
+        } catch (NoSuchFileException ex) {
+            // 파일을 찾을 수 없습니다.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_found"));
+        } catch (IOException ex) {
+            log.error("Could not read file.", ex);
+            // 파일을 찾을 수 없습니다.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_found"));
+        }
+    }
+
+    /**
+     * 기본 root 기준 파일 경로, root 밖의 경로는 허용하지 않는다
+     *
+     * @param filename
+     * @return
+     */
+    private Path resolveFile(String filename) {
+        Path path = fileStorageLocation.resolve(filename).normalize();
+        if (!path.startsWith(fileStorageLocation)) {
+            log.error("Filename contains invalid path sequence : " + filename);
+            // 파일명이 잘못되었습니다.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.invalid_name") + " : " + filename);
+        }
+        return path;
+    }
+
+    /**
+     * file 저장
+     * 저장 경로에 같은 파일명으로 복사하며, 이미 저장 경로에 있는 파일이면 복사하지 않는다.
+     *
+     * @param files
+     * @param basePath
+     */
     @Override
     public void storeFiles(List<File> files, String basePath) {
+        Path path = getStorePath(basePath);
+        for (File file : files) {
+            try {
+                Files.copy(file.toPath(), path.resolve(file.getName()), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException ex) {
+                log.error("Could not stored file", ex);
+                // 파일을 저장할 수 없습니다. 다시 시도해 주세요.
+                throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_saved_try_again"));
+            }
+        }
     }
 
     /**
@@ -265,31 +535,29 @@ public class FileStorageUtils implements StorageUtils {
     }
 
     /**
-     * image 태그에서 호출 시 byte 배열로 return
+     * image 태그에서 호출 시 이미지 Resource 로 return
+     * FileSystemResource 는 응답 시 FileChannel 로 전송되므로 파일 크기와 관계없이 힙 사용량이 일정하다.
      *
      * @param imagename
-     * @return public String getContentType(String filename) {
-     * @throws IOException
+     * @return
      */
     public AttachmentImageResponseDto loadImage(String imagename) {
         try {
             Path imagePath = this.fileStorageLocation.resolve(imagename).normalize();
-            try (InputStream is = new FileInputStream(imagePath.toFile())) {
-                try (ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
-                    int read;
-                    byte[] data = new byte[(int) imagePath.toFile().length()];
-                    while ((read = is.read(data, 0, data.length)) != -1) {
-                        buffer.write(data, 0, read);
-                    }
-
-                    return AttachmentImageResponseDto.builder()
-                            .mimeType(getContentType(imagename))
-                            .data(data)
-                            .build();
-                }
+            BasicFileAttributes attributes = Files.readAttributes(imagePath, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                // 파일을 찾을 수 없습니다.
+                throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_found"));
             }
 
-        } catch (FileNotFoundException | NoSuchFileException ex) {
+            return AttachmentImageResponseDto.builder()
+                    .mimeType(getContentType(imagename))
+                    .resource(new FileSystemResource(imagePath))
+                    .contentLength(attributes.size())
+                    .lastModified(attributes.lastModifiedTime().toMillis())
+                    .build();
+
+        } catch (NoSuchFileException ex) {
             // 파일을 찾을 수 없습니다.
             throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_found"));
         } catch (IOException iex) {
@@ -299,6 +567,57 @@ public class FileStorageUtils implements StorageUtils {
         }
     }
 
+    /**
+     * 디렉토리에서 prefix 로 시작하는 파일 목록
+     *
+     * @param directory
+     * @param prefix
+     * @return
+     */
+    @Override
+    public List<String> listFiles(String directory, String prefix) {
+        Path path = resolveFile(directory);
+        if (!Files.isDirectory(path)) {
+            return Collections.emptyList();
+        }
+        List<String> filenames = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(path, file -> file.getFileName().toString().startsWith(prefix))) {
+            for (Path file : stream) {
+                filenames.add(StringUtils.cleanPath(directory + "/" + file.getFileName()));
+            }
+        } catch (IOException e) {
+            log.error("Could not list files.", e);
+        }
+        return filenames;
+    }
+
+    /**
+     * 디렉토리에서 마지막 수정 시각이 기준 시각 이전인 .temp 파일 목록
+     *
+     * @param directory
+     * @param modifiedBefore
+     * @return
+     */
+    @Override
+    public List<String> listExpiredTempFiles(String directory, LocalDateTime modifiedBefore) {
+        Path path = resolveFile(directory);
+        if (!Files.isDirectory(path)) {
+            return Collections.emptyList();
+        }
+        FileTime expiredTime = FileTime.from(modifiedBefore.atZone(ZoneId.systemDefault()).toInstant());
+        List<String> filenames = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(path, "*.temp")) {
+            for (Path file : stream) {
+                if (Files.isRegularFile(file) && Files.getLastModifiedTime(file).compareTo(expiredTime) < 0) {
+                    filenames.add(StringUtils.cleanPath(directory + "/" + file.getFileName()));
+                }
+            }
+        } catch (IOException e) {
+            log.error("Could not list files.", e);
+        }
+        return filenames;
+    }
+
     /**
      * 물리적 파일 삭제
      *
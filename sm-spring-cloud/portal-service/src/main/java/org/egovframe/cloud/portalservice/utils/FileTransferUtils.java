@@ -0,0 +1,103 @@
+package org.egovframe.cloud.portalservice.utils;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * org.egovframe.cloud.portalservice.utils.FileTransferUtils
+ * <p>
+ * 로컬 파일을 응답으로 전송하는 유틸 클래스
+ * 톰캣이 sendfile 을 지원하면 요청 속성에 전송할 파일과 범위만 지정하고, 응답이 끝난 뒤 톰캣이 커널에서 소켓으로 직접 전송한다.
+ * 지원하지 않으면 FileChannel.transferTo 로 지정한 위치부터 전송하며, 어느 경우에도 파일 내용을 힙에 올리지 않는다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj  최초 생성
+ * </pre>
+ */
+public class FileTransferUtils {
+
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private FileTransferUtils() {
+    }
+
+    /**
+     * 파일의 position 부터 count 바이트를 응답 본문으로 전송한다.
+     * Content-Length 등 응답 헤더는 호출 전에 설정되어 있어야 한다.
+     *
+     * @param file            전송할 파일
+     * @param position        시작 위치
+     * @param count           전송할 바이트 수
+     * @param outputMessage   응답
+     * @param sendfileMinSize sendfile 을 사용할 최소 바이트 수, 작은 파일은 버퍼 복사가 더 빠르다
+     * @throws IOException
+     */
+    public static void transfer(File file, long position, long count, HttpOutputMessage outputMessage, long sendfileMinSize) throws IOException {
+        if (count <= 0) {
+            return;
+        }
+
+        HttpServletRequest request = getRequest();
+        if (request != null && "HEAD".equals(request.getMethod())) {
+            // HEAD 요청은 본문을 전송하지 않는다
+            return;
+        }
+        if (request != null && count >= sendfileMinSize
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.getCanonicalPath());
+            request.setAttribute(SENDFILE_START_ATTR, position);
+            request.setAttribute(SENDFILE_END_ATTR, position + count);
+            // 본문은 쓰지 않고 헤더만 내보내면 톰캣이 응답을 마무리할 때 파일을 전송한다
+            outputMessage.getBody().flush();
+            return;
+        }
+
+        // 응답 스트림은 컨테이너가 닫으므로 채널을 닫지 않는다
+        WritableByteChannel target = Channels.newChannel(outputMessage.getBody());
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long end = position + count;
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    // 요청 중 파일이 잘린 경우
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    /**
+     * 현재 요청, servlet 요청 처리 중이 아니면 null
+     *
+     * @return
+     */
+    private static HttpServletRequest getRequest() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes instanceof ServletRequestAttributes) {
+            return ((ServletRequestAttributes) requestAttributes).getRequest();
+        }
+        return null;
+    }
+}
@@ -3,7 +3,6 @@ package org.egovframe.cloud.portalservice.utils;
 import java.util.ArrayList;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.apache.commons.net.ftp.FTPClient;
 import org.springframework.core.env.Environment;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -25,6 +24,7 @@ import java.util.List;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/07    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  FTPClient 는 FtpClientPool 에서 생성하므로 필드 제거
  * </pre>
  */
 @Getter
@@ -37,13 +37,11 @@ public class FtpClientDto {
     private String directory; // 기본 상위 저장 경로
     private String path; // 하위 저장 경로
 
-    private FTPClient ftpClient;
     private MultipartFile file;
     private List<File> files;
     private String filename;
 
     public FtpClientDto(Environment env) {
-        this.ftpClient = new FTPClient();
         this.hostname = env.getProperty("ftp.hostname");
         this.port = Integer.parseInt(env.getProperty("ftp.port", ""));
         this.username = env.getProperty("ftp.username");
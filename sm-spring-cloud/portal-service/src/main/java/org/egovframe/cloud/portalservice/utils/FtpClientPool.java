@@ -0,0 +1,280 @@
+package org.egovframe.cloud.portalservice.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.net.ftp.FTP;
+import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.net.ftp.FTPReply;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * org.egovframe.cloud.portalservice.utils.FtpClientPool
+ * <p>
+ * FTP 서버 접속 pool
+ * 작업마다 접속, 로그인, 종료하지 않고 로그인된 접속을 재사용하여 작은 파일 전송 시 접속 시간을 줄인다.
+ * 동시에 사용하는 접속 수는 maxPerHost 로 제한하며, 모두 사용 중이면 borrowTimeout 동안 기다린 후 IOException 을 던진다.
+ * 반납 후 validationInterval 이 지난 접속은 빌려줄 때 NOOP 으로 확인하고, idleTimeout 동안 사용하지 않은 접속은 백그라운드 스레드가 종료한다.
+ * 응답 없는 서버에 접속이 묶이지 않도록 control, data 접속에 read timeout 을 설정한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  control, data 접속 read timeout 설정, 테스트용 FTPClient 생성 함수 주입
+ * </pre>
+ */
+@Slf4j
+public class FtpClientPool {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 3000;
+    private static final int SO_TIMEOUT_MILLIS = 30000;
+    private static final int DATA_TIMEOUT_MILLIS = 30000;
+
+    private final String hostname;
+    private final int port;
+    private final String username;
+    private final String password;
+
+    private final int maxPerHost;
+    private final long borrowTimeoutMillis;
+    private final long idleTimeoutNanos;
+    private final long validationIntervalNanos;
+
+    private final Supplier<FTPClient> clientFactory;
+
+    /**
+     * 사용 가능한 접속 수
+     */
+    private final Semaphore permits;
+
+    /**
+     * 반납된 접속, 최근 반납한 접속을 먼저 사용한다
+     */
+    private final ConcurrentLinkedDeque<IdleClient> idleClients = new ConcurrentLinkedDeque<>();
+
+    private final AtomicLong createdCount = new AtomicLong();
+
+    private final Thread evictor;
+
+    private volatile boolean closed;
+
+    /**
+     * @param ftpClientDto             FTP 서버 접속 정보
+     * @param maxPerHost               최대 접속 수
+     * @param borrowTimeoutMillis      접속을 기다리는 최대 시간(ms)
+     * @param idleTimeoutMillis        사용하지 않는 접속을 유지하는 시간(ms)
+     * @param validationIntervalMillis 반납 후 이 시간이 지난 접속은 NOOP 으로 확인한다(ms)
+     */
+    public FtpClientPool(FtpClientDto ftpClientDto, int maxPerHost, long borrowTimeoutMillis,
+                         long idleTimeoutMillis, long validationIntervalMillis) {
+        this(ftpClientDto, maxPerHost, borrowTimeoutMillis, idleTimeoutMillis, validationIntervalMillis, FTPClient::new);
+    }
+
+    /**
+     * @param clientFactory FTPClient 생성 함수, 테스트에서 FTP 서버 없이 확인할 때 사용한다
+     */
+    FtpClientPool(FtpClientDto ftpClientDto, int maxPerHost, long borrowTimeoutMillis,
+                  long idleTimeoutMillis, long validationIntervalMillis, Supplier<FTPClient> clientFactory) {
+        this.hostname = ftpClientDto.getHostname();
+        this.port = ftpClientDto.getPort();
+        this.username = ftpClientDto.getUsername();
+        this.password = ftpClientDto.getPassword();
+        this.maxPerHost = maxPerHost;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.validationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(validationIntervalMillis);
+        this.permits = new Semaphore(maxPerHost, true);
+        this.clientFactory = clientFactory;
+
+        this.evictor = new Thread(this::runEvictor, "ftp-pool-evictor");
+        this.evictor.setDaemon(true);
+        this.evictor.start();
+    }
+
+    /**
+     * 로그인된 접속을 빌린다. 사용 후 반드시 release 로 반납해야 한다.
+     *
+     * @return
+     * @throws IOException 접속 실패, 또는 borrowTimeout 동안 사용 가능한 접속이 없는 경우
+     */
+    public FTPClient borrow() throws IOException {
+        if (closed) {
+            throw new IOException("FTP connection pool is closed");
+        }
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IOException("FTP connection pool borrow timeout. maxPerHost=" + maxPerHost);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("FTP connection pool borrow interrupted", e);
+        }
+
+        try {
+            IdleClient idle;
+            while ((idle = idleClients.pollFirst()) != null) {
+                if (System.nanoTime() - idle.releasedAt < validationIntervalNanos || validate(idle.ftpClient)) {
+                    return idle.ftpClient;
+                }
+                destroy(idle.ftpClient);
+            }
+            return create();
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 접속을 반납한다.
+     *
+     * @param ftpClient
+     * @param reusable  오류 없이 사용한 접속이면 true, 오류가 난 접속은 재사용하지 않고 종료한다
+     */
+    public void release(FTPClient ftpClient, boolean reusable) {
+        try {
+            if (reusable && !closed && ftpClient.isConnected()) {
+                idleClients.offerFirst(new IdleClient(ftpClient, System.nanoTime()));
+            } else {
+                destroy(ftpClient);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 사용하지 않는 접속을 모두 종료하고 pool 을 닫는다.
+     * 사용 중인 접속은 반납할 때 종료된다.
+     */
+    public void close() {
+        closed = true;
+        LockSupport.unpark(evictor);
+        IdleClient idle;
+        while ((idle = idleClients.pollFirst()) != null) {
+            destroy(idle.ftpClient);
+        }
+    }
+
+    public int getIdleCount() {
+        return idleClients.size();
+    }
+
+    public int getActiveCount() {
+        return maxPerHost - permits.availablePermits();
+    }
+
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * FTP 서버에 접속하여 로그인한다.
+     *
+     * @return
+     * @throws IOException
+     */
+    private FTPClient create() throws IOException {
+        FTPClient ftpClient = clientFactory.get();
+        ftpClient.setControlEncoding(StandardCharsets.UTF_8.name());
+        ftpClient.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        ftpClient.setDataTimeout(DATA_TIMEOUT_MILLIS);
+        try {
+            ftpClient.connect(hostname, port);
+            // socket 이 생성된 후에 설정할 수 있다
+            ftpClient.setSoTimeout(SO_TIMEOUT_MILLIS);
+            if (!FTPReply.isPositiveCompletion(ftpClient.getReplyCode())) {
+                throw new IOException("FTP server refused connection. reply=" + ftpClient.getReplyString());
+            }
+            if (!ftpClient.login(username, password)) {
+                throw new IOException("FTP login failed. reply=" + ftpClient.getReplyString());
+            }
+            ftpClient.setFileType(FTP.BINARY_FILE_TYPE);
+            ftpClient.setFileTransferMode(FTP.BINARY_FILE_TYPE);
+            ftpClient.enterLocalPassiveMode();
+        } catch (IOException e) {
+            destroy(ftpClient);
+            throw e;
+        }
+        createdCount.incrementAndGet();
+        log.info("FTPClient connected. host={}, created={}", hostname, createdCount.get());
+        return ftpClient;
+    }
+
+    private boolean validate(FTPClient ftpClient) {
+        try {
+            return ftpClient.isConnected() && ftpClient.sendNoOp();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void destroy(FTPClient ftpClient) {
+        if (!ftpClient.isConnected()) {
+            return;
+        }
+        try {
+            ftpClient.logout();
+        } catch (IOException e) {
+            log.debug("FTPClient logout error : {}", e.getMessage());
+        }
+        try {
+            ftpClient.disconnect();
+        } catch (IOException e) {
+            log.debug("FTPClient disconnect error : {}", e.getMessage());
+        }
+    }
+
+    private void runEvictor() {
+        long interval = Math.max(TimeUnit.SECONDS.toNanos(1), idleTimeoutNanos / 2);
+        while (!closed) {
+            LockSupport.parkNanos(this, interval);
+            evictIdle();
+        }
+    }
+
+    /**
+     * idleTimeout 동안 사용하지 않은 접속을 종료한다.
+     * 오래 반납된 접속은 deque 의 뒤쪽에 있다.
+     */
+    void evictIdle() {
+        long now = System.nanoTime();
+        Iterator<IdleClient> iterator = idleClients.descendingIterator();
+        while (iterator.hasNext()) {
+            IdleClient idle = iterator.next();
+            if (now - idle.releasedAt < idleTimeoutNanos) {
+                break;
+            }
+            if (idleClients.removeFirstOccurrence(idle)) {
+                destroy(idle.ftpClient);
+            }
+        }
+    }
+
+    /**
+     * 반납된 접속과 반납 시각
+     */
+    private static class IdleClient {
+        private final FTPClient ftpClient;
+        private final long releasedAt;
+
+        private IdleClient(FTPClient ftpClient, long releasedAt) {
+            this.ftpClient = ftpClient;
+            this.releasedAt = releasedAt;
+        }
+    }
+}
@@ -1,14 +1,10 @@
 package org.egovframe.cloud.portalservice.utils;
 
-import java.nio.file.Files;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.net.ftp.FTP;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.net.ftp.FTPFile;
 import org.egovframe.cloud.common.exception.BusinessException;
 import org.egovframe.cloud.common.exception.BusinessMessageException;
 import org.egovframe.cloud.common.exception.dto.ErrorCode;
@@ -23,19 +19,32 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.*;
+import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
-import java.net.SocketException;
 import java.net.URL;
 import java.net.URLConnection;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.NoSuchFileException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.egovframe.cloud.portalservice.utils.PortalUtils.CONTENT_ADDRESSED_DIRECTORY;
+import static org.egovframe.cloud.portalservice.utils.PortalUtils.copyWithContentHash;
+import static org.egovframe.cloud.portalservice.utils.PortalUtils.digestContentHash;
+import static org.egovframe.cloud.portalservice.utils.PortalUtils.getContentAddressedFileName;
 import static org.egovframe.cloud.portalservice.utils.PortalUtils.getPhysicalFileName;
 
 /**
@@ -53,6 +62,13 @@ import static org.egovframe.cloud.portalservice.utils.PortalUtils.getPhysicalFil
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/09    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  loadImage 에서 파일을 byte 배열로 읽지 않고 스트림으로 전송하는 Resource 로 리턴
+ *  2026/10/17    jaeyeolkim  작업마다 접속하지 않고 FtpClientPool 의 접속을 사용, storeFiles 병렬 업로드
+ *  2026/10/17    jaeyeolkim  내용 해시(SHA-256) 기반 중복 제거 저장 추가
+ *  2026/10/17    jaeyeolkim  분할 업로드 조각을 REST + STOR 로 .temp 파일에 저장
+ *  2026/10/17    jaeyeolkim  디렉토리 파일 목록 조회 추가
+ *  2026/10/17    jaeyeolkim  내용 해시 기반 파일을 확장자 없이 저장
+ *  2026/10/17    jaeyeolkim  분할 업로드 파일의 내용 해시 기반 저장, 기간이 지난 .temp 파일 목록 추가
  * </pre>
  */
 @Slf4j
@@ -63,6 +79,16 @@ public class FtpStorageUtils implements StorageUtils {
     private final Environment environment;
     private final MessageUtil messageUtil;
 
+    /**
+     * FTP 서버 접속 pool, 처음 사용할 때 생성한다
+     */
+    private volatile FtpClientPool ftpClientPool;
+
+    /**
+     * 여러 파일 병렬 업로드 스레드 풀, 처음 사용할 때 생성한다
+     */
+    private volatile ExecutorService uploadExecutor;
+
     public FtpStorageUtils(Environment environment, MessageUtil messageUtil) {
         this.environment = environment;
         this.messageUtil = messageUtil;
@@ -77,25 +103,35 @@ public class FtpStorageUtils implements StorageUtils {
             String ftpEnabled = environment.getProperty("ftp.enabled");
             // ftp server 사용하는 환경에서만 처리
             if (StringUtils.hasLength(ftpEnabled) && "true".equals(ftpEnabled)) {
-                FtpClientDto ftpClientDto = new FtpClientDto(environment);
-                this.connect(ftpClientDto);
-                FTPClient ftpClient = ftpClientDto.getFtpClient();
-
-                // 업로드 기본 디렉토리 생성 및 권한 부여
-                String rootDir = ftpClientDto.getDirectory();
-                makePermissionDirectory(ftpClient, rootDir);
-
-                // editor, messages 디렉토리 생성 및 권한 부여
-                makePermissionDirectory(ftpClient, rootDir + "/editor");
-                makePermissionDirectory(ftpClient, rootDir + "/messages");
-
-                this.disconnect(ftpClient);
+                String rootDir = environment.getProperty("ftp.directory");
+                this.execute(ftpClient -> {
+                    // 업로드 기본 디렉토리 생성 및 권한 부여
+                    makePermissionDirectory(ftpClient, rootDir);
+
+                    // editor, messages 디렉토리 생성 및 권한 부여
+                    makePermissionDirectory(ftpClient, rootDir + "/editor");
+                    makePermissionDirectory(ftpClient, rootDir + "/messages");
+                    return null;
+                });
             }
         } catch (IOException ex) {
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "Could not create the directory where the uploaded files will be stored.");
         }
     }
 
+    /**
+     * 접속 pool 과 업로드 스레드 풀을 종료한다
+     */
+    @PreDestroy
+    public void destroy() {
+        if (uploadExecutor != null) {
+            uploadExecutor.shutdownNow();
+        }
+        if (ftpClientPool != null) {
+            ftpClientPool.close();
+        }
+    }
+
     private void makePermissionDirectory(FTPClient ftpClient, String directory) throws IOException {
         // 디렉토리 생성
         ftpClient.makeDirectory(directory);
@@ -107,103 +143,163 @@ public class FtpStorageUtils implements StorageUtils {
     }
 
     /**
-     * FTP 서버에 접속한다
+     * FTP 서버 접속 pool
+     * ftp.pool.max-per-host            최대 접속 수 (기본 8)
+     * ftp.pool.borrow-timeout-ms       접속을 기다리는 최대 시간 (기본 5000)
+     * ftp.pool.idle-timeout-ms         사용하지 않는 접속을 유지하는 시간 (기본 60000)
+     * ftp.pool.validation-interval-ms  반납 후 이 시간이 지난 접속은 NOOP 으로 확인 (기본 5000)
      *
-     * @param ftpClientDto
      * @return
      */
-    private FtpClientDto connect(FtpClientDto ftpClientDto) {
-        FTPClient ftpClient = ftpClientDto.getFtpClient();
-
-        try {
-            // connect
-            ftpClient.setControlEncoding(StandardCharsets.UTF_8.name());
-            ftpClient.setConnectTimeout(3000);
-            ftpClient.connect(ftpClientDto.getHostname(), ftpClientDto.getPort());
-
-            boolean login = ftpClient.login(ftpClientDto.getUsername(), ftpClientDto.getPassword());
-            log.info("FTPClient login: {}", login);
-            ftpClient.setFileType(FTP.BINARY_FILE_TYPE);
-            ftpClient.setFileTransferMode(FTP.BINARY_FILE_TYPE);
-            ftpClient.enterLocalPassiveMode();
-
-        } catch (SocketException e) {
-            log.error("FTPClient SocketException connect", e);
-            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_saved_try_again"));
-        } catch (IOException e) {
-            log.error("FTPClient IOException connect", e);
-            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_saved_try_again"));
+    private FtpClientPool getFtpClientPool() {
+        FtpClientPool pool = ftpClientPool;
+        if (pool == null) {
+            synchronized (this) {
+                if (ftpClientPool == null) {
+                    ftpClientPool = new FtpClientPool(new FtpClientDto(environment),
+                            environment.getProperty("ftp.pool.max-per-host", Integer.class, 8),
+                            environment.getProperty("ftp.pool.borrow-timeout-ms", Long.class, 5000L),
+                            environment.getProperty("ftp.pool.idle-timeout-ms", Long.class, 60000L),
+                            environment.getProperty("ftp.pool.validation-interval-ms", Long.class, 5000L));
+                }
+                pool = ftpClientPool;
+            }
         }
-
-        return ftpClientDto;
+        return pool;
     }
 
     /**
-     * FTP 서버 접속을 종료한다
+     * 여러 파일 병렬 업로드 스레드 풀, 스레드 수는 최대 접속 수와 같다
      *
-     * @param ftpClient
+     * @return
      */
-    private void disconnect(FTPClient ftpClient) {
-        // logout & disconnect
-        if (ftpClient.isConnected()) {
-            try {
-                ftpClient.logout();
-                ftpClient.disconnect();
-            } catch (IOException e) {
-                log.error("FTPClient IOException disconnect", e);
-                throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_saved_try_again"));
+    private ExecutorService getUploadExecutor() {
+        ExecutorService executor = uploadExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                if (uploadExecutor == null) {
+                    int threads = environment.getProperty("ftp.pool.max-per-host", Integer.class, 8);
+                    AtomicInteger threadNumber = new AtomicInteger();
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            runnable -> {
+                                Thread worker = new Thread(runnable, "ftp-upload-" + threadNumber.incrementAndGet());
+                                worker.setDaemon(true);
+                                return worker;
+                            });
+                    pool.allowCoreThreadTimeOut(true);
+                    uploadExecutor = pool;
+                }
+                executor = uploadExecutor;
             }
         }
+        return executor;
+    }
+
+    /**
+     * pool 에서 접속을 빌려 작업한 후 반납한다.
+     * 작업 중 오류가 나면 접속을 재사용하지 않고 종료한다.
+     *
+     * @param callback
+     * @return
+     * @throws IOException
+     */
+    private <T> T execute(FtpCallback<T> callback) throws IOException {
+        FtpClientPool pool = getFtpClientPool();
+        FTPClient ftpClient = pool.borrow();
+        boolean reusable = false;
+        try {
+            T result = callback.doInFtp(ftpClient);
+            reusable = true;
+            return result;
+        } finally {
+            pool.release(ftpClient, reusable);
+        }
     }
 
     /**
-     * FTP 서버에 접속하여 파일을 저장한 후 접속을 종료한다
+     * FTP 서버에 파일을 저장한다
+     * 여러 파일은 파일마다 pool 의 접속을 하나씩 빌려 병렬로 업로드한다.
      *
      * @param ftpClientDto
      * @param isList
      */
     public void storeFile(FtpClientDto ftpClientDto, boolean isList) {
-        FTPClient ftpClient = ftpClientDto.getFtpClient();
+        String pathname = ftpClientDto.getPathname();
         try {
-            // connect
-            this.connect(ftpClientDto);
-
-            // 디렉토리 생성 및 권한 부여
-            this.makePermissionDirectory(ftpClient, ftpClientDto.getPathname());
-
-            // upload
             if (isList) {
+                // 디렉토리 생성 및 권한 부여
+                this.execute(ftpClient -> {
+                    this.makePermissionDirectory(ftpClient, pathname);
+                    return null;
+                });
+
                 List<File> files = ftpClientDto.getFiles();
+                if (files.size() == 1) {
+                    this.storeLocalFile(pathname, files.get(0));
+                    return;
+                }
+                List<CompletableFuture<Void>> uploads = new ArrayList<>(files.size());
                 for (File file : files) {
-                    try (InputStream inputStream = new FileInputStream(file)) {
-                        String remote = ftpClientDto.getPathname() + "/" + file.getName();
-//                        String remote = "/mnt/messages/" + file.getName();
-                        boolean storeFile = ftpClient.storeFile(remote, inputStream);
-                        // 파일 권한 부여
-                        this.setPermission(ftpClient, remote);
-                        log.info("FTPClient storeFile '{}' SUCCESS? {}", remote, storeFile);
+                    uploads.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            this.storeLocalFile(pathname, file);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }, getUploadExecutor()));
+                }
+                try {
+                    CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof UncheckedIOException) {
+                        throw ((UncheckedIOException) e.getCause()).getCause();
                     }
+                    throw e;
                 }
             } else {
                 MultipartFile file = ftpClientDto.getFile();
-                try (InputStream inputStream = file.getInputStream()) {
-                    String remote = ftpClientDto.getRemote();
-                    boolean storeFile = ftpClient.storeFile(remote, inputStream);
-                    // 파일 권한 부여
-                    this.setPermission(ftpClient, remote);
-                    log.info("FTPClient storeFile remote={}, SUCCESS? {}", remote, storeFile);
-                }
+                String remote = ftpClientDto.getRemote();
+                this.execute(ftpClient -> {
+                    // 디렉토리 생성 및 권한 부여
+                    this.makePermissionDirectory(ftpClient, pathname);
+
+                    try (InputStream inputStream = file.getInputStream()) {
+                        boolean storeFile = ftpClient.storeFile(remote, inputStream);
+                        // 파일 권한 부여
+                        this.setPermission(ftpClient, remote);
+                        log.info("FTPClient storeFile remote={}, SUCCESS? {}", remote, storeFile);
+                    }
+                    return null;
+                });
             }
 
         } catch (IOException e) {
             log.error("FTPClient Exception", e);
             throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_saved_try_again"));
-        } finally {
-            // logout & disconnect
-            this.disconnect(ftpClient);
         }
     }
 
+    /**
+     * 로컬 파일을 FTP 서버에 같은 파일명으로 저장한다
+     *
+     * @param pathname 저장 경로
+     * @param file
+     * @throws IOException
+     */
+    private void storeLocalFile(String pathname, File file) throws IOException {
+        String remote = pathname + "/" + file.getName();
+        this.execute(ftpClient -> {
+            try (InputStream inputStream = new FileInputStream(file)) {
+                boolean storeFile = ftpClient.storeFile(remote, inputStream);
+                // 파일 권한 부여
+                this.setPermission(ftpClient, remote);
+                log.info("FTPClient storeFile '{}' SUCCESS? {}", remote, storeFile);
+            }
+            return null;
+        });
+    }
+
     /**
      * MultipartFile -> 물리적 파일 저장
      *
@@ -228,6 +324,265 @@ public class FtpStorageUtils implements StorageUtils {
         return filename;
     }
 
+    /**
+     * MultipartFile -> 내용 해시(SHA-256) 기반 물리적 파일 저장
+     * 로컬 임시 파일에 복사하면서 해시를 계산한 후, FTP 서버에 같은 파일이 없을 때만 업로드한다.
+     * 업로드 중인 파일이 조회되지 않도록 .part 로 업로드한 후 rename 한다.
+     *
+     * @param file MultipartFile
+     * @return
+     */
+    @Override
+    public String storeContentAddressedFile(MultipartFile file) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile("ftp-upload-", ".temp");
+            String contentHash;
+            try (InputStream inputStream = file.getInputStream()) {
+                contentHash = copyWithContentHash(inputStream, temp);
+            }
+
+            String filename = getContentAddressedFileName(contentHash);
+            String rootDir = environment.getProperty("ftp.directory");
+            String remote = rootDir + "/" + filename;
+            Path local = temp;
+            this.execute(ftpClient -> {
+                String[] existing = ftpClient.listNames(remote);
+                if (existing != null && existing.length > 0) {
+                    log.debug("content addressed file already exists : {}", filename);
+                    return null;
+                }
+
+                // 해시 디렉토리 생성 및 권한 부여 (sha256/ab/cd)
+                String directory = rootDir + "/" + CONTENT_ADDRESSED_DIRECTORY;
+                this.makePermissionDirectory(ftpClient, directory);
+                directory += "/" + contentHash.substring(0, 2);
+                this.makePermissionDirectory(ftpClient, directory);
+                directory += "/" + contentHash.substring(2, 4);
+                this.makePermissionDirectory(ftpClient, directory);
+
+                String part = remote + ".part";
+                try (InputStream inputStream = Files.newInputStream(local)) {
+                    if (!ftpClient.storeFile(part, inputStream)) {
+                        throw new IOException("FTPClient storeFile failed. reply=" + ftpClient.getReplyString());
+                    }
+                }
+                if (!ftpClient.rename(part, remote)) {
+                    throw new IOException("FTPClient rename failed. reply=" + ftpClient.getReplyString());
+                }
+                // 파일 권한 부여
+                this.setPermission(ftpClient, remote);
+                log.info("FTPClient storeFile remote={}", remote);
+                return null;
+            });
+
+            return filename;
+        } catch (IOException e) {
+            log.error("FTPClient Exception", e);
+            // 파일을 저장할 수 없습니다. 다시 시도해 주세요.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_saved_try_again"));
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    log.warn("Could not deleted temp file : {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 해시를 이미 계산한 파일 -> 내용 해시(SHA-256) 기반 물리적 파일 저장
+     * FTP 서버에서 RNFR/RNTO 로 해시 경로로 옮기므로 내려받거나 다시 올리지 않는다.
+     *
+     * @param filename    기본 root 기준 파일 경로
+     * @param contentHash 파일 내용의 SHA-256 hex
+     * @return
+     */
+    @Override
+    public String storeContentAddressedFile(String filename, String contentHash) {
+        String contentAddressedFileName = getContentAddressedFileName(contentHash);
+        String rootDir = environment.getProperty("ftp.directory");
+        String source = rootDir + StringUtils.cleanPath("/" + filename);
+        String remote = rootDir + "/" + contentAddressedFileName;
+        try {
+            this.execute(ftpClient -> {
+                String[] existing = ftpClient.listNames(remote);
+                if (existing != null && existing.length > 0) {
+                    log.debug("content addressed file already exists : {}", contentAddressedFileName);
+                    return null;
+                }
+
+                // 해시 디렉토리 생성 및 권한 부여 (sha256/ab/cd)
+                String directory = rootDir + "/" + CONTENT_ADDRESSED_DIRECTORY;
+                this.makePermissionDirectory(ftpClient, directory);
+                directory += "/" + contentHash.substring(0, 2);
+                this.makePermissionDirectory(ftpClient, directory);
+                directory += "/" + contentHash.substring(2, 4);
+                this.makePermissionDirectory(ftpClient, directory);
+
+                if (!ftpClient.rename(source, remote)) {
+                    throw new IOException("FTPClient rename failed. reply=" + ftpClient.getReplyString());
+                }
+                // 파일 권한 부여
+                this.setPermission(ftpClient, remote);
+                log.info("FTPClient rename {} -> {}", source, remote);
+                return null;
+            });
+            return contentAddressedFileName;
+        } catch (IOException e) {
+            log.error("FTPClient Exception", e);
+            // 파일을 저장할 수 없습니다. 다시 시도해 주세요.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_saved_try_again"));
+        }
+    }
+
+    /**
+     * 분할 업로드할 빈 .temp 파일 생성
+     *
+     * @param originalFileName 원본 파일명
+     * @param basePath         기본 root외 파일이 저장될 경로
+     * @return
+     */
+    @Override
+    public String createTempFile(String originalFileName, String basePath) {
+        String filename = getPhysicalFileName(originalFileName, true);
+
+        if (filename.contains("..")) {
+            log.error("Filename contains invalid path sequence : " + filename);
+            // 파일명이 잘못되었습니다.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.invalid_name") + " : " + filename);
+        }
+
+        try {
+            String directory = environment.getProperty("ftp.directory") + StringUtils.cleanPath("/" + basePath);
+            String remote = directory + StringUtils.cleanPath("/" + filename);
+            this.execute(ftpClient -> {
+                // 디렉토리 생성 및 권한 부여
+                this.makePermissionDirectory(ftpClient, directory);
+
+                try (InputStream inputStream = new ByteArrayInputStream(new byte[0])) {
+                    if (!ftpClient.storeFile(remote, inputStream)) {
+                        throw new IOException("FTPClient storeFile failed. reply=" + ftpClient.getReplyString());
+                    }
+                }
+                // 파일 권한 부여
+                this.setPermission(ftpClient, remote);
+                return null;
+            });
+
+            return filename;
+        } catch (IOException e) {
+            log.error("FTPClient Exception", e);
+            // 파일을 저장할 수 없습니다. 다시 시도해 주세요.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_saved_try_again"));
+        }
+    }
+
+    /**
+     * 분할 업로드 조각을 position 위치부터 저장한다.
+     * REST 로 위치를 지정한 후 STOR 하므로 FTP 서버가 REST STOR 를 지원해야 한다.
+     *
+     * @param filename  기본 root 기준 파일 경로
+     * @param position  쓰기 시작 위치, 파일 크기보다 클 수 없다
+     * @param in        조각 내용
+     * @param maxLength position 부터 쓸 수 있는 최대 크기
+     * @return
+     */
+    @Override
+    public long writeChunk(String filename, long position, InputStream in, long maxLength) {
+        String remote = environment.getProperty("ftp.directory") + StringUtils.cleanPath("/" + filename);
+        try {
+            return this.execute(ftpClient -> {
+                long size = getRemoteFileSize(ftpClient, remote);
+                if (size < 0) {
+                    // 파일을 찾을 수 없습니다.
+                    throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_found"));
+                }
+                if (position < 0 || position > size) {
+                    throw new BusinessException("Invalid chunk position : " + position + ", size : " + size, ErrorCode.INVALID_INPUT_VALUE);
+                }
+
+                ftpClient.setRestartOffset(position);
+                if (!ftpClient.storeFile(remote, new BoundedInputStream(in, maxLength))) {
+                    throw new IOException("FTPClient storeFile failed. reply=" + ftpClient.getReplyString());
+                }
+                if (in.read() != -1) {
+                    // 파일 용량이 너무 큽니다.
+                    throw new BusinessMessageException(messageUtil.getMessage("valid.file.too_big"));
+                }
+                return getRemoteFileSize(ftpClient, remote);
+            });
+        } catch (IOException e) {
+            log.error("FTPClient Exception", e);
+            // 파일을 저장할 수 없습니다. 다시 시도해 주세요.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_saved_try_again"));
+        }
+    }
+
+    /**
+     * 파일 크기
+     *
+     * @param filename 기본 root 기준 파일 경로
+     * @return 파일이 없으면 -1
+     */
+    @Override
+    public long getFileSize(String filename) {
+        String remote = environment.getProperty("ftp.directory") + StringUtils.cleanPath("/" + filename);
+        try {
+            return this.execute(ftpClient -> getRemoteFileSize(ftpClient, remote));
+        } catch (IOException e) {
+            log.error("FTPClient Exception", e);
+            return -1L;
+        }
+    }
+
+    /**
+     * 파일 내용의 SHA-256 해시
+     * FTP 서버에서 파일을 내려받으며 계산한다.
+     *
+     * @param filename 기본 root 기준 파일 경로
+     * @return
+     */
+    @Override
+    public String getFileContentHash(String filename) {
+        String remote = environment.getProperty("ftp.directory") + StringUtils.cleanPath("/" + filename);
+        try {
+            return this.execute(ftpClient -> {
+                String contentHash;
+                try (InputStream inputStream = ftpClient.retrieveFileStream(remote)) {
+                    if (inputStream == null) {
+                        // 파일을 찾을 수 없습니다.
+                        throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_found"));
+                    }
+                    contentHash = digestContentHash(inputStream);
+                }
+                if (!ftpClient.completePendingCommand()) {
+                    throw new IOException("FTPClient retrieveFile failed. reply=" + ftpClient.getReplyString());
+                }
+                return contentHash;
+            });
+        } catch (IOException e) {
+            log.error("FTPClient Exception", e);
+            // 파일을 찾을 수 없습니다.
+            throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_found"));
+        }
+    }
+
+    /**
+     * SIZE 명령으로 파일 크기 조회
+     *
+     * @param ftpClient
+     * @param remote
+     * @return 파일이 없으면 -1
+     * @throws IOException
+     */
+    private long getRemoteFileSize(FTPClient ftpClient, String remote) throws IOException {
+        String size = ftpClient.getSize(remote);
+        return size == null ? -1L : Long.parseLong(size.trim());
+    }
+
     /**
      * 여러 파일 업로드
      *
@@ -293,29 +648,24 @@ public class FtpStorageUtils implements StorageUtils {
      */
     public String storeBase64File(AttachmentBase64RequestDto requestDto, String basePath) {
         try {
-            // ftp connect
-            FtpClientDto ftpClientDto = new FtpClientDto(environment);
-            this.connect(ftpClientDto);
-            FTPClient ftpClient = ftpClientDto.getFtpClient();
-
             String filename = getPhysicalFileName(requestDto.getOriginalName(), false);
             Base64.Decoder decoder = Base64.getDecoder();
             byte[] decodeBytes = decoder.decode(requestDto.getFileBase64().getBytes());
 
-//            FileOutputStream outputStream = new FileOutputStream(file);
-            // 디렉토리 생성 및 권한 부여
-            String directory = ftpClientDto.getDirectory() + StringUtils.cleanPath("/" + basePath);
-            this.makePermissionDirectory(ftpClient, directory);
-
+            String directory = environment.getProperty("ftp.directory") + StringUtils.cleanPath("/" + basePath);
             String remote = directory + StringUtils.cleanPath("/" + filename);
-            OutputStream outputStream = ftpClient.storeFileStream(remote);
-            outputStream.write(decodeBytes);
-            outputStream.close();
+            this.execute(ftpClient -> {
+                // 디렉토리 생성 및 권한 부여
+                this.makePermissionDirectory(ftpClient, directory);
+
+                try (InputStream inputStream = new ByteArrayInputStream(decodeBytes)) {
+                    ftpClient.storeFile(remote, inputStream);
+                }
 
-            // 파일 권한 부여
-            this.setPermission(ftpClient, remote);
-            // 접속 종료
-            this.disconnect(ftpClient);
+                // 파일 권한 부여
+                this.setPermission(ftpClient, remote);
+                return null;
+            });
 
             return filename;
 
@@ -362,43 +712,109 @@ public class FtpStorageUtils implements StorageUtils {
     }
 
     /**
-     * image 태그에서 호출 시 byte 배열로 return
+     * image 태그에서 호출 시 이미지 Resource 로 return
+     * 파일 크기와 수정일시는 HEAD 요청 한 번으로 조회하고, 파일 내용은 응답 시 스트림으로 나누어 전송한다.
      *
      * @param imagename
      * @return
-     * @throws IOException
      */
     public AttachmentImageResponseDto loadImage(String imagename) {
-        InputStream inputStream = null;
         try {
-            String paths = environment.getProperty("file.url")+StringUtils.cleanPath("/"+ imagename);
-            Resource resource = new UrlResource(paths);
-            inputStream = resource.getInputStream();
-
-            byte[] data = IOUtils.toByteArray(inputStream);
-            String contentType = URLConnection.guessContentTypeFromName(resource.getFilename());
-
-            inputStream.close();
+            URL url = new URL(environment.getProperty("file.url") + StringUtils.cleanPath("/" + imagename));
+            URLConnection connection = url.openConnection();
+            if (connection instanceof HttpURLConnection) {
+                HttpURLConnection httpConnection = (HttpURLConnection) connection;
+                httpConnection.setRequestMethod("HEAD");
+                if (httpConnection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                    httpConnection.disconnect();
+                    // 파일을 찾을 수 없습니다.
+                    throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_found"));
+                }
+            }
+            long contentLength = connection.getContentLengthLong();
+            long lastModified = connection.getLastModified();
+            if (connection instanceof HttpURLConnection) {
+                ((HttpURLConnection) connection).disconnect();
+            } else {
+                connection.getInputStream().close();
+            }
 
             return AttachmentImageResponseDto.builder()
-                .mimeType(contentType)
-                .data(data)
+                .mimeType(URLConnection.guessContentTypeFromName(imagename))
+                .resource(new RemoteFileResource(url, contentLength, lastModified))
+                .contentLength(contentLength)
+                .lastModified(lastModified)
                 .build();
-        } catch (FileNotFoundException | NoSuchFileException ex) {
+        } catch (FileNotFoundException ex) {
             // 파일을 찾을 수 없습니다.
             throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_found"));
         } catch (IOException iex) {
             log.error("Could not read file.", iex);
             // 파일을 찾을 수 없습니다.
             throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_found"));
-        }finally {
-            if (inputStream != null) {
-                try {
-                    inputStream.close();
-                } catch (IOException e) {
-                    log.error(e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * 디렉토리에서 prefix 로 시작하는 파일 목록
+     * 서버에 따라 NLST 결과가 경로를 포함하므로 파일명만 비교한다.
+     *
+     * @param directory
+     * @param prefix
+     * @return
+     */
+    @Override
+    public List<String> listFiles(String directory, String prefix) {
+        try {
+            String remote = environment.getProperty("ftp.directory") + StringUtils.cleanPath("/" + directory);
+            String[] names = this.execute(ftpClient -> ftpClient.listNames(remote));
+            List<String> filenames = new ArrayList<>();
+            if (names == null) {
+                return filenames;
+            }
+            for (String name : names) {
+                String filename = StringUtils.getFilename(StringUtils.cleanPath(name));
+                if (filename != null && filename.startsWith(prefix)) {
+                    filenames.add(StringUtils.cleanPath(directory + "/" + filename));
                 }
             }
+            return filenames;
+        } catch (IOException e) {
+            log.error("Could not list files.", e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 디렉토리에서 마지막 수정 시각이 기준 시각 이전인 .temp 파일 목록
+     * LIST 결과의 수정 시각은 FTP 서버 기준이다.
+     *
+     * @param directory
+     * @param modifiedBefore
+     * @return
+     */
+    @Override
+    public List<String> listExpiredTempFiles(String directory, LocalDateTime modifiedBefore) {
+        long expiredMillis = modifiedBefore.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        try {
+            String remote = environment.getProperty("ftp.directory") + StringUtils.cleanPath("/" + directory);
+            FTPFile[] files = this.execute(ftpClient -> ftpClient.listFiles(remote));
+            List<String> filenames = new ArrayList<>();
+            if (files == null) {
+                return filenames;
+            }
+            for (FTPFile file : files) {
+                if (file == null || !file.isFile() || !file.getName().endsWith(".temp") || file.getTimestamp() == null) {
+                    continue;
+                }
+                if (file.getTimestamp().getTimeInMillis() < expiredMillis) {
+                    filenames.add(StringUtils.cleanPath(directory + "/" + StringUtils.getFilename(file.getName())));
+                }
+            }
+            return filenames;
+        } catch (IOException e) {
+            log.error("Could not list files.", e);
+            return new ArrayList<>();
         }
     }
 
@@ -410,12 +826,9 @@ public class FtpStorageUtils implements StorageUtils {
      */
     public boolean deleteFile(String filename) {
         try {
-            FtpClientDto ftpClientDto = new FtpClientDto(environment);
-            this.connect(ftpClientDto);
-            FTPClient ftpClient = ftpClientDto.getFtpClient();
+            String remote = environment.getProperty("ftp.directory") + StringUtils.cleanPath("/" + filename);
             // 삭제
-            ftpClient.deleteFile(ftpClientDto.getDirectory() + StringUtils.cleanPath("/" + filename));
-            this.disconnect(ftpClient);
+            this.execute(ftpClient -> ftpClient.deleteFile(remote));
             return true;
         } catch (IOException e) {
             log.error("Could not deleted file.", e);
@@ -443,15 +856,13 @@ public class FtpStorageUtils implements StorageUtils {
     @Override
     public Path getStorePath(String basePath) {
         try {
-            FtpClientDto ftpClientDto = new FtpClientDto(environment);
-            this.connect(ftpClientDto);
-            FTPClient ftpClient = ftpClientDto.getFtpClient();
             // 디렉토리 생성 및 권한 부여
-            Path directory = Paths.get(ftpClientDto.getDirectory()).toAbsolutePath().normalize();
+            Path directory = Paths.get(environment.getProperty("ftp.directory")).toAbsolutePath().normalize();
             directory.resolve(basePath);
-            makePermissionDirectory(ftpClient, directory.toString());
-
-            this.disconnect(ftpClient);
+            this.execute(ftpClient -> {
+                makePermissionDirectory(ftpClient, directory.toString());
+                return null;
+            });
 
             return directory;
         } catch (IOException ex) {
@@ -460,4 +871,43 @@ public class FtpStorageUtils implements StorageUtils {
             throw new BusinessMessageException(messageUtil.getMessage("valid.file.not_saved_try_again"));
         }
     }
+
+    /**
+     * 원격 파일 Resource
+     * UrlResource 는 크기와 수정일시를 조회할 때마다 HEAD 요청을 보내므로 조회한 값을 보관해 사용한다.
+     */
+    private static class RemoteFileResource extends UrlResource {
+
+        private final long contentLength;
+        private final long lastModified;
+
+        private RemoteFileResource(URL url, long contentLength, long lastModified) {
+            super(url);
+            this.contentLength = contentLength;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return contentLength >= 0 ? contentLength : super.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return lastModified > 0 ? lastModified : super.lastModified();
+        }
+    }
+
+    /**
+     * pool 의 접속으로 실행할 작업
+     */
+    @FunctionalInterface
+    private interface FtpCallback<T> {
+        T doInFtp(FTPClient ftpClient) throws IOException;
+    }
 }
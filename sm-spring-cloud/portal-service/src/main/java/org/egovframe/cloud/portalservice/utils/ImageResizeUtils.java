@@ -0,0 +1,173 @@
+package org.egovframe.cloud.portalservice.utils;
+
+import org.springframework.util.StringUtils;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * org.egovframe.cloud.portalservice.utils.ImageResizeUtils
+ * <p>
+ * 이미지 크기 변환 유틸 클래스
+ * 원본 비율을 유지하여 요청한 가로, 세로 안에 들어가도록 축소하며 원본보다 크게 확대하지 않는다.
+ * 원본이 목표 크기보다 2배 이상 크면 읽을 때 픽셀을 건너뛰어(subsampling) 디코딩하는 메모리를 줄이고,
+ * 나머지는 절반씩 여러 번 축소하여 한 번에 축소할 때 생기는 계단 현상을 줄인다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj  최초 생성
+ * </pre>
+ */
+public class ImageResizeUtils {
+
+    private ImageResizeUtils() {
+    }
+
+    /**
+     * 변환 이미지 형식
+     * jpg 는 jpg 로, 그 외 ImageIO 로 읽을 수 있는 형식은 png 로 저장한다.
+     *
+     * @param filename 원본 파일명
+     * @return 형식(확장자), 변환할 수 없는 형식이면 null
+     */
+    public static String getOutputFormat(String filename) {
+        String ext = StringUtils.getFilenameExtension(filename);
+        if (ext == null) {
+            return null;
+        }
+        switch (ext.toLowerCase(Locale.ROOT)) {
+            case "jpg":
+            case "jpeg":
+                return "jpg";
+            case "png":
+            case "gif":
+            case "bmp":
+                return "png";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 이미지를 변환하여 파일로 저장한다.
+     *
+     * @param in        원본 이미지
+     * @param target    저장할 파일
+     * @param width     가로, 0 이면 제한하지 않는다
+     * @param height    세로, 0 이면 제한하지 않는다
+     * @param format    저장 형식 (getOutputFormat)
+     * @param maxPixels 디코딩할 수 있는 최대 픽셀 수
+     * @return 변환 여부, 이미지를 읽을 수 없거나 최대 픽셀 수를 넘으면 false
+     * @throws IOException
+     */
+    public static boolean resize(InputStream in, File target, int width, int height, String format, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            if (input == null) {
+                return false;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return false;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+
+                int[] size = fit(sourceWidth, sourceHeight, width, height);
+                int subsampling = Math.max(1, Math.min(sourceWidth / (size[0] * 2), sourceHeight / (size[1] * 2)));
+                if ((long) (sourceWidth / subsampling) * (sourceHeight / subsampling) > maxPixels) {
+                    return false;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                BufferedImage source = reader.read(0, param);
+                BufferedImage scaled = scale(source, size[0], size[1], "jpg".equals(format));
+                return ImageIO.write(scaled, format, target);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 원본 비율을 유지하여 가로, 세로 안에 들어가는 크기
+     *
+     * @param sourceWidth  원본 가로
+     * @param sourceHeight 원본 세로
+     * @param width        가로, 0 이면 제한하지 않는다
+     * @param height       세로, 0 이면 제한하지 않는다
+     * @return {가로, 세로}
+     */
+    public static int[] fit(int sourceWidth, int sourceHeight, int width, int height) {
+        double ratio = 1.0;
+        if (width > 0) {
+            ratio = Math.min(ratio, (double) width / sourceWidth);
+        }
+        if (height > 0) {
+            ratio = Math.min(ratio, (double) height / sourceHeight);
+        }
+        return new int[]{
+                Math.max(1, (int) Math.round(sourceWidth * ratio)),
+                Math.max(1, (int) Math.round(sourceHeight * ratio))
+        };
+    }
+
+    /**
+     * 절반씩 축소하여 목표 크기로 변환한다.
+     *
+     * @param source 원본
+     * @param width  가로
+     * @param height 세로
+     * @param opaque 투명도 없는 형식 여부, 투명한 영역은 흰색으로 채운다
+     * @return
+     */
+    private static BufferedImage scale(BufferedImage source, int width, int height, boolean opaque) {
+        int type = opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                if (opaque) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, currentWidth, currentHeight);
+                }
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+}
@@ -0,0 +1,244 @@
+package org.egovframe.cloud.portalservice.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * org.egovframe.cloud.portalservice.utils.ImageVariantCache
+ * <p>
+ * 변환 이미지 로컬 디스크 캐시
+ * 파일 크기 합계가 최대 크기를 넘으면 가장 오래 사용하지 않은 파일부터 삭제한다(LRU).
+ * 기동 시 디렉토리의 파일을 수정일시 순으로 다시 등록하므로 재기동 후에도 캐시를 이어서 사용한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj  최초 생성
+ *  2026/10/17    shinmj  조건에 맞는 캐시 일괄 삭제 추가
+ * </pre>
+ */
+@Slf4j
+public class ImageVariantCache {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+
+    private final long maxSize;
+
+    /**
+     * 캐시 키(디렉토리 기준 상대 경로) -> 파일 크기, 사용 순서
+     */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long size;
+
+    private long evictionCount;
+
+    /**
+     * @param directory 캐시 디렉토리
+     * @param maxSize   최대 크기(byte)
+     * @throws IOException
+     */
+    public ImageVariantCache(Path directory, long maxSize) throws IOException {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.maxSize = maxSize;
+        Files.createDirectories(this.directory);
+        load();
+    }
+
+    /**
+     * 캐시된 파일 경로, 없으면 null
+     *
+     * @param key
+     * @return
+     */
+    public synchronized Path get(String key) {
+        Long length = entries.get(key);
+        if (length == null) {
+            return null;
+        }
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            entries.remove(key);
+            size -= length;
+            return null;
+        }
+        return path;
+    }
+
+    /**
+     * 캐시에 등록할 파일을 작성할 임시 파일을 생성한다.
+     *
+     * @param key
+     * @return
+     * @throws IOException
+     */
+    public Path createTempFile(String key) throws IOException {
+        Path path = resolve(key);
+        Files.createDirectories(path.getParent());
+        return Files.createTempFile(path.getParent(), path.getFileName().toString(), TEMP_SUFFIX);
+    }
+
+    /**
+     * 작성한 임시 파일을 캐시에 등록한다.
+     *
+     * @param key
+     * @param tempFile createTempFile 로 생성한 파일
+     * @return 캐시된 파일 경로
+     * @throws IOException
+     */
+    public Path put(String key, Path tempFile) throws IOException {
+        Path path = resolve(key);
+        Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        long length = Files.size(path);
+        synchronized (this) {
+            Long previous = entries.put(key, length);
+            if (previous != null) {
+                size -= previous;
+            }
+            size += length;
+            evict();
+        }
+        return path;
+    }
+
+    /**
+     * 캐시에서 삭제한다.
+     *
+     * @param key
+     */
+    public synchronized void remove(String key) {
+        Long length = entries.remove(key);
+        if (length != null) {
+            size -= length;
+            delete(resolve(key));
+        }
+    }
+
+    /**
+     * 키가 조건에 맞는 캐시를 모두 삭제한다.
+     *
+     * @param filter
+     * @return 삭제한 건수
+     */
+    public synchronized int removeIf(Predicate<String> filter) {
+        int removed = 0;
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+            if (filter.test(entry.getKey())) {
+                iterator.remove();
+                size -= entry.getValue();
+                delete(resolve(entry.getKey()));
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized int count() {
+        return entries.size();
+    }
+
+    public synchronized long size() {
+        return size;
+    }
+
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * 최대 크기를 넘으면 가장 오래 사용하지 않은 파일부터 삭제한다.
+     * 방금 등록한 파일 하나가 최대 크기보다 커도 그 파일은 남긴다.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (size > maxSize && entries.size() > 1 && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            size -= eldest.getValue();
+            evictionCount++;
+            delete(resolve(eldest.getKey()));
+        }
+    }
+
+    /**
+     * 디렉토리의 파일을 수정일시 순으로 등록하고 작성 중 남은 임시 파일은 삭제한다.
+     *
+     * @throws IOException
+     */
+    private void load() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(directory)) {
+            files = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        List<Path> cached = new ArrayList<>();
+        for (Path file : files) {
+            if (file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                delete(file);
+            } else {
+                cached.add(file);
+            }
+        }
+        cached.sort(Comparator.comparingLong(ImageVariantCache::lastModified));
+        synchronized (this) {
+            for (Path file : cached) {
+                try {
+                    long length = Files.size(file);
+                    entries.put(directory.relativize(file).toString().replace('\\', '/'), length);
+                    size += length;
+                } catch (IOException e) {
+                    log.warn("image variant cache 등록 오류 : {}", e.getMessage());
+                }
+            }
+            evict();
+        }
+        log.info("image variant cache loaded. directory={}, count={}, size={}", directory, entries.size(), size);
+    }
+
+    private Path resolve(String key) {
+        Path path = directory.resolve(key).normalize();
+        if (!path.startsWith(directory) || path.equals(directory)) {
+            throw new IllegalArgumentException("invalid image variant cache key : " + key);
+        }
+        return path;
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class).lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("image variant cache 삭제 오류 : {}", e.getMessage());
+        }
+    }
+}
@@ -1,7 +1,19 @@
 package org.egovframe.cloud.portalservice.utils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.egovframe.cloud.common.config.GlobalConstant;
 import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -26,10 +38,21 @@ import java.util.UUID;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/09    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  내용 해시(SHA-256) 기반 물리적 파일 이름 추가
+ *  2026/10/17    jaeyeolkim  스트림 SHA-256 해시 계산 추가 (분할 업로드 검증)
+ *  2026/10/17    jaeyeolkim  내용 해시 기반 파일 이름에 확장자를 붙이지 않음, 파일명으로 content type 판단 추가
  * </pre>
  */
 public class PortalUtils {
 
+	/**
+	 * 내용 해시 기반 저장 디렉토리
+	 */
+	public static final String CONTENT_ADDRESSED_DIRECTORY = "sha256";
+
+	private static final Pattern CONTENT_ADDRESSED_FILE_NAME =
+		Pattern.compile("^" + CONTENT_ADDRESSED_DIRECTORY + "/[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})(\\.[^/]*)?$");
+
 	/**
 	 * '-'을 제거한 uuid 생성
 	 *
@@ -93,4 +116,115 @@ public class PortalUtils {
 
 		return sb.toString();
 	}
+
+	/**
+	 * 내용 해시 기반 물리적 파일 이름 생성
+	 * 디렉토리 하나에 파일이 몰리지 않도록 해시 앞 4자리로 두 단계 디렉토리를 나눈다.
+	 * 확장자가 달라도 내용이 같으면 같은 파일이 되도록 확장자를 붙이지 않으며, 파일 형식은 첨부파일의 원본 파일명으로 판단한다.
+	 * ex) sha256/3f/a2/3fa2...e1
+	 *
+	 * @param contentHash SHA-256 hex
+	 * @return
+	 */
+	public static String getContentAddressedFileName(String contentHash) {
+		return CONTENT_ADDRESSED_DIRECTORY
+			+ "/" + contentHash.substring(0, 2)
+			+ "/" + contentHash.substring(2, 4)
+			+ "/" + contentHash;
+	}
+
+	/**
+	 * 내용 해시 기반 물리적 파일 이름이면 SHA-256 hex 를 리턴한다.
+	 * 확장자를 붙여 저장하던 이전 파일 이름도 인식한다.
+	 *
+	 * @param physicalFileName
+	 * @return 내용 해시 기반 파일이 아니면 null
+	 */
+	public static String getContentHash(String physicalFileName) {
+		if (physicalFileName == null) {
+			return null;
+		}
+		Matcher matcher = CONTENT_ADDRESSED_FILE_NAME.matcher(StringUtils.cleanPath(physicalFileName));
+		return matcher.matches() ? matcher.group(1) : null;
+	}
+
+	/**
+	 * 내용 해시 기반 물리적 파일 이름 여부
+	 *
+	 * @param physicalFileName
+	 * @return
+	 */
+	public static boolean isContentAddressed(String physicalFileName) {
+		return getContentHash(physicalFileName) != null;
+	}
+
+	/**
+	 * 파일명의 확장자로 content type 을 판단한다.
+	 * 내용 해시 기반 파일은 확장자 없이 저장하므로 원본 파일명을 넘긴다.
+	 *
+	 * @param fileName
+	 * @return 판단할 수 없으면 null
+	 */
+	public static String getContentType(String fileName) {
+		if (fileName == null) {
+			return null;
+		}
+		return URLConnection.guessContentTypeFromName(fileName.toLowerCase(Locale.ROOT));
+	}
+
+	/**
+	 * 스트림을 파일로 복사하면서 SHA-256 해시를 계산한다.
+	 * 파일을 다시 읽지 않고 한 번의 복사로 해시를 구한다.
+	 *
+	 * @param in     원본 스트림
+	 * @param target 저장할 파일
+	 * @return SHA-256 hex
+	 * @throws IOException
+	 */
+	public static String copyWithContentHash(InputStream in, Path target) throws IOException {
+		MessageDigest digest = newContentDigest();
+		try (InputStream digestIn = new DigestInputStream(in, digest);
+			 OutputStream out = Files.newOutputStream(target)) {
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = digestIn.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+		}
+		return toHex(digest.digest());
+	}
+
+	/**
+	 * 스트림 끝까지 읽어 SHA-256 해시를 계산한다.
+	 *
+	 * @param in
+	 * @return SHA-256 hex
+	 * @throws IOException
+	 */
+	public static String digestContentHash(InputStream in) throws IOException {
+		MessageDigest digest = newContentDigest();
+		byte[] buffer = new byte[65536];
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			digest.update(buffer, 0, read);
+		}
+		return toHex(digest.digest());
+	}
+
+	private static MessageDigest newContentDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(byte[] hash) {
+		char[] hex = new char[hash.length * 2];
+		for (int i = 0; i < hash.length; i++) {
+			hex[i * 2] = Character.forDigit((hash[i] >> 4) & 0xf, 16);
+			hex[i * 2 + 1] = Character.forDigit(hash[i] & 0xf, 16);
+		}
+		return new String(hex);
+	}
 }
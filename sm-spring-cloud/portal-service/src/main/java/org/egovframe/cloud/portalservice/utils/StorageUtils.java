@@ -6,8 +6,9 @@ import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
-import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -26,6 +27,12 @@ import java.util.List;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/08    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  loadImage 가 byte 배열 대신 Range 요청을 지원하는 Resource 를 리턴
+ *  2026/10/17    jaeyeolkim  내용 해시(SHA-256) 기반 중복 제거 저장 추가
+ *  2026/10/17    jaeyeolkim  분할 업로드(.temp 파일 생성, 위치 지정 쓰기, 크기, 해시) 추가
+ *  2026/10/17    jaeyeolkim  디렉토리 파일 목록 조회 추가 (변환 이미지 삭제)
+ *  2026/10/17    jaeyeolkim  내용 해시 기반 파일을 확장자 없이 저장
+ *  2026/10/17    jaeyeolkim  분할 업로드 파일의 내용 해시 기반 저장, 기간이 지난 .temp 파일 목록 추가
  * </pre>
  */
 public interface StorageUtils {
@@ -40,6 +47,66 @@ public interface StorageUtils {
      */
     String storeFile(MultipartFile file, String basePath, boolean isTemp);
 
+    /**
+     * MultipartFile -> 내용 해시(SHA-256) 기반 물리적 파일 저장
+     * 같은 내용의 파일은 한 번만 저장하며, 이미 있으면 저장하지 않고 같은 이름을 리턴한다.
+     * 저장 후 내용이 바뀌지 않으므로 .temp 파일을 만들지 않는다.
+     * 확장자가 달라도 내용이 같으면 같은 파일이며, 파일 형식은 첨부파일의 원본 파일명으로 판단한다.
+     *
+     * @param file MultipartFile
+     * @return 기본 root 기준 경로 (sha256/ab/cd/{hash})
+     */
+    String storeContentAddressedFile(MultipartFile file);
+
+    /**
+     * 해시를 이미 계산한 파일 -> 내용 해시(SHA-256) 기반 물리적 파일 저장
+     * 분할 업로드를 완료한 .temp 파일을 다시 복사하지 않고 해시 경로로 옮긴다.
+     * 같은 내용의 파일이 이미 있으면 옮기지 않으므로, 남은 파일은 호출한 쪽에서 삭제한다.
+     *
+     * @param filename    기본 root 기준 파일 경로
+     * @param contentHash 파일 내용의 SHA-256 hex
+     * @return 기본 root 기준 경로 (sha256/ab/cd/{hash})
+     */
+    String storeContentAddressedFile(String filename, String contentHash);
+
+    /**
+     * 분할 업로드할 빈 .temp 파일 생성
+     *
+     * @param originalFileName 원본 파일명
+     * @param basePath         기본 root외 파일이 저장될 경로
+     * @return 생성한 .temp 파일명
+     */
+    String createTempFile(String originalFileName, String basePath);
+
+    /**
+     * 분할 업로드 조각을 position 위치부터 저장한다.
+     * 요청 본문을 메모리나 임시 파일에 담지 않고 바로 .temp 파일에 쓰며,
+     * 연결이 끊겨도 그때까지 받은 내용은 남으므로 파일 크기부터 이어서 업로드할 수 있다.
+     *
+     * @param filename  기본 root 기준 파일 경로
+     * @param position  쓰기 시작 위치, 파일 크기보다 클 수 없다
+     * @param in        조각 내용
+     * @param maxLength position 부터 쓸 수 있는 최대 크기
+     * @return 저장 후 파일 크기
+     */
+    long writeChunk(String filename, long position, InputStream in, long maxLength);
+
+    /**
+     * 파일 크기
+     *
+     * @param filename 기본 root 기준 파일 경로
+     * @return 파일이 없으면 -1
+     */
+    long getFileSize(String filename);
+
+    /**
+     * 파일 내용의 SHA-256 해시
+     *
+     * @param filename 기본 root 기준 파일 경로
+     * @return SHA-256 hex
+     */
+    String getFileContentHash(String filename);
+
     /**
      * file 저장
      *
@@ -60,11 +127,11 @@ public interface StorageUtils {
     String storeBase64File(AttachmentBase64RequestDto requestDto, String basePath);
 
     /**
-     * image 태그에서 호출 시 byte 배열로 return
+     * image 태그에서 호출 시 이미지 Resource 로 return
+     * 파일 내용을 메모리에 읽지 않으며, 응답 시 Range 요청 범위만 스트림으로 전송한다.
      *
      * @param imagename
      * @return
-     * @throws IOException
      */
     AttachmentImageResponseDto loadImage(String imagename);
 
@@ -84,6 +151,24 @@ public interface StorageUtils {
      */
     String renameTemp(String physicalFileName);
 
+    /**
+     * 디렉토리에서 prefix 로 시작하는 파일 목록
+     *
+     * @param directory 기본 root외 디렉토리 경로
+     * @param prefix    파일명 prefix
+     * @return 저장 경로를 포함한 파일명 목록, 디렉토리가 없으면 빈 목록
+     */
+    List<String> listFiles(String directory, String prefix);
+
+    /**
+     * 디렉토리에서 마지막 수정 시각이 기준 시각 이전인 .temp 파일 목록
+     *
+     * @param directory      기본 root외 디렉토리 경로
+     * @param modifiedBefore 기준 시각
+     * @return 저장 경로를 포함한 파일명 목록, 디렉토리가 없으면 빈 목록
+     */
+    List<String> listExpiredTempFiles(String directory, LocalDateTime modifiedBefore);
+
     /**
      * 물리적 파일 삭제
      *
@@ -0,0 +1,14 @@
+-- attachment_blob Table Create SQL
+-- 운영 DB 는 ddl-auto: none 이므로 첨부파일 내용 해시 기반 저장(file.content-addressed: true)을 사용하기 전에 실행한다.
+CREATE TABLE IF NOT EXISTS  attachment_blob
+(
+    `physical_file_name`  VARCHAR(200)    NOT NULL    COMMENT '내용 해시 기반 물리적 파일명',
+    `pending_until`       DATETIME        NULL        COMMENT '참조 대기 만료일',
+    PRIMARY KEY (physical_file_name),
+    INDEX idx_attachment_blob_pending_until (pending_until)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+ALTER TABLE attachment_blob COMMENT '첨부파일 물리적 파일 참조 대기';
+
+-- 물리적 파일을 참조하는 첨부파일 확인(AttachmentRepository.existsByPhysicalFileName)용 index
+CREATE INDEX idx_attachment_physical_file_name ON attachment (physical_file_name);
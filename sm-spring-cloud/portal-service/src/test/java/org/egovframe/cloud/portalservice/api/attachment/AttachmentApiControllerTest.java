@@ -28,6 +28,10 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -35,9 +39,14 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -236,6 +245,87 @@ class AttachmentApiControllerTest {
 
     }
 
+    @Test
+    public void 첨부파일_분할업로드_이어받기_후_저장_정상() throws Exception {
+        //given
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append("0123456789");
+        }
+        byte[] content = sb.toString().getBytes();
+        StringBuilder sha256 = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) {
+            sha256.append(String.format("%02x", b));
+        }
+
+        AttachmentChunkResponseDto initResponse = restTemplate.postForEntity("/api/v1/upload/chunk",
+                AttachmentChunkInitRequestDto.builder().originalName("large-file.txt").size((long) content.length).build(),
+                AttachmentChunkResponseDto.class).getBody();
+        String url = "/api/v1/upload/chunk/" + initResponse.getUploadId();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+
+        //when
+        restTemplate.exchange(url + "?offset=0", HttpMethod.PUT,
+                new HttpEntity<>(Arrays.copyOfRange(content, 0, 20000), headers), AttachmentChunkResponseDto.class);
+        // 연결이 끊겨 두 번째 조각 일부만 받았다고 보고 겹치는 위치부터 다시 전송
+        restTemplate.exchange(url + "?offset=10000", HttpMethod.PUT,
+                new HttpEntity<>(Arrays.copyOfRange(content, 10000, 30000), headers), AttachmentChunkResponseDto.class);
+        ResponseEntity<String> gapEntity = restTemplate.exchange(url + "?offset=40000", HttpMethod.PUT,
+                new HttpEntity<>(Arrays.copyOfRange(content, 40000, 50000), headers), String.class);
+        AttachmentChunkResponseDto status = restTemplate.getForObject(url, AttachmentChunkResponseDto.class);
+        restTemplate.exchange(url + "?offset=" + status.getOffset(), HttpMethod.PUT,
+                new HttpEntity<>(Arrays.copyOfRange(content, (int) status.getOffset(), content.length), headers), AttachmentChunkResponseDto.class);
+
+        AttachmentFileResponseDto completeResponse = restTemplate.postForEntity(url + "/complete",
+                AttachmentChunkCompleteRequestDto.builder()
+                        .originalName("large-file.txt")
+                        .fileType("text/plain")
+                        .size((long) content.length)
+                        .sha256(sha256.toString())
+                        .build(),
+                AttachmentFileResponseDto.class).getBody();
+
+        String attachmentCode = attachmentService.save(Arrays.asList(AttachmentTempSaveRequestDto.builder()
+                .physicalFileName(completeResponse.getPhysicalFileName())
+                .originalName(completeResponse.getOriginalFileName())
+                .size(completeResponse.getSize())
+                .fileType(completeResponse.getFileType())
+                .entityName("Policy")
+                .entityId("testEntityId")
+                .build()));
+
+        //then
+        assertThat(gapEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(status.getOffset()).isEqualTo(30000);
+        assertThat(completeResponse.getPhysicalFileName()).endsWith(".temp");
+        List<Attachment> attachmentList = attachmentRepository.findByCode(attachmentCode);
+        Path filePath = fileStorageUtils.getFileStorageLocation().resolve(attachmentList.get(0).getPhysicalFileName());
+        assertThat(Files.readAllBytes(filePath)).isEqualTo(content);
+    }
+
+    @Test
+    public void 기간이_지난_분할업로드만_정리() throws Exception {
+        //given
+        AttachmentChunkResponseDto abandoned = attachmentService.initChunkUpload(
+                AttachmentChunkInitRequestDto.builder().originalName("abandoned.txt").size(100L).build());
+        AttachmentChunkResponseDto inProgress = attachmentService.initChunkUpload(
+                AttachmentChunkInitRequestDto.builder().originalName("in-progress.txt").size(100L).build());
+        Path abandonedPath = fileStorageUtils.getFileStorageLocation().resolve(abandoned.getUploadId().replaceFirst("-", "/"));
+        Path inProgressPath = fileStorageUtils.getFileStorageLocation().resolve(inProgress.getUploadId().replaceFirst("-", "/"));
+        // 마지막 조각을 받은 후 25시간이 지났다
+        Files.setLastModifiedTime(abandonedPath, FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(25)));
+
+        //when
+        int deleted = attachmentService.sweepExpiredChunkUploads(LocalDateTime.now());
+
+        //then
+        assertThat(deleted).isPositive();
+        assertThat(Files.exists(abandonedPath)).isFalse();
+        assertThat(Files.exists(inProgressPath)).isTrue();
+        attachmentService.cancelChunkUpload(inProgress.getUploadId());
+    }
+
     @Test
     public void 에디터이미지업로드_후_이미지태그에서_이미지파일_조회_정상() throws Exception {
         //given
@@ -260,6 +350,67 @@ class AttachmentApiControllerTest {
         assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
     }
 
+    @Test
+    public void 에디터이미지_Range_조건부요청_조회_정상() throws Exception {
+        //given
+        Resource testFile = getTestFile();
+
+        String base64data = Base64.toBase64String(getByteFile(testFile.getFile()));
+        AttachmentBase64RequestDto requestDto = AttachmentBase64RequestDto.builder()
+                .fieldName("upload")
+                .fileType("text")
+                .fileBase64(base64data)
+                .originalName(testFile.getFilename())
+                .size(testFile.contentLength())
+                .build();
+        AttachmentEditorResponseDto responseDto = attachmentService.uploadEditor(requestDto);
+
+        String url = "/api/v1/images/editor/"+responseDto.getUrl();
+        String eTag = restTemplate.getForEntity(url, byte[].class).getHeaders().getETag();
+
+        //when
+        HttpHeaders rangeHeaders = new HttpHeaders();
+        rangeHeaders.setRange(HttpRange.parseRanges("bytes=0-4"));
+        ResponseEntity<byte[]> rangeEntity = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(rangeHeaders), byte[].class);
+
+        HttpHeaders conditionalHeaders = new HttpHeaders();
+        conditionalHeaders.setIfNoneMatch(eTag);
+        ResponseEntity<byte[]> notModifiedEntity = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(conditionalHeaders), byte[].class);
+
+        //then
+        assertThat(eTag).isNotNull();
+        assertThat(rangeEntity.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(new String(rangeEntity.getBody())).isEqualTo("Hello");
+        assertThat(notModifiedEntity.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    public void 에디터이미지_크기변환_조회_정상() throws Exception {
+        //given
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB), "png", image);
+
+        AttachmentBase64RequestDto requestDto = AttachmentBase64RequestDto.builder()
+                .fieldName("upload")
+                .fileType("image/png")
+                .fileBase64(Base64.toBase64String(image.toByteArray()))
+                .originalName("test-image.png")
+                .size((long) image.size())
+                .build();
+        AttachmentEditorResponseDto responseDto = attachmentService.uploadEditor(requestDto);
+
+        String url = "/api/v1/images/editor/"+responseDto.getUrl()+"?w=300";
+
+        //when
+        ResponseEntity<byte[]> responseEntity = restTemplate.getForEntity(url, byte[].class);
+
+        //then
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        BufferedImage resized = ImageIO.read(new ByteArrayInputStream(responseEntity.getBody()));
+        assertThat(resized.getWidth()).isEqualTo(320);
+        assertThat(resized.getHeight()).isEqualTo(160);
+    }
+
     @Test
     public void 새로운_첨부파일_temp파일_목록_저장_정상() throws Exception {
         //given
@@ -331,6 +482,45 @@ class AttachmentApiControllerTest {
         assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
     }
 
+    @Test
+    public void 같은내용_첨부파일_중복저장없이_참조수에따라_삭제_정상() throws Exception {
+        //given
+        byte[] content = "Hello World !!, This is a same content file.".getBytes();
+        String physicalFileName1 = fileStorageUtils.storeContentAddressedFile(
+                new MockMultipartFile("files", "first.txt", "text/plain", content));
+        String physicalFileName2 = fileStorageUtils.storeContentAddressedFile(
+                new MockMultipartFile("files", "second.txt", "text/plain", content));
+
+        List<AttachmentTempSaveRequestDto> saveRequestDtoList = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            saveRequestDtoList.add(AttachmentTempSaveRequestDto.builder()
+                    .physicalFileName(physicalFileName1)
+                    .originalName("test-file"+i+".txt")
+                    .size((long) content.length)
+                    .fileType("text/plain")
+                    .entityName("Policy")
+                    .entityId("testEntityId_"+i)
+                    .build());
+        }
+        String attachmentCode = attachmentService.save(saveRequestDtoList);
+        List<AttachmentResponseDto> results = attachmentService.findByCode(attachmentCode);
+        Path filePath = fileStorageUtils.getFileStorageLocation().resolve(physicalFileName1);
+
+        //when
+        ResponseEntity<byte[]> responseEntity = restTemplate.getForEntity("/api/v1/download/"+results.get(0).getId(), byte[].class);
+        attachmentService.delete(results.get(0).getId());
+        boolean existsAfterFirstDelete = Files.exists(filePath);
+        attachmentService.delete(results.get(1).getId());
+
+        //then
+        assertThat(physicalFileName1).startsWith("sha256/").isEqualTo(physicalFileName2);
+        assertThat(responseEntity.getBody()).isEqualTo(content);
+        assertThat(responseEntity.getHeaders().getETag()).contains(physicalFileName1.substring(13, 77));
+        assertThat(responseEntity.getHeaders().getCacheControl()).contains("immutable");
+        assertThat(existsAfterFirstDelete).isTrue();
+        assertThat(Files.exists(filePath)).isFalse();
+    }
+
     @Test
     public void 관리자_첨부파일_목록_조회_정상() throws Exception {
         //given
@@ -0,0 +1,186 @@
+package org.egovframe.cloud.portalservice.api.attachment;
+
+import org.egovframe.cloud.portalservice.api.attachment.dto.AttachmentChunkCompleteRequestDto;
+import org.egovframe.cloud.portalservice.api.attachment.dto.AttachmentChunkInitRequestDto;
+import org.egovframe.cloud.portalservice.api.attachment.dto.AttachmentChunkResponseDto;
+import org.egovframe.cloud.portalservice.api.attachment.dto.AttachmentFileResponseDto;
+import org.egovframe.cloud.portalservice.api.attachment.dto.AttachmentResponseDto;
+import org.egovframe.cloud.portalservice.api.attachment.dto.AttachmentTempSaveRequestDto;
+import org.egovframe.cloud.portalservice.domain.attachment.Attachment;
+import org.egovframe.cloud.portalservice.domain.attachment.AttachmentBlobRepository;
+import org.egovframe.cloud.portalservice.domain.attachment.AttachmentRepository;
+import org.egovframe.cloud.portalservice.service.attachment.AttachmentService;
+import org.egovframe.cloud.portalservice.utils.FileStorageUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnableConfigurationProperties
+@TestPropertySource(properties = {"spring.config.location=classpath:application-test.yml", "file.content-addressed=true"})
+@ActiveProfiles(profiles = "test")
+class AttachmentContentAddressedApiControllerTest {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    FileStorageUtils fileStorageUtils;
+
+    @Autowired
+    AttachmentService attachmentService;
+
+    @Autowired
+    AttachmentRepository attachmentRepository;
+
+    @Autowired
+    AttachmentBlobRepository attachmentBlobRepository;
+
+    @AfterEach
+    public void teardown() {
+        List<Attachment> all = attachmentRepository.findAll();
+        for (Attachment attachment : all) {
+            attachmentService.delete(attachment.getUniqueId());
+        }
+        // 참조 대기 중인 파일 정리
+        LocalDateTime expired = LocalDateTime.now().plusYears(1);
+        for (String physicalFileName : attachmentService.findExpiredBlobs(expired)) {
+            attachmentService.sweepBlob(physicalFileName, expired);
+        }
+    }
+
+    private AttachmentTempSaveRequestDto toSaveRequestDto(AttachmentFileResponseDto responseDto) {
+        return AttachmentTempSaveRequestDto.builder()
+                .physicalFileName(responseDto.getPhysicalFileName())
+                .originalName(responseDto.getOriginalFileName())
+                .size(responseDto.getSize())
+                .fileType(responseDto.getFileType())
+                .entityName("Policy")
+                .entityId("testEntityId")
+                .build();
+    }
+
+    @Test
+    public void 확장자가_달라도_같은내용이면_확장자없는_같은파일로_저장() throws Exception {
+        //given
+        byte[] content = "Hello World !!, This is a content addressed file.".getBytes();
+
+        //when
+        AttachmentFileResponseDto upper = attachmentService.uploadFile(
+                new MockMultipartFile("file", "report.PDF", "application/pdf", content));
+        AttachmentFileResponseDto lower = attachmentService.uploadFile(
+                new MockMultipartFile("file", "report.pdf", "application/pdf", content));
+
+        //then
+        assertThat(upper.getPhysicalFileName()).matches("^sha256/[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}$");
+        assertThat(lower.getPhysicalFileName()).isEqualTo(upper.getPhysicalFileName());
+    }
+
+    @Test
+    public void 업로드후_저장전에_같은파일_마지막참조를_삭제해도_물리적파일_유지() throws Exception {
+        //given
+        byte[] content = "Hello World !!, This is a pending reference file.".getBytes();
+        AttachmentFileResponseDto first = attachmentService.uploadFile(
+                new MockMultipartFile("file", "first.txt", "text/plain", content));
+        String attachmentCode = attachmentService.save(Collections.singletonList(toSaveRequestDto(first)));
+        String firstId = attachmentService.findByCode(attachmentCode).get(0).getId();
+        Path filePath = fileStorageUtils.getFileStorageLocation().resolve(first.getPhysicalFileName());
+
+        //when
+        // 다른 사용자가 같은 내용을 업로드한 후 저장하기 전에 기존 첨부파일이 삭제된다
+        AttachmentFileResponseDto second = attachmentService.uploadFile(
+                new MockMultipartFile("file", "second.pdf", "application/pdf", content));
+        attachmentService.delete(firstId);
+        boolean existsAfterDelete = Files.exists(filePath);
+        String secondCode = attachmentService.save(Collections.singletonList(toSaveRequestDto(second)));
+        List<AttachmentResponseDto> saved = attachmentService.findByCode(secondCode);
+        ResponseEntity<byte[]> responseEntity = restTemplate.getForEntity("/api/v1/download/" + saved.get(0).getId(), byte[].class);
+
+        //then
+        assertThat(second.getPhysicalFileName()).isEqualTo(first.getPhysicalFileName());
+        assertThat(existsAfterDelete).isTrue();
+        assertThat(responseEntity.getBody()).isEqualTo(content);
+        assertThat(responseEntity.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PDF);
+    }
+
+    @Test
+    public void 참조대기기간이_지난_파일은_참조가_없으면_삭제하고_있으면_유지() throws Exception {
+        //given
+        byte[] orphanContent = "Hello World !!, This file is never saved.".getBytes();
+        byte[] savedContent = "Hello World !!, This file is saved.".getBytes();
+        AttachmentFileResponseDto orphan = attachmentService.uploadFile(
+                new MockMultipartFile("file", "orphan.txt", "text/plain", orphanContent));
+        AttachmentFileResponseDto saved = attachmentService.uploadFile(
+                new MockMultipartFile("file", "saved.txt", "text/plain", savedContent));
+        attachmentService.save(Collections.singletonList(toSaveRequestDto(saved)));
+        Path orphanPath = fileStorageUtils.getFileStorageLocation().resolve(orphan.getPhysicalFileName());
+        Path savedPath = fileStorageUtils.getFileStorageLocation().resolve(saved.getPhysicalFileName());
+
+        //when
+        List<String> beforeExpired = attachmentService.findExpiredBlobs(LocalDateTime.now());
+        LocalDateTime expired = LocalDateTime.now().plusHours(25);
+        for (String physicalFileName : attachmentService.findExpiredBlobs(expired)) {
+            attachmentService.sweepBlob(physicalFileName, expired);
+        }
+
+        //then
+        assertThat(beforeExpired).isEmpty();
+        assertThat(Files.exists(orphanPath)).isFalse();
+        assertThat(Files.exists(savedPath)).isTrue();
+        assertThat(attachmentBlobRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    public void 분할업로드_완료시_검증한_해시로_같은_해시경로에_저장() throws Exception {
+        //given
+        byte[] content = "Hello World !!, This is a chunk uploaded content addressed file.".getBytes();
+        StringBuilder sha256 = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) {
+            sha256.append(String.format("%02x", b));
+        }
+        AttachmentFileResponseDto uploaded = attachmentService.uploadFile(
+                new MockMultipartFile("file", "uploaded.txt", "text/plain", content));
+        AttachmentChunkResponseDto initResponse = attachmentService.initChunkUpload(
+                AttachmentChunkInitRequestDto.builder().originalName("chunk.txt").size((long) content.length).build());
+        Path chunkPath = fileStorageUtils.getFileStorageLocation().resolve(initResponse.getUploadId().replaceFirst("-", "/"));
+        attachmentService.uploadChunk(initResponse.getUploadId(), 0, new ByteArrayInputStream(Arrays.copyOfRange(content, 0, 20)));
+        attachmentService.uploadChunk(initResponse.getUploadId(), 20, new ByteArrayInputStream(Arrays.copyOfRange(content, 20, content.length)));
+
+        //when
+        AttachmentFileResponseDto completed = attachmentService.completeChunkUpload(initResponse.getUploadId(),
+                AttachmentChunkCompleteRequestDto.builder()
+                        .originalName("chunk.txt")
+                        .fileType("text/plain")
+                        .size((long) content.length)
+                        .sha256(sha256.toString())
+                        .build());
+        String attachmentCode = attachmentService.save(Collections.singletonList(toSaveRequestDto(completed)));
+        List<AttachmentResponseDto> saved = attachmentService.findByCode(attachmentCode);
+        ResponseEntity<byte[]> responseEntity = restTemplate.getForEntity("/api/v1/download/" + saved.get(0).getId(), byte[].class);
+
+        //then
+        assertThat(completed.getPhysicalFileName()).isEqualTo("sha256/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256);
+        assertThat(completed.getPhysicalFileName()).isEqualTo(uploaded.getPhysicalFileName());
+        assertThat(Files.exists(chunkPath)).isFalse();
+        assertThat(responseEntity.getBody()).isEqualTo(content);
+    }
+}
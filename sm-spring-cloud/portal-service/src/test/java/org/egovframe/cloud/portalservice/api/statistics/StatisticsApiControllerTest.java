@@ -10,6 +10,8 @@ import javax.servlet.http.HttpServletRequest;
 import org.egovframe.cloud.portalservice.api.statistics.dto.StatisticsResponseDto;
 import org.egovframe.cloud.portalservice.domain.statistics.Statistics;
 import org.egovframe.cloud.portalservice.domain.statistics.StatisticsRepository;
+import org.egovframe.cloud.portalservice.domain.statistics.StatisticsRollupRepository;
+import org.egovframe.cloud.portalservice.service.statistics.StatisticsService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,6 +39,12 @@ class StatisticsApiControllerTest {
     @Autowired
     private StatisticsRepository statisticsRepository;
 
+    @Autowired
+    private StatisticsRollupRepository statisticsRollupRepository;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
     @BeforeEach
     public void setup() {
         for (int i = 0; i < 10; i++) {
@@ -45,12 +53,13 @@ class StatisticsApiControllerTest {
                     .remoteIp("testip")
                     .build());
         }
-
+        statisticsService.rebuildRollups(LocalDate.now(), LocalDate.now());
     }
 
     @AfterEach
     public void tearDown() {
         statisticsRepository.deleteAll();
+        statisticsRollupRepository.deleteAll();
     }
 
     @Test
@@ -88,4 +97,19 @@ class StatisticsApiControllerTest {
         assertThat(responseEntity.getBody().get(0).getY()).isEqualTo(10);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void 접속통계_집계_재생성_성공() throws Exception {
+        LocalDate now = LocalDate.now();
+        statisticsRollupRepository.deleteAll();
+
+        // when
+        ResponseEntity<Integer> responseEntity =
+                restTemplate.postForEntity("/api/v1/statistics/rollups?fromDate="+now+"&toDate="+now, null, Integer.class);
+
+        // then
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(responseEntity.getBody()).isGreaterThanOrEqualTo(3);
+        assertThat(statisticsService.findMonthlyBySiteId(1L).get(0).getY()).isEqualTo(10);
+    }
+
+}
@@ -13,6 +13,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @EnableConfigurationProperties
@@ -154,5 +155,42 @@ class AttachmentRepositoryTest {
         System.out.println(byId.get());
     }
 
+    @Test
+    @Transactional
+    public void 첨부파일코드로_entity정보_일괄수정() throws Exception {
+        //given
+        String code = "testAttachmentCode";
+        for (Long i = 1L; i <= 3L; i++) {
+            attachmentRepository.save(
+                Attachment.builder()
+                    .attachmentId(AttachmentId.builder().code(code).seq(i).build())
+                    .uniqueId(UUID.randomUUID().toString())
+                    .physicalFileName(UUID.randomUUID().toString())
+                    .originalFileName("test_"+i+".txt")
+                    .size(123L)
+                    .build()
+            );
+        }
+        attachmentRepository.save(
+            Attachment.builder()
+                .attachmentId(AttachmentId.builder().code("otherAttachmentCode").seq(1L).build())
+                .uniqueId(UUID.randomUUID().toString())
+                .physicalFileName(UUID.randomUUID().toString())
+                .originalFileName("other.txt")
+                .size(123L)
+                .build()
+        );
+
+        //when
+        long updated = attachmentRepository.updateEntity(code, "posts", "1");
+        em.clear();
+
+        //then
+        assertThat(updated).isEqualTo(3);
+        assertThat(attachmentRepository.findByCode(code))
+            .allMatch(attachment -> "posts".equals(attachment.getEntityName()) && "1".equals(attachment.getEntityId()));
+        assertThat(attachmentRepository.findByCode("otherAttachmentCode"))
+            .allMatch(attachment -> attachment.getEntityId() == null);
+    }
 
-}
\ No newline at end of file
+}
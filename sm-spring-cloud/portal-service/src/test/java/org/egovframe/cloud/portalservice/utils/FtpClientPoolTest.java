@@ -0,0 +1,282 @@
+package org.egovframe.cloud.portalservice.utils;
+
+import org.apache.commons.net.ftp.FTPClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * org.egovframe.cloud.portalservice.utils.FtpClientPoolTest
+ * <p>
+ * FTP 서버 접속 pool 테스트 클래스
+ * FTP 서버 없이 접속, 로그인, NOOP 결과를 정할 수 있는 FTPClient 로 확인한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+class FtpClientPoolTest {
+
+    private final List<FakeFtpClient> clients = new ArrayList<>();
+
+    private boolean loginSucceeds = true;
+    private boolean noOpSucceeds = true;
+
+    private FtpClientPool pool;
+
+    @AfterEach
+    public void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void 접속_생성시_timeout_설정() throws Exception {
+        // given
+        pool = createPool(1, 100L, 60000L, 60000L);
+
+        // when
+        FTPClient ftpClient = pool.borrow();
+
+        // then
+        FakeFtpClient fake = (FakeFtpClient) ftpClient;
+        assertThat(fake.soTimeout).isPositive();
+        assertThat(fake.dataTimeout).isPositive();
+        assertThat(fake.getConnectTimeout()).isPositive();
+    }
+
+    @Test
+    public void 반납한_접속_재사용() throws Exception {
+        // given
+        pool = createPool(1, 100L, 60000L, 60000L);
+        FTPClient first = pool.borrow();
+        pool.release(first, true);
+
+        // when
+        FTPClient second = pool.borrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(pool.getCreatedCount()).isEqualTo(1);
+        assertThat(pool.getActiveCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void 모든_접속_사용중이면_borrowTimeout_후_오류() throws Exception {
+        // given
+        pool = createPool(1, 50L, 60000L, 60000L);
+        FTPClient ftpClient = pool.borrow();
+
+        // when // then
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> pool.borrow())
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("timeout");
+        assertThat(System.nanoTime() - startedAt).isGreaterThanOrEqualTo(40_000_000L);
+
+        pool.release(ftpClient, true);
+        assertThat(pool.borrow()).isSameAs(ftpClient);
+    }
+
+    @Test
+    public void 검증_주기_지난_접속_NOOP_실패시_새로_접속() throws Exception {
+        // given
+        pool = createPool(1, 100L, 60000L, 0L);
+        FTPClient first = pool.borrow();
+        pool.release(first, true);
+        noOpSucceeds = false;
+
+        // when
+        FTPClient second = pool.borrow();
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(((FakeFtpClient) first).noOpCount).isEqualTo(1);
+        assertThat(first.isConnected()).isFalse();
+        assertThat(pool.getCreatedCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void 검증_주기_지난_접속_NOOP_성공시_재사용() throws Exception {
+        // given
+        pool = createPool(1, 100L, 60000L, 0L);
+        FTPClient first = pool.borrow();
+        pool.release(first, true);
+
+        // when
+        FTPClient second = pool.borrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(((FakeFtpClient) first).noOpCount).isEqualTo(1);
+    }
+
+    @Test
+    public void idleTimeout_지난_접속_종료() throws Exception {
+        // given
+        pool = createPool(2, 100L, 0L, 60000L);
+        FTPClient ftpClient = pool.borrow();
+        pool.release(ftpClient, true);
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+
+        // when
+        pool.evictIdle();
+
+        // then
+        assertThat(pool.getIdleCount()).isZero();
+        assertThat(ftpClient.isConnected()).isFalse();
+        assertThat(((FakeFtpClient) ftpClient).loggedOut).isTrue();
+    }
+
+    @Test
+    public void 접속_실패시_사용_가능한_접속수_유지() throws Exception {
+        // given
+        pool = createPool(1, 50L, 60000L, 60000L);
+        loginSucceeds = false;
+
+        // when
+        assertThatThrownBy(() -> pool.borrow())
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("login");
+
+        // then
+        assertThat(pool.getActiveCount()).isZero();
+        assertThat(clients.get(0).isConnected()).isFalse();
+
+        loginSucceeds = true;
+        assertThat(pool.borrow()).isNotNull();
+        assertThat(pool.getActiveCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void 오류난_접속은_반납시_종료() throws Exception {
+        // given
+        pool = createPool(1, 100L, 60000L, 60000L);
+        FTPClient first = pool.borrow();
+
+        // when
+        pool.release(first, false);
+
+        // then
+        assertThat(first.isConnected()).isFalse();
+        assertThat(pool.getIdleCount()).isZero();
+        assertThat(pool.getActiveCount()).isZero();
+
+        FTPClient second = pool.borrow();
+        assertThat(second).isNotSameAs(first);
+        assertThat(pool.getCreatedCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void 닫힌_pool_은_빌려주지_않고_반납된_접속_종료() throws Exception {
+        // given
+        pool = createPool(2, 100L, 60000L, 60000L);
+        FTPClient idle = pool.borrow();
+        FTPClient active = pool.borrow();
+        pool.release(idle, true);
+
+        // when
+        pool.close();
+
+        // then
+        assertThat(idle.isConnected()).isFalse();
+        assertThatThrownBy(() -> pool.borrow()).isInstanceOf(IOException.class);
+        pool.release(active, true);
+        assertThat(active.isConnected()).isFalse();
+        assertThat(pool.getIdleCount()).isZero();
+    }
+
+    private FtpClientPool createPool(int maxPerHost, long borrowTimeoutMillis,
+                                     long idleTimeoutMillis, long validationIntervalMillis) {
+        return new FtpClientPool(new FtpClientDto(), maxPerHost, borrowTimeoutMillis,
+                idleTimeoutMillis, validationIntervalMillis, () -> {
+            FakeFtpClient ftpClient = new FakeFtpClient();
+            clients.add(ftpClient);
+            return ftpClient;
+        });
+    }
+
+    /**
+     * 실제 socket 을 열지 않는 FTPClient
+     */
+    private class FakeFtpClient extends FTPClient {
+        private boolean connected;
+        private boolean loggedOut;
+        private int soTimeout;
+        private int dataTimeout;
+        private int noOpCount;
+
+        @Override
+        public void connect(String hostname, int port) {
+            connected = true;
+        }
+
+        @Override
+        public int getReplyCode() {
+            return 220;
+        }
+
+        @Override
+        public boolean login(String username, String password) {
+            return loginSucceeds;
+        }
+
+        @Override
+        public void setSoTimeout(int timeout) {
+            soTimeout = timeout;
+        }
+
+        @Override
+        public void setDataTimeout(int timeout) {
+            dataTimeout = timeout;
+        }
+
+        @Override
+        public boolean setFileType(int fileType) {
+            return true;
+        }
+
+        @Override
+        public boolean setFileTransferMode(int mode) {
+            return true;
+        }
+
+        @Override
+        public boolean sendNoOp() {
+            noOpCount++;
+            return noOpSucceeds;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return connected;
+        }
+
+        @Override
+        public boolean logout() {
+            loggedOut = true;
+            return true;
+        }
+
+        @Override
+        public void disconnect() {
+            connected = false;
+        }
+    }
+
+}
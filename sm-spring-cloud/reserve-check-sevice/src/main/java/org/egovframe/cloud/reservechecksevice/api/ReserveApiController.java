@@ -1,8 +1,12 @@
 package org.egovframe.cloud.reservechecksevice.api;
 
 import java.time.LocalDate;
+import java.util.List;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.egovframe.cloud.common.dto.CursorPage;
+import org.egovframe.cloud.common.dto.CursorRequestDto;
+import org.egovframe.cloud.reservechecksevice.api.dto.ReserveAvailabilityResponseDto;
 import org.egovframe.cloud.reservechecksevice.api.dto.ReserveCancelRequestDto;
 import org.egovframe.cloud.reservechecksevice.api.dto.ReserveListResponseDto;
 import org.egovframe.cloud.reservechecksevice.api.dto.ReserveRequestDto;
@@ -40,6 +44,8 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/17    shinmj      최초 생성
+ *  2026/10/17    shinmj      일자별 예약 가능 수량 조회 추가
+ *  2026/10/17    shinmj      커서 목록 조회 추가
  * </pre>
  */
 @RequiredArgsConstructor
@@ -80,6 +86,21 @@ public class ReserveApiController {
         return reserveService.search(requestDto, PageRequest.of(page, size));
     }
 
+    /**
+     * 예약 확인(신청) 커서 목록 조회
+     * cursor 파라미터가 있으면 page 대신 이전 페이지 마지막 예약 이후부터 조회한다
+     *
+     * @param requestDto
+     * @param cursorRequestDto
+     * @return
+     */
+    @GetMapping(value = "/api/v1/reserves", params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<CursorPage<ReserveListResponseDto>> searchCursor(ReserveRequestDto requestDto,
+                                                                 CursorRequestDto cursorRequestDto) {
+        return reserveService.searchCursor(requestDto, cursorRequestDto);
+    }
+
     /**
      * 사용자별 예약 목록 조회
      *
@@ -98,6 +119,22 @@ public class ReserveApiController {
         return reserveService.searchForUser(userId, requestDto, PageRequest.of(page, size));
     }
 
+    /**
+     * 사용자별 예약 커서 목록 조회
+     *
+     * @param userId
+     * @param requestDto
+     * @param cursorRequestDto
+     * @return
+     */
+    @GetMapping(value = "/api/v1/{userId}/reserves", params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<CursorPage<ReserveListResponseDto>> searchCursorForUser(@PathVariable String userId,
+                                                                        ReserveRequestDto requestDto,
+                                                                        CursorRequestDto cursorRequestDto) {
+        return reserveService.searchCursorForUser(userId, requestDto, cursorRequestDto);
+    }
+
     /**
      * 예약 한건 조회
      *
@@ -174,4 +211,21 @@ public class ReserveApiController {
         return reserveService.countInventory(reserveItemId,startDate.atTime(0,0), endDate.atTime(23, 59));
     }
 
+    /**
+     * 예약물품 별 일자별 예약 가능 수량 조회
+     * 시작일(기본 오늘)부터 days 일 동안 조회한다.
+     *
+     * @param reserveItemId
+     * @param startDate
+     * @param days
+     * @return
+     */
+    @GetMapping("/api/v1/reserves/{reserveItemId}/availability")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<List<ReserveAvailabilityResponseDto>> findAvailability(@PathVariable Long reserveItemId,
+                                                                       @RequestParam(name = "startDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+                                                                       @RequestParam(name = "days", defaultValue = "30") int days) {
+        return reserveService.findAvailability(reserveItemId, startDate == null ? LocalDate.now() : startDate, days);
+    }
+
 }
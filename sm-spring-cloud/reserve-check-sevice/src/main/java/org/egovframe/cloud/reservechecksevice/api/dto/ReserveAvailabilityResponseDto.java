@@ -0,0 +1,43 @@
+package org.egovframe.cloud.reservechecksevice.api.dto;
+
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.api.dto.ReserveAvailabilityResponseDto
+ * <p>
+ * 예약 물품 일자별 예약 가능 수량 응답 dto class
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj      최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+@ToString
+public class ReserveAvailabilityResponseDto {
+
+    private LocalDate reserveDate;   // 예약 일자
+    private Integer totalQty;        // 총 재고/수용인원 수
+    private Integer reservedQty;     // 해당 일자에 동시에 예약된 수량 max
+    private Integer availableQty;    // 예약 가능 수량
+
+    @Builder
+    public ReserveAvailabilityResponseDto(LocalDate reserveDate, Integer totalQty, Integer reservedQty) {
+        this.reserveDate = reserveDate;
+        this.totalQty = totalQty;
+        this.reservedQty = reservedQty;
+        this.availableQty = totalQty == null ? null : Math.max(totalQty - reservedQty, 0);
+    }
+}
@@ -22,6 +22,7 @@ import org.egovframe.cloud.reservechecksevice.domain.Reserve;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/17    shinmj      최초 생성
+ *  2026/10/17    shinmj      예약 물품, 예약자 정보 조회 실패 시 해당 항목 제외
  * </pre>
  */
 @Getter
@@ -50,11 +51,15 @@ public class ReserveListResponseDto {
         this.locationId = entity.getLocationId();
         this.categoryId = entity.getCategoryId();
         this.reserveItemId = entity.getReserveItemId();
-        this.reserveItemName = entity.getReserveItem().getReserveItemName();
-        this.totalQty = entity.getReserveItem().getTotalQty();
+        if (entity.getReserveItem() != null) {
+            this.reserveItemName = entity.getReserveItem().getReserveItemName();
+            this.totalQty = entity.getReserveItem().getTotalQty();
+        }
         this.reserveQty = entity.getReserveQty();
         this.userId = entity.getUserId();
-        this.userName = entity.getUser().getUserName();
+        if (entity.getUser() != null) {
+            this.userName = entity.getUser().getUserName();
+        }
         this.reserveStatusId = entity.getReserveStatusId();
         this.createDate = entity.getCreateDate();
     }
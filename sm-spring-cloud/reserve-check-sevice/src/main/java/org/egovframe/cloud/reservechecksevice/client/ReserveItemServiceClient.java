@@ -1,12 +1,15 @@
 package org.egovframe.cloud.reservechecksevice.client;
 
+import java.util.Collection;
 import org.egovframe.cloud.reservechecksevice.client.dto.ReserveItemRelationResponseDto;
 import org.egovframe.cloud.reservechecksevice.client.dto.ReserveItemResponseDto;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import reactivefeign.spring.config.ReactiveFeignClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -24,6 +27,7 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/23    shinmj  최초 생성
+ *  2026/10/17    shinmj  예약 물품 여러 건 조회 추가
  * </pre>
  */
 @ReactiveFeignClient(value = "reserve-item-service")
@@ -46,6 +50,15 @@ public interface ReserveItemServiceClient {
     @GetMapping("/api/v1/reserve-items/relations/{reserveItemId}")
     Mono<ReserveItemRelationResponseDto> findByIdWithRelations(@PathVariable("reserveItemId") Long reserveItemId);
 
+    /**
+     * 예약 물품 여러 건 조회 시 연결된 공통코드, 지역 정보 조회
+     *
+     * @param reserveItemIds
+     * @return
+     */
+    @GetMapping("/api/v1/reserve-items/relations")
+    Flux<ReserveItemRelationResponseDto> findAllByIdWithRelations(@RequestParam("ids") Collection<Long> reserveItemIds);
+
     /**
      * 관리자가 예약 신청 시 이벤트 스트림 없이 바로 재고 변경
      *
@@ -1,9 +1,14 @@
 package org.egovframe.cloud.reservechecksevice.client;
 
+import java.util.Collection;
+import org.egovframe.cloud.common.config.GlobalConstant;
 import org.egovframe.cloud.reservechecksevice.client.dto.UserResponseDto;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import reactivefeign.spring.config.ReactiveFeignClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -21,6 +26,8 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/30    shinmj  최초 생성
+ *  2026/10/17    shinmj  사용자 여러 건 조회 추가
+ *  2026/10/17    shinmj  사용자 여러 건 조회 시 서비스 간 인증 header 전달
  * </pre>
  */
 @ReactiveFeignClient(value = "user-service")
@@ -35,4 +42,16 @@ public interface UserServiceClient {
      */
     @GetMapping("/api/v1/users/{userId}")
     Mono<UserResponseDto> findByUserId(@PathVariable("userId") String userId);
+
+    /**
+     * 사용자 여러 건 조회
+     * 사용자 토큰 없이 호출하므로 서비스 간 인증 header 를 전달하며, 한 번에 BULK_IDS_MAX_SIZE 건까지 조회할 수 있다.
+     *
+     * @param userIds
+     * @param serviceToken service.token.secret
+     * @return
+     */
+    @GetMapping("/api/v1/users")
+    Flux<UserResponseDto> findAllByUserIds(@RequestParam("ids") Collection<String> userIds,
+                                           @RequestHeader(GlobalConstant.HEADER_SERVICE_TOKEN) String serviceToken);
 }
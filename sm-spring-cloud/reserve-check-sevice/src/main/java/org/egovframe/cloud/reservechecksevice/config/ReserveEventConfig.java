@@ -0,0 +1,48 @@
+package org.egovframe.cloud.reservechecksevice.config;
+
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.cloud.common.dto.ReserveChangedMessage;
+import org.egovframe.cloud.reservechecksevice.domain.ReserveAvailabilityIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.config.ReserveEventConfig
+ *
+ * event stream 설정 class
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj       최초 생성
+ * </pre>
+ */
+@Slf4j
+@Configuration
+public class ReserveEventConfig {
+
+    @Autowired
+    private ReserveAvailabilityIndex reserveAvailabilityIndex;
+
+    /**
+     * 예약 추가/변경/취소/삭제 이벤트로 예약 현황 캐시를 갱신하는 consumer
+     *
+     * @return
+     */
+    @Bean
+    public Consumer<ReserveChangedMessage> reserveChanged() {
+        return message -> {
+            log.debug("receive reserve changed => {}", message);
+            reserveAvailabilityIndex.apply(message);
+        };
+    }
+
+}
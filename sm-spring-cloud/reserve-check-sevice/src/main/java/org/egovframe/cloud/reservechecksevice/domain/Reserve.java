@@ -9,6 +9,7 @@ import lombok.ToString;
 import lombok.With;
 import org.egovframe.cloud.common.exception.BusinessMessageException;
 import org.egovframe.cloud.reactive.domain.BaseEntity;
+import org.egovframe.cloud.reactive.domain.ReserveQtyCounter;
 import org.egovframe.cloud.reservechecksevice.api.dto.ReserveUpdateRequestDto;
 import org.egovframe.cloud.reservechecksevice.client.dto.UserResponseDto;
 import org.springframework.data.annotation.Id;
@@ -31,6 +32,7 @@ import org.springframework.data.relational.core.mapping.Table;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/15    shinmj       최초 생성
+ *  2026/10/17    shinmj       동시 예약 수량 계산을 위해 ReserveQtyCounter.Reservation 구현
  * </pre>
  */
 @Getter
@@ -38,7 +40,7 @@ import org.springframework.data.relational.core.mapping.Table;
 @ToString
 @With
 @Table("reserve")
-public class Reserve extends BaseEntity {
+public class Reserve extends BaseEntity implements ReserveQtyCounter.Reservation {
 
     @Id
     @Column
@@ -0,0 +1,289 @@
+package org.egovframe.cloud.reservechecksevice.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.cloud.common.dto.ReserveChangedMessage;
+import org.egovframe.cloud.reactive.domain.ReserveQtyCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.ReserveAvailabilityIndex
+ *
+ * 예약 물품별 예약 현황(ReserveTimeline) 메모리 캐시
+ * 처음 조회할 때 해당 물품의 예약을 한 번 읽어 두고, 이후 재고/중복 체크는 reserve 테이블을 조회하지 않고 계산한다.
+ * 예약 추가/승인/취소/수정 시 commit 후 applyAfterCommit 으로 바로 반영하고, 다른 서비스/인스턴스의 변경은 예약 변경 이벤트로 반영한다.
+ * 이벤트 누락에 대비해 reserve.availability.ttl-minutes 가 지나면 다시 읽으며,
+ * 보관 기간(reserve.availability.history-days) 이전 기간을 조회하는 경우에는 DB 에서 조회한다.
+ * 캐시는 인스턴스별이므로 예약을 저장하기 전에는 저장 transaction 안에서 *FromDb 메소드로 DB 를 다시 확인한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj       최초 생성
+ *  2026/10/17    shinmj       저장한 예약은 transaction commit 후 반영
+ *  2026/10/17    shinmj       저장 전 DB 재확인 조회 추가
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ReserveAvailabilityIndex {
+
+    private final ReserveRepository reserveRepository;
+
+    private final long historyDays;
+
+    private final long ttlNanos;
+
+    private final ConcurrentHashMap<Long, Entry> timelines = new ConcurrentHashMap<>();
+
+    public ReserveAvailabilityIndex(ReserveRepository reserveRepository,
+                                    @Value("${reserve.availability.history-days:31}") long historyDays,
+                                    @Value("${reserve.availability.ttl-minutes:60}") long ttlMinutes) {
+        this.reserveRepository = reserveRepository;
+        this.historyDays = historyDays;
+        this.ttlNanos = TimeUnit.MINUTES.toNanos(ttlMinutes);
+    }
+
+    /**
+     * 예약물품에 대해 조회 기간 내 동시 예약 수량 max 조회
+     *
+     * @param reserveItemId
+     * @param excludeReserveId 제외할 예약 id (없으면 null)
+     * @param startDate
+     * @param endDate
+     * @return
+     */
+    public Mono<Integer> getMaxReservedQty(Long reserveItemId, String excludeReserveId, LocalDateTime startDate, LocalDateTime endDate) {
+        return getTimeline(reserveItemId, startDate)
+            .map(timeline -> timeline.getMaxReservedQty(excludeReserveId, startDate, endDate))
+            .switchIfEmpty(Mono.defer(() -> getMaxReservedQtyFromDb(reserveItemId, excludeReserveId, startDate, endDate)));
+    }
+
+    /**
+     * 예약물품에 대해 조회 기간과 겹치는 예약 건수 조회
+     *
+     * @param reserveItemId
+     * @param excludeReserveId 제외할 예약 id (없으면 null)
+     * @param startDate
+     * @param endDate
+     * @return
+     */
+    public Mono<Long> countOverlaps(Long reserveItemId, String excludeReserveId, LocalDateTime startDate, LocalDateTime endDate) {
+        return getTimeline(reserveItemId, startDate)
+            .map(timeline -> timeline.countOverlaps(excludeReserveId, startDate, endDate))
+            .switchIfEmpty(Mono.defer(() -> countOverlapsFromDb(reserveItemId, excludeReserveId, startDate, endDate)));
+    }
+
+    /**
+     * 예약물품에 대해 조회 기간 내 동시 예약 수량 max 를 캐시를 거치지 않고 DB 에서 조회
+     * 예약 저장 transaction 안에서 캐시로 확인한 결과를 다시 확인할 때 사용한다.
+     *
+     * @param reserveItemId
+     * @param excludeReserveId 제외할 예약 id (없으면 null)
+     * @param startDate
+     * @param endDate
+     * @return
+     */
+    public Mono<Integer> getMaxReservedQtyFromDb(Long reserveItemId, String excludeReserveId, LocalDateTime startDate, LocalDateTime endDate) {
+        return findAllByReserveDate(reserveItemId, excludeReserveId, startDate, endDate)
+            .collectList()
+            .map(reserves -> ReserveQtyCounter.max(reserves, startDate, endDate));
+    }
+
+    /**
+     * 예약물품에 대해 조회 기간과 겹치는 예약 건수를 캐시를 거치지 않고 DB 에서 조회
+     * 예약 저장 transaction 안에서 캐시로 확인한 결과를 다시 확인할 때 사용한다.
+     *
+     * @param reserveItemId
+     * @param excludeReserveId 제외할 예약 id (없으면 null)
+     * @param startDate
+     * @param endDate
+     * @return
+     */
+    public Mono<Long> countOverlapsFromDb(Long reserveItemId, String excludeReserveId, LocalDateTime startDate, LocalDateTime endDate) {
+        return findAllByReserveDate(reserveItemId, excludeReserveId, startDate, endDate)
+            .count();
+    }
+
+    /**
+     * 예약물품에 대해 시작일부터 days 일 동안 일자별 동시 예약 수량 max 조회
+     *
+     * @param reserveItemId
+     * @param fromDate
+     * @param days
+     * @return
+     */
+    public Mono<int[]> getMaxReservedQtyByDay(Long reserveItemId, LocalDate fromDate, int days) {
+        LocalDateTime startDate = fromDate.atStartOfDay();
+        return getTimeline(reserveItemId, startDate)
+            .map(timeline -> timeline.getMaxReservedQtyByDay(fromDate, days))
+            .switchIfEmpty(Mono.defer(() -> reserveRepository.findAllByReserveDate(reserveItemId, startDate,
+                    fromDate.plusDays(days).atStartOfDay().minusNanos(1))
+                .collectList()
+                .map(reserves -> ReserveQtyCounter.maxByDay(reserves, fromDate, days))));
+    }
+
+    /**
+     * 현재 transaction 이 commit 된 후 저장된 예약 정보 반영
+     * rollback 되면 반영하지 않으므로 저장되지 않은 예약이 재고를 차지하지 않는다.
+     * transaction 이 없으면 바로 반영한다.
+     * 같은 예약 변경 이벤트가 이 인스턴스에도 전달되어 다시 반영되지만 예약 id 기준으로 덮어쓰므로 결과는 같다.
+     *
+     * @param reserve
+     * @return
+     */
+    public Mono<Void> applyAfterCommit(Reserve reserve) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .flatMap(manager -> {
+                if (!manager.isSynchronizationActive()) {
+                    return Mono.error(new NoTransactionException("No transaction synchronization"));
+                }
+                manager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCommit() {
+                        return Mono.fromRunnable(() -> apply(reserve));
+                    }
+                });
+                return Mono.<Void>empty();
+            })
+            .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(() -> apply(reserve)));
+    }
+
+    /**
+     * 저장된 예약 정보 반영
+     * 해당 물품을 읽어 두지 않았으면 무시하고, 읽는 중이면 다시 읽도록 캐시에서 제거한다.
+     *
+     * @param reserve
+     */
+    public void apply(Reserve reserve) {
+        Entry entry = timelines.get(reserve.getReserveItemId());
+        if (entry == null) {
+            return;
+        }
+        if (entry.loaded == null) {
+            timelines.remove(reserve.getReserveItemId(), entry);
+            return;
+        }
+        entry.loaded.put(reserve);
+    }
+
+    /**
+     * 예약 변경 이벤트 반영
+     *
+     * @param message
+     */
+    public void apply(ReserveChangedMessage message) {
+        if (message.getReserveItemId() == null || message.getReserveId() == null) {
+            return;
+        }
+        if (message.isDeleted()) {
+            remove(message.getReserveItemId(), message.getReserveId());
+            return;
+        }
+        apply(Reserve.builder()
+            .reserveId(message.getReserveId())
+            .reserveItemId(message.getReserveItemId())
+            .reserveQty(message.getReserveQty())
+            .reserveStartDate(message.getReserveStartDate())
+            .reserveEndDate(message.getReserveEndDate())
+            .reserveStatusId(message.getReserveStatusId())
+            .build());
+    }
+
+    /**
+     * 삭제된 예약 반영
+     *
+     * @param reserveItemId
+     * @param reserveId
+     */
+    public void remove(Long reserveItemId, String reserveId) {
+        Entry entry = timelines.get(reserveItemId);
+        if (entry == null) {
+            return;
+        }
+        if (entry.loaded == null) {
+            timelines.remove(reserveItemId, entry);
+            return;
+        }
+        entry.loaded.remove(reserveId);
+    }
+
+    /**
+     * 예약 물품 캐시 삭제
+     *
+     * @param reserveItemId
+     */
+    public void evict(Long reserveItemId) {
+        timelines.remove(reserveItemId);
+    }
+
+    /**
+     * 조회 시작일을 보관하고 있는 예약 현황 조회
+     * 보관 기간 이전을 조회하는 경우 empty 를 리턴한다.
+     *
+     * @param reserveItemId
+     * @param startDate
+     * @return
+     */
+    private Mono<ReserveTimeline> getTimeline(Long reserveItemId, LocalDateTime startDate) {
+        Entry entry = timelines.compute(reserveItemId, (key, current) ->
+            current == null || current.isExpired() ? load(key) : current);
+        return entry.timeline
+            .filter(timeline -> timeline.covers(startDate));
+    }
+
+    /**
+     * 예약 물품의 예약 현황을 읽는다.
+     * 동시에 조회하는 요청은 같은 결과를 공유하며, 오류가 발생하면 다음 조회 시 다시 읽는다.
+     *
+     * @param reserveItemId
+     * @return
+     */
+    private Entry load(Long reserveItemId) {
+        LocalDateTime loadedFrom = LocalDate.now().minusDays(historyDays).atStartOfDay();
+        Entry entry = new Entry();
+        entry.timeline = reserveRepository.findAllByReserveItemIdFromDate(reserveItemId, loadedFrom)
+            .collectList()
+            .map(reserves -> new ReserveTimeline(loadedFrom, reserves))
+            .doOnNext(timeline -> {
+                entry.loaded = timeline;
+                log.debug("reserve timeline loaded reserveItemId={}, size={}", reserveItemId, timeline.size());
+            })
+            .doOnError(throwable -> timelines.remove(reserveItemId, entry))
+            .cache();
+        return entry;
+    }
+
+    private Flux<Reserve> findAllByReserveDate(Long reserveItemId, String excludeReserveId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (excludeReserveId == null) {
+            return reserveRepository.findAllByReserveDate(reserveItemId, startDate, endDate);
+        }
+        return reserveRepository.findAllByReserveDateWithoutSelf(excludeReserveId, reserveItemId, startDate, endDate);
+    }
+
+    private final class Entry {
+        private final long createdAt = System.nanoTime();
+        private Mono<ReserveTimeline> timeline;
+        private volatile ReserveTimeline loaded;
+
+        private boolean isExpired() {
+            return System.nanoTime() - createdAt > ttlNanos;
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package org.egovframe.cloud.reservechecksevice.domain;
 
 import java.time.LocalDateTime;
+import org.egovframe.cloud.common.util.PageCursor;
 import org.egovframe.cloud.reservechecksevice.api.dto.ReserveRequestDto;
 import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
@@ -21,6 +22,8 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/15    shinmj       최초 생성
+ *  2026/10/17    shinmj       예약 물품별 예약 현황 조회 추가
+ *  2026/10/17    shinmj       커서 목록 조회 추가
  * </pre>
  */
 public interface ReserveRepositoryCustom {
@@ -31,11 +34,14 @@ public interface ReserveRepositoryCustom {
     Flux<Reserve> searchForUser(ReserveRequestDto requestDto, Pageable pageable, String userId);
     Mono<Long> searchCountForUser(ReserveRequestDto requestDto, Pageable pageable, String userId);
 
+    Flux<Reserve> searchAfter(ReserveRequestDto requestDto, String userId, PageCursor pageCursor, int limit);
+
     Mono<Reserve> loadRelations(Reserve reserve);
 
     Flux<Reserve> findAllByReserveDate(Long reserveItemId, LocalDateTime startDate, LocalDateTime endDate);
     Flux<Reserve> findAllByReserveDateWithoutSelf(String reserveId, Long reserveItemId, LocalDateTime startDate, LocalDateTime endDate);
     Mono<Long> findAllByReserveDateWithoutSelfCount(String reserveId, Long reserveItemId, LocalDateTime startDate, LocalDateTime endDate);
+    Flux<Reserve> findAllByReserveItemIdFromDate(Long reserveItemId, LocalDateTime fromDate);
 
     Mono<Reserve> insert(Reserve reserve);
 
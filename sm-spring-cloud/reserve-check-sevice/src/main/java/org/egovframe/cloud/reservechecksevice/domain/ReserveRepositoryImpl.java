@@ -7,12 +7,25 @@ import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.cloud.common.config.GlobalConstant;
+import org.egovframe.cloud.common.exception.InvalidValueException;
+import org.egovframe.cloud.common.util.PageCursor;
 import org.egovframe.cloud.reservechecksevice.api.dto.ReserveRequestDto;
 import org.egovframe.cloud.reservechecksevice.client.ReserveItemServiceClient;
 import org.egovframe.cloud.reservechecksevice.client.UserServiceClient;
+import org.egovframe.cloud.reservechecksevice.client.dto.ReserveItemRelationResponseDto;
 import org.egovframe.cloud.reservechecksevice.client.dto.UserResponseDto;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
@@ -37,8 +50,13 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/15    shinmj       최초 생성
+ *  2026/10/17    shinmj       예약 물품별 예약 현황 조회 추가
+ *  2026/10/17    shinmj       목록 조회 시 relation 일괄 조회
+ *  2026/10/17    shinmj       커서 목록 조회 추가
+ *  2026/10/17    shinmj       relation 일괄 조회 시 서비스 인증, 최대 건수로 나누어 호출, 오류 로그
  * </pre>
  */
+@Slf4j
 @RequiredArgsConstructor
 public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
     private static final String RESERVE_ITEM_CIRCUIT_BREAKER_NAME = "reserve-item";
@@ -49,6 +67,12 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
     private final UserServiceClient userServiceClient;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
 
+    /**
+     * 사용자 서비스 일괄 조회 시 전달하는 서비스 간 인증 secret
+     */
+    @Value("${service.token.secret:}")
+    private String serviceTokenSecret;
+
     /**
      * 조회조건 목록 조회
      *
@@ -64,8 +88,8 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
                         .sort(Sort.by(Sort.Direction.DESC, "create_date"))
                         .with(pageable))
                 .all()
-                .flatMap(this::loadRelations)
-                .switchIfEmpty(Flux.empty());
+                .collectList()
+                .flatMapMany(this::loadRelations);
     }
 
     /**
@@ -114,8 +138,8 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
                         .sort(Sort.by(Sort.Direction.DESC, "create_date"))
                         .with(pageable))
                 .all()
-                .flatMap(this::loadRelations)
-                .switchIfEmpty(Flux.empty());
+                .collectList()
+                .flatMapMany(this::loadRelations);
     }
 
     /**
@@ -136,6 +160,34 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
                 .count();
     }
 
+    /**
+     * 커서 목록 조회
+     * 생성일시, 예약 id 역순으로 정렬하고 이전 페이지 마지막 예약 이후부터 limit 건을 조회한다.
+     *
+     * @param requestDto
+     * @param userId     사용자 id, 없으면 전체 조회
+     * @param pageCursor 이전 페이지 마지막 예약의 생성일시, 예약 id, 첫 페이지이면 null
+     * @param limit
+     * @return
+     */
+    @Override
+    public Flux<Reserve> searchAfter(ReserveRequestDto requestDto, String userId, PageCursor pageCursor, int limit) {
+        Criteria where = Criteria.from(whereQuery(requestDto));
+        if (StringUtils.hasText(userId)) {
+            where = where.and(where("user_id").is(userId));
+        }
+        if (pageCursor != null) {
+            where = where.and(cursorQuery(pageCursor));
+        }
+        return entityTemplate.select(Reserve.class)
+                .matching(Query.query(where)
+                        .sort(Sort.by(Sort.Direction.DESC, "create_date", "reserve_id"))
+                        .limit(limit))
+                .all()
+                .collectList()
+                .flatMapMany(this::loadRelations);
+    }
+
     /**
      * relation 조회
      *
@@ -219,6 +271,24 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
             .count();
     }
 
+    /**
+     * 예약 물품의 종료일이 fromDate 이후인 예약 건 조회
+     * 취소된 예약은 제외
+     *
+     * @param reserveItemId
+     * @param fromDate
+     * @return
+     */
+    @Override
+    public Flux<Reserve> findAllByReserveItemIdFromDate(Long reserveItemId, LocalDateTime fromDate) {
+        return entityTemplate.select(Reserve.class)
+            .matching(Query.query(where("reserve_item_id").is(reserveItemId)
+                .and("reserve_end_date").greaterThanOrEquals(fromDate)
+                .and("reserve_status_id").not(ReserveStatus.CANCEL.getKey())
+            ))
+            .all();
+    }
+
     /**
      * 예약 insert
      * pk(reserveId)를 서비스에서 생성하여 insert 하기 위함.
@@ -231,6 +301,103 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
         return entityTemplate.insert(reserve);
     }
 
+    /**
+     * 목록 relation 일괄 조회
+     * 목록의 사용자, 예약 물품 id 를 모아 서비스별로 한 번씩만 조회한 뒤 목록에 세팅한다.
+     *
+     * @param reserves
+     * @return
+     */
+    private Flux<Reserve> loadRelations(final List<Reserve> reserves) {
+        if (reserves.isEmpty()) {
+            return Flux.empty();
+        }
+
+        Set<String> userIds = reserves.stream()
+            .map(Reserve::getUserId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Set<Long> reserveItemIds = reserves.stream()
+            .map(Reserve::getReserveItemId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+
+        return findUsersByUserIds(userIds)
+            .zipWith(findReserveItemsWithRelation(reserveItemIds))
+            .flatMapMany(tuple -> Flux.fromIterable(reserves)
+                .map(reserve -> {
+                    UserResponseDto user = tuple.getT1().get(reserve.getUserId());
+                    if (user != null) {
+                        reserve.setUser(user);
+                    }
+                    ReserveItem reserveItem = tuple.getT2().get(reserve.getReserveItemId());
+                    if (reserveItem != null) {
+                        reserve.setReserveItem(reserveItem);
+                    }
+                    return reserve;
+                }));
+    }
+
+    /**
+     * 예약 물품 정보 여러 건 조회
+     *
+     * @param reserveItemIds
+     * @return
+     */
+    private Mono<Map<Long, ReserveItem>> findReserveItemsWithRelation(Set<Long> reserveItemIds) {
+        if (reserveItemIds.isEmpty()) {
+            return Mono.just(Collections.emptyMap());
+        }
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESERVE_ITEM_CIRCUIT_BREAKER_NAME);
+
+        return Flux.fromIterable(partition(reserveItemIds))
+            .concatMap(reserveItemServiceClient::findAllByIdWithRelations)
+            .collectMap(ReserveItemRelationResponseDto::getReserveItemId, ReserveItemRelationResponseDto::toEntity)
+            .transform(CircuitBreakerOperator.of(circuitBreaker))
+            .onErrorResume(throwable -> {
+                log.warn("예약 물품 정보 일괄 조회 실패 - 예약 물품 정보 없이 조회합니다. reserveItemIds={}", reserveItemIds, throwable);
+                return Mono.just(Collections.emptyMap());
+            });
+    }
+
+    /**
+     * 예약자 정보 여러 건 조회
+     *
+     * @param userIds
+     * @return
+     */
+    private Mono<Map<String, UserResponseDto>> findUsersByUserIds(Set<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Mono.just(Collections.emptyMap());
+        }
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(USER_CIRCUIT_BREAKER_NAME);
+
+        return Flux.fromIterable(partition(userIds))
+            .concatMap(chunk -> userServiceClient.findAllByUserIds(chunk, serviceTokenSecret))
+            .collectMap(UserResponseDto::getUserId, Function.identity())
+            .transform(CircuitBreakerOperator.of(circuitBreaker))
+            .onErrorResume(throwable -> {
+                log.warn("예약자 정보 일괄 조회 실패 - 예약자 정보 없이 조회합니다. userIds={}", userIds, throwable);
+                return Mono.just(Collections.emptyMap());
+            });
+    }
+
+    /**
+     * id 목록을 한 번에 전달할 수 있는 최대 건수(BULK_IDS_MAX_SIZE)로 나눈다.
+     *
+     * @param ids
+     * @param <T>
+     * @return
+     */
+    static <T> List<List<T>> partition(Collection<T> ids) {
+        List<T> list = new ArrayList<>(ids);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += GlobalConstant.BULK_IDS_MAX_SIZE) {
+            chunks.add(list.subList(from, Math.min(from + GlobalConstant.BULK_IDS_MAX_SIZE, list.size())));
+        }
+        return chunks;
+    }
+
     /**
      * 예약 물품 정보 조회
      *
@@ -285,6 +452,27 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
         return criteriaList;
     }
 
+    /**
+     * 커서 이후 예약 조건
+     * 생성일시가 없는 예약은 생성일시 역순 정렬에서 마지막에 위치한다.
+     *
+     * @param pageCursor
+     * @return
+     */
+    private Criteria cursorQuery(PageCursor pageCursor) {
+        LocalDateTime createDate = pageCursor.getDateTime(0);
+        String reserveId = pageCursor.getString(1);
+        if (reserveId == null) {
+            throw new InvalidValueException("cursor");
+        }
+        if (createDate == null) {
+            return where("create_date").isNull().and("reserve_id").lessThan(reserveId);
+        }
+        return where("create_date").lessThan(createDate)
+                .or(where("create_date").is(createDate).and("reserve_id").lessThan(reserveId))
+                .or("create_date").isNull();
+    }
+
     /**
      * like 검색
      *
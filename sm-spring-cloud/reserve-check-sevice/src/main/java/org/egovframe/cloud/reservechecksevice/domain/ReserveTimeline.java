@@ -0,0 +1,162 @@
+package org.egovframe.cloud.reservechecksevice.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.egovframe.cloud.reactive.domain.ReserveQtyCounter;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.ReserveTimeline
+ *
+ * 예약 물품 한 건의 예약 구간 목록
+ * 예약 시작일 기준으로 정렬해 두고 조회 기간과 겹치는 예약만 꺼내 ReserveQtyCounter 로 동시 예약 수량을 계산한다.
+ * 취소되지 않은 예약 중 종료일이 loadedFrom 이후인 예약만 보관하며, loadedFrom 이전 기간은 조회할 수 없다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj       최초 생성
+ * </pre>
+ */
+public class ReserveTimeline {
+
+    private final LocalDateTime loadedFrom;
+
+    private final Map<String, Reserve> reserves = new HashMap<>();
+
+    private final NavigableMap<LocalDateTime, Map<String, Reserve>> byStartDate = new TreeMap<>();
+
+    public ReserveTimeline(LocalDateTime loadedFrom, List<Reserve> reserves) {
+        this.loadedFrom = loadedFrom;
+        reserves.forEach(this::put);
+    }
+
+    /**
+     * 조회 기간을 보관하고 있는지 여부
+     *
+     * @param startDate
+     * @return
+     */
+    public boolean covers(LocalDateTime startDate) {
+        return !startDate.isBefore(loadedFrom);
+    }
+
+    /**
+     * 예약 추가 또는 변경
+     * 취소된 예약이거나 기간이 없으면 삭제한다.
+     *
+     * @param reserve
+     */
+    public synchronized void put(Reserve reserve) {
+        remove(reserve.getReserveId());
+        if (ReserveStatus.CANCEL.isEquals(reserve.getReserveStatusId())
+            || reserve.getReserveStartDate() == null || reserve.getReserveEndDate() == null
+            || reserve.getReserveEndDate().isBefore(loadedFrom)) {
+            return;
+        }
+
+        // 저장 이후 entity 가 변경되어도 영향이 없도록 필요한 값만 복사해서 보관한다
+        Reserve snapshot = Reserve.builder()
+            .reserveId(reserve.getReserveId())
+            .reserveItemId(reserve.getReserveItemId())
+            .reserveQty(reserve.getReserveQty())
+            .reserveStartDate(reserve.getReserveStartDate())
+            .reserveEndDate(reserve.getReserveEndDate())
+            .reserveStatusId(reserve.getReserveStatusId())
+            .build();
+        reserves.put(snapshot.getReserveId(), snapshot);
+        byStartDate.computeIfAbsent(snapshot.getReserveStartDate(), key -> new HashMap<>())
+            .put(snapshot.getReserveId(), snapshot);
+    }
+
+    /**
+     * 예약 삭제
+     *
+     * @param reserveId
+     */
+    public synchronized void remove(String reserveId) {
+        Reserve removed = reserves.remove(reserveId);
+        if (removed == null) {
+            return;
+        }
+        Map<String, Reserve> sameStart = byStartDate.get(removed.getReserveStartDate());
+        sameStart.remove(reserveId);
+        if (sameStart.isEmpty()) {
+            byStartDate.remove(removed.getReserveStartDate());
+        }
+    }
+
+    /**
+     * 조회 기간 내 동시 예약 수량 max
+     *
+     * @param excludeReserveId 제외할 예약 id (없으면 null)
+     * @param startDate
+     * @param endDate
+     * @return
+     */
+    public synchronized int getMaxReservedQty(String excludeReserveId, LocalDateTime startDate, LocalDateTime endDate) {
+        return ReserveQtyCounter.max(findOverlaps(excludeReserveId, startDate, endDate), startDate, endDate);
+    }
+
+    /**
+     * 조회 기간과 겹치는 예약 건수
+     *
+     * @param excludeReserveId 제외할 예약 id (없으면 null)
+     * @param startDate
+     * @param endDate
+     * @return
+     */
+    public synchronized long countOverlaps(String excludeReserveId, LocalDateTime startDate, LocalDateTime endDate) {
+        return findOverlaps(excludeReserveId, startDate, endDate).size();
+    }
+
+    /**
+     * 시작일부터 days 일 동안 일자별 동시 예약 수량 max
+     *
+     * @param fromDate
+     * @param days
+     * @return
+     */
+    public synchronized int[] getMaxReservedQtyByDay(LocalDate fromDate, int days) {
+        LocalDateTime startDate = fromDate.atStartOfDay();
+        LocalDateTime endDate = fromDate.plusDays(days).atStartOfDay().minusNanos(1);
+        return ReserveQtyCounter.maxByDay(findOverlaps(null, startDate, endDate), fromDate, days);
+    }
+
+    public synchronized int size() {
+        return reserves.size();
+    }
+
+    /**
+     * 시작일 <= 조회 종료일 이고 종료일 >= 조회 시작일 인 예약 목록
+     *
+     * @param excludeReserveId
+     * @param startDate
+     * @param endDate
+     * @return
+     */
+    private List<Reserve> findOverlaps(String excludeReserveId, LocalDateTime startDate, LocalDateTime endDate) {
+        List<Reserve> overlaps = new ArrayList<>();
+        for (Map<String, Reserve> sameStart : byStartDate.headMap(endDate, true).values()) {
+            for (Reserve reserve : sameStart.values()) {
+                if (!reserve.getReserveEndDate().isBefore(startDate)
+                    && !reserve.getReserveId().equals(excludeReserveId)) {
+                    overlaps.add(reserve);
+                }
+            }
+        }
+        return overlaps;
+    }
+
+}
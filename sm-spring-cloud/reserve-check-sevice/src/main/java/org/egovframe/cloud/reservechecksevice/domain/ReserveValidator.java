@@ -4,17 +4,17 @@ import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.stream.IntStream;
 import javax.annotation.Resource;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.egovframe.cloud.common.exception.BusinessMessageException;
 import org.egovframe.cloud.common.util.MessageUtil;
 import org.egovframe.cloud.reservechecksevice.client.ReserveItemServiceClient;
 import org.egovframe.cloud.reservechecksevice.client.dto.ReserveItemResponseDto;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReserveValidator {
@@ -26,57 +26,66 @@ public class ReserveValidator {
     )
     protected MessageUtil messageUtil;
 
-    private final ReserveRepository reserveRepository;
+    private final ReserveAvailabilityIndex reserveAvailabilityIndex;
     private final ReserveItemServiceClient reserveItemServiceClient;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
 
     /**
      * 공간 예약 시 예약 날짜에 다른 예약이 있는지 체크
+     * 예약 현황 캐시로 먼저 확인하고, 예약 가능하면 저장 transaction 안에서 DB 로 다시 확인한다.
      *
      * @param reserveItem
      * @param reserve
      * @return
      */
     public Mono<Reserve> checkSpace(ReserveItemResponseDto reserveItem, Reserve reserve) {
+        Long reserveItemId = reserveItem.getReserveItemId();
         return this.checkReserveDate(reserveItem, reserve)
-            .flatMap(isValid -> reserveRepository.findAllByReserveDateWithoutSelfCount(
+            .flatMap(isValid -> reserveAvailabilityIndex.countOverlaps(
+                reserveItemId,
+                reserve.getReserveId(),
+                reserve.getReserveStartDate(),
+                reserve.getReserveEndDate()))
+            .filter(count -> count == 0)
+            .flatMap(count -> reserveAvailabilityIndex.countOverlapsFromDb(
+                reserveItemId,
                 reserve.getReserveId(),
-                reserveItem.getReserveItemId(),
                 reserve.getReserveStartDate(),
                 reserve.getReserveEndDate())
-                .flatMap(count -> {
-                    if (count > 0) {
-                        //"해당 날짜에는 예약할 수 없습니다."
-                        return Mono.error(new BusinessMessageException(getMessage("valid.reserve_date")));
-                    }
-                    return Mono.just(reserve);
-                })
-            );
+                .doOnNext(dbCount -> evictIfStale(reserveItemId, dbCount > 0)))
+            .filter(count -> count == 0)
+            .map(count -> reserve)
+            //"해당 날짜에는 예약할 수 없습니다."
+            .switchIfEmpty(Mono.error(() -> new BusinessMessageException(getMessage("valid.reserve_date"))));
     }
 
     /**
      * 장비 예약 시 예약 날짜에 예약 가능한 재고 체크
+     * 예약 현황 캐시로 먼저 확인하고, 예약 가능하면 저장 transaction 안에서 DB 로 다시 확인한다.
      *
      * @param reserveItem
      * @param reserve
      * @return
      */
     public Mono<Reserve> checkEquipment(ReserveItemResponseDto reserveItem, Reserve reserve) {
+        Long reserveItemId = reserveItem.getReserveItemId();
         return this.checkReserveDate(reserveItem, reserve)
             .flatMap(entity -> this.getMaxByReserveDateWithoutSelf(
                 entity.getReserveId(),
-                reserveItem.getReserveItemId(),
+                reserveItemId,
                 entity.getReserveStartDate(),
-                entity.getReserveEndDate())
-                .flatMap(max -> Mono.just((reserveItem.isPossibleQty(max, reserve.getReserveQty()))))
-                .flatMap(isValid -> {
-                    if (isValid) {
-                        return Mono.just(reserve);
-                    }
-                    //해당 날짜에 예약할 수 있는 재고수량이 없습니다.
-                    return Mono.error(new BusinessMessageException(getMessage("valid.reserve_count")));
-                })
-            );
+                entity.getReserveEndDate()))
+            .filter(max -> reserveItem.isPossibleQty(max, reserve.getReserveQty()))
+            .flatMap(max -> reserveAvailabilityIndex.getMaxReservedQtyFromDb(
+                reserveItemId,
+                reserve.getReserveId(),
+                reserve.getReserveStartDate(),
+                reserve.getReserveEndDate())
+                .doOnNext(dbMax -> evictIfStale(reserveItemId, !dbMax.equals(max))))
+            .filter(max -> reserveItem.isPossibleQty(max, reserve.getReserveQty()))
+            .map(max -> reserve)
+            //해당 날짜에 예약할 수 있는 재고수량이 없습니다.
+            .switchIfEmpty(Mono.error(() -> new BusinessMessageException(getMessage("valid.reserve_count"))));
     }
 
     /**
@@ -122,9 +131,7 @@ public class ReserveValidator {
      * @return
      */
     public Mono<Integer> getMaxByReserveDate(Long reserveItemId, LocalDateTime startDate, LocalDateTime endDate) {
-        Flux<Reserve> reserveFlux = reserveRepository.findAllByReserveDate(reserveItemId, startDate, endDate)
-            .switchIfEmpty(Flux.empty());
-        return countMax(reserveFlux, startDate, endDate);
+        return reserveAvailabilityIndex.getMaxReservedQty(reserveItemId, null, startDate, endDate);
     }
 
     /**
@@ -191,61 +198,29 @@ public class ReserveValidator {
     }
 
     /**
-     * 예약물품에 대해 날짜별 예약된 수량 max 조회
-     * 현 예약 건 제외
+     * 예약 현황 캐시와 DB 결과가 다르면 다른 인스턴스의 변경 이벤트가 누락된 것이므로 다음 조회 시 다시 읽도록 캐시를 삭제한다.
      *
      * @param reserveItemId
-     * @param startDate
-     * @param endDate
-     * @return
+     * @param stale 캐시와 DB 결과가 다른지 여부
      */
-    private Mono<Integer> getMaxByReserveDateWithoutSelf(String reserveId, Long reserveItemId, LocalDateTime startDate, LocalDateTime endDate) {
-        Flux<Reserve> reserveFlux = reserveRepository.findAllByReserveDateWithoutSelf(reserveId, reserveItemId, startDate, endDate)
-            .switchIfEmpty(Flux.empty());
-        return countMax(reserveFlux, startDate, endDate);
+    private void evictIfStale(Long reserveItemId, boolean stale) {
+        if (stale) {
+            log.info("reserve timeline is stale, evict reserveItemId={}", reserveItemId);
+            reserveAvailabilityIndex.evict(reserveItemId);
+        }
     }
 
     /**
-     * get max
+     * 예약물품에 대해 날짜별 예약된 수량 max 조회
+     * 현 예약 건 제외
      *
-     * @param reserveFlux
+     * @param reserveItemId
      * @param startDate
      * @param endDate
      * @return
      */
-    private Mono<Integer> countMax(Flux<Reserve> reserveFlux, LocalDateTime startDate, LocalDateTime endDate) {
-        if (reserveFlux.equals(Flux.empty())) {
-            return Mono.just(0);
-        }
-
-        long between = ChronoUnit.DAYS.between(startDate, endDate);
-
-        if (between == 0) {
-            return reserveFlux.map(reserve -> {
-                if (startDate.isAfter(reserve.getReserveStartDate())
-                    || startDate.isBefore(reserve.getReserveEndDate())
-                    || startDate.isEqual(reserve.getReserveStartDate()) || startDate.isEqual(reserve.getReserveEndDate())) {
-                    return reserve.getReserveQty();
-                }
-                return 0;
-            }).reduce(0, (x1, x2) -> x1 + x2);
-        }
-
-        return Flux.fromStream(IntStream.iterate(0, i -> i + 1)
-            .limit(between)
-            .mapToObj(i -> startDate.plusDays(i)))
-            .flatMap(localDateTime ->
-                reserveFlux.map(findReserve -> {
-                    if (localDateTime.isAfter(findReserve.getReserveStartDate())
-                        || localDateTime.isBefore(findReserve.getReserveEndDate())
-                        || localDateTime.isEqual(findReserve.getReserveStartDate()) || localDateTime.isEqual(findReserve.getReserveEndDate())) {
-                        return findReserve.getReserveQty();
-                    }
-                    return 0;
-                }).reduce(0, (x1, x2) -> x1 + x2))
-            .groupBy(integer -> integer)
-            .flatMap(group -> group.reduce((x1,x2) -> x1 > x2?x1:x2))
-            .last(0);
+    private Mono<Integer> getMaxByReserveDateWithoutSelf(String reserveId, Long reserveItemId, LocalDateTime startDate, LocalDateTime endDate) {
+        return reserveAvailabilityIndex.getMaxReservedQty(reserveItemId, reserveId, startDate, endDate);
     }
 
     private String getMessage(String code) {
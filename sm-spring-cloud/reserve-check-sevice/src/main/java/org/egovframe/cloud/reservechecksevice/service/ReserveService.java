@@ -2,16 +2,27 @@ package org.egovframe.cloud.reservechecksevice.service;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.egovframe.cloud.common.domain.Role;
+import org.egovframe.cloud.common.config.GlobalConstant;
 import org.egovframe.cloud.common.dto.AttachmentEntityMessage;
+import org.egovframe.cloud.common.dto.CursorPage;
+import org.egovframe.cloud.common.dto.CursorRequestDto;
+import org.egovframe.cloud.common.dto.ReserveChangedMessage;
 import org.egovframe.cloud.common.exception.BusinessMessageException;
+import org.egovframe.cloud.common.util.PageCursor;
+import org.egovframe.cloud.common.util.TotalCountCache;
 import org.egovframe.cloud.reactive.service.ReactiveAbstractService;
+import org.egovframe.cloud.reactive.service.ReactiveOutboxEventWriter;
+import org.egovframe.cloud.reservechecksevice.api.dto.ReserveAvailabilityResponseDto;
 import org.egovframe.cloud.reservechecksevice.api.dto.ReserveCancelRequestDto;
 import org.egovframe.cloud.reservechecksevice.api.dto.ReserveListResponseDto;
 import org.egovframe.cloud.reservechecksevice.api.dto.ReserveRequestDto;
@@ -20,10 +31,10 @@ import org.egovframe.cloud.reservechecksevice.api.dto.ReserveSaveRequestDto;
 import org.egovframe.cloud.reservechecksevice.api.dto.ReserveUpdateRequestDto;
 import org.egovframe.cloud.reservechecksevice.client.ReserveItemServiceClient;
 import org.egovframe.cloud.reservechecksevice.domain.Reserve;
+import org.egovframe.cloud.reservechecksevice.domain.ReserveAvailabilityIndex;
 import org.egovframe.cloud.reservechecksevice.domain.ReserveRepository;
 import org.egovframe.cloud.reservechecksevice.domain.ReserveStatus;
 import org.egovframe.cloud.reservechecksevice.domain.ReserveValidator;
-import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +44,7 @@ import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -51,6 +63,10 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/15    shinmj       최초 생성
+ *  2026/10/17    shinmj       예약 현황 캐시 반영, 일자별 예약 가능 수량 조회 추가
+ *  2026/10/17    shinmj       예약 변경, 첨부파일 이벤트를 outbox 로 발행
+ *  2026/10/17    shinmj       커서 목록 조회 추가, 전체 건수 조회 생략/캐시
+ *  2026/10/17    shinmj       예약 현황 캐시는 transaction commit 후 반영
  * </pre>
  */
 @Slf4j
@@ -60,12 +76,15 @@ import reactor.core.publisher.Mono;
 public class ReserveService extends ReactiveAbstractService {
 
     private static final String RESERVE_ITEM_CIRCUIT_BREAKER_NAME = "reserve-item";
+    private static final int MAX_AVAILABILITY_DAYS = 366;
 
     private final ReserveRepository reserveRepository;
     private final ReserveItemServiceClient reserveItemServiceClient;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
-    private final StreamBridge streamBridge;
+    private final ReactiveOutboxEventWriter outboxEventWriter;
     private final ReserveValidator validator;
+    private final ReserveAvailabilityIndex reserveAvailabilityIndex;
+    private final TotalCountCache totalCountCache;
 
     /**
      * 목록 조회
@@ -81,8 +100,22 @@ public class ReserveService extends ReactiveAbstractService {
             .switchIfEmpty(Flux.empty())
             .flatMap(this::convertReserveListResponseDto)
             .collectList()
-            .zipWith(reserveRepository.searchCount(requestDto, pageable))
-            .flatMap(tuple -> Mono.just(new PageImpl<>(tuple.getT1(), pageable, tuple.getT2())));
+            .flatMap(content -> toPage(content, pageable,
+                () -> totalCountCache.getMono(countKey(requestDto, null), () -> reserveRepository.searchCount(requestDto, pageable))));
+    }
+
+    /**
+     * 커서 목록 조회
+     *
+     * @param requestDto
+     * @param cursorRequestDto
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Mono<CursorPage<ReserveListResponseDto>> searchCursor(ReserveRequestDto requestDto,
+        CursorRequestDto cursorRequestDto) {
+        return searchCursor(requestDto, null, cursorRequestDto,
+            () -> reserveRepository.searchCount(requestDto, Pageable.unpaged()));
     }
 
     /**
@@ -113,8 +146,83 @@ public class ReserveService extends ReactiveAbstractService {
             .switchIfEmpty(Flux.empty())
             .flatMap(this::convertReserveListResponseDto)
             .collectList()
-            .zipWith(reserveRepository.searchCountForUser(requestDto, pageable, userId))
-            .flatMap(tuple -> Mono.just(new PageImpl<>(tuple.getT1(), pageable, tuple.getT2())));
+            .flatMap(content -> toPage(content, pageable,
+                () -> totalCountCache.getMono(countKey(requestDto, userId), () -> reserveRepository.searchCountForUser(requestDto, pageable, userId))));
+    }
+
+    /**
+     * 사용자용 예약 커서 목록 조회 (로그인 사용자의 예약정보만 조회)
+     *
+     * @param userId
+     * @param requestDto
+     * @param cursorRequestDto
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Mono<CursorPage<ReserveListResponseDto>> searchCursorForUser(String userId,
+        ReserveRequestDto requestDto, CursorRequestDto cursorRequestDto) {
+        return searchCursor(requestDto, userId, cursorRequestDto,
+            () -> reserveRepository.searchCountForUser(requestDto, Pageable.unpaged(), userId));
+    }
+
+    /**
+     * 생성일시, 예약 id 역순으로 이전 페이지 마지막 예약 이후부터 조회한다.
+     * 한 건을 더 조회하여 다음 페이지 여부를 판단하고, 전체 건수는 요청한 경우에만 조회한다.
+     *
+     * @param requestDto
+     * @param userId
+     * @param cursorRequestDto
+     * @param counter
+     * @return
+     */
+    private Mono<CursorPage<ReserveListResponseDto>> searchCursor(ReserveRequestDto requestDto, String userId,
+        CursorRequestDto cursorRequestDto, Supplier<Mono<Long>> counter) {
+        int size = cursorRequestDto.getSize();
+        Mono<Optional<Long>> totalElements = cursorRequestDto.isCount()
+            ? totalCountCache.getMono(countKey(requestDto, userId), counter).map(Optional::of)
+            : Mono.just(Optional.empty());
+
+        return Mono.defer(() -> reserveRepository.searchAfter(requestDto, userId, cursorRequestDto.getPageCursor(), size + 1)
+                .collectList())
+            .zipWith(totalElements)
+            .flatMap(tuple -> {
+                CursorPage<Reserve> page = CursorPage.of(tuple.getT1(), size,
+                    reserve -> PageCursor.encode(reserve.getCreateDate(), reserve.getReserveId()),
+                    tuple.getT2().orElse(null));
+                return Flux.fromIterable(page.getContent())
+                    .concatMap(this::convertReserveListResponseDto)
+                    .collectList()
+                    .map(content -> new CursorPage<>(content, page.getSize(), page.isHasNext(),
+                        page.getNextCursor(), page.getTotalElements()));
+            });
+    }
+
+    /**
+     * 조회 건수로 전체 건수를 알 수 있으면 count 쿼리를 실행하지 않고 페이지를 생성한다.
+     * 첫 페이지가 페이지 크기보다 적거나 마지막 페이지인 경우이다.
+     *
+     * @param content
+     * @param pageable
+     * @param counter
+     * @return
+     */
+    private <T> Mono<Page<T>> toPage(List<T> content, Pageable pageable, Supplier<Mono<Long>> counter) {
+        if (pageable.isUnpaged() || (!content.isEmpty() && content.size() < pageable.getPageSize())) {
+            return Mono.just(new PageImpl<>(content, pageable, pageable.isUnpaged() ? content.size() : pageable.getOffset() + content.size()));
+        }
+        return counter.get().map(total -> new PageImpl<>(content, pageable, total));
+    }
+
+    /**
+     * 전체 건수 캐시 키
+     *
+     * @param requestDto
+     * @param userId
+     * @return
+     */
+    private String countKey(ReserveRequestDto requestDto, String userId) {
+        return "reserves:" + userId + ":" + requestDto.getLocationId() + ":" + requestDto.getCategoryId()
+            + ":" + requestDto.getKeywordType() + ":" + requestDto.getKeyword();
     }
 
     /**
@@ -161,6 +269,7 @@ public class ReserveService extends ReactiveAbstractService {
             .onErrorResume(throwable -> Mono.error(throwable))
             .flatMap(reserve -> Mono.just(reserve.conversionReserveQty()))
             .flatMap(reserveRepository::save)
+            .flatMap(this::sendReserveChanged)
             .then();
     }
 
@@ -182,7 +291,9 @@ public class ReserveService extends ReactiveAbstractService {
             .onErrorResume(Mono::error)
             .flatMap(this::checkApprove)
             .onErrorResume(Mono::error)
-            .flatMap(reserveRepository::save).then();
+            .flatMap(reserveRepository::save)
+            .flatMap(this::sendReserveChanged)
+            .then();
     }
 
     /**
@@ -216,13 +327,9 @@ public class ReserveService extends ReactiveAbstractService {
             .flatMap(this::updateInventory)
             .onErrorResume(Mono::error)
             .flatMap(reserveRepository::insert)
+            .flatMap(this::sendReserveChanged)
             .flatMap(reserveRepository::loadRelations)
-            .doOnNext(reserve -> sendAttachmentEntityInfo(streamBridge,
-                AttachmentEntityMessage.builder()
-                    .attachmentCode(reserve.getAttachmentCode())
-                    .entityName(reserve.getClass().getName())
-                    .entityId(reserve.getReserveId())
-                    .build()))
+            .flatMap(this::sendAttachmentEvent)
             .flatMap(this::convertReserveResponseDto);
 
 
@@ -245,6 +352,37 @@ public class ReserveService extends ReactiveAbstractService {
             .flatMap(tuple -> Mono.just(tuple.getT1().getTotalQty() - tuple.getT2()));
     }
 
+    /**
+     * 예약 물품별 시작일부터 days 일 동안 일자별 예약 가능 수량 조회
+     *
+     * @param reserveItemId
+     * @param fromDate
+     * @param days
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Mono<List<ReserveAvailabilityResponseDto>> findAvailability(Long reserveItemId, LocalDate fromDate, int days) {
+        if (days < 1 || days > MAX_AVAILABILITY_DAYS) {
+            return Mono.error(new BusinessMessageException(getMessage("err.invalid.input.value")));
+        }
+        return reserveItemServiceClient.findById(reserveItemId)
+            .transform(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(RESERVE_ITEM_CIRCUIT_BREAKER_NAME)))
+            .onErrorResume(throwable -> Mono.empty())
+            .zipWith(reserveAvailabilityIndex.getMaxReservedQtyByDay(reserveItemId, fromDate, days))
+            .map(tuple -> {
+                List<ReserveAvailabilityResponseDto> availabilities = new ArrayList<>(days);
+                int[] reservedQty = tuple.getT2();
+                for (int i = 0; i < days; i++) {
+                    availabilities.add(ReserveAvailabilityResponseDto.builder()
+                        .reserveDate(fromDate.plusDays(i))
+                        .totalQty(tuple.getT1().getTotalQty())
+                        .reservedQty(reservedQty[i])
+                        .build());
+                }
+                return availabilities;
+            });
+    }
+
     /**
      * 승인 전 validate check 및 교육인 경우 재고 업데이트
      *
@@ -287,7 +425,8 @@ public class ReserveService extends ReactiveAbstractService {
             .onErrorResume(Mono::error)
             .flatMap(this::updateInventory)
             .onErrorResume(Mono::error)
-            .flatMap(reserveRepository::save);
+            .flatMap(reserveRepository::save)
+            .flatMap(this::sendReserveChanged);
     }
 
     /**
@@ -312,7 +451,8 @@ public class ReserveService extends ReactiveAbstractService {
             .onErrorResume(Mono::error)
             .flatMap(this::updateInventory)
             .onErrorResume(Mono::error)
-            .flatMap(reserveRepository::save);
+            .flatMap(reserveRepository::save)
+            .flatMap(this::sendReserveChanged);
     }
 
     /**
@@ -342,6 +482,45 @@ public class ReserveService extends ReactiveAbstractService {
             });
     }
 
+    /**
+     * 저장된 예약 정보를 commit 후 예약 현황 캐시에 반영하고 다른 인스턴스에서도 반영하도록 이벤트를 outbox 에 저장
+     *
+     * @param reserve
+     * @return
+     */
+    private Mono<Reserve> sendReserveChanged(Reserve reserve) {
+        return reserveAvailabilityIndex.applyAfterCommit(reserve)
+            .then(outboxEventWriter.write(GlobalConstant.RESERVE_CHANGED_BINDING_NAME, reserve.getReserveId(),
+                ReserveChangedMessage.builder()
+                    .reserveId(reserve.getReserveId())
+                    .reserveItemId(reserve.getReserveItemId())
+                    .reserveQty(reserve.getReserveQty())
+                    .reserveStartDate(reserve.getReserveStartDate())
+                    .reserveEndDate(reserve.getReserveEndDate())
+                    .reserveStatusId(reserve.getReserveStatusId())
+                    .build()))
+            .thenReturn(reserve);
+    }
+
+    /**
+     * 첨부파일 entity 정보 업데이트 하기 위해 이벤트를 outbox 에 저장
+     *
+     * @param reserve
+     * @return
+     */
+    private Mono<Reserve> sendAttachmentEvent(Reserve reserve) {
+        if (!StringUtils.hasText(reserve.getAttachmentCode())) {
+            return Mono.just(reserve);
+        }
+        return outboxEventWriter.write(GlobalConstant.ATTACHMENT_ENTITY_BINDING_NAME, reserve.getAttachmentCode(),
+            AttachmentEntityMessage.builder()
+                .attachmentCode(reserve.getAttachmentCode())
+                .entityName(reserve.getClass().getName())
+                .entityId(reserve.getReserveId())
+                .build())
+            .thenReturn(reserve);
+    }
+
     /**
      * 한건 정보 조회 entity return
      *
@@ -36,6 +36,7 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -59,6 +60,11 @@ public class ReserveApiControllerTest {
 
 	private static final String API_URL = "/api/v1/reserves";
 
+	/**
+	 * 서비스 간 호출 인증 secret (application-test.yml service.token.secret)
+	 */
+	private static final String SERVICE_TOKEN_SECRET = "egovframe_service_token";
+
 	private UserResponseDto user;
 	private Location location;
 	private ReserveItem reserveItem;
@@ -70,6 +76,7 @@ public class ReserveApiControllerTest {
 		user = UserResponseDto.builder()
 			.roleId(Role.ADMIN.getKey())
 			.userId("user")
+			.userName("예약자")
 			.build();
 		location = Location.builder()
 			.locationId(1L)
@@ -115,10 +122,10 @@ public class ReserveApiControllerTest {
 	@Test
 	public void 예약신청관리_목록_조회_성공() {
 		//given
-		BDDMockito.when(userServiceClient.findByUserId(ArgumentMatchers.anyString()))
-			.thenReturn(Mono.just(user));
-		BDDMockito.when(reserveItemServiceClient.findByIdWithRelations(ArgumentMatchers.anyLong()))
-			.thenReturn(Mono.just(ReserveItemRelationResponseDto.builder().entity(reserveItem).build()));
+		BDDMockito.when(userServiceClient.findAllByUserIds(ArgumentMatchers.anyCollection(), ArgumentMatchers.eq(SERVICE_TOKEN_SECRET)))
+			.thenReturn(Flux.just(user));
+		BDDMockito.when(reserveItemServiceClient.findAllByIdWithRelations(ArgumentMatchers.anyCollection()))
+			.thenReturn(Flux.just(ReserveItemRelationResponseDto.builder().entity(reserveItem).build()));
 
 		Reserve saved = reserveRepository.insert(reserve).block();
 		assertNotNull(saved);
@@ -134,9 +141,40 @@ public class ReserveApiControllerTest {
 				//then
 				assertThat(page.getTotalElements()).isEqualTo(1L);
 				assertThat(page.getContent().get(0).getReserveId()).isEqualTo(reserve.getReserveId());
+				assertThat(page.getContent().get(0).getUserName()).isEqualTo(user.getUserName());
+				assertThat(page.getContent().get(0).getReserveItemName()).isEqualTo(reserveItem.getReserveItemName());
 				page.getContent().stream().forEach(System.out::println);
 			});
+		BDDMockito.verify(userServiceClient)
+			.findAllByUserIds(ArgumentMatchers.argThat(userIds -> userIds.contains(user.getUserId())), ArgumentMatchers.eq(SERVICE_TOKEN_SECRET));
+
+	}
+
+	@Test
+	public void 예약신청관리_목록_조회시_사용자_서비스_오류면_예약자_정보_없이_조회() {
+		//given
+		BDDMockito.when(userServiceClient.findAllByUserIds(ArgumentMatchers.anyCollection(), ArgumentMatchers.anyString()))
+			.thenReturn(Flux.error(new IllegalStateException("403 Forbidden")));
+		BDDMockito.when(reserveItemServiceClient.findAllByIdWithRelations(ArgumentMatchers.anyCollection()))
+			.thenReturn(Flux.just(ReserveItemRelationResponseDto.builder().entity(reserveItem).build()));
 
+		Reserve saved = reserveRepository.insert(reserve).block();
+		assertNotNull(saved);
+
+		//when
+		webTestClient.get()
+			.uri(API_URL + "?page=0&size=5")
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(new ParameterizedTypeReference<RestResponsePage<ReserveListResponseDto>>() {
+			})
+			.value(page -> {
+				//then
+				assertThat(page.getTotalElements()).isEqualTo(1L);
+				assertThat(page.getContent().get(0).getUserId()).isEqualTo(user.getUserId());
+				assertThat(page.getContent().get(0).getUserName()).isNull();
+				assertThat(page.getContent().get(0).getReserveItemName()).isEqualTo(reserveItem.getReserveItemName());
+			});
 	}
 
 	@Test
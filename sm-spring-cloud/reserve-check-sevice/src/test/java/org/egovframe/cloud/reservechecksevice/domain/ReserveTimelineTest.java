@@ -0,0 +1,58 @@
+package org.egovframe.cloud.reservechecksevice.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class ReserveTimelineTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2021, 10, 1, 0, 0);
+
+    private Reserve reserve(String reserveId, int fromDay, int toDay, int qty, ReserveStatus status) {
+        return Reserve.builder()
+            .reserveId(reserveId)
+            .reserveItemId(1L)
+            .reserveQty(qty)
+            .reserveStartDate(BASE.plusDays(fromDay))
+            .reserveEndDate(BASE.plusDays(toDay))
+            .reserveStatusId(status.getKey())
+            .build();
+    }
+
+    @Test
+    public void 예약_추가_취소_반영() throws Exception {
+        ReserveTimeline timeline = new ReserveTimeline(BASE, Arrays.asList(
+            reserve("R1", 0, 5, 2, ReserveStatus.APPROVE),
+            reserve("R2", 3, 8, 3, ReserveStatus.REQUEST),
+            reserve("R3", 1, 2, 4, ReserveStatus.CANCEL)));
+
+        assertThat(timeline.size()).isEqualTo(2);
+        assertThat(timeline.getMaxReservedQty(null, BASE, BASE.plusDays(10))).isEqualTo(5);
+        assertThat(timeline.getMaxReservedQty("R2", BASE, BASE.plusDays(10))).isEqualTo(2);
+        assertThat(timeline.countOverlaps(null, BASE.plusDays(6), BASE.plusDays(7))).isEqualTo(1);
+
+        timeline.put(reserve("R2", 3, 8, 3, ReserveStatus.CANCEL));
+        assertThat(timeline.getMaxReservedQty(null, BASE, BASE.plusDays(10))).isEqualTo(2);
+
+        timeline.put(reserve("R1", 6, 7, 1, ReserveStatus.APPROVE));
+        assertThat(timeline.countOverlaps(null, BASE, BASE.plusDays(5))).isEqualTo(0);
+        assertThat(timeline.getMaxReservedQtyByDay(LocalDate.of(2021, 10, 6), 3)).containsExactly(0, 1, 1);
+
+        timeline.remove("R1");
+        assertThat(timeline.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void 보관_기간_이전은_조회하지_않는다() throws Exception {
+        ReserveTimeline timeline = new ReserveTimeline(BASE, Arrays.asList(
+            reserve("R1", -10, -5, 2, ReserveStatus.APPROVE)));
+
+        assertThat(timeline.size()).isEqualTo(0);
+        assertThat(timeline.covers(BASE.minusDays(1))).isFalse();
+        assertThat(timeline.covers(BASE)).isTrue();
+    }
+
+}
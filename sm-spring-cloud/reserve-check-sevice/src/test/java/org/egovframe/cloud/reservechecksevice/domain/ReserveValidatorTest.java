@@ -0,0 +1,127 @@
+package org.egovframe.cloud.reservechecksevice.domain;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import org.egovframe.cloud.common.exception.BusinessMessageException;
+import org.egovframe.cloud.common.util.MessageUtil;
+import org.egovframe.cloud.reservechecksevice.client.dto.ReserveItemResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class ReserveValidatorTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.now().plusDays(1).withNano(0);
+
+    private ReserveRepository reserveRepository;
+    private ReserveAvailabilityIndex reserveAvailabilityIndex;
+    private ReserveValidator reserveValidator;
+
+    @BeforeEach
+    public void setUp() {
+        reserveRepository = mock(ReserveRepository.class);
+        reserveAvailabilityIndex = new ReserveAvailabilityIndex(reserveRepository, 31, 60);
+        reserveValidator = new ReserveValidator(reserveAvailabilityIndex, null, null);
+        reserveValidator.messageUtil = mock(MessageUtil.class);
+
+        // 예약 현황 캐시를 읽을 때는 예약이 없었다
+        given(reserveRepository.findAllByReserveItemIdFromDate(eq(1L), any(LocalDateTime.class)))
+            .willReturn(Flux.empty());
+    }
+
+    @Test
+    public void 캐시와_DB_모두_예약이_없으면_공간_예약_가능() {
+        // given
+        given(reserveRepository.findAllByReserveDateWithoutSelf(anyString(), anyLong(), any(), any()))
+            .willReturn(Flux.empty());
+
+        // when
+        Reserve reserve = reserve("R2", 1);
+
+        // then
+        StepVerifier.create(reserveValidator.checkSpace(reserveItem(Category.SPACE, 1), reserve))
+            .expectNext(reserve)
+            .verifyComplete();
+    }
+
+    @Test
+    public void 캐시에_없는_다른_인스턴스_예약이_DB_에_있으면_공간_예약_거부() {
+        // given
+        given(reserveRepository.findAllByReserveDateWithoutSelf(anyString(), anyLong(), any(), any()))
+            .willReturn(Flux.just(reserve("R1", 1)));
+
+        // when // then
+        StepVerifier.create(reserveValidator.checkSpace(reserveItem(Category.SPACE, 1), reserve("R2", 1)))
+            .expectError(BusinessMessageException.class)
+            .verify();
+
+        // 캐시와 DB 가 다르면 캐시를 삭제하여 다음 조회 시 다시 읽는다
+        StepVerifier.create(reserveAvailabilityIndex.countOverlaps(1L, "R2", BASE, BASE.plusHours(1)))
+            .expectNext(0L)
+            .verifyComplete();
+        verify(reserveRepository, times(2)).findAllByReserveItemIdFromDate(eq(1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    public void 캐시에_없는_다른_인스턴스_예약으로_재고가_부족하면_장비_예약_거부() {
+        // given
+        given(reserveRepository.findAllByReserveDateWithoutSelf(anyString(), anyLong(), any(), any()))
+            .willReturn(Flux.just(reserve("R1", 8)));
+
+        // when // then
+        StepVerifier.create(reserveValidator.checkEquipment(reserveItem(Category.EQUIPMENT, 10), reserve("R2", 5)))
+            .expectError(BusinessMessageException.class)
+            .verify();
+    }
+
+    @Test
+    public void DB_재확인_후_재고가_남으면_장비_예약_가능() {
+        // given
+        given(reserveRepository.findAllByReserveDateWithoutSelf(anyString(), anyLong(), any(), any()))
+            .willReturn(Flux.just(reserve("R1", 5)));
+
+        // when
+        Reserve reserve = reserve("R2", 5);
+
+        // then
+        StepVerifier.create(reserveValidator.checkEquipment(reserveItem(Category.EQUIPMENT, 10), reserve))
+            .expectNext(reserve)
+            .verifyComplete();
+    }
+
+    private ReserveItemResponseDto reserveItem(Category category, int totalQty) {
+        return ReserveItemResponseDto.builder()
+            .reserveItem(ReserveItem.builder()
+                .reserveItemId(1L)
+                .categoryId(category.getKey())
+                .totalQty(totalQty)
+                .inventoryQty(totalQty)
+                .reserveMeansId("realtime")
+                .requestStartDate(BASE.minusDays(10))
+                .requestEndDate(BASE.plusDays(10))
+                .isPeriod(false)
+                .build())
+            .build();
+    }
+
+    private Reserve reserve(String reserveId, int qty) {
+        return Reserve.builder()
+            .reserveId(reserveId)
+            .reserveItemId(1L)
+            .reserveQty(qty)
+            .reserveStartDate(BASE)
+            .reserveEndDate(BASE.plusHours(1))
+            .reserveStatusId(ReserveStatus.APPROVE.getKey())
+            .build();
+    }
+
+}
@@ -1,6 +1,7 @@
 package org.egovframe.cloud.reserveitemservice.api.reserveItem;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -42,6 +44,7 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/13    shinmj      최초 생성
+ *  2026/10/17    shinmj      여러 건 연관관계 조회 추가
  * </pre>
  */
 @Slf4j
@@ -161,6 +164,19 @@ public class ReserveItemApiController {
         return reserveItemService.findByIdWithRelations(reserveItemId);
     }
 
+    /**
+     * 여러 건 조회 시 연관관계(지역, 공통코드) 데이터까지 모두 조회
+     * 다른 서비스에서 목록의 예약 물품 정보를 한 번에 조회할 때 사용한다.
+     *
+     * @param ids 예약 물품 id 목록
+     * @return
+     */
+    @GetMapping(value = "/api/v1/reserve-items/relations", params = "ids")
+    @ResponseStatus(HttpStatus.OK)
+    public Flux<ReserveItemRelationResponseDto> findAllByIdWithRelations(@RequestParam("ids") List<Long> ids) {
+        return reserveItemService.findAllByIdWithRelations(ids);
+    }
+
     /**
      * 관리자가 예약 신청 시 이벤트 스트림 없이 바로 재고 변경
      *
@@ -3,11 +3,13 @@ package org.egovframe.cloud.reserveitemservice.config;
 
 import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
+import org.egovframe.cloud.common.config.GlobalConstant;
 import org.egovframe.cloud.reserveitemservice.api.reserveItem.dto.ReserveSaveRequestDto;
 import org.egovframe.cloud.reserveitemservice.service.reserveItem.ReserveItemService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
 
 /**
  * org.egovframe.cloud.reserverequestservice.config.ReserveEventConfig
@@ -24,6 +26,8 @@ import org.springframework.context.annotation.Configuration;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/16    shinmj       최초 생성
+ *  2026/10/17    shinmj       신청 접수 시각 header 전달
+ *  2026/10/17    shinmj       신청 접수 시각 header 를 수신 시 Long 으로 변환
  * </pre>
  */
 @Slf4j
@@ -39,15 +43,38 @@ public class ReserveEventConfig {
      * @return
      */
     @Bean
-    public Consumer<ReserveSaveRequestDto> reserveRequest() {
-        return reserveSaveRequestDto -> {
+    public Consumer<Message<ReserveSaveRequestDto>> reserveRequest() {
+        return message -> {
+            ReserveSaveRequestDto reserveSaveRequestDto = message.getPayload();
             log.info("receive data => {}", reserveSaveRequestDto);
             reserveItemService.updateInventoryThenSendMessage(
                     reserveSaveRequestDto.getReserveItemId(),
                     reserveSaveRequestDto.getReserveQty(),
-                    reserveSaveRequestDto.getReserveId())
+                    reserveSaveRequestDto.getReserveId(),
+                    toRequestedAt(message.getHeaders().get(GlobalConstant.RESERVE_REQUESTED_AT_HEADER)))
                     .subscribe();
         };
     }
 
+    /**
+     * 신청 접수 시각 header 값을 epoch millis 로 변환한다.
+     * header 가 없거나 형식이 맞지 않으면 null 을 리턴하며, 결과 이벤트에 header 를 전달하지 않는다.
+     *
+     * @param value 신청 접수 시각 header 값
+     * @return Long 신청 접수 시각(epoch millis)
+     */
+    private Long toRequestedAt(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Long.parseLong((String) value);
+            } catch (NumberFormatException e) {
+                log.warn("예약 신청 접수 시각 header 오류 : {}", value);
+            }
+        }
+        return null;
+    }
+
 }
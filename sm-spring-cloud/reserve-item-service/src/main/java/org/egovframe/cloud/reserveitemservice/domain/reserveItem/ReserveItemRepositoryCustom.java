@@ -1,5 +1,7 @@
 package org.egovframe.cloud.reserveitemservice.domain.reserveItem;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import org.egovframe.cloud.reserveitemservice.api.reserveItem.dto.ReserveItemRequestDto;
 import org.egovframe.cloud.reserveitemservice.domain.code.Code;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +24,8 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/13    shinmj       최초 생성
+ *  2026/10/17    shinmj       여러 건 연관관계 조회 추가
+ *  2026/10/17    shinmj       재고 차감 update 추가
  * </pre>
  */
 public interface ReserveItemRepositoryCustom {
@@ -30,7 +34,11 @@ public interface ReserveItemRepositoryCustom {
     Mono<Long> searchCount(ReserveItemRequestDto requestDto, Pageable pageable);
 
     Mono<ReserveItem> findWithRelation(Long reserveItemId);
+    Flux<ReserveItem> findAllWithRelation(Collection<Long> reserveItemIds);
 
     Flux<ReserveItem> findLatestByCategory(Integer count, String categoryId);
     Flux<Code> findCodeDetail(String codeId);
+
+    Mono<Integer> decreaseInventoryQty(Long reserveItemId, Integer reserveQty);
+    Mono<Integer> decreaseInventoryQtyForRequest(Long reserveItemId, Integer reserveQty, LocalDateTime requestDate);
 }
@@ -2,9 +2,15 @@ package org.egovframe.cloud.reserveitemservice.domain.reserveItem;
 
 import static org.springframework.data.relational.core.query.Criteria.where;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.egovframe.cloud.reserveitemservice.api.reserveItem.dto.ReserveItemRequestDto;
@@ -35,12 +41,19 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/13    shinmj       최초 생성
+ *  2026/10/17    shinmj       여러 건 연관관계 조회 추가
+ *  2026/10/17    shinmj       재고 차감 update 추가
  * </pre>
  */
 @Slf4j
 @RequiredArgsConstructor
 public class ReserveItemRepositoryImpl implements ReserveItemRepositoryCustom{
     private static final String SORT_COLUMN = "create_date";
+    private static final String DECREASE_INVENTORY_QTY_SQL = "update reserve_item "
+        + "set inventory_qty = inventory_qty - :reserveQty, modified_date = :modifiedDate "
+        + "where reserve_item_id = :reserveItemId and inventory_qty >= :reserveQty";
+    private static final String FOR_REQUEST_CONDITION = " and category_id = :categoryId "
+        + "and request_start_date < :requestDate and request_end_date > :requestDate";
     private final R2dbcEntityTemplate entityTemplate;
 
     /**
@@ -91,6 +104,22 @@ public class ReserveItemRepositoryImpl implements ReserveItemRepositoryCustom{
                 .switchIfEmpty(Mono.empty());
     }
 
+    /**
+     * 여러 건 조회 시 relation 걸린 table 정보도 같이 조회
+     * 공통코드, 지역은 전체 물품에 대해 각각 한 번씩만 조회한다.
+     *
+     * @param reserveItemIds
+     * @return
+     */
+    @Override
+    public Flux<ReserveItem> findAllWithRelation(Collection<Long> reserveItemIds) {
+        return entityTemplate.select(ReserveItem.class)
+                .matching(Query.query(where("reserve_item_id").in(reserveItemIds)))
+                .all()
+                .collectList()
+                .flatMapMany(this::loadRelationsAll);
+    }
+
     /**
      * 카테고리별 예약 물품 최신 데이터 count 만큼 조회
      *
@@ -128,6 +157,48 @@ public class ReserveItemRepositoryImpl implements ReserveItemRepositoryCustom{
             .all();
     }
 
+    /**
+     * 재고 차감
+     * 남은 재고가 차감할 수량 이상인 경우에만 한 번의 update 로 차감하므로 동시에 신청해도 재고가 음수가 되지 않는다.
+     * 음수를 넘기면 재고가 복원된다. (예약 취소)
+     *
+     * @param reserveItemId
+     * @param reserveQty
+     * @return 변경된 건수 (0 이면 재고 부족 또는 예약 물품 없음)
+     */
+    @Override
+    public Mono<Integer> decreaseInventoryQty(Long reserveItemId, Integer reserveQty) {
+        return entityTemplate.getDatabaseClient()
+            .sql(DECREASE_INVENTORY_QTY_SQL)
+            .bind("reserveQty", reserveQty)
+            .bind("modifiedDate", LocalDateTime.now())
+            .bind("reserveItemId", reserveItemId)
+            .fetch()
+            .rowsUpdated();
+    }
+
+    /**
+     * 사용자 예약 신청 시 재고 차감
+     * 교육 유형이고 신청 기간 중인 경우에만 차감한다.
+     *
+     * @param reserveItemId
+     * @param reserveQty
+     * @param requestDate 신청 일시
+     * @return 변경된 건수 (0 이면 차감할 수 없는 상태)
+     */
+    @Override
+    public Mono<Integer> decreaseInventoryQtyForRequest(Long reserveItemId, Integer reserveQty, LocalDateTime requestDate) {
+        return entityTemplate.getDatabaseClient()
+            .sql(DECREASE_INVENTORY_QTY_SQL + FOR_REQUEST_CONDITION)
+            .bind("reserveQty", reserveQty)
+            .bind("modifiedDate", LocalDateTime.now())
+            .bind("reserveItemId", reserveItemId)
+            .bind("categoryId", Category.EDUCATION.getKey())
+            .bind("requestDate", requestDate)
+            .fetch()
+            .rowsUpdated();
+    }
+
     /**
      * 유형만 공통코드 조회
      *
@@ -175,6 +246,48 @@ public class ReserveItemRepositoryImpl implements ReserveItemRepositoryCustom{
         return mono;
     }
 
+    /**
+     * 여러 건의 공통코드 이름, 지역 조회
+     *
+     * @param reserveItems
+     * @return
+     */
+    private Flux<ReserveItem> loadRelationsAll(final List<ReserveItem> reserveItems) {
+        if (reserveItems.isEmpty()) {
+            return Flux.empty();
+        }
+
+        List<String> codeIds = reserveItems.stream()
+            .flatMap(reserveItem -> reserveItem.getRelationCodeIds().stream())
+            .distinct()
+            .collect(Collectors.toList());
+        Set<Long> locationIds = reserveItems.stream()
+            .map(ReserveItem::getLocationId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+
+        Mono<List<Code>> codes = codeIds.isEmpty() ? Mono.just(new ArrayList<>()) : findCode(codeIds).collectList();
+        Mono<Map<Long, Location>> locations = locationIds.isEmpty() ? Mono.just(new HashMap<>()) :
+            entityTemplate.select(Location.class)
+                .matching(Query.query(where("location_id").in(locationIds)))
+                .all()
+                .collectMap(Location::getLocationId);
+
+        return codes.zipWith(locations)
+            .flatMapMany(tuple -> Flux.fromIterable(reserveItems)
+                .map(reserveItem -> {
+                    List<String> relationCodeIds = reserveItem.getRelationCodeIds();
+                    reserveItem.setCodeName(tuple.getT1().stream()
+                        .filter(code -> relationCodeIds.contains(code.getCodeId()))
+                        .collect(Collectors.toList()));
+                    Location location = tuple.getT2().get(reserveItem.getLocationId());
+                    if (location != null) {
+                        reserveItem.setLocation(location);
+                    }
+                    return reserveItem;
+                }));
+    }
+
     /**
      * 지역 조회
      *
@@ -1,10 +1,12 @@
 package org.egovframe.cloud.reserveitemservice.service.reserveItem;
 
-import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.egovframe.cloud.common.config.GlobalConstant;
 import org.egovframe.cloud.common.exception.BusinessMessageException;
 import org.egovframe.cloud.reactive.service.ReactiveAbstractService;
 import org.egovframe.cloud.reserveitemservice.api.reserveItem.dto.ReserveItemListResponseDto;
@@ -24,6 +26,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
@@ -42,6 +45,10 @@ import reactor.core.scheduler.Schedulers;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/13    shinmj       최초 생성
+ *  2026/10/17    shinmj       여러 건 연관관계 조회 추가
+ *  2026/10/17    shinmj       재고 차감을 조건부 update 로 변경
+ *  2026/10/17    shinmj       재고 변경 결과 발행 지연 제거
+ *  2026/10/17    shinmj       신청 접수 시각을 Long 으로 전달
  * </pre>
  */
 @Slf4j
@@ -157,44 +164,53 @@ public class ReserveItemService extends ReactiveAbstractService {
      * @return
      */
     public Mono<Boolean> updateInventory(Long reserveItemId, Integer reserveQty) {
-        return reserveItemRepository.findById(reserveItemId)
-                .switchIfEmpty(monoResponseStatusEntityNotFoundException(reserveItemId))
-                .flatMap(reserveItem -> {
-                    int qty = reserveItem.getInventoryQty() - reserveQty;
-                    if (qty < 0) {
-                        return Mono.just(false);
+        return reserveItemRepository.decreaseInventoryQty(reserveItemId, reserveQty)
+                .flatMap(updated -> {
+                    if (updated > 0) {
+                        return Mono.just(true);
                     }
-                    return reserveItemRepository.save(reserveItem.updateInventoryQty(qty)).thenReturn(true);
+                    // 재고가 부족한 경우 false, 예약 물품이 없는 경우 404
+                    return reserveItemRepository.existsById(reserveItemId)
+                            .flatMap(exists -> exists ? Mono.just(false) : monoResponseStatusEntityNotFoundException(reserveItemId));
                 });
     }
 
     /**
      * 예약 신청(사용자) 시 재고 변경
+     * 재고 차감 후 바로 결과 이벤트를 발행한다.
      *
      * @param reserveItemId
      * @param reserveQty
+     * @param reserveId
+     * @param requestedAt 신청 접수 시각(epoch millis), 결과 이벤트 header 로 전달한다. 없으면 null
      * @return
      */
-    public Mono<Void> updateInventoryThenSendMessage(Long reserveItemId, Integer reserveQty, String reserveId) {
-        return reserveItemRepository.findById(reserveItemId)
-                .switchIfEmpty(monoResponseStatusEntityNotFoundException(reserveItemId))
-                .flatMap(reserveItem -> {
-                    String validate = reserveItem.validate(reserveQty);
-                    if (!"valid".equals(validate)) {
-                        return Mono.error(new BusinessMessageException(getMessage(validate)));
+    public Mono<Void> updateInventoryThenSendMessage(Long reserveItemId, Integer reserveQty, String reserveId, Long requestedAt) {
+        return reserveItemRepository.decreaseInventoryQtyForRequest(reserveItemId, reserveQty, LocalDateTime.now())
+                .flatMap(updated -> {
+                    if (updated > 0) {
+                        return Mono.just(reserveItemId);
                     }
-                    return Mono.just(reserveItem.updateInventoryQty(reserveQty));
+                    // 차감하지 못한 경우에만 조회하여 사유를 확인한다
+                    return reserveItemRepository.findById(reserveItemId)
+                            .switchIfEmpty(monoResponseStatusEntityNotFoundException(reserveItemId))
+                            .flatMap(reserveItem -> {
+                                String validate = reserveItem.validate(reserveQty);
+                                // 조회 시점에는 재고가 있어도 update 시점에 부족했던 경우
+                                if ("valid".equals(validate)) {
+                                    validate = "valid.reserve_count";
+                                }
+                                return Mono.error(new BusinessMessageException(getMessage(validate)));
+                            });
                 })
-                .flatMap(reserveItemRepository::save)
-                .delayElement(Duration.ofSeconds(5))
                 .publishOn(Schedulers.boundedElastic())
-                .doOnNext(reserveItem -> {
+                .doOnNext(updatedId -> {
                     log.info("reserve item inventory updated success");
-                    sendMessage(reserveId, true);
+                    sendMessage(reserveId, true, requestedAt);
                 })
                 .doOnError(throwable -> {
                     log.info("reserve item inventory updated fail = {}", throwable.getMessage());
-                    sendMessage(reserveId, false);
+                    sendMessage(reserveId, false, requestedAt);
                 }).then();
 
     }
@@ -212,6 +228,21 @@ public class ReserveItemService extends ReactiveAbstractService {
                         Mono.just(ReserveItemRelationResponseDto.builder().entity(reserveItem).build()));
     }
 
+    /**
+     * 여러 건 조회 - 연관된 데이터도 같이 조회 (e.g. codename, location)
+     * 없는 예약 물품은 제외된다.
+     *
+     * @param reserveItemIds
+     * @return
+     */
+    public Flux<ReserveItemRelationResponseDto> findAllByIdWithRelations(Collection<Long> reserveItemIds) {
+        if (reserveItemIds == null || reserveItemIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return reserveItemRepository.findAllWithRelation(new HashSet<>(reserveItemIds))
+                .map(reserveItem -> ReserveItemRelationResponseDto.builder().entity(reserveItem).build());
+    }
+
     /**
      * 각 카테고리별 최신 예약 물품 조회
      * 파라미터로 받는 갯수만큼 조회한다.
@@ -253,15 +284,18 @@ public class ReserveItemService extends ReactiveAbstractService {
      *
      * @param reserveId
      * @param isItemUpdated
+     * @param requestedAt 신청 접수 시각(epoch millis), null 이면 header 를 추가하지 않는다
      */
-    private void sendMessage(String reserveId, Boolean isItemUpdated) {
+    private void sendMessage(String reserveId, Boolean isItemUpdated, Long requestedAt) {
         streamBridge.send(INVENTORY_UPDATED_BINDING_NAME,
             MessageBuilder.withPayload(
                 RequestMessage.builder()
                     .reserveId(reserveId)
                     .isItemUpdated(isItemUpdated)
                     .build())
-                .setHeader(EVENT_HEADER_NAME, reserveId).build());
+                .setHeader(EVENT_HEADER_NAME, reserveId)
+                .setHeader(GlobalConstant.RESERVE_REQUESTED_AT_HEADER, requestedAt)
+                .build());
     }
 
 }
@@ -58,3 +58,21 @@ CREATE TABLE IF NOT EXISTS reserve_item
 ALTER TABLE reserve_item COMMENT '예약 물품';
 
 
+
+-- outbox_event Table Create SQL
+CREATE TABLE IF NOT EXISTS  outbox_event
+(
+    `outbox_event_id`  BIGINT          NOT NULL    AUTO_INCREMENT  COMMENT 'outbox 이벤트 id',
+    `binding_name`     VARCHAR(100)    NOT NULL    COMMENT '발행 binding name',
+    `aggregate_id`     VARCHAR(255)    NOT NULL    COMMENT '발행 순서 보장 단위 id',
+    `payload`          TEXT            NOT NULL    COMMENT '메시지(json)',
+    `lease_owner`      VARCHAR(50)     NULL        COMMENT '선점 relay',
+    `lease_until`      DATETIME        NULL        COMMENT '선점 만료일',
+    `created_date`     DATETIME        NULL        COMMENT '생성일',
+    `modified_date`    DATETIME        NULL        COMMENT '수정일',
+    PRIMARY KEY (outbox_event_id),
+    INDEX idx_outbox_event_lease_owner (lease_owner),
+    INDEX idx_outbox_event_aggregate_id (aggregate_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+ALTER TABLE outbox_event COMMENT '발행 대기 이벤트';
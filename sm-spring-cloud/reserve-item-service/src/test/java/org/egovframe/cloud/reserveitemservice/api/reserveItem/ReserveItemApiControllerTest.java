@@ -125,6 +125,36 @@ class ReserveItemApiControllerTest {
             .jsonPath("$.content[0].reserveItemName").isEqualTo(reserveItem.getReserveItemName());
     }
 
+    @Test
+    public void 여러건_연관관계_조회_성공() {
+        ReserveItem saved1 = reserveItemRepository.save(reserveItem).block();
+        ReserveItem saved2 = reserveItemRepository.save(ReserveItem.builder()
+            .categoryId(category.getCodeId())
+            .locationId(location.getLocationId())
+            .reserveItemName("test2")
+            .isUse(Boolean.TRUE)
+            .operationStartDate(LocalDateTime.of(2021, 10, 1, 1, 1))
+            .operationEndDate(LocalDateTime.of(2021, 10, 31, 23, 59))
+            .reserveMethodId("internet")
+            .reserveMeansId("realtime")
+            .totalQty(10)
+            .inventoryQty(10)
+            .isPeriod(Boolean.FALSE)
+            .selectionMeansId("evaluate")
+            .build()).block();
+        assertNotNull(saved1);
+        assertNotNull(saved2);
+
+        webTestClient.get()
+            .uri(API_URL+"/relations?ids={id1}&ids={id2}&ids={id3}", saved1.getReserveItemId(), saved2.getReserveItemId(), 0L)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.length()").isEqualTo(2)
+            .jsonPath("$[0].categoryName").isEqualTo(category.getCodeName())
+            .jsonPath("$[0].location.locationName").isEqualTo(location.getLocationName());
+    }
+
     @Test
     public void 한건조회_성공() {
         ReserveItem saved = reserveItemRepository.save(reserveItem).block();
@@ -277,4 +307,36 @@ class ReserveItemApiControllerTest {
         });
     }
 
-}
\ No newline at end of file
+    @Test
+    public void 재고_차감_성공() {
+        ReserveItem saved = reserveItemRepository.save(reserveItem).block();
+        assertNotNull(saved);
+
+        webTestClient.put()
+            .uri(API_URL+"/"+saved.getReserveItemId()+"/inventories")
+            .bodyValue(30)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(Boolean.class).isEqualTo(Boolean.TRUE);
+
+        ReserveItem findbyid = reserveItemRepository.findById(saved.getReserveItemId()).block();
+        assertThat(findbyid.getInventoryQty()).isEqualTo(70);
+    }
+
+    @Test
+    public void 재고_부족_차감_실패() {
+        ReserveItem saved = reserveItemRepository.save(reserveItem).block();
+        assertNotNull(saved);
+
+        webTestClient.put()
+            .uri(API_URL+"/"+saved.getReserveItemId()+"/inventories")
+            .bodyValue(101)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(Boolean.class).isEqualTo(Boolean.FALSE);
+
+        ReserveItem findbyid = reserveItemRepository.findById(saved.getReserveItemId()).block();
+        assertThat(findbyid.getInventoryQty()).isEqualTo(100);
+    }
+
+}
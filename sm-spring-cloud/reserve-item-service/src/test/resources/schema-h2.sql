@@ -64,3 +64,16 @@ CREATE TABLE IF NOT EXISTS reserve_item
 
 
 
+
+CREATE TABLE IF NOT EXISTS outbox_event
+(
+    outbox_event_id  BIGINT          NOT NULL    AUTO_INCREMENT  COMMENT 'outbox 이벤트 id',
+    binding_name     VARCHAR(100)    NOT NULL    COMMENT '발행 binding name',
+    aggregate_id     VARCHAR(255)    NOT NULL    COMMENT '발행 순서 보장 단위 id',
+    payload          CLOB            NOT NULL    COMMENT '메시지(json)',
+    lease_owner      VARCHAR(50)     NULL        COMMENT '선점 relay',
+    lease_until      DATETIME        NULL        COMMENT '선점 만료일',
+    created_date     DATETIME        NULL        COMMENT '생성일',
+    modified_date    DATETIME        NULL        COMMENT '수정일',
+    PRIMARY KEY (outbox_event_id)
+) ;
@@ -4,19 +4,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.egovframe.cloud.reserverequestservice.api.dto.ReserveResponseDto;
 import org.egovframe.cloud.reserverequestservice.api.dto.ReserveSaveRequestDto;
-import org.egovframe.cloud.reserverequestservice.config.MessageListenerContainerFactory;
+import org.egovframe.cloud.reserverequestservice.config.ReserveLatencyMetrics;
+import org.egovframe.cloud.reserverequestservice.config.ReserveResultRegistry;
 import org.egovframe.cloud.reserverequestservice.domain.Category;
 import org.egovframe.cloud.reserverequestservice.service.ReserveService;
-import org.springframework.amqp.core.AmqpAdmin;
-import org.springframework.amqp.core.MessageListener;
-import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
@@ -37,6 +34,9 @@ import java.time.LocalDateTime;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/16    shinmj       최초 생성
+ *  2026/10/17    shinmj       결과 전달 지연 제거 및 지연 시간 기록
+ *  2026/10/17    shinmj       예약별 listener container 대신 ReserveResultRegistry 사용
+ *  2026/10/17    shinmj       결과 전달 후 stream 종료
  * </pre>
  */
 @Slf4j
@@ -44,9 +44,11 @@ import java.time.LocalDateTime;
 @RestController
 public class ReserveApiController {
 
+    private static final String KEEPALIVE_MESSAGE = "no news is good news";
+
     private final ReserveService reserveService;
-    private final MessageListenerContainerFactory messageListenerContainerFactory;
-    private final AmqpAdmin amqpAdmin;
+    private final ReserveLatencyMetrics reserveLatencyMetrics;
+    private final ReserveResultRegistry reserveResultRegistry;
 
     private final Environment env;
 
@@ -95,6 +97,8 @@ public class ReserveApiController {
 
     /**
      * 실시간 예약 신청 후 결과 여부 subscribe
+     * 결과 메시지는 수신 즉시 전달하며, 연결 유지를 위해 5초마다 keepalive 메시지를 보낸다.
+     * 결과를 전달하거나 결과 대기 timeout 이 지나면 stream 을 종료한다.
      *
      * @param reserveId
      * @return
@@ -102,47 +106,26 @@ public class ReserveApiController {
     @CrossOrigin()
     @GetMapping(value = "/api/v1/requests/direct/{reserveId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public Flux<String> receiveReservationResult(@PathVariable String reserveId) {
-        MessageListenerContainer mlc = messageListenerContainerFactory.createMessageListenerContainer(reserveId);
-        Flux<String> f = Flux.create(emitter -> {
-
-          mlc.setupMessageListener((MessageListener) m -> {
-              String qname = m.getMessageProperties().getConsumerQueue();
-              log.info("message received, queue={}", qname);
-
-              if (emitter.isCancelled()) {
-                  log.info("cancelled, queue={}", qname);
-                  mlc.stop();
-                  return;
-              }
-
-              String payload = new String(m.getBody());
-              log.info("message data = {}", payload);
-              emitter.next(payload);
-
-              log.info("message sent to client, queue={}", qname);
-          });
-
-          emitter.onRequest(v -> {
-              log.info("starting container, queue={}", reserveId);
-              mlc.start();
-          });
-
-          emitter.onDispose(() -> {
-              log.info("on dispose, queue={}", reserveId);
-              mlc.stop();
-              amqpAdmin.deleteQueue(reserveId);
-          });
-
-            log.info("container started, queue={}", reserveId);
-        });
+        Flux<String> result = reserveResultRegistry.await(reserveId)
+            .map(reserveResult -> {
+                reserveLatencyMetrics.recordDelivered(reserveResult.getRequestedAt());
+                log.info("message sent to client, reserveId={}", reserveId);
+                return String.valueOf(reserveResult.getIsItemUpdated());
+            })
+            .flux();
 
         return Flux.interval(Duration.ofSeconds(5))
                 .map(v -> {
                     log.info("sending keepalive message...");
-                    return "no news is good news";
+                    return KEEPALIVE_MESSAGE;
                 })
-            .mergeWith(f)
-            .delayElements(Duration.ofSeconds(5));
+            .mergeWith(result)
+            .takeUntil(message -> !KEEPALIVE_MESSAGE.equals(message))
+            .take(reserveResultRegistry.getTimeout())
+            .doFinally(signalType -> {
+                log.info("on dispose, reserveId={}, signal={}", reserveId, signalType);
+                reserveResultRegistry.remove(reserveId);
+            });
     }
 
 }
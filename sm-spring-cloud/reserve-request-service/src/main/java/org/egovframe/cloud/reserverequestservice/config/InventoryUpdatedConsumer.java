@@ -0,0 +1,178 @@
+package org.egovframe.cloud.reserverequestservice.config;
+
+import com.rabbitmq.client.Channel;
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.cloud.common.config.GlobalConstant;
+import org.egovframe.cloud.reserverequestservice.domain.ReserveStatus;
+import org.egovframe.cloud.reserverequestservice.service.ReserveService;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * org.egovframe.cloud.reserverequestservice.config.InventoryUpdatedConsumer
+ *
+ * 예약 신청(실시간) 후 재고 변경에 대한 성공 여부 consumer
+ * listener thread 를 막지 않고 최대 concurrency 건을 동시에 처리하며, 한 건의 처리 시간은 handleTimeout 으로 제한한다.
+ * binding 을 MANUAL ack 로 설정하여 예약 상태 변경과 결과 발행(broker confirm 포함)이 끝난 후 ack 한다.
+ * ack 전 메시지 수는 binding 의 prefetch 로 제한된다.
+ * 처리에 실패하거나 시간이 초과되면 한 번만 다시 받도록 nack 하고, 다시 받은 메시지도 실패하면 버린다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj       최초 생성
+ * </pre>
+ */
+@Slf4j
+public class InventoryUpdatedConsumer implements Function<Flux<Message<RequestMessage>>, Mono<Void>> {
+    private static final Duration CONFIRM_TIMEOUT = Duration.ofSeconds(5);
+    private static final int PUBLISH_RETRY_COUNT = 2;
+    private static final Duration PUBLISH_RETRY_BACKOFF = Duration.ofMillis(200);
+
+    private final ReserveService reserveService;
+    private final ReserveLatencyMetrics reserveLatencyMetrics;
+    private final RabbitTemplate rabbitTemplate;
+    private final int concurrency;
+    private final Duration handleTimeout;
+
+    public InventoryUpdatedConsumer(ReserveService reserveService, ReserveLatencyMetrics reserveLatencyMetrics,
+                                    RabbitTemplate rabbitTemplate, int concurrency, Duration handleTimeout) {
+        this.reserveService = reserveService;
+        this.reserveLatencyMetrics = reserveLatencyMetrics;
+        this.rabbitTemplate = rabbitTemplate;
+        this.concurrency = concurrency;
+        this.handleTimeout = handleTimeout;
+    }
+
+    /**
+     * 메시지 별 오류는 ack/nack 으로 끝내고 stream 은 계속 처리한다.
+     *
+     * @param messages
+     * @return
+     */
+    @Override
+    public Mono<Void> apply(Flux<Message<RequestMessage>> messages) {
+        return messages
+                .flatMap(message -> handleInventoryUpdated(message)
+                        .timeout(handleTimeout)
+                        .then(Mono.fromRunnable(() -> ack(message)))
+                        .onErrorResume(throwable -> {
+                            log.error("inventory updated handle fail, reserveId={} : {}",
+                                    message.getPayload().getReserveId(), throwable.toString());
+                            nack(message);
+                            return Mono.empty();
+                        }), concurrency)
+                .then();
+    }
+
+    /**
+     * 재고 변경 결과에 따라 예약을 승인 또는 삭제한 후 결과를 발행한다.
+     * 예약 상태 변경에 실패한 경우 실패로 발행하고, 발행에 실패한 경우 오류로 끝난다.
+     *
+     * @param message
+     * @return
+     */
+    private Mono<Void> handleInventoryUpdated(Message<RequestMessage> message) {
+        log.info("receive message: {}, headers: {}", message.getPayload(), message.getHeaders());
+        String reserveId = message.getPayload().getReserveId();
+        Boolean isItemUpdated = message.getPayload().getIsItemUpdated();
+        Object requestedAt = message.getHeaders().get(GlobalConstant.RESERVE_REQUESTED_AT_HEADER);
+        reserveLatencyMetrics.recordInventoryUpdated(requestedAt);
+
+        Mono<Void> statusUpdated = Mono.defer(() -> Boolean.TRUE.equals(isItemUpdated)
+                ? reserveService.updateStatus(reserveId, ReserveStatus.APPROVE)
+                : reserveService.delete(reserveId));
+
+        return statusUpdated
+                .thenReturn(Boolean.TRUE.equals(isItemUpdated))
+                .onErrorResume(throwable -> {
+                    log.error("reserve status update fail, reserveId={} : {}", reserveId, throwable.getMessage());
+                    return Mono.just(false);
+                })
+                .flatMap(result -> publishResult(reserveId, result, requestedAt));
+    }
+
+    /**
+     * 재고 변경 성공 여부를 발행한다.
+     * publisher confirm 이 설정된 경우 broker 의 ack 를 받을 때까지 기다리고, nack 또는 timeout 이면 다시 발행한다.
+     * 중복 발행된 결과는 ReserveResultRegistry 에서 무시된다.
+     *
+     * @param reserveId
+     * @param isItemUpdated
+     * @param requestedAt
+     * @return
+     */
+    private Mono<Void> publishResult(String reserveId, Boolean isItemUpdated, Object requestedAt) {
+        return Mono.defer(() -> {
+                    CorrelationData correlationData = new CorrelationData(reserveId);
+                    rabbitTemplate.convertAndSend(GlobalConstant.SUCCESS_OR_NOT_EX_NAME, reserveId, isItemUpdated,
+                            m -> {
+                                if (requestedAt != null) {
+                                    m.getMessageProperties().setHeader(GlobalConstant.RESERVE_REQUESTED_AT_HEADER, requestedAt);
+                                }
+                                return m;
+                            }, correlationData);
+
+                    if (!rabbitTemplate.getConnectionFactory().isPublisherConfirms()) {
+                        return Mono.<Void>empty();
+                    }
+                    return Mono.fromFuture(correlationData.getFuture().completable())
+                            .timeout(CONFIRM_TIMEOUT)
+                            .flatMap(confirm -> confirm.isAck()
+                                    ? Mono.<Void>empty()
+                                    : Mono.<Void>error(new AmqpException("reserve result nack : " + confirm.getReason())));
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .retryWhen(Retry.backoff(PUBLISH_RETRY_COUNT, PUBLISH_RETRY_BACKOFF));
+    }
+
+    private void ack(Message<RequestMessage> message) {
+        Channel channel = message.getHeaders().get(AmqpHeaders.CHANNEL, Channel.class);
+        Long deliveryTag = message.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class);
+        if (channel == null || deliveryTag == null) {
+            return;
+        }
+        try {
+            channel.basicAck(deliveryTag, false);
+        } catch (IOException e) {
+            log.error("inventory updated ack fail, reserveId={} : {}", message.getPayload().getReserveId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 처음 받은 메시지는 다시 받도록 requeue 하고, 다시 받은 메시지는 버린다.
+     *
+     * @param message
+     */
+    private void nack(Message<RequestMessage> message) {
+        Channel channel = message.getHeaders().get(AmqpHeaders.CHANNEL, Channel.class);
+        Long deliveryTag = message.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class);
+        if (channel == null || deliveryTag == null) {
+            return;
+        }
+        boolean requeue = !Boolean.TRUE.equals(message.getHeaders().get(AmqpHeaders.REDELIVERED, Boolean.class));
+        try {
+            channel.basicNack(deliveryTag, false, requeue);
+        } catch (IOException e) {
+            log.error("inventory updated nack fail, reserveId={} : {}", message.getPayload().getReserveId(), e.getMessage());
+        }
+    }
+
+}
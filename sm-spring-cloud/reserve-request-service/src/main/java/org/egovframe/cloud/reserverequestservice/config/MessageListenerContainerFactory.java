@@ -1,44 +0,0 @@
-package org.egovframe.cloud.reserverequestservice.config;
-
-import lombok.NoArgsConstructor;
-import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.core.AcknowledgeMode;
-import org.springframework.amqp.rabbit.connection.ConnectionFactory;
-import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
-import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
-
-/**
- * org.egovframe.cloud.reserverequestservice.config.MessageListenerContainerFactory
- *
- * 동적으로 이벤트 큐 생성하기 위한 component
- *
- * @author 표준프레임워크센터 shinmj
- * @version 1.0
- * @since 2021/09/30
- *
- * <pre>
- * << 개정이력(Modification Information) >>
- *
- *     수정일        수정자           수정내용
- *  ----------    --------    ---------------------------
- *  2021/09/30    shinmj       최초 생성
- * </pre>
- */
-@NoArgsConstructor
-@Component
-public class MessageListenerContainerFactory {
-
-    @Autowired
-    private ConnectionFactory connectionFactory;
-
-    public MessageListenerContainer createMessageListenerContainer(String queueName) {
-        SimpleMessageListenerContainer mlc = new SimpleMessageListenerContainer();
-        mlc.setConnectionFactory(connectionFactory);
-        mlc.addQueueNames(queueName);
-        mlc.setAcknowledgeMode(AcknowledgeMode.AUTO);
-
-        return mlc;
-    }
-}
@@ -2,17 +2,31 @@ package org.egovframe.cloud.reserverequestservice.config;
 
 import lombok.extern.slf4j.Slf4j;
 import org.egovframe.cloud.common.config.GlobalConstant;
-import org.egovframe.cloud.reserverequestservice.domain.ReserveStatus;
 import org.egovframe.cloud.reserverequestservice.service.ReserveService;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.function.Consumer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
 
 /**
  * org.egovframe.cloud.reserverequestservice.config.ReserveEventConfig
@@ -29,6 +43,11 @@ import java.util.function.Consumer;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/16    shinmj       최초 생성
+ *  2026/10/17    shinmj       신청 접수 시각 header 전달 및 지연 시간 기록
+ *  2026/10/17    shinmj       예약별 queue 대신 인스턴스별 공유 결과 queue 사용
+ *  2026/10/17    shinmj       재고 변경 결과 consumer 를 reactive pipeline 으로 변경
+ *  2026/10/17    shinmj       재고 변경 결과는 처리 완료 후 ack 되도록 binder concurrency 로 동시 처리
+ *  2026/10/17    shinmj       재고 변경 결과 consumer 를 InventoryUpdatedConsumer 로 분리, MANUAL ack 로 처리 완료 후 ack
  * </pre>
  */
 @Slf4j
@@ -38,28 +57,81 @@ public class ReserveEventConfig {
     private ReserveService reserveService;
     @Autowired
     private ConnectionFactory connectionFactory;
+    @Autowired
+    private ReserveLatencyMetrics reserveLatencyMetrics;
+    @Autowired
+    private ReserveResultRegistry reserveResultRegistry;
 
     /**
      * 예약 신청(실시간) 후 재고 변경에 대한 성공 여부 consumer function
+     * 최대 concurrency 건을 동시에 처리하고, 처리가 끝난 메시지를 ack 한다. (binding acknowledge-mode: MANUAL)
      *
+     * @param rabbitTemplate 결과 발행에 공유하는 template
+     * @param concurrency    동시 처리 건수
+     * @param handleTimeout  한 건의 처리 제한 시간
      * @return
      */
     @Bean
-    public Consumer<Message<RequestMessage>> inventoryUpdated() {
-        return message -> {
-            log.info("receive message: {}, headers: {}", message.getPayload(), message.getHeaders());
-            if (message.getPayload().getIsItemUpdated()) {
-                reserveService.updateStatus(message.getPayload().getReserveId(), ReserveStatus.APPROVE).subscribe();
-            }else {
-                reserveService.delete(message.getPayload().getReserveId()).subscribe();
-            }
+    public Function<Flux<Message<RequestMessage>>, Mono<Void>> inventoryUpdated(RabbitTemplate rabbitTemplate,
+                                                                             @Value("${reserve.inventory-updated.concurrency:16}") int concurrency,
+                                                                             @Value("${reserve.inventory-updated.timeout:30s}") Duration handleTimeout) {
+        return new InventoryUpdatedConsumer(reserveService, reserveLatencyMetrics, rabbitTemplate, concurrency, handleTimeout);
+    }
 
-            RabbitTemplate rabbitTemplate = rabbitTemplate(connectionFactory);
-            rabbitTemplate.convertAndSend(GlobalConstant.SUCCESS_OR_NOT_EX_NAME,
-                    message.getPayload().getReserveId(), message.getPayload().getIsItemUpdated());
-        };
+    /**
+     * 재고 변경 성공 여부 exchange
+     * 결과를 받을 SSE 구독자가 어느 인스턴스에 있는지 알 수 없으므로 모든 인스턴스의 결과 queue 로 전달한다.
+     *
+     * @return
+     */
+    @Bean
+    public FanoutExchange reserveResultExchange() {
+        return ExchangeBuilder.fanoutExchange(GlobalConstant.SUCCESS_OR_NOT_EX_NAME).durable(true).build();
+    }
+
+    /**
+     * 인스턴스별 결과 queue, 인스턴스 종료 시 삭제된다.
+     *
+     * @return
+     */
+    @Bean
+    public Queue reserveResultQueue() {
+        return new AnonymousQueue();
     }
 
+    @Bean
+    public Binding reserveResultBinding() {
+        return BindingBuilder.bind(reserveResultQueue()).to(reserveResultExchange());
+    }
+
+    /**
+     * 결과 queue listener
+     * routing key(예약 id) 로 ReserveResultRegistry 에 결과를 전달한다.
+     *
+     * @return
+     */
+    @Bean
+    public SimpleMessageListenerContainer reserveResultListenerContainer() {
+        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(connectionFactory);
+        container.setQueues(reserveResultQueue());
+        container.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        container.setMessageListener((MessageListener) m -> {
+            MessageProperties properties = m.getMessageProperties();
+            String reserveId = properties.getReceivedRoutingKey();
+            String payload = new String(m.getBody(), StandardCharsets.UTF_8);
+            log.info("reserve result received, reserveId={}, data={}", reserveId, payload);
+            reserveResultRegistry.complete(reserveId, Boolean.valueOf(payload),
+                    properties.getHeader(GlobalConstant.RESERVE_REQUESTED_AT_HEADER));
+        });
+        return container;
+    }
+
+    /**
+     * 재고 변경 성공 여부 발행에 공유하는 RabbitTemplate
+     *
+     * @param connectionFactory
+     * @return
+     */
     @Bean
     public RabbitTemplate rabbitTemplate(final ConnectionFactory connectionFactory) {
         final RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
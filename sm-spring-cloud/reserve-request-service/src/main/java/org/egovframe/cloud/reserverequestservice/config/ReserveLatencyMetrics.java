@@ -0,0 +1,97 @@
+package org.egovframe.cloud.reserverequestservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * org.egovframe.cloud.reserverequestservice.config.ReserveLatencyMetrics
+ *
+ * 실시간 예약 신청 처리 지연 시간 metrics component
+ * 신청 접수 시각(RESERVE_REQUESTED_AT_HEADER) 을 메시지 header 로 전달받아
+ * 재고 변경 결과 수신(inventory) 과 SSE 클라이언트 전달(delivered) 시점까지의 시간을 reserve.request.latency 로 기록한다.
+ * 접수 시각은 다른 인스턴스에서 기록될 수 있으므로 서버 간 시각 차이만큼 오차가 있을 수 있다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj       최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ReserveLatencyMetrics {
+
+    private static final String METER_NAME = "reserve.request.latency";
+
+    private final Timer inventoryTimer;
+    private final Timer deliveredTimer;
+
+    public ReserveLatencyMetrics(MeterRegistry registry) {
+        this.inventoryTimer = timer(registry, "inventory", "예약 신청 접수부터 재고 변경 결과 수신까지 걸린 시간");
+        this.deliveredTimer = timer(registry, "delivered", "예약 신청 접수부터 SSE 클라이언트에 결과 전달까지 걸린 시간");
+    }
+
+    /**
+     * 재고 변경 결과 수신 시점 기록
+     *
+     * @param requestedAt 신청 접수 시각 header 값(epoch millis)
+     */
+    public void recordInventoryUpdated(Object requestedAt) {
+        record(inventoryTimer, requestedAt);
+    }
+
+    /**
+     * SSE 클라이언트 전달 시점 기록
+     *
+     * @param requestedAt 신청 접수 시각 header 값(epoch millis)
+     */
+    public void recordDelivered(Object requestedAt) {
+        record(deliveredTimer, requestedAt);
+    }
+
+    private void record(Timer timer, Object requestedAt) {
+        Long from = toEpochMillis(requestedAt);
+        if (from == null) {
+            return;
+        }
+        long elapsed = System.currentTimeMillis() - from;
+        if (elapsed < 0) {
+            // 서버 간 시각 차이로 음수가 되는 경우는 기록하지 않는다
+            return;
+        }
+        timer.record(elapsed, TimeUnit.MILLISECONDS);
+    }
+
+    private Long toEpochMillis(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Long.parseLong((String) value);
+            } catch (NumberFormatException e) {
+                log.warn("예약 신청 접수 시각 header 오류 : {}", value);
+            }
+        }
+        return null;
+    }
+
+    private static Timer timer(MeterRegistry registry, String stage, String description) {
+        return Timer.builder(METER_NAME)
+                .tag("stage", stage)
+                .description(description)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,183 @@
+package org.egovframe.cloud.reserverequestservice.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * org.egovframe.cloud.reserverequestservice.config.ReserveResultRegistry
+ *
+ * 실시간 예약 신청 결과를 예약 id 별로 SSE 구독자에게 연결하는 component
+ * 결과 메시지는 인스턴스마다 하나인 공유 queue 로 수신하며, 예약 id 별 Sinks.One 에 담아 대기 중인 구독자에게 전달한다.
+ * 항목은 예약 신청 이벤트 발행 전(register) 또는 구독 시(await) 에만 생성하며, 결과 수신(complete) 은 기존 항목만 완료한다.
+ * 구독 전에 결과가 먼저 도착해도 값을 보관하므로 나중에 구독한 클라이언트도 결과를 받는다.
+ * 결과를 받지 못했거나 구독자가 없는 항목은 timeout 이 지나면 제거한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    shinmj       최초 생성
+ *  2026/10/17    shinmj       결과 수신 시 항목을 생성하지 않도록 수정
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ReserveResultRegistry implements MeterBinder {
+
+    private static final String METER_NAME = "reserve.result";
+
+    @Getter
+    private final Duration timeout;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong expiredCount = new AtomicLong();
+
+    private Disposable sweeper;
+
+    public ReserveResultRegistry(@Value("${reserve.result.timeout-seconds:120}") long timeoutSeconds) {
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+    }
+
+    @PostConstruct
+    public void start() {
+        long period = Math.max(1000L, timeout.toMillis() / 4);
+        sweeper = Schedulers.parallel().schedulePeriodically(this::expire, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.dispose();
+        }
+    }
+
+    /**
+     * 예약 신청 결과를 받을 항목을 등록한다.
+     * 결과가 구독보다 먼저 도착하는 경우를 위해 예약 신청 이벤트 발행 전에 호출한다.
+     *
+     * @param reserveId
+     */
+    public void register(String reserveId) {
+        entry(reserveId);
+    }
+
+    /**
+     * 예약 신청 결과를 기다린다.
+     * 이미 결과가 도착한 경우 바로 리턴한다.
+     *
+     * @param reserveId
+     * @return
+     */
+    public Mono<Result> await(String reserveId) {
+        return entry(reserveId).sink.asMono();
+    }
+
+    /**
+     * 예약 신청 결과를 전달한다.
+     * 등록되지 않았거나 이미 제거된 예약 id 의 결과는 무시한다.
+     *
+     * @param reserveId
+     * @param isItemUpdated 재고 변경 성공 여부
+     * @param requestedAt   신청 접수 시각 header 값
+     */
+    public void complete(String reserveId, Boolean isItemUpdated, Object requestedAt) {
+        Entry entry = entries.get(reserveId);
+        if (entry == null) {
+            log.info("reserve result ignored, no pending entry, reserveId={}", reserveId);
+            return;
+        }
+        Sinks.EmitResult emitResult = entry.sink.tryEmitValue(new Result(isItemUpdated, requestedAt));
+        if (emitResult.isFailure()) {
+            log.info("reserve result already completed, reserveId={}, result={}", reserveId, emitResult);
+        }
+    }
+
+    /**
+     * 구독이 끝난 예약 id 를 제거한다.
+     *
+     * @param reserveId
+     */
+    public void remove(String reserveId) {
+        entries.remove(reserveId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * timeout 이 지난 항목을 제거한다.
+     */
+    void expire() {
+        long now = System.nanoTime();
+        long timeoutNanos = timeout.toNanos();
+        entries.forEach((reserveId, entry) -> {
+            if (now - entry.createdAt > timeoutNanos && entries.remove(reserveId, entry)) {
+                expiredCount.incrementAndGet();
+            }
+        });
+    }
+
+    private Entry entry(String reserveId) {
+        return entries.computeIfAbsent(reserveId, key -> new Entry());
+    }
+
+    /**
+     * actuator metrics 에 reserve.result 지표를 등록한다.
+     *
+     * @param registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METER_NAME + ".pending", entries, Map::size)
+                .description("결과 전달을 기다리거나 보관 중인 예약 건수")
+                .register(registry);
+        FunctionCounter.builder(METER_NAME + ".expired", expiredCount, AtomicLong::doubleValue)
+                .description("timeout 으로 제거된 예약 건수")
+                .register(registry);
+    }
+
+    /**
+     * 예약 신청 결과
+     */
+    @Getter
+    public static class Result {
+        private final Boolean isItemUpdated;
+        private final Object requestedAt;
+
+        private Result(Boolean isItemUpdated, Object requestedAt) {
+            this.isItemUpdated = isItemUpdated;
+            this.requestedAt = requestedAt;
+        }
+    }
+
+    private static class Entry {
+        private final Sinks.One<Result> sink = Sinks.one();
+        private final long createdAt = System.nanoTime();
+    }
+
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.egovframe.cloud.reactive.domain.BaseEntity;
+import org.egovframe.cloud.reactive.domain.ReserveQtyCounter;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
@@ -27,13 +28,14 @@ import java.time.LocalDateTime;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/15    shinmj       최초 생성
+ *  2026/10/17    shinmj       동시 예약 수량 계산을 위해 ReserveQtyCounter.Reservation 구현
  * </pre>
  */
 @Getter
 @NoArgsConstructor
 @ToString
 @Table("reserve")
-public class Reserve extends BaseEntity {
+public class Reserve extends BaseEntity implements ReserveQtyCounter.Reservation {
 
     @Id
     @Column
@@ -5,28 +5,26 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.egovframe.cloud.common.config.GlobalConstant;
 import org.egovframe.cloud.common.dto.AttachmentEntityMessage;
+import org.egovframe.cloud.common.dto.ReserveChangedMessage;
 import org.egovframe.cloud.common.exception.BusinessMessageException;
 import org.egovframe.cloud.reactive.service.ReactiveAbstractService;
+import org.egovframe.cloud.reactive.service.ReactiveOutboxEventWriter;
 import org.egovframe.cloud.reserverequestservice.api.dto.ReserveResponseDto;
 import org.egovframe.cloud.reserverequestservice.api.dto.ReserveSaveRequestDto;
+import org.egovframe.cloud.reserverequestservice.config.ReserveResultRegistry;
 import org.egovframe.cloud.reserverequestservice.domain.Category;
 import org.egovframe.cloud.reserverequestservice.domain.Reserve;
 import org.egovframe.cloud.reserverequestservice.domain.ReserveRepository;
 import org.egovframe.cloud.reserverequestservice.domain.ReserveStatus;
 import org.egovframe.cloud.reserverequestservice.domain.ReserveValidator;
-import org.springframework.amqp.core.AmqpAdmin;
-import org.springframework.amqp.core.Binding;
-import org.springframework.amqp.core.BindingBuilder;
-import org.springframework.amqp.core.Exchange;
-import org.springframework.amqp.core.ExchangeBuilder;
-import org.springframework.amqp.core.Queue;
-import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
@@ -45,6 +43,11 @@ import reactor.core.scheduler.Schedulers;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/17    shinmj      최초 생성
+ *  2026/10/17    shinmj      예약 변경 이벤트 발행 추가
+ *  2026/10/17    shinmj      신청 접수 시각 header 추가
+ *  2026/10/17    shinmj      예약별 결과 queue 생성 제거
+ *  2026/10/17    shinmj      예약 변경, 첨부파일 이벤트를 outbox 로 발행
+ *  2026/10/17    shinmj      재고 변경 이벤트 발행 전 결과 수신 항목 등록
  * </pre>
  */
 @Slf4j
@@ -55,7 +58,8 @@ public class ReserveService extends ReactiveAbstractService {
     private final ReserveRepository reserveRepository;
     private final ReserveValidator reserveValidator;
     private final StreamBridge streamBridge;
-    private final AmqpAdmin amqpAdmin;
+    private final ReactiveOutboxEventWriter outboxEventWriter;
+    private final ReserveResultRegistry reserveResultRegistry;
 
 
     /**
@@ -73,12 +77,8 @@ public class ReserveService extends ReactiveAbstractService {
                 return Mono.just(tuple.getT1());
             })
             .flatMap(reserveRepository::insert)
-            .doOnNext(reserve -> sendAttachmentEntityInfo(streamBridge,
-                AttachmentEntityMessage.builder()
-                    .attachmentCode(reserve.getAttachmentCode())
-                    .entityName(reserve.getClass().getName())
-                    .entityId(reserve.getReserveId())
-                    .build()))
+            .flatMap(this::sendReserveChanged)
+            .flatMap(this::sendAttachmentEvent)
             .flatMap(this::convertReserveResponseDto);
     }
 
@@ -90,26 +90,18 @@ public class ReserveService extends ReactiveAbstractService {
      * @return
      */
     public Mono<ReserveResponseDto> saveForEvent(ReserveSaveRequestDto saveRequestDto) {
+        // 신청 접수 시각, 결과 전달까지의 지연 시간 측정을 위해 메시지 header 로 전달한다
+        long requestedAt = System.currentTimeMillis();
         return create(saveRequestDto)
                 .flatMap(reserveResponseDto ->
                                 Mono.fromCallable(() -> {
-                                    //예약 저장 후 해당 id로 queue 생성
-                                    Exchange ex = ExchangeBuilder.directExchange(GlobalConstant.SUCCESS_OR_NOT_EX_NAME)
-                                            .durable(true).build();
-                                    amqpAdmin.declareExchange(ex);
-
-                                    Queue queue = QueueBuilder.durable(reserveResponseDto.getReserveId()).build();
-                                    amqpAdmin.declareQueue(queue);
-
-                                    Binding binding = BindingBuilder.bind(queue)
-                                            .to(ex)
-                                            .with(reserveResponseDto.getReserveId())
-                                            .noargs();
-                                    amqpAdmin.declareBinding(binding);
-
-                                    log.info("Biding successfully created");
-
-                                    streamBridge.send("reserveRequest-out-0", reserveResponseDto);
+                                    // 결과는 인스턴스별 공유 queue 로 수신하므로 예약별 queue 는 생성하지 않는다
+                                    // 결과가 구독보다 먼저 도착해도 보관되도록 발행 전에 등록한다
+                                    reserveResultRegistry.register(reserveResponseDto.getReserveId());
+                                    streamBridge.send("reserveRequest-out-0",
+                                        MessageBuilder.withPayload(reserveResponseDto)
+                                            .setHeader(GlobalConstant.RESERVE_REQUESTED_AT_HEADER, requestedAt)
+                                            .build());
 
                                     return reserveResponseDto;
                                 }).subscribeOn(Schedulers.boundedElastic())
@@ -130,6 +122,7 @@ public class ReserveService extends ReactiveAbstractService {
             .flatMap(dto -> Mono.just(dto.createApproveReserve())).zipWith(getUserId())
             .flatMap(tuple -> Mono.just(tuple.getT1().setCreatedInfo(LocalDateTime.now(), tuple.getT2())))
             .flatMap(reserveRepository::insert)
+            .flatMap(this::sendReserveChanged)
             .flatMap(this::convertReserveResponseDto);
     }
 
@@ -145,6 +138,7 @@ public class ReserveService extends ReactiveAbstractService {
         return reserveRepository.findById(reserveId)
                 .map(reserve -> reserve.updateStatus(reserveStatus.getKey()))
                 .flatMap(reserveRepository::save)
+                .flatMap(this::sendReserveChanged)
                 .then();
     }
 
@@ -157,10 +151,64 @@ public class ReserveService extends ReactiveAbstractService {
     public Mono<Void> delete(String reserveId) {
         log.info("delete {}", reserveId);
         return reserveRepository.findById(reserveId)
-                .flatMap(reserveRepository::delete)
+                .flatMap(reserve -> reserveRepository.delete(reserve)
+                    .then(sendReserveDeleted(reserve)))
                 .then();
     }
 
+    /**
+     * 예약 확인 서비스의 예약 현황 캐시를 갱신하기 위해 예약 변경 이벤트를 outbox 에 저장
+     *
+     * @param reserve
+     * @return
+     */
+    private Mono<Reserve> sendReserveChanged(Reserve reserve) {
+        return outboxEventWriter.write(GlobalConstant.RESERVE_CHANGED_BINDING_NAME, reserve.getReserveId(),
+            ReserveChangedMessage.builder()
+                .reserveId(reserve.getReserveId())
+                .reserveItemId(reserve.getReserveItemId())
+                .reserveQty(reserve.getReserveQty())
+                .reserveStartDate(reserve.getReserveStartDate())
+                .reserveEndDate(reserve.getReserveEndDate())
+                .reserveStatusId(reserve.getReserveStatusId())
+                .build())
+            .thenReturn(reserve);
+    }
+
+    /**
+     * 예약 삭제 이벤트를 outbox 에 저장
+     *
+     * @param reserve
+     * @return
+     */
+    private Mono<Void> sendReserveDeleted(Reserve reserve) {
+        return outboxEventWriter.write(GlobalConstant.RESERVE_CHANGED_BINDING_NAME, reserve.getReserveId(),
+            ReserveChangedMessage.builder()
+                .reserveId(reserve.getReserveId())
+                .reserveItemId(reserve.getReserveItemId())
+                .deleted(true)
+                .build());
+    }
+
+    /**
+     * 첨부파일 entity 정보 업데이트 하기 위해 이벤트를 outbox 에 저장
+     *
+     * @param reserve
+     * @return
+     */
+    private Mono<Reserve> sendAttachmentEvent(Reserve reserve) {
+        if (!StringUtils.hasText(reserve.getAttachmentCode())) {
+            return Mono.just(reserve);
+        }
+        return outboxEventWriter.write(GlobalConstant.ATTACHMENT_ENTITY_BINDING_NAME, reserve.getAttachmentCode(),
+            AttachmentEntityMessage.builder()
+                .attachmentCode(reserve.getAttachmentCode())
+                .entityName(reserve.getClass().getName())
+                .entityId(reserve.getReserveId())
+                .build())
+            .thenReturn(reserve);
+    }
+
     /**
      * entity -> dto 변환
      *
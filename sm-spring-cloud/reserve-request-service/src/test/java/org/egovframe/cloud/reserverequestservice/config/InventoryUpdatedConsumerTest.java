@@ -0,0 +1,190 @@
+package org.egovframe.cloud.reserverequestservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.egovframe.cloud.common.config.GlobalConstant;
+import org.egovframe.cloud.reserverequestservice.domain.ReserveStatus;
+import org.egovframe.cloud.reserverequestservice.service.ReserveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class InventoryUpdatedConsumerTest {
+
+    private static final Duration HANDLE_TIMEOUT = Duration.ofMillis(300);
+
+    private ReserveService reserveService;
+    private RabbitTemplate rabbitTemplate;
+    private Channel channel;
+
+    @BeforeEach
+    public void setUp() {
+        reserveService = mock(ReserveService.class);
+        rabbitTemplate = mock(RabbitTemplate.class);
+        channel = mock(Channel.class);
+        ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+        given(rabbitTemplate.getConnectionFactory()).willReturn(connectionFactory);
+        given(connectionFactory.isPublisherConfirms()).willReturn(false);
+    }
+
+    @Test
+    public void 재고_변경_성공시_예약_승인_결과_발행_후_ack() throws Exception {
+        // given
+        given(reserveService.updateStatus("1", ReserveStatus.APPROVE)).willReturn(Mono.empty());
+
+        // when
+        StepVerifier.create(consumer(16).apply(Flux.just(message("1", true, 1L, false))))
+            .verifyComplete();
+
+        // then
+        verify(rabbitTemplate).convertAndSend(eq(GlobalConstant.SUCCESS_OR_NOT_EX_NAME), eq("1"), eq(true),
+            any(MessagePostProcessor.class), any(CorrelationData.class));
+        verify(channel).basicAck(1L, false);
+        verify(channel, never()).basicNack(1L, false, true);
+    }
+
+    @Test
+    public void 재고_변경_실패시_예약_삭제_실패_결과_발행_후_ack() throws Exception {
+        // given
+        given(reserveService.delete("1")).willReturn(Mono.empty());
+
+        // when
+        StepVerifier.create(consumer(16).apply(Flux.just(message("1", false, 1L, false))))
+            .verifyComplete();
+
+        // then
+        verify(reserveService).delete("1");
+        verify(rabbitTemplate).convertAndSend(eq(GlobalConstant.SUCCESS_OR_NOT_EX_NAME), eq("1"), eq(false),
+            any(MessagePostProcessor.class), any(CorrelationData.class));
+        verify(channel).basicAck(1L, false);
+    }
+
+    @Test
+    public void 예약_상태_변경_오류시_실패_결과_발행_후_ack() throws Exception {
+        // given
+        given(reserveService.updateStatus("1", ReserveStatus.APPROVE))
+            .willReturn(Mono.error(new IllegalStateException("db error")));
+
+        // when
+        StepVerifier.create(consumer(16).apply(Flux.just(message("1", true, 1L, false))))
+            .verifyComplete();
+
+        // then
+        verify(rabbitTemplate).convertAndSend(eq(GlobalConstant.SUCCESS_OR_NOT_EX_NAME), eq("1"), eq(false),
+            any(MessagePostProcessor.class), any(CorrelationData.class));
+        verify(channel).basicAck(1L, false);
+    }
+
+    @Test
+    public void 결과_발행_오류시_nack_후_다음_메시지_처리() throws Exception {
+        // given
+        given(reserveService.updateStatus(anyString(), eq(ReserveStatus.APPROVE))).willReturn(Mono.empty());
+        willThrow(new AmqpException("broker down")).given(rabbitTemplate)
+            .convertAndSend(eq(GlobalConstant.SUCCESS_OR_NOT_EX_NAME), eq("1"), eq(true),
+                any(MessagePostProcessor.class), any(CorrelationData.class));
+
+        // when
+        StepVerifier.create(consumer(16).apply(Flux.just(
+                message("1", true, 1L, false),
+                message("2", true, 2L, false))))
+            .verifyComplete();
+
+        // then
+        verify(channel).basicNack(1L, false, true);
+        verify(channel, never()).basicAck(1L, false);
+        verify(channel).basicAck(2L, false);
+    }
+
+    @Test
+    public void 다시_받은_메시지_처리_오류시_requeue_하지_않음() throws Exception {
+        // given
+        willThrow(new AmqpException("broker down")).given(rabbitTemplate)
+            .convertAndSend(anyString(), anyString(), any(), any(MessagePostProcessor.class), any(CorrelationData.class));
+        given(reserveService.updateStatus("1", ReserveStatus.APPROVE)).willReturn(Mono.empty());
+
+        // when
+        StepVerifier.create(consumer(16).apply(Flux.just(message("1", true, 1L, true))))
+            .verifyComplete();
+
+        // then
+        verify(channel).basicNack(1L, false, false);
+    }
+
+    @Test
+    public void 처리_시간_초과시_nack_후_다음_메시지_처리() throws Exception {
+        // given
+        given(reserveService.updateStatus("1", ReserveStatus.APPROVE)).willReturn(Mono.never());
+        given(reserveService.updateStatus("2", ReserveStatus.APPROVE)).willReturn(Mono.empty());
+
+        // when
+        StepVerifier.create(consumer(16).apply(Flux.just(
+                message("1", true, 1L, false),
+                message("2", true, 2L, false))))
+            .verifyComplete();
+
+        // then
+        verify(channel).basicNack(1L, false, true);
+        verify(channel).basicAck(2L, false);
+        verify(rabbitTemplate, never()).convertAndSend(eq(GlobalConstant.SUCCESS_OR_NOT_EX_NAME), eq("1"), any(),
+            any(MessagePostProcessor.class), any(CorrelationData.class));
+    }
+
+    @Test
+    public void 동시_처리_건수_제한() throws Exception {
+        // given
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        given(reserveService.updateStatus(anyString(), eq(ReserveStatus.APPROVE))).willAnswer(invocation ->
+            Mono.delay(Duration.ofMillis(50))
+                .doOnSubscribe(s -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                .doOnTerminate(inFlight::decrementAndGet)
+                .then());
+
+        // when
+        StepVerifier.create(consumer(2).apply(Flux.range(1, 6)
+                .map(i -> message(String.valueOf(i), true, i, false))))
+            .verifyComplete();
+
+        // then
+        assertThat(maxInFlight.get()).isEqualTo(2);
+        for (long tag = 1; tag <= 6; tag++) {
+            verify(channel).basicAck(tag, false);
+        }
+    }
+
+    private InventoryUpdatedConsumer consumer(int concurrency) {
+        return new InventoryUpdatedConsumer(reserveService, new ReserveLatencyMetrics(new SimpleMeterRegistry()),
+            rabbitTemplate, concurrency, HANDLE_TIMEOUT);
+    }
+
+    private Message<RequestMessage> message(String reserveId, boolean isItemUpdated, long deliveryTag, boolean redelivered) {
+        return MessageBuilder.withPayload(RequestMessage.builder().reserveId(reserveId).isItemUpdated(isItemUpdated).build())
+            .setHeader(AmqpHeaders.CHANNEL, channel)
+            .setHeader(AmqpHeaders.DELIVERY_TAG, deliveryTag)
+            .setHeader(AmqpHeaders.REDELIVERED, redelivered)
+            .build();
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.egovframe.cloud.reserverequestservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReserveLatencyMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private ReserveLatencyMetrics reserveLatencyMetrics;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        reserveLatencyMetrics = new ReserveLatencyMetrics(registry);
+    }
+
+    @Test
+    public void 접수시각부터_전달까지_지연시간_기록() {
+        long requestedAt = System.currentTimeMillis() - 1500;
+
+        reserveLatencyMetrics.recordInventoryUpdated(requestedAt);
+        reserveLatencyMetrics.recordDelivered(String.valueOf(requestedAt));
+
+        Timer inventory = registry.get("reserve.request.latency").tag("stage", "inventory").timer();
+        Timer delivered = registry.get("reserve.request.latency").tag("stage", "delivered").timer();
+        assertThat(inventory.count()).isEqualTo(1);
+        assertThat(inventory.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(1500);
+        assertThat(delivered.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void 접수시각이_없거나_잘못된_경우_기록하지않음() {
+        reserveLatencyMetrics.recordDelivered(null);
+        reserveLatencyMetrics.recordDelivered("abc");
+        reserveLatencyMetrics.recordDelivered(System.currentTimeMillis() + 60000);
+
+        Timer delivered = registry.get("reserve.request.latency").tag("stage", "delivered").timer();
+        assertThat(delivered.count()).isZero();
+    }
+
+}
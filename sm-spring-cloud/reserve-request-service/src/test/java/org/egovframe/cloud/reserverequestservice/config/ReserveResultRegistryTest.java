@@ -0,0 +1,74 @@
+package org.egovframe.cloud.reserverequestservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+class ReserveResultRegistryTest {
+
+    @Test
+    public void 구독후_결과수신_전달() {
+        // given
+        ReserveResultRegistry registry = new ReserveResultRegistry(60);
+
+        // when // then
+        StepVerifier.create(registry.await("reserve-1"))
+            .then(() -> registry.complete("reserve-1", true, 1000L))
+            .assertNext(result -> {
+                assertThat(result.getIsItemUpdated()).isTrue();
+                assertThat(result.getRequestedAt()).isEqualTo(1000L);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    public void 구독전_결과수신_보관후_전달() {
+        // given
+        ReserveResultRegistry registry = new ReserveResultRegistry(60);
+        registry.register("reserve-1");
+
+        // when
+        registry.complete("reserve-1", false, null);
+
+        // then
+        StepVerifier.create(registry.await("reserve-1"))
+            .assertNext(result -> assertThat(result.getIsItemUpdated()).isFalse())
+            .verifyComplete();
+    }
+
+    @Test
+    public void 등록되지_않은_예약_결과수신_무시() {
+        // given
+        ReserveResultRegistry registry = new ReserveResultRegistry(60);
+
+        // when
+        registry.complete("reserve-1", true, null);
+
+        // then
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    public void timeout_지난_항목_제거() {
+        // given
+        ReserveResultRegistry registry = new ReserveResultRegistry(0);
+        registry.register("reserve-1");
+        registry.complete("reserve-1", true, null);
+        registry.await("reserve-2");
+        assertThat(registry.size()).isEqualTo(2);
+
+        // when
+        registry.expire();
+
+        // then
+        assertThat(registry.size()).isZero();
+        StepVerifier.create(registry.await("reserve-2"))
+            .expectSubscription()
+            .expectNoEvent(Duration.ofMillis(100))
+            .thenCancel()
+            .verify();
+    }
+
+}
@@ -0,0 +1,116 @@
+package org.egovframe.cloud.userservice.service.role;
+
+import org.egovframe.cloud.userservice.api.role.dto.AuthorizationListResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * org.egovframe.cloud.userservice.service.role.AuthorizationIndexBenchmark
+ * <p>
+ * 인가 여부 판단 성능 비교
+ * 기존 AntPathMatcher 순회 방식(AuthorizationService.isContainMatch)과 AuthorizationIndex 를 인가 건수별로 비교한다.
+ * ./gradlew jmh -PjmhIncludes=AuthorizationIndexBenchmark
+ *
+ * @author 표준프레임워크센터 jooho
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jooho       최초 생성
+ * </pre>
+ */
+@State(Scope.Benchmark)
+public class AuthorizationIndexBenchmark {
+
+    private static final String[] HTTP_METHODS = {"GET", "POST", "PUT", "DELETE"};
+    private static final String[] SERVICES = {"user-service", "portal-service", "board-service", "reserve-item-service"};
+    private static final String ROLE = "ROLE_USER";
+
+    /**
+     * 인가 건수
+     */
+    @Param({"100", "1000", "10000"})
+    public int ruleCount;
+
+    private List<AuthorizationListResponseDto> authorizationList;
+
+    private AuthorizationIndex authorizationIndex;
+
+    private List<String> roles;
+
+    private String grantedPath;
+
+    private String deniedPath;
+
+    @Setup
+    public void setUp() {
+        authorizationList = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            String service = SERVICES[i % SERVICES.length];
+            String pattern = (i % 3 == 0)
+                    ? "/" + service + "/api/v1/resources-" + i + "/**"
+                    : "/" + service + "/api/v1/resources-" + i + "/?*";
+            authorizationList.add(new AuthorizationListResponseDto(i, "인가 " + i, pattern, HTTP_METHODS[i % HTTP_METHODS.length], i));
+        }
+
+        Map<String, List<AuthorizationListResponseDto>> rules = new HashMap<>();
+        rules.put(ROLE, authorizationList);
+        authorizationIndex = new AuthorizationIndex(rules);
+        roles = Arrays.asList(ROLE);
+
+        // 기존 방식에서 가장 불리한 마지막 인가와 일치하는 경로
+        int last = ruleCount - 1;
+        grantedPath = "/" + SERVICES[last % SERVICES.length] + "/api/v1/resources-" + last + "/1";
+        deniedPath = "/user-service/api/v1/not-registered/1";
+    }
+
+    @Benchmark
+    public boolean antPathMatcherLoopGranted() {
+        return isContainMatch(authorizationList, HTTP_METHODS[(ruleCount - 1) % HTTP_METHODS.length], grantedPath);
+    }
+
+    @Benchmark
+    public boolean antPathMatcherLoopDenied() {
+        return isContainMatch(authorizationList, "GET", deniedPath);
+    }
+
+    @Benchmark
+    public boolean authorizationIndexGranted() {
+        return authorizationIndex.isGranted(roles, HTTP_METHODS[(ruleCount - 1) % HTTP_METHODS.length], grantedPath);
+    }
+
+    @Benchmark
+    public boolean authorizationIndexDenied() {
+        return authorizationIndex.isGranted(roles, "GET", deniedPath);
+    }
+
+    /**
+     * 변경 전 AuthorizationService.isContainMatch 와 동일한 구현
+     */
+    private static boolean isContainMatch(List<AuthorizationListResponseDto> authorizationList, String httpMethod, String requestPath) {
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+        for (AuthorizationListResponseDto dto : authorizationList) {
+            if (antPathMatcher.match(dto.getUrlPatternValue(), requestPath) && dto.getHttpMethodCode().equals(httpMethod)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
@@ -3,6 +3,7 @@ package org.egovframe.cloud.userservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -24,10 +25,12 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/06/30    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  인가 변경 bus 이벤트 등록
  * </pre>
  */
 @ComponentScan({"org.egovframe.cloud.common", "org.egovframe.cloud.servlet", "org.egovframe.cloud.userservice"}) // org.egovframe.cloud.common package 포함하기 위해
 @EntityScan({"org.egovframe.cloud.servlet.domain", "org.egovframe.cloud.userservice.domain"})
+@RemoteApplicationEventScan(basePackages = "org.egovframe.cloud.common.event") // AuthorizationChangedEvent
 @EnableDiscoveryClient
 @SpringBootApplication
 public class UserServiceApplication {
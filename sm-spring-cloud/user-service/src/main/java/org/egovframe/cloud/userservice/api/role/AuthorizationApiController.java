@@ -2,6 +2,8 @@ package org.egovframe.cloud.userservice.api.role;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.egovframe.cloud.common.dto.CursorPage;
+import org.egovframe.cloud.common.dto.CursorRequestDto;
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.userservice.api.role.dto.AuthorizationListResponseDto;
 import org.egovframe.cloud.userservice.api.role.dto.AuthorizationResponseDto;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +41,7 @@ import java.util.stream.Collectors;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/19    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  인가 커서 페이지 목록 조회 추가
  * </pre>
  */
 @Slf4j
@@ -75,6 +79,17 @@ public class AuthorizationApiController {
         return isAuth;
     }
 
+    /**
+     * 전체 권한의 인가 규칙 조회
+     * API Gateway 의 AuthorizationRules 에서 주기적으로 호출하여 메모리에 보관한다.
+     *
+     * @return Map<String, List<AuthorizationListResponseDto>> 권한 id 별 인가 목록
+     */
+    @GetMapping("/api/v1/authorizations/rules")
+    public Map<String, List<AuthorizationListResponseDto>> findAllRules() {
+        return authorizationService.findAllRules();
+    }
+
     /**
      * 인가 페이지 목록 조회
      *
@@ -88,6 +103,19 @@ public class AuthorizationApiController {
         return authorizationService.findPage(requestDto, pageable);
     }
 
+    /**
+     * 인가 커서 페이지 목록 조회
+     * cursor 파라미터가 있으면 offset 대신 이전 페이지 마지막 인가 이후부터 조회한다
+     *
+     * @param requestDto       요청 DTO
+     * @param cursorRequestDto 커서 페이징 요청 DTO
+     * @return CursorPage<AuthorizationListResponseDto> 커서 페이지 인가 목록 응답 DTO
+     */
+    @GetMapping(value = "/api/v1/authorizations", params = "cursor")
+    public CursorPage<AuthorizationListResponseDto> findCursorPage(RequestDto requestDto, CursorRequestDto cursorRequestDto) {
+        return authorizationService.findCursorPage(requestDto, cursorRequestDto);
+    }
+
     /**
      * 인가 단건 조회
      *
@@ -1,6 +1,8 @@
 package org.egovframe.cloud.userservice.api.user;
 
 import lombok.RequiredArgsConstructor;
+import org.egovframe.cloud.common.dto.CursorPage;
+import org.egovframe.cloud.common.dto.CursorRequestDto;
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.common.exception.BusinessMessageException;
 import org.egovframe.cloud.common.util.MessageUtil;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.util.List;
 
 /**
  * org.egovframe.cloud.userservice.api.user.UserApiController
@@ -34,6 +37,8 @@ import javax.validation.Valid;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/06/30    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  사용자 id 목록으로 조회 추가
+ *  2026/10/17    jaeyeolkim  사용자 커서 페이지 목록 조회 추가
  * </pre>
  */
 @RequiredArgsConstructor // final이 선언된 모든 필드를 인자값으로 하는 생성자를 대신 생성하여, 빈을 생성자로 주입받게 한다.
@@ -102,6 +107,31 @@ public class UserApiController {
         return userService.findPage(requestDto, pageable);
     }
 
+    /**
+     * 사용자 커서 페이지 목록 조회
+     * cursor 파라미터가 있으면 offset 대신 이전 페이지 마지막 사용자 이후부터 조회한다
+     *
+     * @param requestDto       요청 DTO
+     * @param cursorRequestDto 커서 페이징 요청 DTO
+     * @return CursorPage<UserListResponseDto> 커서 페이지 사용자 목록 응답 DTO
+     */
+    @GetMapping(value = "/api/v1/users", params = "cursor")
+    public CursorPage<UserListResponseDto> findCursorPage(RequestDto requestDto, CursorRequestDto cursorRequestDto) {
+        return userService.findCursorPage(requestDto, cursorRequestDto);
+    }
+
+    /**
+     * 사용자 id 목록으로 조회
+     * 다른 서비스에서 목록의 사용자 정보를 한 번에 조회할 때 사용한다.
+     *
+     * @param ids 사용자 id 목록
+     * @return
+     */
+    @GetMapping(value = "/api/v1/users", params = "ids")
+    public List<UserResponseDto> findAllByUserIds(@RequestParam("ids") List<String> ids) {
+        return userService.findAllByUserIds(ids);
+    }
+
     /**
      * 사용자 단 건 조회
      *
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
 import org.egovframe.cloud.common.exception.BusinessException;
+import org.egovframe.cloud.common.util.IdentityHeaders;
 import org.egovframe.cloud.common.util.LogUtil;
 import org.egovframe.cloud.userservice.api.user.dto.UserLoginRequestDto;
 import org.egovframe.cloud.userservice.api.user.dto.UserResponseDto;
@@ -52,6 +53,7 @@ import static org.springframework.util.StringUtils.hasLength;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/06/30    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  api gateway 사용자 정보 header 서명 확인 시 토큰 파싱 생략
  * </pre>
  */
 @Slf4j
@@ -59,11 +61,13 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
     private final TokenProvider tokenProvider;
     private final UserService userService;
+    private final IdentityHeaders identityHeaders;
 
-    public AuthenticationFilter(AuthenticationManager authenticationManager, TokenProvider tokenProvider, UserService userService) {
+    public AuthenticationFilter(AuthenticationManager authenticationManager, TokenProvider tokenProvider, UserService userService, IdentityHeaders identityHeaders) {
         super.setAuthenticationManager(authenticationManager);
         this.tokenProvider = tokenProvider;
         this.userService = userService;
+        this.identityHeaders = identityHeaders;
     }
 
     /**
@@ -167,7 +171,9 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
                 super.doFilter(request, response, chain);
             } else {
                 // 토큰 유효성 검사는 API Gateway ReactiveAuthorization 클래스에서 미리 처리된다.
-                Claims claims = tokenProvider.getClaimsFromToken(token);
+                // api gateway 에서 서명한 사용자 정보 header 가 유효하면 토큰을 다시 파싱하지 않는다.
+                Claims claims = identityHeaders.getVerifiedClaims(httpRequest::getHeader)
+                        .orElseGet(() -> tokenProvider.getClaimsFromToken(token));
 
                 String username = claims.getSubject();
                 if (username == null) {
@@ -1,14 +1,20 @@
 package org.egovframe.cloud.userservice.config;
 
 import lombok.RequiredArgsConstructor;
+import org.egovframe.cloud.common.util.IdentityHeaders;
 import org.egovframe.cloud.userservice.service.user.UserService;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
+import static org.egovframe.cloud.common.config.GlobalConstant.AUTHORIZATION_RULES_URI;
 import static org.egovframe.cloud.common.config.GlobalConstant.SECURITY_PERMITALL_ANTPATTERNS;
 
 /**
@@ -27,6 +33,8 @@ import static org.egovframe.cloud.common.config.GlobalConstant.SECURITY_PERMITAL
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/06/30    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  인가 규칙 조회는 서비스 간 인증 header 로 허용
+ *  2026/10/17    jaeyeolkim  사용자 id 목록 조회는 서비스 간 인증 header 로도 허용
  * </pre>
  */
 @RequiredArgsConstructor
@@ -35,8 +43,17 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final TokenProvider tokenProvider;
     private final UserService userService;
+    private final IdentityHeaders identityHeaders;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
 
+    /**
+     * 사용자 id 목록 조회 (GET /api/v1/users?ids=)
+     * 다른 서비스가 목록의 사용자 정보를 조회할 때 사용자 토큰 없이 호출한다.
+     */
+    private static final RequestMatcher USERS_BY_IDS_MATCHER = new AndRequestMatcher(
+            new AntPathRequestMatcher("/api/v1/users", HttpMethod.GET.name()),
+            request -> request.getParameter("ids") != null);
+
     /**
      * 스프링 시큐리티 설정
      *
@@ -53,6 +70,8 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS) // 토큰 사용하기 때문에 세션은 비활성화
             .and()
                 .authorizeRequests()
+                .antMatchers(AUTHORIZATION_RULES_URI).access("@serviceCredential.matches(request)") // api gateway 에서만 호출
+                .requestMatchers(USERS_BY_IDS_MATCHER).access("@serviceCredential.matches(request) or @authorizationService.isAuthorization(request, authentication)") // 다른 서비스 또는 인가된 사용자
                 .antMatchers(SECURITY_PERMITALL_ANTPATTERNS).permitAll()
                 .anyRequest().access("@authorizationService.isAuthorization(request, authentication)") // 호출 시 권한 인가 데이터 확인
             .and()
@@ -68,7 +87,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
      * @throws Exception
      */
     private AuthenticationFilter getAuthenticationFilter() throws Exception {
-        return new AuthenticationFilter(authenticationManager(), tokenProvider, userService);
+        return new AuthenticationFilter(authenticationManager(), tokenProvider, userService, identityHeaders);
     }
 
     /**
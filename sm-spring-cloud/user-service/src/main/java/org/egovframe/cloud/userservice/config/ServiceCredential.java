@@ -0,0 +1,56 @@
+package org.egovframe.cloud.userservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static org.egovframe.cloud.common.config.GlobalConstant.HEADER_SERVICE_TOKEN;
+
+/**
+ * org.egovframe.cloud.userservice.config.ServiceCredential
+ * <p>
+ * 서비스 간 호출 인증 클래스
+ * api gateway 의 인가 규칙 조회, 다른 서비스의 사용자 id 목록 조회 시 전달하는 X-Service-Token header 를 service.token.secret 과 비교한다.
+ * 사용자 토큰 없이 호출하는 내부 API 를 permitAll 로 열어두지 않기 위해 사용하며, secret 이 없으면 기동하지 않는다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  사용자 id 목록 조회에도 사용
+ * </pre>
+ */
+@Component
+public class ServiceCredential {
+
+    private final byte[] secret;
+
+    public ServiceCredential(@Value("${service.token.secret:}") String secret) {
+        if (!StringUtils.hasText(secret)) {
+            throw new IllegalStateException("service.token.secret 이 설정되지 않았습니다.");
+        }
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * SecurityConfig 에서 "@serviceCredential.matches(request)" 로 호출한다.
+     *
+     * @param request
+     * @return 서비스 간 인증 header 일치 여부
+     */
+    public boolean matches(HttpServletRequest request) {
+        String token = request.getHeader(HEADER_SERVICE_TOKEN);
+        return token != null && MessageDigest.isEqual(secret, token.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
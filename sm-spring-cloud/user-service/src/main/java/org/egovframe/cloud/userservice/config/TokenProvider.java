@@ -3,6 +3,7 @@ package org.egovframe.cloud.userservice.config;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import org.egovframe.cloud.common.util.JwtClaimsCache;
 import org.egovframe.cloud.userservice.api.user.dto.UserResponseDto;
 import org.egovframe.cloud.userservice.service.user.UserService;
 import org.springframework.beans.factory.annotation.Value;
@@ -31,6 +32,7 @@ import java.util.stream.Collectors;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/01    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  JwtClaimsCache 로 토큰 검증 결과 재사용
  * </pre>
  */
 @Component
@@ -38,8 +40,11 @@ public class TokenProvider {
 
     private final UserService userService;
 
-    public TokenProvider(UserService userService) {
+    private final JwtClaimsCache jwtClaimsCache;
+
+    public TokenProvider(UserService userService, JwtClaimsCache jwtClaimsCache) {
         this.userService = userService;
+        this.jwtClaimsCache = jwtClaimsCache;
     }
 
     @Value("${token.secret}")
@@ -146,10 +151,7 @@ public class TokenProvider {
      * @return
      */
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .setSigningKey(TOKEN_SECRET)
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtClaimsCache.getClaims(token);
     }
 
 }
@@ -0,0 +1,98 @@
+package org.egovframe.cloud.userservice.domain.log;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.egovframe.cloud.servlet.service.BufferedEventSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+/**
+ * org.egovframe.cloud.userservice.domain.log.LoginLogWriter
+ * <p>
+ * 로그인 로그를 로그인 트랜잭션과 분리하여 일괄 입력한다.
+ * 버퍼 크기, 일괄 입력 건수, 입력 간격, 버퍼 초과 시 처리 방식은 login-log.* 속성으로 설정한다.
+ *
+ * @author 표준프레임워크센터 jaeyeolkim
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jaeyeolkim  최초 생성
+ * </pre>
+ */
+@Component
+public class LoginLogWriter extends BufferedEventSink<LoginLogWriter.Record> {
+
+    private static final String INSERT_SQL = "insert into login_log (site_id, email_addr, ip_addr, success_at, fail_content, created_date, modified_date) values (?, ?, ?, ?, ?, ?, ?)";
+
+    public LoginLogWriter(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${login-log.buffer-size:4096}") int bufferSize,
+                          @Value("${login-log.batch-size:200}") int batchSize,
+                          @Value("${login-log.flush-interval-ms:1000}") long flushIntervalMillis,
+                          @Value("${login-log.overflow-policy:CALLER_RUNS}") OverflowPolicy overflowPolicy) {
+        super("login-log", jdbcTemplate, transactionManager, bufferSize, batchSize, flushIntervalMillis, overflowPolicy);
+    }
+
+    @Override
+    protected String getInsertSql() {
+        return INSERT_SQL;
+    }
+
+    @Override
+    protected void setValues(PreparedStatement ps, Record record) throws SQLException {
+        Timestamp createdDate = Timestamp.valueOf(record.getCreatedDate());
+        if (record.getSiteId() == null) {
+            ps.setNull(1, Types.BIGINT);
+        } else {
+            ps.setLong(1, record.getSiteId());
+        }
+        ps.setString(2, record.getEmail());
+        ps.setString(3, record.getRemoteIp());
+        if (record.getSuccessAt() == null) {
+            ps.setNull(4, Types.BOOLEAN);
+        } else {
+            ps.setBoolean(4, record.getSuccessAt());
+        }
+        ps.setString(5, record.getFailContent());
+        ps.setTimestamp(6, createdDate);
+        ps.setTimestamp(7, createdDate);
+    }
+
+    /**
+     * 버퍼에 보관하는 로그인 로그
+     * 입력 시각은 로그인 시점으로 기록한다.
+     */
+    @Getter
+    public static class Record {
+        private final Long siteId;
+        private final String email;
+        private final Boolean successAt;
+        private final String remoteIp;
+        private final String failContent;
+        private final LocalDateTime createdDate;
+
+        @Builder
+        public Record(Long siteId, String email, Boolean successAt, String remoteIp, String failContent) {
+            this.siteId = siteId;
+            this.email = email;
+            this.successAt = successAt;
+            this.remoteIp = remoteIp;
+            this.failContent = failContent;
+            this.createdDate = LocalDateTime.now();
+        }
+    }
+
+}
@@ -29,11 +29,13 @@ import java.util.List;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/08    jooho       최초 생성
+ *  2026/10/17    jooho       정렬 순서 not null, 커서 페이지 목록 조회 정렬 색인 추가
  * </pre>
  */
 @Getter
 @NoArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_authorization_sort_seq", columnList = "sort_seq, authorization_no")) // 커서 페이지 목록 조회 정렬
 @JsonIdentityInfo(generator = ObjectIdGenerators.IntSequenceGenerator.class)
 @ToString
 public class Authorization extends BaseEntity {
@@ -64,9 +66,9 @@ public class Authorization extends BaseEntity {
     private String httpMethodCode;
 
     /**
-     * 정렬 순서
+     * 정렬 순서, 커서 페이지 목록 조회에서 색인으로 정렬하도록 null 을 허용하지 않는다
      */
-    @Column()
+    @Column(nullable = false, columnDefinition = "int default 0")
     private Integer sortSeq;
 
     /**
@@ -92,7 +94,7 @@ public class Authorization extends BaseEntity {
         this.authorizationName = authorizationName;
         this.urlPatternValue = urlPatternValue;
         this.httpMethodCode = httpMethodCode;
-        this.sortSeq = sortSeq;
+        this.sortSeq = sortSeq == null ? 0 : sortSeq;
         this.roleAuthorizations = roleAuthorizations == null ? null : new ArrayList<>(roleAuthorizations);
     }
 
@@ -109,7 +111,7 @@ public class Authorization extends BaseEntity {
         this.authorizationName = authorizationName;
         this.urlPatternValue = urlPatternValue;
         this.httpMethodCode = httpMethodCode;
-        this.sortSeq = sortSeq;
+        this.sortSeq = sortSeq == null ? 0 : sortSeq;
 
         return this;
     }
@@ -1,11 +1,14 @@
 package org.egovframe.cloud.userservice.domain.role;
 
+import org.egovframe.cloud.common.dto.CursorPage;
+import org.egovframe.cloud.common.dto.CursorRequestDto;
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.userservice.api.role.dto.AuthorizationListResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * org.egovframe.cloud.userservice.domain.role.AuthorizationRepositoryCustom
@@ -22,6 +25,8 @@ import java.util.List;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/15    jooho       최초 생성
+ *  2026/10/17    jooho       인가 커서 페이지 목록 조회 추가
+ *  2026/10/17    jooho       권한별 인가 전체 목록 조회 추가
  * </pre>
  */
 public interface AuthorizationRepositoryCustom {
@@ -35,6 +40,15 @@ public interface AuthorizationRepositoryCustom {
      */
     Page<AuthorizationListResponseDto> findPage(RequestDto requestDto, Pageable pageable);
 
+    /**
+     * 인가 커서 페이지 목록 조회
+     *
+     * @param requestDto       인가 목록 요청 DTO
+     * @param cursorRequestDto 커서 페이징 요청 DTO
+     * @return CursorPage<AuthorizationListResponseDto> 커서 페이지 인가 목록 응답 DTO
+     */
+    CursorPage<AuthorizationListResponseDto> findCursorPage(RequestDto requestDto, CursorRequestDto cursorRequestDto);
+
     /**
      * 권한 목록의 인가 전체 목록 조회
      *
@@ -43,6 +57,14 @@ public interface AuthorizationRepositoryCustom {
      */
     List<AuthorizationListResponseDto> findByRoles(List<String> roles);
 
+    /**
+     * 전체 권한의 인가 목록을 한 번에 조회
+     * 인가가 없는 권한은 포함되지 않는다.
+     *
+     * @return Map<String, List<AuthorizationListResponseDto>> 권한 id 별 인가 목록
+     */
+    Map<String, List<AuthorizationListResponseDto>> findAllGroupByRole();
+
     /**
      * 사용자의 인가 목록 조회
      *
@@ -1,7 +1,7 @@
 package org.egovframe.cloud.userservice.domain.role;
 
 import com.google.common.base.CaseFormat;
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Path;
@@ -12,14 +12,22 @@ import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.egovframe.cloud.common.dto.CursorPage;
+import org.egovframe.cloud.common.dto.CursorRequestDto;
 import org.egovframe.cloud.common.dto.RequestDto;
+import org.egovframe.cloud.common.exception.InvalidValueException;
+import org.egovframe.cloud.common.util.PageCursor;
+import org.egovframe.cloud.common.util.TotalCountCache;
 import org.egovframe.cloud.userservice.api.role.dto.AuthorizationListResponseDto;
 import org.egovframe.cloud.userservice.domain.user.QUser;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * org.egovframe.cloud.userservice.domain.role.AuthorizationRepositoryImpl
@@ -36,6 +44,9 @@ import java.util.List;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/15    jooho       최초 생성
+ *  2026/10/17    jooho       커서 페이지 목록 조회 추가, 전체 건수 조회 생략/캐시
+ *  2026/10/17    jooho       권한별 인가 전체 목록 조회 추가
+ *  2026/10/17    jooho       커서 페이지 목록을 정렬 순서 컬럼 그대로 정렬하여 색인 사용
  * </pre>
  */
 @RequiredArgsConstructor
@@ -46,6 +57,11 @@ public class AuthorizationRepositoryImpl implements AuthorizationRepositoryCusto
      */
     private final JPAQueryFactory jpaQueryFactory;
 
+    /**
+     * 전체 건수 캐시
+     */
+    private final TotalCountCache totalCountCache;
+
     /**
      * 인가 페이지 목록 조회
      * 가급적 Entity 보다는 Dto를 리턴 - Entity 조회시 hibernate 캐시, 불필요 컬럼 조회, oneToOne N+1 문제 발생
@@ -56,8 +72,10 @@ public class AuthorizationRepositoryImpl implements AuthorizationRepositoryCusto
      */
     @Override
 	public Page<AuthorizationListResponseDto> findPage(RequestDto requestDto, Pageable pageable) {
+        BooleanExpression where = getBooleanExpressionKeyword(requestDto);
+
         JPQLQuery<AuthorizationListResponseDto> query = getAuthorizationListJPQLQuery()
-                .where(getBooleanExpressionKeyword(requestDto));
+                .where(where);
 
         //정렬
         pageable.getSort().stream().forEach(sort -> {
@@ -70,12 +88,69 @@ public class AuthorizationRepositoryImpl implements AuthorizationRepositoryCusto
             query.orderBy(orderSpecifier);
         });
 
-        QueryResults<AuthorizationListResponseDto> result = query
+        List<AuthorizationListResponseDto> content = query
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize()) //페이징
-                .fetchResults();
+                .fetch();
+
+        // 마지막 페이지 등 조회 건수로 전체 건수를 알 수 있으면 count 쿼리를 실행하지 않는다
+        return PageableExecutionUtils.getPage(content, pageable, () -> countAuthorizations(where));
+    }
+
+    /**
+     * 인가 커서 페이지 목록 조회
+     * 정렬 순서, 인가 번호 순으로 정렬하고 이전 페이지 마지막 인가 이후부터 조회한다
+     *
+     * @param requestDto       요청 DTO
+     * @param cursorRequestDto 커서 페이징 요청 DTO
+     * @return CursorPage<AuthorizationListResponseDto> 커서 페이지 인가 목록 응답 DTO
+     */
+    @Override
+    public CursorPage<AuthorizationListResponseDto> findCursorPage(RequestDto requestDto, CursorRequestDto cursorRequestDto) {
+        BooleanExpression where = getBooleanExpressionKeyword(requestDto);
+
+        List<AuthorizationListResponseDto> rows = getAuthorizationListJPQLQuery()
+                .where(where, getCursorExpression(cursorRequestDto.getPageCursor()))
+                .orderBy(QAuthorization.authorization.sortSeq.asc(), QAuthorization.authorization.authorizationNo.asc())
+                .limit(cursorRequestDto.getSize() + 1)
+                .fetch();
+
+        Long totalElements = cursorRequestDto.isCount() ? countAuthorizations(where) : null;
+
+        return CursorPage.of(rows, cursorRequestDto.getSize(),
+                authorization -> PageCursor.encode(authorization.getSortSeq(), authorization.getAuthorizationNo()),
+                totalElements);
+    }
+
+    /**
+     * 인가 전체 건수 조회
+     *
+     * @param where 검색 표현식
+     * @return long 전체 건수
+     */
+    private long countAuthorizations(BooleanExpression where) {
+        return totalCountCache.get("authorizations:" + where,
+                () -> jpaQueryFactory.selectFrom(QAuthorization.authorization).where(where).fetchCount());
+    }
+
+    /**
+     * 커서 이후 인가 조건 생성
+     * 정렬 순서는 null 이 아니므로 (sort_seq, authorization_no) 색인으로 조회한다
+     *
+     * @param pageCursor 이전 페이지 마지막 인가의 정렬 순서, 인가 번호
+     * @return BooleanExpression 검색 표현식
+     */
+    private BooleanExpression getCursorExpression(PageCursor pageCursor) {
+        if (pageCursor == null) return null;
+
+        Integer sortSeq = pageCursor.getInteger(0);
+        Integer authorizationNo = pageCursor.getInteger(1);
+        if (sortSeq == null || authorizationNo == null) {
+            throw new InvalidValueException("cursor");
+        }
 
-        return new PageImpl<>(result.getResults(), pageable, result.getTotal());
+        return QAuthorization.authorization.sortSeq.gt(sortSeq)
+                .or(QAuthorization.authorization.sortSeq.eq(sortSeq).and(QAuthorization.authorization.authorizationNo.gt(authorizationNo)));
     }
 
     /**
@@ -98,6 +173,43 @@ public class AuthorizationRepositoryImpl implements AuthorizationRepositoryCusto
         return result.getResults();
     }
 
+    /**
+     * 전체 권한의 인가 목록을 한 번에 조회
+     * 인가가 없는 권한은 포함되지 않는다.
+     *
+     * @return Map<String, List<AuthorizationListResponseDto>> 권한 id 별 인가 목록
+     */
+    @Override
+    public Map<String, List<AuthorizationListResponseDto>> findAllGroupByRole() {
+        QRoleAuthorization roleAuthorization = QRoleAuthorization.roleAuthorization;
+        QAuthorization authorization = QAuthorization.authorization;
+
+        List<Tuple> rows = jpaQueryFactory
+                .select(roleAuthorization.roleAuthorizationId.roleId,
+                        authorization.authorizationNo,
+                        authorization.authorizationName,
+                        authorization.urlPatternValue,
+                        authorization.httpMethodCode,
+                        authorization.sortSeq)
+                .from(roleAuthorization)
+                .innerJoin(authorization).on(authorization.authorizationNo.eq(roleAuthorization.roleAuthorizationId.authorizationNo))
+                .orderBy(roleAuthorization.roleAuthorizationId.roleId.asc(), authorization.sortSeq.asc())
+                .fetch();
+
+        Map<String, List<AuthorizationListResponseDto>> authorizationsByRole = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            authorizationsByRole
+                    .computeIfAbsent(row.get(roleAuthorization.roleAuthorizationId.roleId), k -> new ArrayList<>())
+                    .add(new AuthorizationListResponseDto(
+                            row.get(authorization.authorizationNo),
+                            row.get(authorization.authorizationName),
+                            row.get(authorization.urlPatternValue),
+                            row.get(authorization.httpMethodCode),
+                            row.get(authorization.sortSeq)));
+        }
+        return authorizationsByRole;
+    }
+
     /**
      * 사용자의 인가 목록 조회
      *
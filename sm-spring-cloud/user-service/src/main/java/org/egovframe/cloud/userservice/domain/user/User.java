@@ -29,6 +29,7 @@ import static javax.persistence.GenerationType.IDENTITY;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/06/30    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  커서 페이지 목록 조회 정렬 색인 추가
  * </pre>
  */
 @Getter
@@ -36,6 +37,7 @@ import static javax.persistence.GenerationType.IDENTITY;
 @DynamicInsert
 @DynamicUpdate
 @Entity
+@Table(indexes = @Index(name = "idx_user_user_name", columnList = "user_name, email_addr, user_no")) // 커서 페이지 목록 조회 정렬
 public class User extends BaseEntity {
 
     @Id
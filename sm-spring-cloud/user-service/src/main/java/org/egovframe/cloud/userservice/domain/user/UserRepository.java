@@ -2,6 +2,7 @@ package org.egovframe.cloud.userservice.domain.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,12 +22,14 @@ import java.util.Optional;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/01    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  사용자 id 목록으로 조회 추가
  * </pre>
  */
 public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     // email을 통해 이미 생성된 사용자인지 판단하기 위한 메소드
     Optional<User> findByEmail(String email);
     Optional<User> findByUserId(String userId);
+    List<User> findByUserIdIn(Collection<String> userIds);
     Optional<User> findByRefreshToken(String refreshToken);
     List<User> findByEmailContains(String email);
     Optional<User> findByEmailAndUserName(String email, String userName);
@@ -1,5 +1,7 @@
 package org.egovframe.cloud.userservice.domain.user;
 
+import org.egovframe.cloud.common.dto.CursorPage;
+import org.egovframe.cloud.common.dto.CursorRequestDto;
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.userservice.api.user.dto.UserListResponseDto;
 import org.springframework.data.domain.Page;
@@ -20,6 +22,7 @@ import org.springframework.data.domain.Pageable;
  *    수정일       수정자              수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/23    jooho       최초 생성
+ *  2026/10/17    jooho       사용자 커서 페이지 목록 조회 추가
  * </pre>
  */
 public interface UserRepositoryCustom {
@@ -33,4 +36,13 @@ public interface UserRepositoryCustom {
      */
     Page<UserListResponseDto> findPage(RequestDto requestDto, Pageable pageable);
 
+    /**
+     * 사용자 커서 페이지 목록 조회
+     *
+     * @param requestDto       사용자 목록 요청 DTO
+     * @param cursorRequestDto 커서 페이징 요청 DTO
+     * @return CursorPage<UserListResponseDto> 커서 페이지 사용자 목록 응답 DTO
+     */
+    CursorPage<UserListResponseDto> findCursorPage(RequestDto requestDto, CursorRequestDto cursorRequestDto);
+
 }
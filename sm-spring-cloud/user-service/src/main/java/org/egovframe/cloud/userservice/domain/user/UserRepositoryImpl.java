@@ -1,15 +1,24 @@
 package org.egovframe.cloud.userservice.domain.user;
 
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.egovframe.cloud.common.dto.CursorPage;
+import org.egovframe.cloud.common.dto.CursorRequestDto;
 import org.egovframe.cloud.common.dto.RequestDto;
+import org.egovframe.cloud.common.exception.InvalidValueException;
+import org.egovframe.cloud.common.util.PageCursor;
+import org.egovframe.cloud.common.util.TotalCountCache;
 import org.egovframe.cloud.userservice.api.user.dto.UserListResponseDto;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+
+import java.util.List;
 
 /**
  * org.egovframe.cloud.userservice.domain.user.UserRepositoryImpl
@@ -26,6 +35,8 @@ import org.springframework.data.domain.Pageable;
  *    수정일       수정자              수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/23    jooho       최초 생성
+ *  2026/10/17    jooho       커서 페이지 목록 조회 추가, 전체 건수 조회 생략/캐시
+ *  2026/10/17    jooho       커서 정렬에 사용자 번호 추가
  * </pre>
  */
 @RequiredArgsConstructor
@@ -36,6 +47,11 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
      */
     private final JPAQueryFactory jpaQueryFactory;
 
+    /**
+     * 전체 건수 캐시
+     */
+    private final TotalCountCache totalCountCache;
+
     /**
      * 사용자 페이지 목록 조회
      *
@@ -44,24 +60,107 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
      * @return Page<UserListResponseDto> 페이지 사용자 목록 응답 DTO
      */
     public Page<UserListResponseDto> findPage(RequestDto requestDto, Pageable pageable) {
-        QueryResults<UserListResponseDto> result = jpaQueryFactory
-                .select(Projections.constructor(UserListResponseDto.class,
-                        QUser.user.userId,
-                        QUser.user.userName,
-                        QUser.user.email,
-                        QUser.user.role,
-                        QUser.user.userStateCode,
-                        QUser.user.lastLoginDate,
-                        QUser.user.loginFailCount
-                ))
-                .from(QUser.user)
-                .where(getBooleanExpression(requestDto))
-                .orderBy(QUser.user.userName.asc(), QUser.user.email.asc())
+        BooleanExpression where = getBooleanExpression(requestDto);
+
+        List<UserListResponseDto> content = getUserListQuery()
+                .where(where)
+                .orderBy(QUser.user.userName.asc(), QUser.user.email.asc(), QUser.user.id.asc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetchResults();
+                .fetch();
+
+        // 마지막 페이지 등 조회 건수로 전체 건수를 알 수 있으면 count 쿼리를 실행하지 않는다
+        return PageableExecutionUtils.getPage(content, pageable, () -> countUsers(where));
+    }
+
+    /**
+     * 사용자 커서 페이지 목록 조회
+     * 사용자 명, 이메일, 사용자 번호 순으로 정렬하고 이전 페이지 마지막 사용자 이후부터 조회한다
+     * 사용자 번호는 응답에 포함하지 않으므로 함께 조회하여 연속 토큰에만 사용한다
+     *
+     * @param requestDto       요청 DTO
+     * @param cursorRequestDto 커서 페이징 요청 DTO
+     * @return CursorPage<UserListResponseDto> 커서 페이지 사용자 목록 응답 DTO
+     */
+    public CursorPage<UserListResponseDto> findCursorPage(RequestDto requestDto, CursorRequestDto cursorRequestDto) {
+        BooleanExpression where = getBooleanExpression(requestDto);
+
+        ConstructorExpression<UserListResponseDto> projection = getUserListProjection();
+        List<Tuple> rows = jpaQueryFactory
+                .select(projection, QUser.user.id)
+                .from(QUser.user)
+                .where(where, getCursorExpression(cursorRequestDto.getPageCursor()))
+                .orderBy(QUser.user.userName.asc(), QUser.user.email.asc(), QUser.user.id.asc())
+                .limit(cursorRequestDto.getSize() + 1)
+                .fetch();
+
+        Long totalElements = cursorRequestDto.isCount() ? countUsers(where) : null;
+
+        return CursorPage.of(rows, cursorRequestDto.getSize(),
+                row -> PageCursor.encode(row.get(projection).getUserName(), row.get(projection).getEmail(), row.get(QUser.user.id)),
+                totalElements)
+                .map(row -> row.get(projection));
+    }
+
+    /**
+     * 사용자 목록 조회 쿼리 생성
+     *
+     * @return JPQLQuery<UserListResponseDto> 사용자 목록 조회 쿼리
+     */
+    private JPQLQuery<UserListResponseDto> getUserListQuery() {
+        return jpaQueryFactory
+                .select(getUserListProjection())
+                .from(QUser.user);
+    }
+
+    /**
+     * 사용자 목록 응답 DTO 생성 표현식
+     *
+     * @return ConstructorExpression<UserListResponseDto> 사용자 목록 응답 DTO 생성 표현식
+     */
+    private ConstructorExpression<UserListResponseDto> getUserListProjection() {
+        return Projections.constructor(UserListResponseDto.class,
+                QUser.user.userId,
+                QUser.user.userName,
+                QUser.user.email,
+                QUser.user.role,
+                QUser.user.userStateCode,
+                QUser.user.lastLoginDate,
+                QUser.user.loginFailCount
+        );
+    }
+
+    /**
+     * 사용자 전체 건수 조회
+     *
+     * @param where 검색 표현식
+     * @return long 전체 건수
+     */
+    private long countUsers(BooleanExpression where) {
+        return totalCountCache.get("users:" + where, () -> jpaQueryFactory.selectFrom(QUser.user).where(where).fetchCount());
+    }
+
+    /**
+     * 커서 이후 사용자 조건 생성
+     * (사용자 명, 이메일, 사용자 번호) 보다 큰 사용자를 조회한다
+     * 이메일 비교가 collation 에 따라 같게 판단되더라도 사용자 번호로 순서가 정해진다
+     *
+     * @param pageCursor 이전 페이지 마지막 사용자의 사용자 명, 이메일, 사용자 번호
+     * @return BooleanExpression 검색 표현식
+     */
+    private BooleanExpression getCursorExpression(PageCursor pageCursor) {
+        if (pageCursor == null) return null;
+
+        String userName = pageCursor.getString(0);
+        String email = pageCursor.getString(1);
+        Long userNo = pageCursor.getLong(2);
+        if (userName == null || email == null || userNo == null) {
+            throw new InvalidValueException("cursor");
+        }
 
-        return new PageImpl<>(result.getResults(), pageable, result.getTotal());
+        return QUser.user.userName.gt(userName)
+                .or(QUser.user.userName.eq(userName).and(QUser.user.email.gt(email)
+                        .or(QUser.user.email.eq(email).and(QUser.user.id.gt(userNo)))));
     }
 
     /**
@@ -0,0 +1,68 @@
+package org.egovframe.cloud.userservice.service.role;
+
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.cloud.common.event.AuthorizationChangedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * org.egovframe.cloud.userservice.service.role.AuthorizationChangedPublisher
+ * <p>
+ * 인가 변경 이벤트 발행 클래스
+ * spring cloud bus 로 AuthorizationChangedEvent 를 발행하여 게이트웨이가 인가 규칙을 바로 다시 읽도록 한다.
+ * bus 가 비활성화되었거나 발행에 실패하면 게이트웨이는 다음 갱신 주기(apigateway.authorization.refresh-seconds)에 반영한다.
+ *
+ * @author 표준프레임워크센터 jooho
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jooho       최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class AuthorizationChangedPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final ObjectProvider<BusProperties> busProperties;
+
+    private final ObjectProvider<Destination.Factory> destinationFactory;
+
+    public AuthorizationChangedPublisher(ApplicationEventPublisher applicationEventPublisher,
+                                         ObjectProvider<BusProperties> busProperties,
+                                         ObjectProvider<Destination.Factory> destinationFactory) {
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.busProperties = busProperties;
+        this.destinationFactory = destinationFactory;
+    }
+
+    /**
+     * 전체 서비스에 인가 변경 이벤트를 발행한다.
+     * 인가 변경은 이미 커밋되었으므로 발행 오류는 호출자에게 전달하지 않는다.
+     */
+    public void publish() {
+        BusProperties properties = busProperties.getIfAvailable();
+        Destination.Factory factory = destinationFactory.getIfAvailable();
+        if (properties == null || factory == null) {
+            log.debug("spring cloud bus 가 비활성화되어 인가 변경 이벤트를 발행하지 않음");
+            return;
+        }
+
+        try {
+            applicationEventPublisher.publishEvent(
+                    new AuthorizationChangedEvent(this, properties.getId(), factory.getDestination(null)));
+        } catch (RuntimeException e) {
+            log.warn("인가 변경 이벤트 발행 중 오류 : {}", e.getMessage());
+        }
+    }
+
+}
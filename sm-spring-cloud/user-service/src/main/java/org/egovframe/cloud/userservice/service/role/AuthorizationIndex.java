@@ -0,0 +1,200 @@
+package org.egovframe.cloud.userservice.service.role;
+
+import org.egovframe.cloud.userservice.api.role.dto.AuthorizationListResponseDto;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * org.egovframe.cloud.userservice.service.role.AuthorizationIndex
+ * <p>
+ * 인가 여부 판단을 위해 미리 컴파일한 인가 색인 클래스
+ * Http Method 별로 URL 패턴의 고정 경로(와일드카드 이전 세그먼트)를 키로 하는 prefix tree 를 구성한다.
+ * 요청 경로의 세그먼트를 따라 내려가며 만나는 패턴만 후보로 삼기 때문에 전체 인가 건수와 무관하게 조회된다.
+ * 후보 패턴의 최종 일치 여부는 AntPathMatcher 로 확인하여 기존 판단 결과와 동일하게 유지한다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회할 수 있다.
+ *
+ * @author 표준프레임워크센터 jooho
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jooho       최초 생성
+ * </pre>
+ */
+public class AuthorizationIndex {
+
+    private static final String PATH_SEPARATOR = "/";
+
+    /**
+     * 빈 인가 색인
+     */
+    public static final AuthorizationIndex EMPTY = new AuthorizationIndex(Collections.emptyMap());
+
+    /**
+     * 패턴 일치 확인용, 내부에서 토큰화 결과를 캐시한다
+     */
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    /**
+     * Http Method 코드 -> prefix tree root
+     */
+    private final Map<String, Node> roots = new HashMap<>();
+
+    /**
+     * 인가 색인 생성자
+     *
+     * @param authorizationsByRole 권한 id 별 인가 목록
+     */
+    public AuthorizationIndex(Map<String, List<AuthorizationListResponseDto>> authorizationsByRole) {
+        // Http Method, URL 패턴이 같은 인가는 하나의 항목으로 합친다
+        Map<String, Map<String, Set<String>>> rolesByPattern = new HashMap<>();
+        authorizationsByRole.forEach((roleId, authorizations) -> {
+            for (AuthorizationListResponseDto dto : authorizations) {
+                rolesByPattern
+                        .computeIfAbsent(dto.getHttpMethodCode(), k -> new LinkedHashMap<>())
+                        .computeIfAbsent(dto.getUrlPatternValue(), k -> new HashSet<>())
+                        .add(roleId);
+            }
+        });
+
+        rolesByPattern.forEach((httpMethod, patterns) -> {
+            Node root = new Node();
+            patterns.forEach((pattern, roles) -> insert(root, pattern, roles));
+            roots.put(httpMethod, root);
+        });
+    }
+
+    /**
+     * 권한 목록 중 하나라도 요청 경로에 인가되어 있는지 확인한다.
+     *
+     * @param roles       권한 목록
+     * @param httpMethod  Http Method
+     * @param requestPath 요청 경로
+     * @return boolean 인가 여부
+     */
+    public boolean isGranted(Collection<String> roles, String httpMethod, String requestPath) {
+        Node node = roots.get(httpMethod);
+        if (node == null || roles.isEmpty() || requestPath == null) {
+            return false;
+        }
+
+        if (matchAny(node, roles, requestPath)) {
+            return true;
+        }
+        if (requestPath.startsWith(PATH_SEPARATOR)) {
+            for (String segment : tokenize(requestPath)) {
+                node = node.children.get(segment);
+                if (node == null) {
+                    return false;
+                }
+                if (matchAny(node, roles, requestPath)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 노드에 등록된 패턴 중 권한이 있고 경로와 일치하는 패턴이 있는지 확인한다.
+     *
+     * @param node        prefix tree 노드
+     * @param roles       권한 목록
+     * @param requestPath 요청 경로
+     * @return boolean 일치 여부
+     */
+    private boolean matchAny(Node node, Collection<String> roles, String requestPath) {
+        for (Entry entry : node.entries) {
+            if (entry.hasAnyRole(roles) && antPathMatcher.match(entry.pattern, requestPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 패턴의 고정 경로 세그먼트 위치에 항목을 등록한다.
+     * '/' 로 시작하지 않는 패턴은 경로 앞부분을 비교할 수 없으므로 root 에 등록하여 항상 확인한다.
+     *
+     * @param root    prefix tree root
+     * @param pattern URL 패턴
+     * @param roles   인가된 권한 목록
+     */
+    private void insert(Node root, String pattern, Set<String> roles) {
+        Node node = root;
+        if (pattern.startsWith(PATH_SEPARATOR)) {
+            for (String segment : tokenize(pattern)) {
+                if (isWildcard(segment)) {
+                    break;
+                }
+                node = node.children.computeIfAbsent(segment, k -> new Node());
+            }
+        }
+        node.entries.add(new Entry(pattern, roles));
+    }
+
+    /**
+     * AntPathMatcher 와 같은 방식으로 경로를 세그먼트로 분리한다.
+     *
+     * @param path 경로
+     * @return String[] 세그먼트 목록
+     */
+    private static String[] tokenize(String path) {
+        return StringUtils.tokenizeToStringArray(path, PATH_SEPARATOR, false, true);
+    }
+
+    /**
+     * AntPathMatcher 에서 패턴으로 처리되는 세그먼트인지 확인한다.
+     *
+     * @param segment 세그먼트
+     * @return boolean 패턴 여부
+     */
+    private static boolean isWildcard(String segment) {
+        return segment.indexOf('*') != -1 || segment.indexOf('?') != -1 || segment.indexOf('{') != -1;
+    }
+
+    /**
+     * prefix tree 노드
+     */
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<Entry> entries = new ArrayList<>();
+    }
+
+    /**
+     * URL 패턴과 인가된 권한 목록
+     */
+    private static class Entry {
+        private final String pattern;
+        private final Set<String> roles;
+
+        private Entry(String pattern, Set<String> roles) {
+            this.pattern = pattern;
+            this.roles = roles;
+        }
+
+        private boolean hasAnyRole(Collection<String> requestRoles) {
+            for (String role : requestRoles) {
+                if (roles.contains(role)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
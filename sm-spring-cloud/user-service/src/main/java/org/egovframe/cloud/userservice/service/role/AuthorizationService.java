@@ -3,6 +3,8 @@ package org.egovframe.cloud.userservice.service.role;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.egovframe.cloud.common.config.GlobalConstant;
+import org.egovframe.cloud.common.dto.CursorPage;
+import org.egovframe.cloud.common.dto.CursorRequestDto;
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.common.exception.EntityNotFoundException;
 import org.egovframe.cloud.common.service.AbstractService;
@@ -12,7 +14,10 @@ import org.egovframe.cloud.userservice.api.role.dto.AuthorizationSaveRequestDto;
 import org.egovframe.cloud.userservice.api.role.dto.AuthorizationUpdateRequestDto;
 import org.egovframe.cloud.userservice.domain.role.Authorization;
 import org.egovframe.cloud.userservice.domain.role.AuthorizationRepository;
+import org.egovframe.cloud.userservice.domain.role.Role;
+import org.egovframe.cloud.userservice.domain.role.RoleRepository;
 import org.springframework.aop.framework.AopContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
@@ -22,11 +27,17 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.AntPathMatcher;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -44,6 +55,10 @@ import java.util.stream.Collectors;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/08    jooho       최초 생성
+ *  2026/10/17    jooho       권한 인가 여부를 AuthorizationIndex 로 판단
+ *  2026/10/17    jooho       인가 커서 페이지 목록 조회 추가
+ *  2026/10/17    jooho       인가 색인을 한 번의 조회로 잠금 없이 다시 생성
+ *  2026/10/17    jooho       인가 변경 커밋 후 게이트웨이에 인가 변경 이벤트 발행
  * </pre>
  */
 @Transactional(readOnly = true)
@@ -57,11 +72,53 @@ public class AuthorizationService extends AbstractService {
      */
     private final AuthorizationRepository authorizationRepository;
 
+    /**
+     * 권한 레파지토리 인터페이스
+     */
+    private final RoleRepository roleRepository;
+
     /**
      * 캐시 관리자
      */
     private final CacheManager cacheManager;
 
+    /**
+     * 인가 변경 이벤트 발행 클래스
+     */
+    private final AuthorizationChangedPublisher authorizationChangedPublisher;
+
+    /**
+     * 인가 색인 유효 시간(초)
+     * 다른 인스턴스에서 변경된 인가는 이 시간이 지난 뒤 반영된다. (ehcache ttl 과 동일하게 유지)
+     */
+    @Value("${authorization.index.ttl-seconds:180}")
+    private long authorizationIndexTtlSeconds;
+
+    /**
+     * 경로 패턴 일치 확인, 스레드 안전하며 토큰화 결과를 캐시한다
+     */
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    /**
+     * 컴파일된 인가 색인, 인가 변경 시 null 로 초기화되어 다음 조회 시 다시 생성된다
+     */
+    private volatile AuthorizationIndex authorizationIndex;
+
+    /**
+     * 인가 색인 생성 시각(ms)
+     */
+    private volatile long authorizationIndexBuiltAt;
+
+    /**
+     * 인가 색인 초기화 횟수, 조회 중 초기화된 경우 이전 데이터로 만든 색인을 반영하지 않는다
+     */
+    private volatile long authorizationIndexVersion;
+
+    /**
+     * 인가 색인 생성 중 여부, 생성 중에는 다른 요청이 이전 색인을 사용한다
+     */
+    private final AtomicBoolean authorizationIndexRebuilding = new AtomicBoolean();
+
     /**
      * 조회 조건에 일치하는 인가 페이지 목록 조회
      *
@@ -73,6 +130,17 @@ public class AuthorizationService extends AbstractService {
         return authorizationRepository.findPage(requestDto, pageable);
     }
 
+    /**
+     * 조회 조건에 일치하는 인가 커서 페이지 목록 조회
+     *
+     * @param requestDto       요청 DTO
+     * @param cursorRequestDto 커서 페이징 요청 DTO
+     * @return CursorPage<AuthorizationListResponseDto> 커서 페이지 인가 목록 응답 DTO
+     */
+    public CursorPage<AuthorizationListResponseDto> findCursorPage(RequestDto requestDto, CursorRequestDto cursorRequestDto) {
+        return authorizationRepository.findCursorPage(requestDto, cursorRequestDto);
+    }
+
     /**
      * 권한의 인가 여부 확인
      * 사용자 서비스 시큐리티 필터에서 호출
@@ -84,9 +152,7 @@ public class AuthorizationService extends AbstractService {
     public Boolean isAuthorization(HttpServletRequest request, Authentication authentication) {
         List<String> roles = authentication.getAuthorities().stream().map(GrantedAuthority::toString).collect(Collectors.toList());
 
-        List<AuthorizationListResponseDto> authorizationList = ((AuthorizationService) AopContext.currentProxy()).findByRoles(roles);
-
-        return isContainMatch(authorizationList, request.getMethod(), GlobalConstant.USER_SERVICE_URI + request.getRequestURI());
+        return getAuthorizationIndex().isGranted(roles, request.getMethod(), GlobalConstant.USER_SERVICE_URI + request.getRequestURI());
     }
 
     /**
@@ -103,6 +169,7 @@ public class AuthorizationService extends AbstractService {
     /**
      * 권한의 인가 여부 확인
      * gateway 에서 호출
+     * 권한 목록을 매번 조회하여 순회하지 않고 컴파일된 AuthorizationIndex 로 판단한다.
      * <p>
      * Spring Cache는 Spring AOP를 이용해서 proxy로 동작하기 때문에 외부 method 호출만 인터셉트해서 작동하고 self-invocation의 경우 동작하지 않음
      * 스프링에서는 AspectJ를 권장하지만 Load-time Weaving 방식은 퍼포먼스 문제가 있고
@@ -115,9 +182,24 @@ public class AuthorizationService extends AbstractService {
      * @return Boolean 인가 여부
      */
     public Boolean isAuthorization(List<String> roles, String httpMethod, String requestPath) {
-        List<AuthorizationListResponseDto> authorizationList = ((AuthorizationService) AopContext.currentProxy()).findByRoles(roles);
+        return getAuthorizationIndex().isGranted(roles, httpMethod, requestPath);
+    }
 
-        return isContainMatch(authorizationList, httpMethod, requestPath);
+    /**
+     * 전체 권한의 인가 목록 조회
+     * gateway 에서 인가 규칙을 메모리에 보관하기 위해 주기적으로 호출한다.
+     * 인가가 없는 권한도 빈 목록으로 포함하여 gateway 가 user-service 호출 없이 거부할 수 있도록 한다.
+     *
+     * @return Map<String, List<AuthorizationListResponseDto>> 권한 id 별 인가 목록
+     */
+    public Map<String, List<AuthorizationListResponseDto>> findAllRules() {
+        AuthorizationService proxy = (AuthorizationService) AopContext.currentProxy();
+
+        Map<String, List<AuthorizationListResponseDto>> rules = new LinkedHashMap<>();
+        for (Role role : roleRepository.findAll()) {
+            rules.put(role.getRoleId(), proxy.findByRoles(Collections.singletonList(role.getRoleId())));
+        }
+        return rules;
     }
 
     /**
@@ -155,8 +237,6 @@ public class AuthorizationService extends AbstractService {
      * @return Boolean 인가 여부
      */
     private Boolean isContainMatch(List<AuthorizationListResponseDto> authorizationList, String httpMethod, String requestPath) {
-        AntPathMatcher antPathMatcher = new AntPathMatcher();
-
         for (AuthorizationListResponseDto dto : authorizationList) {
             if (antPathMatcher.match(dto.getUrlPatternValue(), requestPath) && dto.getHttpMethodCode().equals(httpMethod)) {
                 return true;
@@ -166,6 +246,79 @@ public class AuthorizationService extends AbstractService {
         return false;
     }
 
+    /**
+     * 인가 색인 조회
+     * 색인이 없거나 유효 시간이 지난 경우 전체 권한의 인가 목록을 한 번에 조회하여 다시 생성한다.
+     * 조회와 생성은 잠금 없이 수행하고 완성된 색인만 교체하므로, 유효 시간이 지난 경우 생성 중에는 다른 요청이 이전 색인을 사용한다.
+     *
+     * @return AuthorizationIndex 인가 색인
+     */
+    private AuthorizationIndex getAuthorizationIndex() {
+        AuthorizationIndex index = authorizationIndex;
+        if (index != null && !isAuthorizationIndexExpired()) {
+            return index;
+        }
+
+        boolean rebuilding = authorizationIndexRebuilding.compareAndSet(false, true);
+        if (!rebuilding && index != null) {
+            return index;
+        }
+        try {
+            long version = authorizationIndexVersion;
+            Map<String, List<AuthorizationListResponseDto>> rules = authorizationRepository.findAllGroupByRole();
+            AuthorizationIndex rebuilt = new AuthorizationIndex(rules);
+            synchronized (this) {
+                if (version == authorizationIndexVersion) {
+                    authorizationIndex = rebuilt;
+                    authorizationIndexBuiltAt = System.currentTimeMillis();
+                }
+            }
+            log.info("authorization index rebuilt. roles={}", rules.keySet());
+            return rebuilt;
+        } finally {
+            if (rebuilding) {
+                authorizationIndexRebuilding.set(false);
+            }
+        }
+    }
+
+    /**
+     * 인가 색인 유효 시간 경과 여부
+     *
+     * @return boolean 경과 여부
+     */
+    private boolean isAuthorizationIndexExpired() {
+        return System.currentTimeMillis() - authorizationIndexBuiltAt > authorizationIndexTtlSeconds * 1000;
+    }
+
+    /**
+     * 인가 색인 초기화
+     * 트랜잭션 중이면 커밋 전에 다른 요청이 이전 데이터로 다시 생성할 수 있으므로 커밋 후에 한 번 더 초기화한다.
+     * 게이트웨이가 변경된 인가를 읽을 수 있도록 커밋 후에 인가 변경 이벤트를 발행한다.
+     */
+    public void clearAuthorizationIndex() {
+        invalidateAuthorizationIndex();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateAuthorizationIndex();
+                    authorizationChangedPublisher.publish();
+                }
+            });
+        } else {
+            authorizationChangedPublisher.publish();
+        }
+    }
+
+    /**
+     * 인가 색인을 비우고 생성 중인 색인이 반영되지 않도록 초기화 횟수를 증가시킨다.
+     */
+    private synchronized void invalidateAuthorizationIndex() {
+        authorizationIndexVersion++;
+        authorizationIndex = null;
+    }
+
     /**
      * 인가 단건 조회
      *
@@ -302,6 +455,7 @@ public class AuthorizationService extends AbstractService {
         if (useridCache != null) useridCache.clear();
         Cache rolesCache = cacheManager.getCache("cache-user-authorization-by-roles");
         if (rolesCache != null) rolesCache.clear();
+        clearAuthorizationIndex();
     }
 
 }
@@ -52,6 +52,11 @@ public class RoleAuthorizationService extends AbstractService {
      */
     private final CacheManager cacheManager;
 
+    /**
+     * 인가 서비스
+     */
+    private final AuthorizationService authorizationService;
+
     /**
      * 조회 조건에 일치하는 권한 인가 페이지 목록 조회
      *
@@ -115,6 +120,7 @@ public class RoleAuthorizationService extends AbstractService {
         if (useridCache != null) useridCache.clear();
         Cache rolesCache = cacheManager.getCache("cache-user-authorization-by-roles");
         if (rolesCache != null) rolesCache.clear();
+        authorizationService.clearAuthorizationIndex();
     }
 
 }
@@ -11,6 +11,8 @@ import com.google.gson.JsonParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.egovframe.cloud.common.domain.Role;
+import org.egovframe.cloud.common.dto.CursorPage;
+import org.egovframe.cloud.common.dto.CursorRequestDto;
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.common.exception.BusinessException;
 import org.egovframe.cloud.common.exception.BusinessMessageException;
@@ -20,8 +22,7 @@ import org.egovframe.cloud.common.util.LogUtil;
 import org.egovframe.cloud.userservice.api.user.dto.*;
 import org.egovframe.cloud.userservice.config.UserPasswordChangeEmailTemplate;
 import org.egovframe.cloud.userservice.config.dto.SocialUser;
-import org.egovframe.cloud.userservice.domain.log.LoginLog;
-import org.egovframe.cloud.userservice.domain.log.LoginLogRepository;
+import org.egovframe.cloud.userservice.domain.log.LoginLogWriter;
 import org.egovframe.cloud.userservice.domain.user.*;
 import org.egovframe.cloud.userservice.api.user.dto.SocialUserResponseDto;
 import org.springframework.beans.factory.annotation.Value;
@@ -54,6 +55,8 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static org.egovframe.cloud.common.config.GlobalConstant.BULK_IDS_MAX_SIZE;
+
 /**
  * org.egovframe.cloud.userservice.service.user.UserService
  * <p>
@@ -69,6 +72,10 @@ import java.util.stream.Collectors;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/08    jaeyeolkim  최초 생성
+ *  2026/10/17    jaeyeolkim  로그인 로그 LoginLogWriter 로 일괄 입력
+ *  2026/10/17    jaeyeolkim  사용자 id 목록으로 조회 추가
+ *  2026/10/17    jaeyeolkim  사용자 커서 페이지 목록 조회 추가
+ *  2026/10/17    jaeyeolkim  사용자 id 목록 조회 최대 건수 제한
  * </pre>
  */
 @Slf4j
@@ -103,7 +110,7 @@ public class UserService extends AbstractService implements UserDetailsService {
     private final UserRepository userRepository;
     private final UserFindPasswordRepository userFindPasswordRepository;
     private final BCryptPasswordEncoder passwordEncoder;
-    private final LoginLogRepository loginLogRepository;
+    private final LoginLogWriter loginLogWriter;
 
     /**
      * 자바 메일 전송 인터페이스
@@ -121,6 +128,17 @@ public class UserService extends AbstractService implements UserDetailsService {
         return userRepository.findPage(requestDto, pageable);
     }
 
+    /**
+     * 조회 조건에 일치하는 사용자 커서 페이지 목록 조회
+     *
+     * @param requestDto       요청 DTO
+     * @param cursorRequestDto 커서 페이징 요청 DTO
+     * @return CursorPage<UserListResponseDto> 커서 페이지 사용자 목록 응답 DTO
+     */
+    public CursorPage<UserListResponseDto> findCursorPage(RequestDto requestDto, CursorRequestDto cursorRequestDto) {
+        return userRepository.findCursorPage(requestDto, cursorRequestDto);
+    }
+
     /**
      * 사용자 등록
      *
@@ -194,6 +212,26 @@ public class UserService extends AbstractService implements UserDetailsService {
         return new UserResponseDto(user);
     }
 
+    /**
+     * 아이디 목록으로 사용자를 찾아 반환한다.
+     * 다른 서비스에서 목록의 사용자 정보를 한 번에 조회할 때 사용하며, 없는 사용자는 제외된다.
+     * 한 번에 BULK_IDS_MAX_SIZE 건까지 조회할 수 있다.
+     *
+     * @param userIds
+     * @return
+     */
+    public List<UserResponseDto> findAllByUserIds(Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (userIds.size() > BULK_IDS_MAX_SIZE) {
+            throw new BusinessMessageException(getMessage("err.invalid.input.value"));
+        }
+        return userRepository.findByUserIdIn(new HashSet<>(userIds)).stream()
+                .map(UserResponseDto::new)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 이메일로 사용자를 찾아 반환한다.
      *
@@ -273,9 +311,9 @@ public class UserService extends AbstractService implements UserDetailsService {
             user.failLogin();
         }
 
-        // 로그인 로그 입력
-        loginLogRepository.save(
-                LoginLog.builder()
+        // 로그인 로그 입력, 로그인 트랜잭션과 분리하여 LoginLogWriter 에서 일괄 입력한다
+        loginLogWriter.write(
+                LoginLogWriter.Record.builder()
                         .siteId(siteId)
                         .email(email)
                         .remoteIp(LogUtil.getUserIp())
@@ -1,6 +1,8 @@
 package org.egovframe.cloud.userservice.api.role;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.egovframe.cloud.common.config.GlobalConstant;
+import org.egovframe.cloud.userservice.api.role.dto.AuthorizationListResponseDto;
 import org.egovframe.cloud.userservice.api.role.dto.AuthorizationUpdateRequestDto;
 import org.egovframe.cloud.userservice.domain.role.Authorization;
 import org.egovframe.cloud.userservice.domain.role.AuthorizationRepository;
@@ -31,6 +33,7 @@ import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -49,6 +52,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/08    jooho       최초 생성
+ *  2026/10/17    jooho       권한별 인가 전체 목록 조회 테스트 추가
  * </pre>
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -97,6 +101,11 @@ class AuthorizationApiControllerTest {
      */
     private static final String URL = "/api/v1/authorizations";
 
+    /**
+     * 서비스 간 호출 인증 secret (application-test.yml service.token.secret)
+     */
+    private static final String SERVICE_TOKEN_SECRET = "egovframe_service_token";
+
     /**
      * 테스트 데이터 등록 횟수
      */
@@ -224,6 +233,62 @@ class AuthorizationApiControllerTest {
         deleteTestDatas();
     }
 
+    /**
+     * 권한별 인가 규칙 조회 테스트
+     * API Gateway 에서 사용자 토큰 없이 서비스 간 인증 header 로 호출한다.
+     */
+    @Test
+    void 권한별_인가규칙_조회() throws Exception {
+        // when
+        ResultActions resultActions = mvc.perform(MockMvcRequestBuilders.get(URL + "/rules")
+                .header(GlobalConstant.HEADER_SERVICE_TOKEN, SERVICE_TOKEN_SECRET));
+
+        // then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.ROLE_ADMIN").isArray())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.ROLE_ANONYMOUS").isArray())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.ROLE_ANONYMOUS[0].urlPatternValue").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.ROLE_ANONYMOUS[0].httpMethodCode").exists());
+    }
+
+    /**
+     * 전체 권한의 인가 목록 한 번에 조회 테스트
+     * 권한별로 조회한 인가 목록과 같아야 한다.
+     */
+    @Test
+    void 권한별_인가_전체목록_한번에_조회() {
+        // when
+        Map<String, List<AuthorizationListResponseDto>> authorizationsByRole = authorizationRepository.findAllGroupByRole();
+
+        // then
+        assertThat(authorizationsByRole).containsKey("ROLE_ANONYMOUS");
+        authorizationsByRole.forEach((roleId, authorizations) -> {
+            List<AuthorizationListResponseDto> expected = authorizationRepository.findByRoles(Collections.singletonList(roleId));
+            assertThat(authorizations)
+                    .extracting(AuthorizationListResponseDto::getAuthorizationNo)
+                    .containsExactlyInAnyOrderElementsOf(expected.stream()
+                            .map(AuthorizationListResponseDto::getAuthorizationNo)
+                            .collect(Collectors.toList()));
+        });
+    }
+
+    /**
+     * 서비스 간 인증 header 없이 권한별 인가 규칙 조회 테스트
+     */
+    @Test
+    void 서비스인증없이_권한별_인가규칙_조회_거부() throws Exception {
+        // when
+        ResultActions withoutToken = mvc.perform(MockMvcRequestBuilders.get(URL + "/rules"));
+        ResultActions wrongToken = mvc.perform(MockMvcRequestBuilders.get(URL + "/rules")
+                .header(GlobalConstant.HEADER_SERVICE_TOKEN, "wrong_token"));
+
+        // then
+        withoutToken.andExpect(MockMvcResultMatchers.status().isForbidden());
+        wrongToken.andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+
     /**
      * 인가 등록 테스트
      */
@@ -1,6 +1,7 @@
 package org.egovframe.cloud.userservice.api.user;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.egovframe.cloud.common.config.GlobalConstant;
 import org.egovframe.cloud.common.domain.Role;
 import org.egovframe.cloud.userservice.api.user.dto.UserResponseDto;
 import org.egovframe.cloud.userservice.api.user.dto.UserSaveRequestDto;
@@ -9,6 +10,7 @@ import org.egovframe.cloud.userservice.domain.user.User;
 import org.egovframe.cloud.userservice.domain.user.UserRepository;
 import org.egovframe.cloud.userservice.domain.user.UserStateCode;
 import org.egovframe.cloud.userservice.service.user.UserService;
+import org.hamcrest.Matchers;
 import org.json.JSONObject;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -65,6 +67,11 @@ class UserApiControllerTest {
      */
     private static final String URL = "/api/v1/users";
 
+    /**
+     * 서비스 간 호출 인증 secret (application-test.yml service.token.secret)
+     */
+    private static final String SERVICE_TOKEN_SECRET = "egovframe_service_token";
+
     /**
      * WebApplicationContext
      */
@@ -253,6 +260,67 @@ class UserApiControllerTest {
         deleteUser(entity.getId());
     }
 
+    /**
+     * 사용자 id 목록 조회 테스트
+     * 다른 서비스에서 사용자 토큰 없이 서비스 간 인증 header 로 호출한다.
+     */
+    @Test
+    void 서비스인증으로_사용자_id_목록_조회() throws Exception {
+        // given
+        insertUsers();
+        String ids = datas.get(0).getUserId() + "," + datas.get(1).getUserId();
+
+        // when
+        ResultActions resultActions = mvc.perform(MockMvcRequestBuilders.get(URL)
+                .param("ids", ids)
+                .header(GlobalConstant.HEADER_SERVICE_TOKEN, SERVICE_TOKEN_SECRET));
+
+        // then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].userName").value(
+                        Matchers.containsInAnyOrder(datas.get(0).getUserName(), datas.get(1).getUserName())));
+
+        deleteUsers();
+    }
+
+    /**
+     * 서비스 간 인증 header 없이 사용자 id 목록 조회 테스트
+     */
+    @Test
+    void 서비스인증없이_사용자_id_목록_조회_거부() throws Exception {
+        // when
+        ResultActions withoutToken = mvc.perform(MockMvcRequestBuilders.get(URL).param("ids", "user"));
+        ResultActions wrongToken = mvc.perform(MockMvcRequestBuilders.get(URL).param("ids", "user")
+                .header(GlobalConstant.HEADER_SERVICE_TOKEN, "wrong_token"));
+
+        // then
+        withoutToken.andExpect(MockMvcResultMatchers.status().isForbidden());
+        wrongToken.andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+
+    /**
+     * 사용자 id 목록 최대 건수 초과 조회 테스트
+     */
+    @Test
+    void 사용자_id_목록_최대건수_초과_조회_오류() throws Exception {
+        // given
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i <= GlobalConstant.BULK_IDS_MAX_SIZE; i++) {
+            ids.add("user-" + i);
+        }
+
+        // when
+        ResultActions resultActions = mvc.perform(MockMvcRequestBuilders.get(URL)
+                .param("ids", String.join(",", ids))
+                .header(GlobalConstant.HEADER_SERVICE_TOKEN, SERVICE_TOKEN_SECRET));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
     /**
      * 사용자 소셜 정보 조회 테스트
      * 많이 시도하면 구글에서 블락 할수도..
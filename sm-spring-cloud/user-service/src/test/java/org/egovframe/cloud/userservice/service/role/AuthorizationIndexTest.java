@@ -0,0 +1,216 @@
+package org.egovframe.cloud.userservice.service.role;
+
+import org.egovframe.cloud.userservice.api.role.dto.AuthorizationListResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * org.egovframe.cloud.userservice.service.role.AuthorizationIndexTest
+ * <p>
+ * 인가 색인 테스트 클래스
+ * 권한별 인가 목록을 순서대로 확인하던 기존 판단(isContainMatch)과 결과가 같은지 함께 확인한다.
+ *
+ * @author 표준프레임워크센터 jooho
+ * @version 1.0
+ * @since 2026/10/17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/17    jooho       최초 생성
+ * </pre>
+ */
+class AuthorizationIndexTest {
+
+    private static final List<String> USER = Collections.singletonList("ROLE_USER");
+    private static final List<String> ADMIN = Collections.singletonList("ROLE_ADMIN");
+
+    @Test
+    public void 고정_경로_패턴은_같은_경로만_허용() {
+        // given
+        AuthorizationIndex index = new AuthorizationIndex(rules("ROLE_USER", "GET", "/user-service/api/v1/users"));
+
+        // when // then
+        assertThat(index.isGranted(USER, "GET", "/user-service/api/v1/users")).isTrue();
+        assertThat(index.isGranted(USER, "GET", "/user-service/api/v1/users/1")).isFalse();
+        assertThat(index.isGranted(USER, "GET", "/user-service/api/v1")).isFalse();
+    }
+
+    @Test
+    public void 와일드카드_패턴은_AntPathMatcher_와_같이_일치() {
+        // given
+        Map<String, List<AuthorizationListResponseDto>> rules = new LinkedHashMap<>();
+        rules.put("ROLE_USER", Arrays.asList(
+                authorization(1, "/board-service/api/v1/posts/**", "GET"),
+                authorization(2, "/board-service/api/v1/boards/*", "GET"),
+                authorization(3, "/board-service/api/v1/comments/{boardNo}/{postsNo}", "GET"),
+                authorization(4, "/portal-service/api/v1/menus/?", "GET")));
+        AuthorizationIndex index = new AuthorizationIndex(rules);
+
+        // when // then
+        assertThat(index.isGranted(USER, "GET", "/board-service/api/v1/posts")).isTrue();
+        assertThat(index.isGranted(USER, "GET", "/board-service/api/v1/posts/1/2")).isTrue();
+        assertThat(index.isGranted(USER, "GET", "/board-service/api/v1/boards/1")).isTrue();
+        assertThat(index.isGranted(USER, "GET", "/board-service/api/v1/boards/1/2")).isFalse();
+        assertThat(index.isGranted(USER, "GET", "/board-service/api/v1/comments/1/2")).isTrue();
+        assertThat(index.isGranted(USER, "GET", "/board-service/api/v1/comments/1")).isFalse();
+        assertThat(index.isGranted(USER, "GET", "/portal-service/api/v1/menus/1")).isTrue();
+        assertThat(index.isGranted(USER, "GET", "/portal-service/api/v1/menus/12")).isFalse();
+    }
+
+    @Test
+    public void 첫_세그먼트가_와일드카드인_패턴도_확인() {
+        // given
+        AuthorizationIndex index = new AuthorizationIndex(rules("ROLE_ADMIN", "GET", "/**"));
+
+        // when // then
+        assertThat(index.isGranted(ADMIN, "GET", "/user-service/api/v1/users")).isTrue();
+        assertThat(index.isGranted(ADMIN, "GET", "/")).isTrue();
+        assertThat(index.isGranted(USER, "GET", "/user-service/api/v1/users")).isFalse();
+    }
+
+    @Test
+    public void Http_Method_가_다르면_거부() {
+        // given
+        AuthorizationIndex index = new AuthorizationIndex(rules("ROLE_USER", "GET", "/board-service/api/v1/posts/**"));
+
+        // when // then
+        assertThat(index.isGranted(USER, "DELETE", "/board-service/api/v1/posts/1")).isFalse();
+        assertThat(index.isGranted(USER, "get", "/board-service/api/v1/posts/1")).isFalse();
+    }
+
+    @Test
+    public void 권한이_없거나_경로가_없으면_거부() {
+        // given
+        AuthorizationIndex index = new AuthorizationIndex(rules("ROLE_USER", "GET", "/**"));
+
+        // when // then
+        assertThat(index.isGranted(Collections.emptyList(), "GET", "/board-service/api/v1/posts")).isFalse();
+        assertThat(index.isGranted(USER, "GET", null)).isFalse();
+        assertThat(AuthorizationIndex.EMPTY.isGranted(USER, "GET", "/board-service/api/v1/posts")).isFalse();
+    }
+
+    @Test
+    public void 사용자의_권한_중_하나라도_인가되면_허용() {
+        // given
+        Map<String, List<AuthorizationListResponseDto>> rules = new LinkedHashMap<>();
+        rules.put("ROLE_USER", Collections.singletonList(authorization(1, "/board-service/api/v1/posts/**", "GET")));
+        rules.put("ROLE_ADMIN", Collections.singletonList(authorization(2, "/board-service/api/v1/posts/**", "DELETE")));
+        AuthorizationIndex index = new AuthorizationIndex(rules);
+
+        // when // then
+        assertThat(index.isGranted(USER, "DELETE", "/board-service/api/v1/posts/1")).isFalse();
+        assertThat(index.isGranted(Arrays.asList("ROLE_USER", "ROLE_ADMIN"), "DELETE", "/board-service/api/v1/posts/1")).isTrue();
+        assertThat(index.isGranted(Arrays.asList("ROLE_ADMIN", "ROLE_USER"), "GET", "/board-service/api/v1/posts/1")).isTrue();
+    }
+
+    @Test
+    public void 여러_권한이_공유하는_인가는_각_권한에_모두_허용() {
+        // given
+        Map<String, List<AuthorizationListResponseDto>> rules = new LinkedHashMap<>();
+        rules.put("ROLE_USER", Collections.singletonList(authorization(1, "/portal-service/api/v1/menus/**", "GET")));
+        rules.put("ROLE_ADMIN", Collections.singletonList(authorization(1, "/portal-service/api/v1/menus/**", "GET")));
+        AuthorizationIndex index = new AuthorizationIndex(rules);
+
+        // when // then
+        assertThat(index.isGranted(USER, "GET", "/portal-service/api/v1/menus/1")).isTrue();
+        assertThat(index.isGranted(ADMIN, "GET", "/portal-service/api/v1/menus/1")).isTrue();
+        assertThat(index.isGranted(Collections.singletonList("ROLE_ANONYMOUS"), "GET", "/portal-service/api/v1/menus/1")).isFalse();
+    }
+
+    @Test
+    public void 기존_인가_목록_순차_확인과_판단_결과가_같음() {
+        // given
+        Random random = new Random(20261017L);
+        String[] roles = {"ROLE_ADMIN", "ROLE_USER", "ROLE_ANONYMOUS", "ROLE_EMPTY"};
+        String[] methods = {"GET", "POST", "PUT", "DELETE"};
+        String[] segments = {"user-service", "board-service", "api", "v1", "users", "posts", "1", "2", "a.b"};
+        String[] wildcards = {"*", "**", "{id}", "?", "p*"};
+
+        Map<String, List<AuthorizationListResponseDto>> rules = new LinkedHashMap<>();
+        int authorizationNo = 0;
+        for (String role : roles) {
+            List<AuthorizationListResponseDto> authorizations = new ArrayList<>();
+            int count = "ROLE_EMPTY".equals(role) ? 0 : 30;
+            for (int i = 0; i < count; i++) {
+                String pattern = randomPath(random, segments, wildcards, random.nextInt(10) == 0 ? "" : "/");
+                authorizations.add(authorization(++authorizationNo, pattern, methods[random.nextInt(methods.length)]));
+            }
+            rules.put(role, authorizations);
+        }
+        AuthorizationIndex index = new AuthorizationIndex(rules);
+
+        // when // then
+        for (int i = 0; i < 5000; i++) {
+            List<String> requestRoles = new ArrayList<>();
+            for (String role : roles) {
+                if (random.nextBoolean()) {
+                    requestRoles.add(role);
+                }
+            }
+            String httpMethod = methods[random.nextInt(methods.length)];
+            String requestPath = randomPath(random, segments, new String[0], "/");
+
+            assertThat(index.isGranted(requestRoles, httpMethod, requestPath))
+                    .as("%s %s %s", requestRoles, httpMethod, requestPath)
+                    .isEqualTo(isContainMatch(rules, requestRoles, httpMethod, requestPath));
+        }
+    }
+
+    /**
+     * 기존 AuthorizationService 의 판단 방식
+     * 권한의 인가 목록을 순서대로 확인한다.
+     */
+    private boolean isContainMatch(Map<String, List<AuthorizationListResponseDto>> rules, List<String> roles,
+                                   String httpMethod, String requestPath) {
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+        for (String role : roles) {
+            for (AuthorizationListResponseDto dto : rules.getOrDefault(role, Collections.emptyList())) {
+                if (antPathMatcher.match(dto.getUrlPatternValue(), requestPath) && dto.getHttpMethodCode().equals(httpMethod)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private String randomPath(Random random, String[] segments, String[] wildcards, String prefix) {
+        StringBuilder path = new StringBuilder(prefix);
+        int length = random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                path.append('/');
+            }
+            if (wildcards.length > 0 && random.nextInt(4) == 0) {
+                path.append(wildcards[random.nextInt(wildcards.length)]);
+            } else {
+                path.append(segments[random.nextInt(segments.length)]);
+            }
+        }
+        if (random.nextInt(10) == 0) {
+            path.append('/');
+        }
+        return path.toString();
+    }
+
+    private Map<String, List<AuthorizationListResponseDto>> rules(String roleId, String httpMethod, String urlPattern) {
+        return Collections.singletonMap(roleId, Collections.singletonList(authorization(1, urlPattern, httpMethod)));
+    }
+
+    private AuthorizationListResponseDto authorization(Integer authorizationNo, String urlPattern, String httpMethod) {
+        return new AuthorizationListResponseDto(authorizationNo, "인가" + authorizationNo, urlPattern, httpMethod, authorizationNo);
+    }
+
+}